@@ -0,0 +1,63 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the commit-msg script rendering, when the configuration is in the rendered scripts
+ * cache and when every configuration misses it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BashScriptContentBuilderBenchmark {
+
+    /**
+     * More configurations than the cache holds, cycling through them always misses.
+     */
+    private static final int UNCACHED_CONFIGURATIONS =
+            2 * BashScriptCommitMsgHookGenerator.BashScriptContentBuilder
+                    .RENDERED_SCRIPTS_CACHE_SIZE;
+
+    private CommitMsgConfiguration configuration;
+
+    private CommitMsgConfiguration[] uncachedConfigurations;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        configuration = new CommitMsgConfiguration(new CommitMsgParameters());
+        uncachedConfigurations = new CommitMsgConfiguration[UNCACHED_CONFIGURATIONS];
+        for (int i = 0; i < UNCACHED_CONFIGURATIONS; i++) {
+            uncachedConfigurations[i] = new CommitMsgConfiguration(new CommitMsgParameters(true,
+                    CommitMsgParameters.DEFAULT_FILE_NAME, 50 + i,
+                    CommitMsgParameters.DEFAULT_TYPES));
+        }
+    }
+
+    @Benchmark
+    public String buildCached() {
+        return BashScriptCommitMsgHookGenerator.BashScriptContentBuilder.build(configuration);
+    }
+
+    @Benchmark
+    public String buildUncached() {
+        next = (next + 1) % UNCACHED_CONFIGURATIONS;
+        return BashScriptCommitMsgHookGenerator.BashScriptContentBuilder.build(
+                uncachedConfigurations[next]);
+    }
+}
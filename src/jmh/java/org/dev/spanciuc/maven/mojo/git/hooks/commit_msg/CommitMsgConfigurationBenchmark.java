@@ -0,0 +1,49 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the construction of a commit-msg configuration, dominated by the types sanitization
+ * and the type matcher compilation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CommitMsgConfigurationBenchmark {
+
+    @Param({"10", "50"})
+    private int typesCount;
+
+    private CommitMsgParameters parameters;
+
+    @Setup
+    public void setUp() {
+        String types = IntStream.range(0, typesCount)
+                .mapToObj(i -> " type-" + i + " ")
+                .collect(Collectors.joining(CommitMsgConfiguration.TYPES_SPLIT_CHAR));
+        parameters = new CommitMsgParameters(true, CommitMsgParameters.DEFAULT_FILE_NAME,
+                CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH, types);
+    }
+
+    @Benchmark
+    public CommitMsgConfiguration construct() {
+        return new CommitMsgConfiguration(parameters);
+    }
+}
@@ -0,0 +1,107 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
+import org.eclipse.jgit.util.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures the wall time of one commit-msg hook run, as git runs it, for every hook runtime.
+ * <p>
+ * The JVM hook is measured with and without its class data sharing archive, its target is a
+ * run under 50 ms. The launcher is packaged into a jar first, the JVM archives classes loaded
+ * from jars only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CommitMsgHookStartupBenchmark {
+
+    @Param({"BASH", "JVM", "JVM_WITHOUT_ARCHIVE"})
+    private String runtime;
+
+    private Path directory;
+
+    private ProcessBuilder hookProcess;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("hook-startup-benchmark");
+        Path hooksDirectory = Files.createDirectory(directory.resolve("hooks"));
+        CommitMsgHookRuntime hookRuntime = runtime.startsWith(CommitMsgHookRuntime.JVM.name()) ?
+                CommitMsgHookRuntime.JVM : CommitMsgHookRuntime.BASH;
+        CommitMsgConfiguration configuration = new CommitMsgConfiguration(
+                new CommitMsgParameters(true, CommitMsgParameters.DEFAULT_FILE_NAME,
+                        CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH,
+                        CommitMsgParameters.DEFAULT_TYPES, hookRuntime));
+        GitHookFileGenerator generator = configuration.getGitHookFileGenerator();
+        if (hookRuntime == CommitMsgHookRuntime.JVM) {
+            JvmCommitMsgHookGenerator jvmGenerator = new JvmCommitMsgHookGenerator(configuration,
+                    Path.of(System.getProperty("java.home"), "bin", "java"), launcherJar());
+            generator = jvmGenerator;
+            generator.generate(hooksDirectory.toFile());
+            if (runtime.equals("JVM_WITHOUT_ARCHIVE")) {
+                Files.delete(hooksDirectory.resolve(jvmGenerator.getArchiveName()));
+            }
+        } else {
+            generator.generate(hooksDirectory.toFile());
+        }
+        Path message = Files.writeString(directory.resolve("COMMIT_EDITMSG"),
+                "feat(hooks): measure the startup of the commit-msg hook\n\n# comment\n");
+        hookProcess = new ProcessBuilder(List.of(
+                hooksDirectory.resolve(generator.getFileName()).toString(), message.toString()))
+                .redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.delete(directory.toFile(), FileUtils.RECURSIVE);
+    }
+
+    @Benchmark
+    public int runHook() throws Exception {
+        return hookProcess.start().waitFor();
+    }
+
+    private Path launcherJar() throws Exception {
+        Path classpath = Path.of(CommitMsgHookLauncher.class.getProtectionDomain()
+                .getCodeSource().getLocation().toURI());
+        if (!Files.isDirectory(classpath)) {
+            return classpath;
+        }
+        Path jar = directory.resolve("hooks.jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(classpath)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                output.putNextEntry(new JarEntry(
+                        classpath.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, output);
+                output.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
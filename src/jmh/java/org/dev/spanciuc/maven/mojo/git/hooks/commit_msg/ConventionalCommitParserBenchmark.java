@@ -0,0 +1,90 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link ConventionalCommitParser} with the regular expression used by the bash hook on
+ * a corpus of commit headers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ConventionalCommitParserBenchmark.CORPUS_SIZE)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConventionalCommitParserBenchmark {
+
+    static final int CORPUS_SIZE = 1_000_000;
+
+    private static final String[] SCOPES = {"", "(core)", "(api)", "(hooks-generator)"};
+
+    private static final String[] INVALID_HEADERS = {"Merge branch 'main' into feature",
+            "WIP", "fixed the build", "feat:missing space", "feat(): empty scope"};
+
+    private String[] headers;
+
+    private ConventionalCommitParser parser;
+
+    private Matcher hookMatcher;
+
+    @Setup
+    public void setUp() {
+        CommitMsgConfiguration configuration =
+                new CommitMsgConfiguration(new CommitMsgParameters());
+        parser = new ConventionalCommitParser(configuration);
+        hookMatcher = Pattern.compile("^(" + String.join("|", configuration.getTypes()) +
+                ")(\\(.+?\\))?!?: .{1,}$").matcher("");
+
+        String[] types = configuration.getTypes().toArray(new String[0]);
+        Random random = new Random(42);
+        headers = new String[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            if (random.nextInt(10) == 0) {
+                headers[i] = INVALID_HEADERS[random.nextInt(INVALID_HEADERS.length)];
+            } else {
+                headers[i] = types[random.nextInt(types.length)] +
+                        SCOPES[random.nextInt(SCOPES.length)] +
+                        (random.nextInt(20) == 0 ? "!" : "") +
+                        ": change number " + i + " of the synthetic corpus";
+            }
+        }
+    }
+
+    @Benchmark
+    public int parser() {
+        int valid = 0;
+        for (String header : headers) {
+            if (parser.validate(header).isValid()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int regex() {
+        int valid = 0;
+        for (String header : headers) {
+            if (hookMatcher.reset(header).matches()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,72 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.eclipse.jgit.util.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing the commit-msg hook file and the up-to-date check that skips rewriting it.
+ * <p>
+ * The write is measured with and without the lock and the sync to the storage device.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HookWritingBenchmark {
+
+    private File hooksDirectory;
+
+    @Param({"false", "true"})
+    private boolean lockEnabled;
+
+    @Param({"false", "true"})
+    private boolean forceEnabled;
+
+    private GitHookFileGenerator generator;
+
+    private FileWriteOptions writeOptions;
+
+    @Setup
+    public void setUp() throws IOException {
+        hooksDirectory = Files.createTempDirectory("hooks-benchmark").toFile();
+        generator = new CommitMsgConfiguration(new CommitMsgParameters())
+                .getGitHookFileGenerator();
+        writeOptions = new FileWriteOptions(lockEnabled, forceEnabled);
+        generator.generate(hooksDirectory, writeOptions);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.delete(hooksDirectory, FileUtils.RECURSIVE);
+    }
+
+    @Benchmark
+    public File generate() {
+        return generator.generate(hooksDirectory, writeOptions);
+    }
+
+    @Benchmark
+    public boolean isUpToDate() {
+        return generator.isUpToDate(hooksDirectory);
+    }
+}
@@ -0,0 +1,64 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.eclipse.jgit.lib.Repository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of whole synthetic histories, as the validate-commits goal does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class CommitRangeValidatorBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int commits;
+
+    @Param({"1", "4"})
+    private int threads;
+
+    private Repository repository;
+
+    private CommitRangeValidator validator;
+
+    private final CommitRange range = CommitRange.parse("HEAD");
+
+    @Setup
+    public void setUp() throws IOException {
+        repository = SyntheticRepositories.open(commits);
+        validator = new CommitRangeValidator(
+                new CommitMsgConfiguration(new CommitMsgParameters()),
+                new CommitScanner(threads));
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Benchmark
+    public int validate() throws IOException {
+        int[] violations = {0};
+        validator.validate(repository, range, false, violation -> violations[0]++);
+        return violations[0];
+    }
+}
@@ -0,0 +1,260 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.eclipse.jgit.internal.storage.file.ObjectDirectory;
+import org.eclipse.jgit.internal.storage.file.PackInserter;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.TreeFormatter;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.util.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+/**
+ * Generates synthetic linear histories of conventional commits for benchmarks.
+ * <p>
+ * Repositories are bare, written as a single pack and kept in
+ * {@value #DEFAULT_DIRECTORY} (or the directory of the {@value #DIRECTORY_PROPERTY} system
+ * property), so they are generated once and reused offline by later runs. The root commit is
+ * tagged 'v0.1.0', so a version calculation walks the whole history.
+ * <p>
+ * Modular histories have module directories 'module-00', 'module-01'... with a few source
+ * files each, every commit changes one file of one random module.
+ * <p>
+ * Pre-generate with:
+ * mvn -Pbenchmarks test-compile exec:exec
+ * -Dbenchmark.main=org.dev.spanciuc.maven.mojo.git.hooks.history.SyntheticRepositories
+ * -Djmh.args="10000 100000 1000000"
+ */
+public final class SyntheticRepositories {
+
+    /**
+     * The system property of the repositories directory.
+     */
+    public static final String DIRECTORY_PROPERTY = "benchmark.repositories";
+    /**
+     * The default repositories directory.
+     */
+    public static final String DEFAULT_DIRECTORY = "target/synthetic-repositories";
+    /**
+     * The branch of the generated history.
+     */
+    public static final String BRANCH = "main";
+    /**
+     * The tag of the root commit.
+     */
+    public static final String ROOT_TAG = "v0.1.0";
+
+    private static final String COMPLETE_MARKER = "synthetic-complete";
+    private static final int MODULE_FILES = 8;
+    private static final String[] TYPES =
+            {"feat", "fix", "docs", "refactor", "test", "chore", "perf", "build", "ci"};
+    private static final String[] SCOPES = {"", "(core)", "(api)", "(hooks)", "(version)"};
+    private static final Instant START = Instant.parse("2015-01-01T00:00:00Z");
+
+    private SyntheticRepositories() {
+    }
+
+    /**
+     * Gets the git directory of a generated history, generating it if needed.
+     *
+     * @param commits the number of commits.
+     * @return git directory of a bare repository.
+     * @throws IOException if the repository cannot be written.
+     */
+    public static File getOrCreate(int commits) throws IOException {
+        return getOrCreate("commits-" + commits, commits, 0);
+    }
+
+    /**
+     * Gets the git directory of a generated modular history, generating it if needed.
+     *
+     * @param commits the number of commits.
+     * @param modules the number of modules.
+     * @return git directory of a bare repository.
+     * @throws IOException if the repository cannot be written.
+     */
+    public static File getOrCreateModular(int commits, int modules) throws IOException {
+        return getOrCreate("modules-" + modules + "-commits-" + commits, commits, modules);
+    }
+
+    /**
+     * Gets the path of a module of generated modular histories.
+     *
+     * @param module the module number.
+     * @return module path.
+     */
+    public static String getModulePath(int module) {
+        return String.format("module-%02d", module);
+    }
+
+    private static synchronized File getOrCreate(String name, int commits, int modules)
+            throws IOException {
+        File gitDirectory = new File(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY),
+                name + ".git").getAbsoluteFile();
+        if (new File(gitDirectory, COMPLETE_MARKER).isFile()) {
+            return gitDirectory;
+        }
+        if (gitDirectory.exists()) {
+            FileUtils.delete(gitDirectory, FileUtils.RECURSIVE);
+        }
+        try (Repository repository = new FileRepositoryBuilder().setGitDir(gitDirectory)
+                .build()) {
+            repository.create(true);
+            generate(repository, commits, modules);
+        }
+        if (!new File(gitDirectory, COMPLETE_MARKER).createNewFile()) {
+            throw new IOException("Cannot mark " + gitDirectory + " as complete");
+        }
+        return gitDirectory;
+    }
+
+    /**
+     * Opens a generated history, generating it if needed.
+     *
+     * @param commits the number of commits.
+     * @return repository, must be closed by the caller.
+     * @throws IOException if the repository cannot be written or read.
+     */
+    public static Repository open(int commits) throws IOException {
+        return new FileRepositoryBuilder().setGitDir(getOrCreate(commits)).setMustExist(true)
+                .build();
+    }
+
+    /**
+     * Opens a generated modular history, generating it if needed.
+     *
+     * @param commits the number of commits.
+     * @param modules the number of modules.
+     * @return repository, must be closed by the caller.
+     * @throws IOException if the repository cannot be written or read.
+     */
+    public static Repository openModular(int commits, int modules) throws IOException {
+        return new FileRepositoryBuilder().setGitDir(getOrCreateModular(commits, modules))
+                .setMustExist(true).build();
+    }
+
+    /**
+     * Generates the histories of the given sizes.
+     *
+     * @param args the numbers of commits.
+     * @throws IOException if a repository cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        for (String arg : args) {
+            long start = System.nanoTime();
+            File gitDirectory = getOrCreate(Integer.parseInt(arg));
+            System.out.printf("%s commits: %s (%d ms)%n", arg, gitDirectory,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static void generate(Repository repository, int commits, int modules)
+            throws IOException {
+        Random random = new Random(commits);
+        ObjectId[][] moduleFiles = new ObjectId[modules][MODULE_FILES];
+        ObjectId[] moduleTrees = new ObjectId[modules];
+        ObjectId root = null;
+        ObjectId head = null;
+        try (PackInserter inserter =
+                     ((ObjectDirectory) repository.getObjectDatabase()).newPackInserter()) {
+            inserter.checkExisting(false);
+            ObjectId tree = inserter.insert(Constants.OBJ_TREE, new byte[0]);
+            for (int module = 0; module < modules; module++) {
+                for (int file = 0; file < MODULE_FILES; file++) {
+                    moduleFiles[module][file] = insertBlob(inserter, module + ":" + file);
+                }
+                moduleTrees[module] = insertModuleTree(inserter, moduleFiles[module]);
+            }
+            for (int i = 0; i < commits; i++) {
+                if (modules > 0) {
+                    int module = random.nextInt(modules);
+                    moduleFiles[module][random.nextInt(MODULE_FILES)] =
+                            insertBlob(inserter, module + ":" + i);
+                    moduleTrees[module] = insertModuleTree(inserter, moduleFiles[module]);
+                    TreeFormatter modulesTree = new TreeFormatter();
+                    for (int j = 0; j < modules; j++) {
+                        modulesTree.append(getModulePath(j), FileMode.TREE, moduleTrees[j]);
+                    }
+                    tree = inserter.insert(modulesTree);
+                }
+                PersonIdent ident = new PersonIdent("Synthetic Author", "author@synthetic.org",
+                        START.plusSeconds(60L * i), ZoneOffset.UTC);
+                CommitBuilder commit = new CommitBuilder();
+                commit.setTreeId(tree);
+                if (null != head) {
+                    commit.setParentId(head);
+                }
+                commit.setAuthor(ident);
+                commit.setCommitter(ident);
+                commit.setMessage(message(random, i));
+                head = inserter.insert(commit);
+                if (null == root) {
+                    root = head;
+                }
+            }
+            inserter.flush();
+        }
+        if (null == head) {
+            return;
+        }
+        updateRef(repository, Constants.R_HEADS + BRANCH, head);
+        updateRef(repository, Constants.R_TAGS + ROOT_TAG, root);
+        RefUpdate headUpdate = repository.updateRef(Constants.HEAD);
+        headUpdate.link(Constants.R_HEADS + BRANCH);
+    }
+
+    private static ObjectId insertBlob(ObjectInserter inserter, String content)
+            throws IOException {
+        return inserter.insert(Constants.OBJ_BLOB, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Inserts the tree of a module, 'src/File{n}.java' files.
+     */
+    private static ObjectId insertModuleTree(ObjectInserter inserter, ObjectId[] files)
+            throws IOException {
+        TreeFormatter src = new TreeFormatter();
+        for (int file = 0; file < files.length; file++) {
+            src.append("File" + file + ".java", FileMode.REGULAR_FILE, files[file]);
+        }
+        TreeFormatter module = new TreeFormatter();
+        module.append("src", FileMode.TREE, inserter.insert(src));
+        return inserter.insert(module);
+    }
+
+    private static String message(Random random, int index) {
+        int kind = random.nextInt(100);
+        if (kind < 8) {
+            return "Merge branch 'feature-" + index + "'\n";
+        }
+        String header = TYPES[random.nextInt(TYPES.length)] +
+                SCOPES[random.nextInt(SCOPES.length)] + (kind == 8 ? "!" : "") +
+                ": synthetic change number " + index + "\n";
+        String body = "\nA body explaining the change number " + index +
+                " in a few more words.\n";
+        return kind == 9 ? header + body + "\nBREAKING CHANGE: removed something\n" :
+                header + body;
+    }
+
+    private static void updateRef(Repository repository, String name, ObjectId id)
+            throws IOException {
+        RefUpdate update = repository.updateRef(name);
+        update.setNewObjectId(id);
+        RefUpdate.Result result = update.forceUpdate();
+        if (RefUpdate.Result.NEW != result && RefUpdate.Result.FORCED != result) {
+            throw new IOException("Cannot update " + name + ": " + result);
+        }
+    }
+}
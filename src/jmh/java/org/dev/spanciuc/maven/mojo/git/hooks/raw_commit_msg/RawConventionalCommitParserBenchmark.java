@@ -0,0 +1,102 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommit;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares classifying raw commit objects with {@link RawConventionalCommitParser} against
+ * decoding their messages and parsing them with {@link ConventionalCommitParser}.
+ * <p>
+ * Run with '-prof gc' to compare the allocations per commit (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(RawConventionalCommitParserBenchmark.CORPUS_SIZE)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RawConventionalCommitParserBenchmark {
+
+    static final int CORPUS_SIZE = 100_000;
+
+    private static final String COMMIT_HEADERS =
+            "tree 4b825dc642cb6eb9a060e54bf8d69288fbee4904\n" +
+                    "parent 8f4e1c7d2a6b3e9f0c5d1a2b3c4d5e6f7a8b9c0d\n" +
+                    "author Test Author <author@test.org> 1640995200 +0000\n" +
+                    "committer Test Author <author@test.org> 1640995200 +0000\n\n";
+
+    private static final String[] SCOPES = {"", "(core)", "(api)", "(hooks-generator)"};
+
+    private byte[][] commits;
+
+    private ConventionalCommitParser stringParser;
+
+    private RawConventionalCommitParser rawParser;
+
+    private RawCommitHeader header;
+
+    @Setup
+    public void setUp() {
+        CommitMsgConfiguration configuration =
+                new CommitMsgConfiguration(new CommitMsgParameters());
+        stringParser = new ConventionalCommitParser(configuration);
+        rawParser = new RawConventionalCommitParser(configuration);
+        header = new RawCommitHeader();
+
+        String[] types = configuration.getTypes().toArray(new String[0]);
+        Random random = new Random(42);
+        commits = new byte[CORPUS_SIZE][];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            String message = random.nextInt(10) == 0 ? "Merge branch 'feature-" + i + "'" :
+                    types[random.nextInt(types.length)] +
+                            SCOPES[random.nextInt(SCOPES.length)] +
+                            ": change number " + i + " of the synthetic corpus\n\n" +
+                            "A body explaining the change in a few more words.\n";
+            commits[i] = (COMMIT_HEADERS + message).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public int stringPath() {
+        int breaking = 0;
+        for (byte[] commit : commits) {
+            ConventionalCommit conventionalCommit =
+                    stringParser.parse(CommitScanner.decodeMessage(commit));
+            if (null != conventionalCommit && conventionalCommit.isBreaking()) {
+                breaking++;
+            }
+        }
+        return breaking;
+    }
+
+    @Benchmark
+    public int rawPath() {
+        int breaking = 0;
+        for (byte[] commit : commits) {
+            rawParser.parseCommit(commit, header);
+            if (header.isConventional() && header.isBreaking()) {
+                breaking++;
+            }
+        }
+        return breaking;
+    }
+}
@@ -0,0 +1,128 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.ChangedPathFilters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.SyntheticRepositories;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-module version calculation over synthetic modular histories, one shared
+ * walk for all modules compared with one path-filtered walk per module.
+ * <p>
+ * The calculation of a single module is measured with and without changed-path Bloom filters,
+ * the filters are recorded in the repository by the first iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ModuleVersionCalculatorBenchmark {
+
+    @Param({"10000", "100000"})
+    private int commits;
+
+    @Param({"1", "4", "16"})
+    private int modules;
+
+    private Repository repository;
+
+    private ModuleVersionCalculator calculator;
+
+    private VersionCalculator classifier;
+
+    private Map<String, String> modulePaths;
+
+    private Map<String, String> firstModulePath;
+
+    @Setup
+    public void setUp() throws IOException {
+        repository = SyntheticRepositories.openModular(commits, modules);
+        CommitMsgConfiguration configuration =
+                new CommitMsgConfiguration(new CommitMsgParameters(true,
+                        CommitMsgParameters.DEFAULT_FILE_NAME,
+                        CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH,
+                        CommitMsgParameters.DEFAULT_TYPES + ",build,ci"));
+        VersionBumpRules rules = new VersionBumpRules(configuration,
+                VersionBumpRules.DEFAULT_MINOR_TYPES, VersionBumpRules.DEFAULT_PATCH_TYPES);
+        calculator = new ModuleVersionCalculator(configuration, rules,
+                VersionTags.DEFAULT_TAG_PREFIX);
+        classifier = new VersionCalculator(configuration, rules, VersionTags.DEFAULT_TAG_PREFIX);
+        modulePaths = new LinkedHashMap<>();
+        for (int module = 0; module < modules; module++) {
+            String path = SyntheticRepositories.getModulePath(module);
+            modulePaths.put(path, path);
+        }
+        String firstPath = SyntheticRepositories.getModulePath(0);
+        firstModulePath = Map.of(firstPath, firstPath);
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Benchmark
+    public Map<String, VersionCalculation> sharedWalk() throws IOException {
+        return calculator.calculate(repository, modulePaths);
+    }
+
+    @Benchmark
+    public Map<String, VersionCalculation> firstModule() throws IOException {
+        return calculator.calculate(repository, firstModulePath);
+    }
+
+    @Benchmark
+    public Map<String, VersionCalculation> firstModuleWithFilters() throws IOException {
+        try (ChangedPathFilters filters = ChangedPathFilters.open(repository,
+                firstModulePath.values())) {
+            return calculator.calculate(repository, firstModulePath, filters);
+        }
+    }
+
+    /**
+     * The baseline, a path-filtered walk per module, ex. 'git log -- module-00' per module.
+     */
+    @Benchmark
+    public int walkPerModule() throws IOException {
+        int classified = 0;
+        for (String path : modulePaths.values()) {
+            try (RevWalk walk = new RevWalk(repository)) {
+                walk.setTreeFilter(AndTreeFilter.create(PathFilter.create(path),
+                        TreeFilter.ANY_DIFF));
+                walk.markStart(walk.parseCommit(repository.resolve(Constants.HEAD)));
+                for (RevCommit commit : walk) {
+                    if (null != classifier.classify(commit, commit.getRawBuffer())) {
+                        classified++;
+                    }
+                }
+            }
+        }
+        return classified;
+    }
+}
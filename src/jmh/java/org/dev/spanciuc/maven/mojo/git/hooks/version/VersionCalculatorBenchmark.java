@@ -0,0 +1,94 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitHistoryIndex;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitScanner;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.SyntheticRepositories;
+import org.eclipse.jgit.lib.Repository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the version calculation over synthetic histories, from scratch, resumed from the
+ * state of a previous calculation and answered from an up-to-date commit history index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class VersionCalculatorBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int commits;
+
+    @Param({"1", "4"})
+    private int threads;
+
+    private Repository repository;
+
+    private VersionCalculator calculator;
+
+    private VersionState state;
+
+    private Path indexFile;
+
+    private CommitHistoryIndex index;
+
+    @Setup
+    public void setUp() throws IOException {
+        repository = SyntheticRepositories.open(commits);
+        CommitMsgConfiguration configuration =
+                new CommitMsgConfiguration(new CommitMsgParameters(true,
+                        CommitMsgParameters.DEFAULT_FILE_NAME,
+                        CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH,
+                        CommitMsgParameters.DEFAULT_TYPES + ",build,ci"));
+        calculator = new VersionCalculator(configuration,
+                new VersionBumpRules(configuration, VersionBumpRules.DEFAULT_MINOR_TYPES,
+                        VersionBumpRules.DEFAULT_PATCH_TYPES),
+                VersionTags.DEFAULT_TAG_PREFIX, new CommitScanner(threads));
+        state = calculator.calculate(repository).getState();
+        indexFile = Files.createTempFile("commit-history", ".idx");
+        index = CommitHistoryIndex.open(indexFile, configuration);
+        calculator.calculate(repository, null, index);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+        Files.deleteIfExists(indexFile);
+        repository.close();
+    }
+
+    @Benchmark
+    public VersionCalculation calculate() throws IOException {
+        return calculator.calculate(repository);
+    }
+
+    @Benchmark
+    public VersionCalculation calculateResumed() throws IOException {
+        return calculator.calculate(repository, state);
+    }
+
+    @Benchmark
+    public VersionCalculation calculateIndexed() throws IOException {
+        return calculator.calculate(repository, null, index);
+    }
+}
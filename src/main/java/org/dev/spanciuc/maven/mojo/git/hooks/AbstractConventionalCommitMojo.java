@@ -0,0 +1,84 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitScanner;
+
+/**
+ * A base Mojo class for goals working with conventional commit messages.
+ * <p>
+ * It shares the commit message rules with the commit-msg hook generated by
+ * {@link AddGitHooksMojo}, so the same parameters produce the same validation.
+ */
+public abstract class AbstractConventionalCommitMojo extends AbstractMojo {
+
+    /**
+     * The max allowed length for commit header. For unrestricted length
+     * use:{@value
+     * org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration#UNRESTRICTED_HEADER_MAX_LENGTH_VALUE}
+     */
+    @Parameter(property = "commitMsgHeaderMaxLength",
+            defaultValue = CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH_AS_STRING)
+    private int commitMsgHeaderMaxLength;
+
+    /**
+     * The list of comma separated allowed commit types.
+     * <p>
+     * Ex. "feat,fix,docs"
+     */
+    @Parameter(property = "commitMsgTypes", defaultValue = CommitMsgParameters.DEFAULT_TYPES)
+    private String commitMsgTypes;
+
+    /**
+     * The number of threads analysing commit messages when goals scan the git history. Values
+     * greater than 1 enable the parallel scan, useful for very large histories.
+     */
+    @Parameter(property = "commitScanThreads",
+            defaultValue = CommitScanner.DEFAULT_THREADS_AS_STRING)
+    private int commitScanThreads;
+
+    /**
+     * Creates an instance.
+     */
+    protected AbstractConventionalCommitMojo() {
+        this.commitMsgHeaderMaxLength = CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH;
+        this.commitMsgTypes = CommitMsgParameters.DEFAULT_TYPES;
+        this.commitScanThreads = CommitScanner.DEFAULT_THREADS;
+    }
+
+    AbstractConventionalCommitMojo(CommitMsgParameters commitMsgParameters) {
+        this(commitMsgParameters, CommitScanner.DEFAULT_THREADS);
+    }
+
+    AbstractConventionalCommitMojo(CommitMsgParameters commitMsgParameters,
+                                   int commitScanThreads) {
+        this();
+        this.commitMsgHeaderMaxLength = commitMsgParameters.getHeaderMaxLength();
+        this.commitMsgTypes = commitMsgParameters.getTypes();
+        this.commitScanThreads = commitScanThreads;
+    }
+
+    /**
+     * Builds the commit message configuration from the parameters.
+     *
+     * @return commit message configuration.
+     * @throws IllegalArgumentException if parameters are invalid.
+     */
+    protected CommitMsgConfiguration buildCommitMsgConfiguration() {
+        return new CommitMsgConfiguration(
+                new CommitMsgParameters(true, CommitMsgParameters.DEFAULT_FILE_NAME,
+                        commitMsgHeaderMaxLength, commitMsgTypes));
+    }
+
+    /**
+     * Builds the commit scanner from the parameters.
+     *
+     * @return commit scanner.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    protected CommitScanner buildCommitScanner() {
+        return new CommitScanner(commitScanThreads);
+    }
+}
@@ -1,30 +1,117 @@
 package org.dev.spanciuc.maven.mojo.git.hooks;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgHookRuntime;
 import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
 import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.GitHooksAreDisabledException;
 import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.NoEnabledGitHooksFoundException;
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.ExecutionMetrics;
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.ExecutionMetricsListener;
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.ExecutionMetricsReports;
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.MetricsReportFormat;
+import org.dev.spanciuc.maven.mojo.git.hooks.pre_push.PrePushParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg.PrepareCommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitDirectories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositories;
 import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.ParameterSanitizer;
 
 import java.io.File;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A Mojo class to add git hooks to the project.
  */
-@Mojo(name = "add-git-hooks", defaultPhase = LifecyclePhase.INITIALIZE)
+@Mojo(name = AddGitHooksMojo.GOAL, defaultPhase = LifecyclePhase.INITIALIZE, threadSafe = true)
 public class AddGitHooksMojo extends AbstractMojo {
 
+    /**
+     * The goal name, used in metrics.
+     */
+    public static final String GOAL = "add-git-hooks";
+
+    /**
+     * The stage building the configuration and the enabled hooks generators.
+     */
+    public static final String STAGE_CONFIGURATION = "configuration";
+
+    /**
+     * The stage checking the git repository and the hooks directory.
+     */
+    public static final String STAGE_CHECKS = "checks";
+
+    /**
+     * The stage creating the hooks directory.
+     */
+    public static final String STAGE_DIRECTORY_CREATION = "directory-creation";
+
+    /**
+     * The stage generating a hook, named after the hook file.
+     */
+    public static final String STAGE_GENERATE = "generate";
+
+    /**
+     * The stage pointing core.hooksPath at the hooks directory.
+     */
+    public static final String STAGE_CORE_HOOKS_PATH = "core-hooks-path";
+
+    /**
+     * Default value for the metrics report format represented as string.
+     */
+    public static final String DEFAULT_METRICS_REPORT_AS_STRING = "NONE";
+
+    /**
+     * Default value for the metrics report format.
+     */
+    public static final MetricsReportFormat DEFAULT_METRICS_REPORT =
+            MetricsReportFormat.valueOf(DEFAULT_METRICS_REPORT_AS_STRING);
+
+    /**
+     * Default value for generating git hooks once per reactor represented as string.
+     */
+    public static final String DEFAULT_ONCE_PER_REACTOR_AS_STRING = "false";
+
+    /**
+     * Default value for generating git hooks once per reactor.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_ONCE_PER_REACTOR =
+            Boolean.parseBoolean(DEFAULT_ONCE_PER_REACTOR_AS_STRING);
+
     /**
      * The project's base dir.
      */
     @Parameter(defaultValue = "${project.basedir}", readonly = true)
     private File basedir;
 
+    /**
+     * The current maven session.
+     */
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession session;
+
+    /**
+     * Whether git hooks are generated only once per reactor.
+     * <p>
+     * When enabled, the git repository is resolved relative to the execution root directory
+     * instead of the module's base dir. The first module generates the hooks and every other
+     * module of the reactor skips the execution.
+     */
+    @Parameter(property = "gitHooksOncePerReactor",
+            defaultValue = DEFAULT_ONCE_PER_REACTOR_AS_STRING)
+    private boolean gitHooksOncePerReactor;
+
     /**
      * Whether git hooks are enabled.
      */
@@ -46,6 +133,86 @@ public class AddGitHooksMojo extends AbstractMojo {
             defaultValue = GitHooksParameters.DEFAULT_GIT_HOOKS_DIRECTORY_NAME)
     private String gitHooksDirectory;
 
+    /**
+     * Whether hooks with unchanged content are skipped instead of being rewritten.
+     * <p>
+     * The fingerprint of the generated content is compared with the existent hook file, so
+     * unchanged hooks keep their modification time.
+     */
+    @Parameter(property = "gitHooksFingerprintEnabled",
+            defaultValue = GitHooksParameters.DEFAULT_FINGERPRINT_ENABLED_AS_STRING)
+    private boolean gitHooksFingerprintEnabled;
+
+    /**
+     * Whether hook files are written under an exclusive file lock.
+     * <p>
+     * Hook files are always replaced atomically, the lock additionally serializes concurrent
+     * builds, including builds in other processes, writing to the same hooks directory.
+     */
+    @Parameter(property = "gitHooksLockEnabled",
+            defaultValue = FileWriteOptions.DEFAULT_LOCK_ENABLED_AS_STRING)
+    private boolean gitHooksLockEnabled;
+
+    /**
+     * Whether written hook files are forced to the storage device.
+     * <p>
+     * Can be disabled where durability is not needed, e.g. on tmpfs workspaces, to save the
+     * latency of the sync.
+     */
+    @Parameter(property = "gitHooksForceEnabled",
+            defaultValue = FileWriteOptions.DEFAULT_FORCE_ENABLED_AS_STRING)
+    private boolean gitHooksForceEnabled;
+
+    /**
+     * The way git hooks are installed.
+     * <p>
+     * {@code HOOKS_DIRECTORY} writes the hooks into the git hooks directory on every build.
+     * {@code CORE_HOOKS_PATH} writes them once into a directory named after the hash of their
+     * content under {@link #gitHooksVersionedDirectory} and points git's {@code core.hooksPath}
+     * at it, so builds with an unchanged configuration only read the git configuration.
+     */
+    @Parameter(property = "gitHooksInstallMode",
+            defaultValue = GitHooksParameters.DEFAULT_INSTALL_MODE_AS_STRING)
+    private GitHooksInstallMode gitHooksInstallMode;
+
+    /**
+     * The parent directory of versioned git hooks directories, used by the
+     * {@code CORE_HOOKS_PATH} install mode.
+     */
+    @Parameter(property = "gitHooksVersionedDirectory",
+            defaultValue = GitHooksParameters.DEFAULT_VERSIONED_HOOKS_DIRECTORY_NAME)
+    private String gitHooksVersionedDirectory;
+
+    /**
+     * Whether the git repository is discovered from the project's directory and its parents.
+     * <p>
+     * Modules nested below the repository root, submodules and linked worktrees, where
+     * {@code .git} is a file with a {@code gitdir:} pointer, are supported. Hooks are written
+     * into the hooks directory of the common git directory, shared by all worktrees, and
+     * {@link #gitDirectory} and {@link #gitHooksDirectory} are ignored.
+     */
+    @Parameter(property = "gitRepositoryDiscoveryEnabled",
+            defaultValue = GitHooksParameters.DEFAULT_DISCOVERY_ENABLED_AS_STRING)
+    private boolean gitRepositoryDiscoveryEnabled;
+
+    /**
+     * The format of the metrics report: {@code NONE}, {@code JSON} or {@code CSV}.
+     * <p>
+     * The report holds the duration in nanoseconds of every stage of the execution. Metrics
+     * are also published to the {@link ExecutionMetricsListener} implementations found in the
+     * plugin's dependencies, whatever the format.
+     */
+    @Parameter(property = "gitHooksMetricsReport",
+            defaultValue = DEFAULT_METRICS_REPORT_AS_STRING)
+    private MetricsReportFormat gitHooksMetricsReport;
+
+    /**
+     * The directory of the metrics report.
+     */
+    @Parameter(property = "gitHooksMetricsReportDirectory",
+            defaultValue = "${project.build.directory}")
+    private File gitHooksMetricsReportDirectory;
+
     /**
      * Whether the hook is enabled.
      */
@@ -76,6 +243,63 @@ public class AddGitHooksMojo extends AbstractMojo {
     @Parameter(property = "commitMsgTypes", defaultValue = CommitMsgParameters.DEFAULT_TYPES)
     private String commitMsgTypes;
 
+    /**
+     * The runtime the commit-msg hook validates messages with: {@code BASH} for a
+     * {@code grep -E} script, {@code JVM} for a script launching the plugin's parser with a
+     * class data sharing archive created at generation time.
+     */
+    @Parameter(property = "commitMsgHookRuntime",
+            defaultValue = CommitMsgParameters.DEFAULT_HOOK_RUNTIME_AS_STRING)
+    private CommitMsgHookRuntime commitMsgHookRuntime;
+
+    /**
+     * The class data sharing archive created by the generate-cds-archive goal. The JVM
+     * commit-msg hook maps it if it exists when the hook is generated, otherwise the hook
+     * creates its own archive.
+     */
+    @Parameter(property = "cdsArchiveFile",
+            defaultValue = GenerateCdsArchiveMojo.DEFAULT_CDS_ARCHIVE_FILE)
+    private File cdsArchiveFile;
+
+    /**
+     * The plugin's artifacts, the classpath the class data sharing archive was dumped with.
+     */
+    @Parameter(defaultValue = "${plugin.artifacts}", readonly = true)
+    private List<Artifact> pluginArtifacts;
+
+    /**
+     * Whether the prepare-commit-msg hook is enabled.
+     * <p>
+     * The hook pre-fills empty commit messages with the type taken from the branch name, one of
+     * the commit-msg hook types, and the scope of the reactor module the staged files belong to.
+     */
+    @Parameter(property = "prepareCommitMsgEnabled",
+            defaultValue = PrepareCommitMsgParameters.DEFAULT_ENABLED_AS_STRING)
+    private boolean prepareCommitMsgEnabled;
+
+    /**
+     * The prepare-commit-msg hook's file name.
+     */
+    @Parameter(property = "prepareCommitMsgFileName",
+            defaultValue = PrepareCommitMsgParameters.DEFAULT_FILE_NAME)
+    private String prepareCommitMsgFileName;
+
+    /**
+     * Whether the pre-push hook is enabled.
+     * <p>
+     * The hook validates the messages of the pushed commits with the commit-msg hook types and
+     * header max length, also when commits were created with {@code --no-verify}.
+     */
+    @Parameter(property = "prePushEnabled",
+            defaultValue = PrePushParameters.DEFAULT_ENABLED_AS_STRING)
+    private boolean prePushEnabled;
+
+    /**
+     * The pre-push hook's file name.
+     */
+    @Parameter(property = "prePushFileName", defaultValue = PrePushParameters.DEFAULT_FILE_NAME)
+    private String prePushFileName;
+
     /**
      * Creates an instance.
      */
@@ -83,10 +307,25 @@ public class AddGitHooksMojo extends AbstractMojo {
         this.gitHooksEnabled = GitHooksParameters.DEFAULT_ENABLED;
         this.gitDirectory = GitHooksParameters.DEFAULT_GIT_DIRECTORY_NAME;
         this.gitHooksDirectory = GitHooksParameters.DEFAULT_GIT_HOOKS_DIRECTORY_NAME;
+        this.gitHooksFingerprintEnabled = GitHooksParameters.DEFAULT_FINGERPRINT_ENABLED;
+        this.gitHooksLockEnabled = FileWriteOptions.DEFAULT_LOCK_ENABLED;
+        this.gitHooksForceEnabled = FileWriteOptions.DEFAULT_FORCE_ENABLED;
+        this.gitHooksInstallMode = GitHooksParameters.DEFAULT_INSTALL_MODE;
+        this.gitHooksVersionedDirectory =
+                GitHooksParameters.DEFAULT_VERSIONED_HOOKS_DIRECTORY_NAME;
+        this.gitRepositoryDiscoveryEnabled = GitHooksParameters.DEFAULT_DISCOVERY_ENABLED;
+        this.gitHooksMetricsReport = DEFAULT_METRICS_REPORT;
+        this.gitHooksOncePerReactor = DEFAULT_ONCE_PER_REACTOR;
         this.commitMsgEnabled = CommitMsgParameters.DEFAULT_ENABLED;
         this.commitMsgFileName = CommitMsgParameters.DEFAULT_FILE_NAME;
         this.commitMsgHeaderMaxLength = CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH;
         this.commitMsgTypes = CommitMsgParameters.DEFAULT_TYPES;
+        this.commitMsgHookRuntime = CommitMsgParameters.DEFAULT_HOOK_RUNTIME;
+        this.pluginArtifacts = List.of();
+        this.prepareCommitMsgEnabled = PrepareCommitMsgParameters.DEFAULT_ENABLED;
+        this.prepareCommitMsgFileName = PrepareCommitMsgParameters.DEFAULT_FILE_NAME;
+        this.prePushEnabled = PrePushParameters.DEFAULT_ENABLED;
+        this.prePushFileName = PrePushParameters.DEFAULT_FILE_NAME;
     }
 
     AddGitHooksMojo(File basedir, GitHooksParameters gitHooksParameters) {
@@ -95,10 +334,36 @@ public class AddGitHooksMojo extends AbstractMojo {
         this.gitHooksEnabled = gitHooksParameters.isEnabled();
         this.gitDirectory = gitHooksParameters.getGitDirectoryName();
         this.gitHooksDirectory = gitHooksParameters.getGitHooksDirectoryName();
+        this.gitHooksFingerprintEnabled = gitHooksParameters.isFingerprintEnabled();
+        this.gitHooksLockEnabled = gitHooksParameters.getWriteOptions().isLockEnabled();
+        this.gitHooksForceEnabled = gitHooksParameters.getWriteOptions().isForceEnabled();
+        this.gitHooksInstallMode = gitHooksParameters.getInstallMode();
+        this.gitHooksVersionedDirectory = gitHooksParameters.getVersionedHooksDirectoryName();
+        this.gitRepositoryDiscoveryEnabled = gitHooksParameters.isDiscoveryEnabled();
         this.commitMsgEnabled = gitHooksParameters.getCommitMsg().isEnabled();
         this.commitMsgFileName = gitHooksParameters.getCommitMsg().getFileName();
         this.commitMsgHeaderMaxLength = gitHooksParameters.getCommitMsg().getHeaderMaxLength();
         this.commitMsgTypes = gitHooksParameters.getCommitMsg().getTypes();
+        this.commitMsgHookRuntime = gitHooksParameters.getCommitMsg().getHookRuntime();
+        this.cdsArchiveFile = null == gitHooksParameters.getCommitMsg().getSharedArchiveFile() ?
+                null : gitHooksParameters.getCommitMsg().getSharedArchiveFile().toFile();
+        this.prepareCommitMsgEnabled = gitHooksParameters.getPrepareCommitMsg().isEnabled();
+        this.prepareCommitMsgFileName = gitHooksParameters.getPrepareCommitMsg().getFileName();
+        this.prePushEnabled = gitHooksParameters.getPrePush().isEnabled();
+        this.prePushFileName = gitHooksParameters.getPrePush().getFileName();
+    }
+
+    AddGitHooksMojo(File basedir, GitHooksParameters gitHooksParameters,
+                    MetricsReportFormat metricsReport, File metricsReportDirectory) {
+        this(basedir, gitHooksParameters);
+        this.gitHooksMetricsReport = metricsReport;
+        this.gitHooksMetricsReportDirectory = metricsReportDirectory;
+    }
+
+    AddGitHooksMojo(File basedir, GitHooksParameters gitHooksParameters, MavenSession session) {
+        this(basedir, gitHooksParameters);
+        this.session = session;
+        this.gitHooksOncePerReactor = true;
     }
 
     /**
@@ -121,6 +386,23 @@ public class AddGitHooksMojo extends AbstractMojo {
      * </p>
      * <p>
      *  By default generated git hooks files will override existent files in the target directory.
+     *  Hook files are executable and replaced atomically.
+     *  When fingerprint mode is enabled, hook files that already have the generated content are
+     *  left untouched and reported as unchanged.
+     * </p>
+     * <p>
+     *  When once per reactor mode is enabled, only the first module of the reactor generates
+     *  the hooks, every other module is skipped.
+     * </p>
+     * <p>
+     *  Modules built in parallel never write the same hooks directory at the same time. A
+     *  module that finds a generation of its hooks directory in progress awaits it and reuses
+     *  its result when the generated content is the same.
+     * </p>
+     *
+     * <p>
+     *  Every stage of the execution is timed, the metrics are written to the optional report
+     *  and published to the registered listeners even if the execution fails.
      * </p>
      *
      * @throws IllegalStateException if is not a git repository or git hooks folder cannot be
@@ -128,14 +410,68 @@ public class AddGitHooksMojo extends AbstractMojo {
      */
     @Override
     public void execute() {
+        ExecutionMetrics metrics = new ExecutionMetrics(GOAL);
+        try {
+            execute(metrics);
+        } finally {
+            metrics.complete();
+            publishMetrics(metrics);
+        }
+    }
+
+    private void execute(ExecutionMetrics metrics) {
+
+        long configurationStart = System.nanoTime();
+        File rootDirectory = basedir;
+        if (gitHooksOncePerReactor) {
+            rootDirectory = new File(session.getExecutionRootDirectory());
+            File hooksDirectory = new File(rootDirectory,
+                    ParameterSanitizer.sanitizeRequiredStringParameter(gitHooksDirectory,
+                            Messages.VALUE_GIT_HOOKS_DIRECTORY_NAME));
+            ReactorGitHooksRegistry registry = ReactorGitHooksRegistry.of(session);
+            if (!registry.register(hooksDirectory)) {
+                getLog().info(String.format(Messages.HOOKS_ALREADY_HANDLED_IN_REACTOR_MESSAGE,
+                        hooksDirectory.getPath()));
+                return;
+            }
+            try {
+                execute(metrics, rootDirectory, configurationStart);
+            } catch (RuntimeException e) {
+                // a later module retries the generation instead of reporting it as handled
+                registry.unregister(hooksDirectory);
+                throw e;
+            }
+            return;
+        }
+        execute(metrics, rootDirectory, configurationStart);
+    }
+
+    private void execute(ExecutionMetrics metrics, File rootDirectory, long configurationStart) {
 
+        boolean sharedArchive = commitMsgHookRuntime == CommitMsgHookRuntime.JVM &&
+                null != cdsArchiveFile;
         CommitMsgParameters commitMsgParameters =
                 new CommitMsgParameters(commitMsgEnabled, commitMsgFileName,
-                        commitMsgHeaderMaxLength, commitMsgTypes);
+                        commitMsgHeaderMaxLength, commitMsgTypes, commitMsgHookRuntime,
+                        sharedArchive ? cdsArchiveFile.toPath() : null,
+                        sharedArchive ?
+                                GenerateCdsArchiveMojo.getClasspath(pluginArtifacts) : List.of());
+
+        PrepareCommitMsgParameters prepareCommitMsgParameters =
+                new PrepareCommitMsgParameters(prepareCommitMsgEnabled, prepareCommitMsgFileName,
+                        commitMsgTypes,
+                        prepareCommitMsgEnabled ? getModuleScopes(rootDirectory) : Map.of());
+
+        PrePushParameters prePushParameters = new PrePushParameters(prePushEnabled,
+                prePushFileName, commitMsgHeaderMaxLength, commitMsgTypes);
 
         GitHooksParameters gitHooksParameters =
                 new GitHooksParameters(gitHooksEnabled, gitDirectory, gitHooksDirectory,
-                        commitMsgParameters);
+                        commitMsgParameters, gitHooksFingerprintEnabled,
+                        new FileWriteOptions(gitHooksLockEnabled, gitHooksForceEnabled),
+                        gitHooksInstallMode, gitHooksVersionedDirectory,
+                        gitRepositoryDiscoveryEnabled, prepareCommitMsgParameters,
+                        prePushParameters);
 
         GitHooksConfiguration gitHooksConfiguration = new GitHooksConfiguration(gitHooksParameters);
 
@@ -144,19 +480,35 @@ public class AddGitHooksMojo extends AbstractMojo {
         try {
             enabledHooksGenerators = getEnabledGitHookFileGenerators(gitHooksConfiguration);
         } catch (NoEnabledGitHooksFoundException | GitHooksAreDisabledException e) {
+            metrics.record(STAGE_CONFIGURATION, null, configurationStart);
             getLog().warn(e.getMessage());
             getLog().info(String.format(Messages.CREATED_NUMBER_OF_HOOKS_MESSAGE, 0));
             return;
         }
 
-        performChecks(gitHooksConfiguration);
-        performHooksGeneration(enabledHooksGenerators,
-                gitHooksConfiguration.getGitHooksDirectoryName());
+        String contentKey = GitHookFileGenerators.contentKey(enabledHooksGenerators);
+        metrics.record(STAGE_CONFIGURATION, null, configurationStart);
+
+        long checksStart = System.nanoTime();
+        GitDirectories gitDirectories;
+        File hooksDirectory;
+        try {
+            getLog().info(Messages.STARTING_CHECKS_MESSAGE);
+            gitDirectories = checkIsGitRepository(rootDirectory, gitHooksConfiguration);
+            hooksDirectory = getHooksDirectory(rootDirectory, gitDirectories,
+                    gitHooksConfiguration, contentKey);
+            checkGitHooksDirectory(hooksDirectory);
+            getLog().info(Messages.SUCCESSFULLY_PASSED_ALL_CHECKS_MESSAGE);
+        } finally {
+            metrics.record(STAGE_CHECKS, null, checksStart);
+        }
+
+        performHooksGeneration(enabledHooksGenerators, gitDirectories, hooksDirectory,
+                contentKey, gitHooksConfiguration, metrics);
     }
 
-    private void checkGitHooksDirectory(String gitHooksDirectoryName) {
-        File gitHooksDir = new File(basedir, gitHooksDirectoryName);
 
+    private void checkGitHooksDirectory(File gitHooksDir) {
         if (gitHooksDir.exists() && !gitHooksDir.isDirectory()) {
             getLog().warn(String.format(Messages.GIT_HOOKS_DIRECTORY_CHECK_MESSAGE,
                     Messages.CHECK_STATUS_FAIL));
@@ -166,28 +518,25 @@ public class AddGitHooksMojo extends AbstractMojo {
                 Messages.CHECK_STATUS_SUCCESS));
     }
 
-    private void checkIsGitRepository(String gitDirectoryName) {
-        File gitRepoDirectory = new File(basedir, gitDirectoryName);
-        if (!gitRepoDirectory.exists() || !gitRepoDirectory.isDirectory()) {
+    private GitDirectories checkIsGitRepository(File rootDirectory,
+                                                GitHooksConfiguration gitHooksConfiguration) {
+        GitDirectories gitDirectories;
+        if (gitHooksConfiguration.isDiscoveryEnabled()) {
+            gitDirectories = GitRepositories.discover(rootDirectory);
+        } else {
+            File gitRepoDirectory =
+                    new File(rootDirectory, gitHooksConfiguration.getGitDirectoryName());
+            gitDirectories = gitRepoDirectory.isDirectory() ?
+                    new GitDirectories(gitRepoDirectory, gitRepoDirectory, rootDirectory) : null;
+        }
+        if (null == gitDirectories) {
             getLog().warn(String.format(Messages.IS_GIT_REPOSITORY_CHECK_MESSAGE,
                     Messages.CHECK_STATUS_FAIL));
             throw new IllegalStateException(Messages.NOT_A_GIT_REPOSITORY_MESSAGE);
         }
         getLog().info(String.format(Messages.IS_GIT_REPOSITORY_CHECK_MESSAGE,
                 Messages.CHECK_STATUS_SUCCESS));
-    }
-
-    private File createOrGetGitHooksDirectory(String gitHooksDirectoryName) {
-        File gitHooksDir = new File(basedir, gitHooksDirectoryName);
-
-        if (!gitHooksDir.mkdirs()) {
-            getLog().info(
-                    String.format(Messages.FOUND_EXISTENT_FILE_MESSAGE, gitHooksDir.getPath()));
-        } else {
-            getLog().info(
-                    String.format(Messages.CREATED_NEW_DIRECTORY_MESSAGE, gitHooksDir.getPath()));
-        }
-        return gitHooksDir;
+        return gitDirectories;
     }
 
     private List<GitHookFileGenerator> getEnabledGitHookFileGenerators(
@@ -201,28 +550,128 @@ public class AddGitHooksMojo extends AbstractMojo {
         return enabledHooksGenerators;
     }
 
-    private void performChecks(GitHooksConfiguration gitHooksConfiguration) {
-        getLog().info(Messages.STARTING_CHECKS_MESSAGE);
-        checkIsGitRepository(gitHooksConfiguration.getGitDirectoryName());
-        checkGitHooksDirectory(gitHooksConfiguration.getGitHooksDirectoryName());
-        getLog().info(Messages.SUCCESSFULLY_PASSED_ALL_CHECKS_MESSAGE);
+    /**
+     * Gets the directory the hooks are written to, in core.hooksPath install mode it's a
+     * directory named after the hooks content.
+     */
+    private static File getHooksDirectory(File rootDirectory, GitDirectories gitDirectories,
+                                          GitHooksConfiguration gitHooksConfiguration,
+                                          String contentKey) {
+        boolean discovered = gitHooksConfiguration.isDiscoveryEnabled();
+        if (GitHooksInstallMode.CORE_HOOKS_PATH == gitHooksConfiguration.getInstallMode()) {
+            File projectDirectory = discovered && null != gitDirectories.getWorkTree() ?
+                    gitDirectories.getWorkTree() : rootDirectory;
+            return new File(projectDirectory, CoreHooksPathInstaller.versionedHooksDirectoryName(
+                    gitHooksConfiguration.getVersionedHooksDirectoryName(), contentKey));
+        }
+        if (discovered) {
+            return gitDirectories.getHooksDirectory();
+        }
+        return new File(rootDirectory, gitHooksConfiguration.getGitHooksDirectoryName());
     }
 
     private void performHooksGeneration(List<GitHookFileGenerator> enabledHooksGenerators,
-                                        String gitHooksDirectoryName) {
+                                        GitDirectories gitDirectories, File hooksDirectory,
+                                        String contentKey,
+                                        GitHooksConfiguration gitHooksConfiguration,
+                                        ExecutionMetrics metrics) {
 
         getLog().info(Messages.STARTING_HOOKS_GENERATION_MESSAGE);
 
-        File targetHooksDirectory = createOrGetGitHooksDirectory(gitHooksDirectoryName);
+        boolean coreHooksPath =
+                GitHooksInstallMode.CORE_HOOKS_PATH == gitHooksConfiguration.getInstallMode();
+        boolean fingerprintEnabled = gitHooksConfiguration.isFingerprintEnabled();
+        GitHooksGenerationCoordinator.Generation generation =
+                GitHooksGenerationCoordinator.generate(hooksDirectory, contentKey, () -> {
+                    GitHooksGenerationCoordinator.Generation hooksGeneration =
+                            GitHookFileGenerators.generate(enabledHooksGenerators,
+                                    hooksDirectory, fingerprintEnabled, coreHooksPath,
+                                    gitHooksConfiguration.getWriteOptions(), metrics,
+                                    getLog()::info);
+                    if (coreHooksPath) {
+                        metrics.time(STAGE_CORE_HOOKS_PATH,
+                                () -> installCoreHooksPath(gitDirectories, hooksDirectory));
+                    }
+                    return hooksGeneration;
+                });
+
+        if (generation.isReused()) {
+            getLog().info(String.format(Messages.HOOKS_GENERATED_CONCURRENTLY_MESSAGE,
+                    hooksDirectory.getPath()));
+        }
+        getLog().info(String.format(Messages.CREATED_NUMBER_OF_HOOKS_MESSAGE,
+                generation.getCreatedHookFiles().size()));
+        if (fingerprintEnabled || coreHooksPath) {
+            getLog().info(String.format(Messages.UNCHANGED_NUMBER_OF_HOOKS_MESSAGE,
+                    generation.getUnchangedHookFiles().size()));
+        }
+    }
+
+    private void publishMetrics(ExecutionMetrics metrics) {
+        for (ExecutionMetricsListener listener : ExecutionMetricsReports.getListeners()) {
+            try {
+                listener.executionCompleted(metrics);
+            } catch (RuntimeException e) {
+                getLog().warn(String.format(Messages.METRICS_LISTENER_FAILED_MESSAGE,
+                        listener.getClass().getName(), e.getMessage()));
+            }
+        }
+        if (null == gitHooksMetricsReport || null == gitHooksMetricsReportDirectory) {
+            return;
+        }
+        try {
+            File report = ExecutionMetricsReports.write(metrics, gitHooksMetricsReport,
+                    gitHooksMetricsReportDirectory);
+            if (null != report) {
+                getLog().info(String.format(Messages.METRICS_REPORT_WRITTEN_MESSAGE,
+                        report.getPath()));
+            }
+        } catch (IOException e) {
+            getLog().warn(String.format(Messages.METRICS_REPORT_FAILED_MESSAGE, e.getMessage()));
+        }
+    }
 
-        List<File> hookFiles = new ArrayList<>();
+    private void installCoreHooksPath(GitDirectories gitDirectories, File hooksDirectory) {
+        if (CoreHooksPathInstaller.install(gitDirectories, hooksDirectory)) {
+            getLog().info(String.format(Messages.CORE_HOOKS_PATH_UPDATED_MESSAGE,
+                    hooksDirectory.getPath()));
+        } else {
+            getLog().info(String.format(Messages.CORE_HOOKS_PATH_UP_TO_DATE_MESSAGE,
+                    hooksDirectory.getPath()));
+        }
+    }
 
-        for (GitHookFileGenerator hookGenerator : enabledHooksGenerators) {
-            File hookFile = hookGenerator.generate(targetHooksDirectory);
-            getLog().info(String.format(Messages.HOOK_BY_NAME_SUCCESSFULLY_GENERATED_MESSAGE,
-                    hookFile.getPath()));
-            hookFiles.add(hookFile);
+    /**
+     * Maps the reactor modules' directories, relative to the work tree, to their artifact ids.
+     * <p>
+     * The work tree is the root directory unless repository discovery is enabled. Modules
+     * outside the work tree and the module at its root have no scope.
+     */
+    private Map<String, String> getModuleScopes(File rootDirectory) {
+        Map<String, String> moduleScopes = new TreeMap<>();
+        if (null == session || null == session.getProjects()) {
+            return moduleScopes;
+        }
+        File workTree = rootDirectory;
+        if (gitRepositoryDiscoveryEnabled) {
+            GitDirectories gitDirectories = GitRepositories.discover(rootDirectory);
+            workTree = null == gitDirectories ? null : gitDirectories.getWorkTree();
+        }
+        if (null == workTree) {
+            return moduleScopes;
+        }
+        Path workTreePath = workTree.toPath().toAbsolutePath().normalize();
+        for (MavenProject project : session.getProjects()) {
+            if (null == project.getBasedir()) {
+                continue;
+            }
+            Path modulePath = project.getBasedir().toPath().toAbsolutePath().normalize();
+            if (modulePath.startsWith(workTreePath) && !modulePath.equals(workTreePath)) {
+                // the hook matches the staged paths, which git separates by '/'
+                moduleScopes.put(workTreePath.relativize(modulePath).toString()
+                        .replace(File.separatorChar, '/'), project.getArtifactId());
+            }
         }
-        getLog().info(String.format(Messages.CREATED_NUMBER_OF_HOOKS_MESSAGE, hookFiles.size()));
+        return moduleScopes;
     }
 }
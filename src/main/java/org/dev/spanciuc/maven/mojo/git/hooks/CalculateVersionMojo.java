@@ -0,0 +1,349 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.ChangedPathFilters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitHistoryIndex;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitDirectories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.ParameterSanitizer;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.ModuleVersionCalculator;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionBumpRules;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionCalculation;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionCalculator;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionStateCache;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionTags;
+import org.eclipse.jgit.lib.Repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A Mojo class to calculate the next semantic version from the conventional commits since the
+ * last version tag.
+ */
+@Mojo(name = "calculate-version", threadSafe = true)
+public class CalculateVersionMojo extends AbstractConventionalCommitMojo {
+
+    /**
+     * The project's base dir.
+     */
+    @Parameter(defaultValue = "${project.basedir}", readonly = true)
+    private File basedir;
+
+    /**
+     * The current project.
+     */
+    @Parameter(defaultValue = "${project}", readonly = true)
+    private MavenProject project;
+
+    /**
+     * The current maven session.
+     */
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession session;
+
+    /**
+     * The git directory name.
+     */
+    @Parameter(property = "gitDirectory",
+            defaultValue = GitHooksParameters.DEFAULT_GIT_DIRECTORY_NAME)
+    private String gitDirectory;
+
+    /**
+     * The prefix of version tags. A version tag is the prefix followed by a
+     * 'major.minor.patch' version.
+     */
+    @Parameter(property = "versionTagPrefix", defaultValue = VersionTags.DEFAULT_TAG_PREFIX)
+    private String versionTagPrefix;
+
+    /**
+     * The list of comma separated commit types that bump the minor number.
+     */
+    @Parameter(property = "versionMinorTypes",
+            defaultValue = VersionBumpRules.DEFAULT_MINOR_TYPES)
+    private String versionMinorTypes;
+
+    /**
+     * The list of comma separated commit types that bump the patch number.
+     */
+    @Parameter(property = "versionPatchTypes",
+            defaultValue = VersionBumpRules.DEFAULT_PATCH_TYPES)
+    private String versionPatchTypes;
+
+    /**
+     * The name of the project property set to the next version.
+     */
+    @Parameter(property = "versionProperty",
+            defaultValue = VersionParameters.DEFAULT_PROPERTY_NAME)
+    private String versionProperty;
+
+    /**
+     * Whether the calculation state is cached, so later builds only walk the commits added
+     * since the last analysed commit.
+     */
+    @Parameter(property = "versionCacheEnabled",
+            defaultValue = VersionParameters.DEFAULT_CACHE_ENABLED_AS_STRING)
+    private boolean versionCacheEnabled;
+
+    /**
+     * The version calculation state cache file.
+     */
+    @Parameter(property = "versionCacheFile",
+            defaultValue = "${project.build.directory}/semantic-version/version-state.properties")
+    private File versionCacheFile;
+
+    /**
+     * Whether the version is calculated from a commit history index, an append-only binary
+     * file of the parsed commits that later builds scan instead of reading the commits.
+     */
+    @Parameter(property = "versionIndexEnabled",
+            defaultValue = VersionParameters.DEFAULT_INDEX_ENABLED_AS_STRING)
+    private boolean versionIndexEnabled;
+
+    /**
+     * The commit history index file. Defaults to 'semantic-version/commit-history.idx' in the
+     * git directory, shared by the modules of the repository and kept by 'mvn clean'.
+     */
+    @Parameter(property = "versionIndexFile")
+    private File versionIndexFile;
+
+    /**
+     * Whether each module of the reactor gets its own version, calculated from the commits
+     * that changed the module's directory since the module's last version tag. Module version
+     * tags are prefixed by the module's artifact id and '/', ex. 'module-1/v1.2.0'. The
+     * repository is discovered from the module's directory, the versions of all modules are
+     * calculated in one history walk and the cache and the index are not used.
+     */
+    @Parameter(property = "versionPerModule",
+            defaultValue = VersionParameters.DEFAULT_PER_MODULE_AS_STRING)
+    private boolean versionPerModule;
+
+    /**
+     * Whether the per-module calculation skips the commits that changed no module according
+     * to changed-path Bloom filters, without loading their trees. Git's commit-graph filters
+     * are read when present, ex. after 'git commit-graph write --reachable --changed-paths'.
+     * The modules changed by the other commits are recorded in the plugin's own filters, in
+     * 'semantic-version/module-changed-paths.bloom' of the git directory.
+     */
+    @Parameter(property = "versionBloomFiltersEnabled",
+            defaultValue = VersionParameters.DEFAULT_BLOOM_FILTERS_AS_STRING)
+    private boolean versionBloomFiltersEnabled;
+
+    /**
+     * Creates an instance.
+     */
+    public CalculateVersionMojo() {
+        super();
+        this.gitDirectory = GitHooksParameters.DEFAULT_GIT_DIRECTORY_NAME;
+        this.versionTagPrefix = VersionTags.DEFAULT_TAG_PREFIX;
+        this.versionMinorTypes = VersionBumpRules.DEFAULT_MINOR_TYPES;
+        this.versionPatchTypes = VersionBumpRules.DEFAULT_PATCH_TYPES;
+        this.versionProperty = VersionParameters.DEFAULT_PROPERTY_NAME;
+        this.versionCacheEnabled = VersionParameters.DEFAULT_CACHE_ENABLED;
+        this.versionIndexEnabled = VersionParameters.DEFAULT_INDEX_ENABLED;
+        this.versionPerModule = VersionParameters.DEFAULT_PER_MODULE;
+        this.versionBloomFiltersEnabled = VersionParameters.DEFAULT_BLOOM_FILTERS;
+    }
+
+    CalculateVersionMojo(File basedir, MavenProject project, String gitDirectory,
+                         CommitMsgParameters commitMsgParameters,
+                         VersionParameters versionParameters) {
+        this(basedir, project, null, gitDirectory, commitMsgParameters, versionParameters);
+    }
+
+    CalculateVersionMojo(File basedir, MavenProject project, MavenSession session,
+                         String gitDirectory, CommitMsgParameters commitMsgParameters,
+                         VersionParameters versionParameters) {
+        super(commitMsgParameters);
+        this.basedir = basedir;
+        this.project = project;
+        this.session = session;
+        this.gitDirectory = gitDirectory;
+        this.versionTagPrefix = versionParameters.getTagPrefix();
+        this.versionMinorTypes = versionParameters.getMinorTypes();
+        this.versionPatchTypes = versionParameters.getPatchTypes();
+        this.versionProperty = versionParameters.getPropertyName();
+        this.versionCacheEnabled = null != versionParameters.getCacheFile();
+        this.versionCacheFile = versionParameters.getCacheFile();
+        this.versionIndexEnabled = null != versionParameters.getIndexFile();
+        this.versionIndexFile = versionParameters.getIndexFile();
+        this.versionPerModule = versionParameters.isPerModule();
+        this.versionBloomFiltersEnabled = versionParameters.isBloomFilters();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation walks the commits from the last version tag reachable from HEAD,
+     * classifies them by type and sets the next version as a project property.
+     * <p>
+     * When the cache is enabled, the walk resumes from the commit analysed by the previous
+     * execution, as long as it's still an ancestor of HEAD. When the index is enabled, the
+     * commits are appended to the index and the version is calculated by scanning it. When
+     * versions are calculated per module, the first module of the reactor walks the history
+     * once for all modules and the others reuse the result.
+     *
+     * @throws IllegalArgumentException if parameters are invalid.
+     * @throws IllegalStateException    if the project is not a git repository.
+     * @throws RuntimeIOException       if the repository cannot be read.
+     */
+    @Override
+    public void execute() {
+        CommitMsgConfiguration configuration = buildCommitMsgConfiguration();
+        VersionBumpRules rules =
+                new VersionBumpRules(configuration, versionMinorTypes, versionPatchTypes);
+        String propertyName = ParameterSanitizer.sanitizeRequiredStringParameter(versionProperty,
+                Messages.VALUE_VERSION_PROPERTY);
+        VersionCalculation calculation = versionPerModule ?
+                calculateModuleVersion(configuration, rules) :
+                calculateVersion(configuration, rules);
+
+        if (null == calculation.getBaseTag()) {
+            getLog().info(String.format(Messages.NO_VERSION_TAG_FOUND_MESSAGE,
+                    calculation.getBaseVersion()));
+        } else {
+            getLog().info(String.format(Messages.LAST_VERSION_TAG_MESSAGE,
+                    calculation.getBaseTag().getName()));
+        }
+        getLog().info(String.format(Messages.ANALYSED_NUMBER_OF_COMMITS_MESSAGE,
+                calculation.getAnalysedCommits()));
+        getLog().info(String.format(Messages.NEXT_VERSION_MESSAGE, calculation.getNextVersion(),
+                calculation.getBump()));
+
+        if (null != project) {
+            project.getProperties().setProperty(propertyName,
+                    calculation.getNextVersion().toString());
+        }
+    }
+
+    private VersionCalculation calculateVersion(CommitMsgConfiguration configuration,
+                                                VersionBumpRules rules) {
+        VersionCalculator calculator =
+                new VersionCalculator(configuration, rules, versionTagPrefix,
+                        buildCommitScanner());
+
+        VersionStateCache cache = versionCacheEnabled && null != versionCacheFile ?
+                new VersionStateCache(versionCacheFile) : null;
+
+        VersionCalculation calculation;
+        File indexFile = null;
+        try (Repository repository = GitRepositories.open(basedir, gitDirectory)) {
+            if (versionIndexEnabled) {
+                indexFile = null == versionIndexFile ?
+                        new File(repository.getCommonDirectory(),
+                                CommitHistoryIndex.DEFAULT_FILE) :
+                        versionIndexFile;
+            }
+            try (CommitHistoryIndex index = null == indexFile ? null :
+                    CommitHistoryIndex.open(indexFile.toPath(), configuration)) {
+                calculation = calculator.calculate(repository,
+                        null == cache ? null : cache.load(), index);
+            }
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+        if (null != cache && null != calculation.getState()) {
+            cache.store(calculation.getState());
+        }
+        if (calculation.isIndexed()) {
+            getLog().info(String.format(Messages.CALCULATED_FROM_HISTORY_INDEX_MESSAGE,
+                    indexFile.getPath()));
+        }
+        if (calculation.isResumed()) {
+            getLog().info(String.format(Messages.RESUMED_FROM_VERSION_CACHE_MESSAGE,
+                    versionCacheFile.getPath()));
+        }
+        return calculation;
+    }
+
+    /**
+     * Gets the version of the current module, calculating the versions of all reactor modules
+     * of the repository unless already calculated in this reactor.
+     */
+    private VersionCalculation calculateModuleVersion(CommitMsgConfiguration configuration,
+                                                      VersionBumpRules rules) {
+        GitDirectories gitDirectories = GitRepositories.discover(basedir);
+        if (null == gitDirectories || null == gitDirectories.getWorkTree()) {
+            throw new IllegalStateException(Messages.NOT_A_GIT_REPOSITORY_MESSAGE);
+        }
+        File workTree = gitDirectories.getWorkTree();
+        ModuleVersionCalculator calculator =
+                new ModuleVersionCalculator(configuration, rules, versionTagPrefix);
+        Map<String, VersionCalculation> calculations = null == session ?
+                calculateModuleVersions(calculator, gitDirectories) :
+                ReactorModuleVersions.of(session).calculate(workTree, versionTagPrefix,
+                        calculator.getConfigurationFingerprint(),
+                        () -> calculateModuleVersions(calculator, gitDirectories));
+        VersionCalculation calculation = calculations.get(getModuleName());
+        if (null == calculation) {
+            throw new IllegalStateException(String.format(
+                    Messages.MESSAGE_MODULE_OUTSIDE_WORK_TREE, basedir, workTree));
+        }
+        return calculation;
+    }
+
+    private Map<String, VersionCalculation> calculateModuleVersions(
+            ModuleVersionCalculator calculator, GitDirectories gitDirectories) {
+        Map<String, String> modulePaths = getModulePaths(gitDirectories.getWorkTree());
+        Map<String, VersionCalculation> calculations;
+        try (Repository repository = GitRepositories.open(gitDirectories);
+             ChangedPathFilters filters = versionBloomFiltersEnabled ?
+                     ChangedPathFilters.open(repository, modulePaths.values()) : null) {
+            calculations = calculator.calculate(repository, modulePaths, filters);
+            if (null != filters) {
+                getLog().info(String.format(Messages.SKIPPED_TREE_DIFFS_MESSAGE,
+                        filters.getSkippedCommits(), filters.getCheckedCommits()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+        getLog().info(String.format(Messages.CALCULATED_MODULE_VERSIONS_MESSAGE,
+                calculations.size()));
+        return calculations;
+    }
+
+    /**
+     * Maps the reactor modules' artifact ids to their directories relative to the work tree.
+     * Modules outside the work tree are skipped.
+     */
+    private Map<String, String> getModulePaths(File workTree) {
+        Map<String, String> modulePaths = new LinkedHashMap<>();
+        Path workTreePath = workTree.toPath().toAbsolutePath().normalize();
+        if (null != session && null != session.getProjects()) {
+            for (MavenProject reactorProject : session.getProjects()) {
+                if (null != reactorProject.getBasedir()) {
+                    putModulePath(modulePaths, workTreePath, reactorProject.getArtifactId(),
+                            reactorProject.getBasedir());
+                }
+            }
+        }
+        putModulePath(modulePaths, workTreePath, getModuleName(), basedir);
+        return modulePaths;
+    }
+
+    private static void putModulePath(Map<String, String> modulePaths, Path workTreePath,
+                                      String moduleName, File moduleDirectory) {
+        Path modulePath = moduleDirectory.toPath().toAbsolutePath().normalize();
+        if (modulePath.startsWith(workTreePath)) {
+            modulePaths.putIfAbsent(moduleName,
+                    workTreePath.relativize(modulePath).toString().replace(File.separatorChar,
+                            '/'));
+        }
+    }
+
+    private String getModuleName() {
+        return null == project || null == project.getArtifactId() ? basedir.getName() :
+                project.getArtifactId();
+    }
+}
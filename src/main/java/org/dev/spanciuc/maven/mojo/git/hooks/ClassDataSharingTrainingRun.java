@@ -0,0 +1,117 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.ExecutionMetrics;
+import org.dev.spanciuc.maven.mojo.git.hooks.pre_push.PrePushParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg.PrepareCommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitDirectories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositories;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Repository;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The training run of the plugin's class data sharing archive.
+ * <p>
+ * It initializes a git repository in the given directory and runs the work of the
+ * add-git-hooks goal outside Maven: it discovers and opens the repository, builds the
+ * configuration with every hook enabled, generates the hooks and validates a message. Then it
+ * prints the classes loaded and the time spent in that work as {@code key=value} lines.
+ * <p>
+ * Usage: {@code <work directory>}.
+ */
+public final class ClassDataSharingTrainingRun {
+
+    /**
+     * The output key of the number of classes loaded by the work.
+     */
+    public static final String LOADED_CLASSES_KEY = "loadedClasses";
+
+    /**
+     * The output key of the duration of the work in nanoseconds.
+     */
+    public static final String EXECUTION_NANOS_KEY = "executionNanos";
+
+    static final String KEY_VALUE_SEPARATOR = "=";
+
+    static final String USAGE =
+            "Usage: " + ClassDataSharingTrainingRun.class.getName() + " <work directory>";
+
+    private static final String SAMPLE_MESSAGE = "feat(hooks): train the archive";
+
+    private ClassDataSharingTrainingRun() {
+    }
+
+    /**
+     * Runs the training in a work directory.
+     *
+     * @param args the work directory.
+     * @throws IllegalArgumentException if the work directory is not the only argument.
+     * @throws Exception                if the training fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException(USAGE);
+        }
+        File workTree = new File(args[0]);
+        long startLoadedClasses = getTotalLoadedClassCount();
+        long start = System.nanoTime();
+        train(workTree);
+        long executionNanos = System.nanoTime() - start;
+        long loadedClasses = getTotalLoadedClassCount() - startLoadedClasses;
+        System.out.println(LOADED_CLASSES_KEY + KEY_VALUE_SEPARATOR + loadedClasses);
+        System.out.println(EXECUTION_NANOS_KEY + KEY_VALUE_SEPARATOR + executionNanos);
+    }
+
+    static void train(File workTree) throws Exception {
+        Git.init().setDirectory(workTree).call().close();
+        GitDirectories gitDirectories = GitRepositories.discover(workTree);
+        try (Repository repository = GitRepositories.open(gitDirectories)) {
+            repository.getConfig().getString(ConfigConstants.CONFIG_CORE_SECTION, null,
+                    ConfigConstants.CONFIG_KEY_HOOKS_PATH);
+        }
+        GitHooksConfiguration configuration = new GitHooksConfiguration(
+                new GitHooksParameters(true, GitHooksParameters.DEFAULT_GIT_DIRECTORY_NAME,
+                        GitHooksParameters.DEFAULT_GIT_HOOKS_DIRECTORY_NAME,
+                        new CommitMsgParameters(), true,
+                        FileWriteOptions.DEFAULT,
+                        GitHooksParameters.DEFAULT_INSTALL_MODE,
+                        GitHooksParameters.DEFAULT_VERSIONED_HOOKS_DIRECTORY_NAME, true,
+                        new PrepareCommitMsgParameters(true,
+                                PrepareCommitMsgParameters.DEFAULT_FILE_NAME,
+                                CommitMsgParameters.DEFAULT_TYPES, Map.of("module", "module")),
+                        new PrePushParameters(true, PrePushParameters.DEFAULT_FILE_NAME,
+                                CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH,
+                                CommitMsgParameters.DEFAULT_TYPES)));
+        File hooksDirectory = gitDirectories.getHooksDirectory();
+        List<GitHookFileGenerator> generators = configuration.getEnabledHooksGenerators();
+        ExecutionMetrics metrics = new ExecutionMetrics(AddGitHooksMojo.GOAL);
+        GitHooksGenerationCoordinator.generate(hooksDirectory,
+                GitHookFileGenerators.contentKey(generators),
+                () -> GitHookFileGenerators.generate(generators, hooksDirectory,
+                        configuration.isFingerprintEnabled(), false,
+                        configuration.getWriteOptions(), metrics,
+                        ClassDataSharingTrainingRun::discard));
+        metrics.complete();
+        new ConventionalCommitParser(new CommitMsgConfiguration(new CommitMsgParameters()))
+                .validate(SAMPLE_MESSAGE);
+    }
+
+    /**
+     * Discards a log message, the output is read as key=value lines.
+     */
+    private static void discard(String message) {
+    }
+
+    private static long getTotalLoadedClassCount() {
+        return ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+    }
+}
@@ -0,0 +1,87 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitDirectories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositories;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Installs git hooks by pointing git's {@code core.hooksPath} at a versioned hooks directory.
+ * <p>
+ * The versioned directory is named after the hash of the hooks content, so a directory that
+ * contains every hook file is up-to-date without reading it.
+ */
+final class CoreHooksPathInstaller {
+
+    /**
+     * The number of hex chars of the content fingerprint used as versioned directory name.
+     */
+    static final int CONFIG_HASH_LENGTH = 12;
+
+    private static final char PATH_SEPARATOR = '/';
+
+    private CoreHooksPathInstaller() {
+    }
+
+    /**
+     * Gets the versioned hooks directory name of a content.
+     *
+     * @param versionedHooksDirectoryName the parent directory of the versioned directories.
+     * @param contentKey                  the key of the hooks content.
+     * @return the versioned hooks directory name.
+     */
+    static String versionedHooksDirectoryName(String versionedHooksDirectoryName,
+                                              String contentKey) {
+        return versionedHooksDirectoryName + PATH_SEPARATOR +
+                Fingerprints.of(contentKey).substring(0, CONFIG_HASH_LENGTH);
+    }
+
+    /**
+     * Points {@code core.hooksPath} of a repository at a hooks directory.
+     * <p>
+     * The configuration is only written when its value differs. A directory inside the work
+     * tree is configured relative to it, so the configuration survives moving the checkout.
+     * The configuration of a linked worktree is the one of its common directory.
+     *
+     * @param gitDirectories the repository's directories.
+     * @param hooksDirectory the hooks directory.
+     * @return true if the configuration was changed, otherwise - false.
+     * @throws IllegalStateException if the directory is not a git repository.
+     * @throws RuntimeIOException    if the configuration cannot be read or written.
+     */
+    static boolean install(GitDirectories gitDirectories, File hooksDirectory) {
+        try (Repository repository = GitRepositories.open(gitDirectories)) {
+            String hooksPath = hooksPath(repository, hooksDirectory);
+            StoredConfig config = repository.getConfig();
+            if (hooksPath.equals(config.getString(ConfigConstants.CONFIG_CORE_SECTION, null,
+                    ConfigConstants.CONFIG_KEY_HOOKS_PATH))) {
+                return false;
+            }
+            config.setString(ConfigConstants.CONFIG_CORE_SECTION, null,
+                    ConfigConstants.CONFIG_KEY_HOOKS_PATH, hooksPath);
+            config.save();
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+    }
+
+    private static String hooksPath(Repository repository, File hooksDirectory) {
+        Path hooksDirectoryPath = hooksDirectory.getAbsoluteFile().toPath().normalize();
+        if (!repository.isBare()) {
+            Path workTree = repository.getWorkTree().getAbsoluteFile().toPath().normalize();
+            if (hooksDirectoryPath.startsWith(workTree)) {
+                return workTree.relativize(hooksDirectoryPath).toString()
+                        .replace(File.separatorChar, PATH_SEPARATOR);
+            }
+        }
+        return hooksDirectoryPath.toString();
+    }
+}
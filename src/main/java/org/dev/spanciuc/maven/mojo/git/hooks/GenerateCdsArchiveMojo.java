@@ -0,0 +1,270 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.ClassDataSharingArchives;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.util.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Mojo class to record a class data sharing archive of the plugin's classes.
+ * <p>
+ * The classes loaded by a forked JVM running {@link ClassDataSharingTrainingRun} on the
+ * plugin's classpath are dumped to a static archive. The JVM commit-msg hook generated by
+ * {@link AddGitHooksMojo} afterwards maps the archived classes instead of loading them again,
+ * as long as both goals use the same archive file. The goal is not bound to a phase, it's run
+ * on demand before the hooks are generated.
+ * <p>
+ * The measurement mode runs the training once without and once with the archive and reports
+ * the classes loaded and the time spent in the add-git-hooks work of both runs.
+ */
+@Mojo(name = "generate-cds-archive", threadSafe = true)
+public class GenerateCdsArchiveMojo extends AbstractMojo {
+
+    /**
+     * The JVM options of the training and measurement runs.
+     */
+    static final List<String> JVM_OPTIONS =
+            List.of(ClassDataSharingArchives.SHARE_AUTO_OPTION, "-XX:TieredStopAtLevel=1");
+
+    /**
+     * The logging API JGit is compiled against, Maven provides it to plugins.
+     */
+    static final String LOGGING_API_CLASS = "org.slf4j.LoggerFactory";
+
+    /**
+     * The default class data sharing archive file.
+     */
+    static final String DEFAULT_CDS_ARCHIVE_FILE = "${project.build.directory}/git-hooks-cds.jsa";
+
+    /**
+     * Default value for measuring the startup with and without the archive represented as string.
+     */
+    public static final String DEFAULT_MEASURE_ENABLED_AS_STRING = "false";
+
+    /**
+     * Default value for measuring the startup with and without the archive.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_MEASURE_ENABLED =
+            Boolean.parseBoolean(DEFAULT_MEASURE_ENABLED_AS_STRING);
+
+    private static final String TRAINING_DIRECTORY_PREFIX = "cds-training";
+
+    private static final String WALL_NANOS_KEY = "wallNanos";
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * The plugin's artifacts, the classpath of the training run.
+     */
+    @Parameter(defaultValue = "${plugin.artifacts}", readonly = true)
+    private List<Artifact> pluginArtifacts;
+
+    /**
+     * The project's build directory, the training runs in a temporary directory in it.
+     */
+    @Parameter(defaultValue = "${project.build.directory}", readonly = true)
+    private File buildDirectory;
+
+    /**
+     * The class data sharing archive file.
+     */
+    @Parameter(property = "cdsArchiveFile", defaultValue = DEFAULT_CDS_ARCHIVE_FILE)
+    private File cdsArchiveFile;
+
+    /**
+     * Whether the startup with and without the archive is measured and reported.
+     */
+    @Parameter(property = "cdsMeasureEnabled", defaultValue = DEFAULT_MEASURE_ENABLED_AS_STRING)
+    private boolean cdsMeasureEnabled;
+
+    /**
+     * Creates an instance.
+     */
+    public GenerateCdsArchiveMojo() {
+        this.pluginArtifacts = List.of();
+        this.cdsMeasureEnabled = DEFAULT_MEASURE_ENABLED;
+    }
+
+    GenerateCdsArchiveMojo(List<Artifact> pluginArtifacts, File buildDirectory,
+                           File cdsArchiveFile, boolean cdsMeasureEnabled) {
+        this.pluginArtifacts = pluginArtifacts;
+        this.buildDirectory = buildDirectory;
+        this.cdsArchiveFile = cdsArchiveFile;
+        this.cdsMeasureEnabled = cdsMeasureEnabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The goal is skipped with a warning if a classpath entry is not a jar, the JVM archives
+     * classes loaded from jars only.
+     *
+     * @throws IllegalStateException if the training run fails.
+     * @throws RuntimeIOException    if the training run cannot be started.
+     */
+    @Override
+    public void execute() {
+        List<Path> classpath = getClasspath();
+        if (!ClassDataSharingArchives.isArchivable(classpath)) {
+            getLog().warn(String.format(Messages.CDS_ARCHIVE_UNSUPPORTED_CLASSPATH_MESSAGE,
+                    ClassDataSharingArchives.toClasspath(classpath)));
+            return;
+        }
+        Path javaExecutable = ClassDataSharingArchives.getJavaExecutable();
+        Path archive = cdsArchiveFile.toPath();
+        Path trainingDirectory = null;
+        try {
+            trainingDirectory = createTrainingDirectory();
+            if (!ClassDataSharingArchives.createStatic(javaExecutable, JVM_OPTIONS, classpath,
+                    ClassDataSharingTrainingRun.class.getName(),
+                    List.of(trainingDirectory.toString()), archive,
+                    ClassDataSharingArchives.DEFAULT_TIMEOUT_SECONDS)) {
+                throw new IllegalStateException(String.format(
+                        Messages.CDS_ARCHIVE_NOT_CREATED_MESSAGE, archive));
+            }
+            getLog().info(String.format(Messages.CDS_ARCHIVE_CREATED_MESSAGE, archive,
+                    String.join(" ", JVM_OPTIONS),
+                    ClassDataSharingArchives.SHARED_ARCHIVE_FILE_OPTION + archive,
+                    ClassDataSharingArchives.toClasspath(classpath)));
+            if (cdsMeasureEnabled) {
+                measure(javaExecutable, classpath, archive);
+            }
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            deleteTrainingDirectory(trainingDirectory);
+        }
+    }
+
+    private void measure(Path javaExecutable, List<Path> classpath, Path archive)
+            throws IOException, InterruptedException {
+        logMeasurement(Messages.CDS_MEASUREMENT_WITHOUT_ARCHIVE,
+                measureRun(javaExecutable, classpath, null));
+        logMeasurement(Messages.CDS_MEASUREMENT_WITH_ARCHIVE,
+                measureRun(javaExecutable, classpath, archive));
+    }
+
+    /**
+     * Runs the training and returns its output values and the wall time of the JVM.
+     */
+    private Map<String, Long> measureRun(Path javaExecutable, List<Path> classpath,
+                                         Path archive)
+            throws IOException, InterruptedException {
+        Path trainingDirectory = createTrainingDirectory();
+        List<String> output;
+        long wallNanos;
+        try {
+            long start = System.nanoTime();
+            output = ClassDataSharingArchives.run(javaExecutable, JVM_OPTIONS, classpath,
+                    ClassDataSharingTrainingRun.class.getName(),
+                    List.of(trainingDirectory.toString()), archive,
+                    ClassDataSharingArchives.DEFAULT_TIMEOUT_SECONDS);
+            wallNanos = System.nanoTime() - start;
+        } finally {
+            deleteTrainingDirectory(trainingDirectory);
+        }
+        Map<String, Long> values = new HashMap<>();
+        for (String line : output) {
+            int separator = line.indexOf(ClassDataSharingTrainingRun.KEY_VALUE_SEPARATOR);
+            if (separator > 0) {
+                values.put(line.substring(0, separator),
+                        Long.parseLong(line.substring(separator + 1).strip()));
+            }
+        }
+        values.put(WALL_NANOS_KEY, wallNanos);
+        return values;
+    }
+
+    private void logMeasurement(String run, Map<String, Long> values) {
+        getLog().info(String.format(Messages.CDS_MEASUREMENT_MESSAGE, run,
+                values.getOrDefault(ClassDataSharingTrainingRun.LOADED_CLASSES_KEY, -1L),
+                values.getOrDefault(ClassDataSharingTrainingRun.EXECUTION_NANOS_KEY, -1L) /
+                        NANOS_PER_MILLI,
+                values.get(WALL_NANOS_KEY) / NANOS_PER_MILLI));
+    }
+
+    private Path createTrainingDirectory() throws IOException {
+        Files.createDirectories(buildDirectory.toPath());
+        return Files.createTempDirectory(buildDirectory.toPath(), TRAINING_DIRECTORY_PREFIX);
+    }
+
+    private static void deleteTrainingDirectory(Path directory) {
+        if (null == directory) {
+            return;
+        }
+        try {
+            FileUtils.delete(directory.toFile(),
+                    FileUtils.RECURSIVE | FileUtils.IGNORE_ERRORS);
+        } catch (IOException e) {
+            // a left over training directory is removed with the build directory
+        }
+    }
+
+    /**
+     * Gets the plugin's classpath with the logging API JGit needs outside Maven.
+     * <p>
+     * The plugin's own code source is used if no plugin artifacts are injected.
+     */
+    List<Path> getClasspath() {
+        return getClasspath(pluginArtifacts);
+    }
+
+    /**
+     * Gets the plugin's classpath of the given plugin artifacts with the logging API JGit needs
+     * outside Maven, it's the classpath the archive is dumped with.
+     * <p>
+     * The plugin's own code source is used if no plugin artifacts are given.
+     *
+     * @param pluginArtifacts the plugin's artifacts.
+     * @return the classpath entries.
+     */
+    static List<Path> getClasspath(List<Artifact> pluginArtifacts) {
+        List<Path> classpath = new ArrayList<>();
+        for (Artifact artifact : pluginArtifacts) {
+            if (null != artifact.getFile()) {
+                classpath.add(artifact.getFile().toPath().toAbsolutePath());
+            }
+        }
+        if (classpath.isEmpty()) {
+            addCodeSource(classpath, GenerateCdsArchiveMojo.class);
+        }
+        try {
+            addCodeSource(classpath, Class.forName(LOGGING_API_CLASS, false,
+                    GenerateCdsArchiveMojo.class.getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            // JGit then logs nothing
+        }
+        return classpath;
+    }
+
+    private static void addCodeSource(List<Path> classpath, Class<?> type) {
+        try {
+            Path codeSource = Path.of(type.getProtectionDomain().getCodeSource().getLocation()
+                    .toURI()).toAbsolutePath();
+            if (!classpath.contains(codeSource)) {
+                classpath.add(codeSource);
+            }
+        } catch (URISyntaxException | NullPointerException | SecurityException e) {
+            // the entry is expected among the plugin's artifacts
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.dev.spanciuc.maven.mojo.git.hooks.changelog.ChangelogGeneration;
+import org.dev.spanciuc.maven.mojo.git.hooks.changelog.ChangelogGenerator;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionTags;
+import org.eclipse.jgit.lib.Repository;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A Mojo class to generate a Markdown changelog from the conventional commits, with one section
+ * per version tag.
+ * <p>
+ * Re-runs only append the sections of the commits added since the last released section.
+ */
+@Mojo(name = "generate-changelog", threadSafe = true)
+public class GenerateChangelogMojo extends AbstractConventionalCommitMojo {
+
+    /**
+     * The project's base dir.
+     */
+    @Parameter(defaultValue = "${project.basedir}", readonly = true)
+    private File basedir;
+
+    /**
+     * The git directory name.
+     */
+    @Parameter(property = "gitDirectory",
+            defaultValue = GitHooksParameters.DEFAULT_GIT_DIRECTORY_NAME)
+    private String gitDirectory;
+
+    /**
+     * The prefix of version tags. A version tag is the prefix followed by a
+     * 'major.minor.patch' version.
+     */
+    @Parameter(property = "versionTagPrefix", defaultValue = VersionTags.DEFAULT_TAG_PREFIX)
+    private String versionTagPrefix;
+
+    /**
+     * The changelog file.
+     */
+    @Parameter(property = "changelogFile", defaultValue = "${project.basedir}/CHANGELOG.md")
+    private File changelogFile;
+
+    /**
+     * Creates an instance.
+     */
+    public GenerateChangelogMojo() {
+        super();
+        this.gitDirectory = GitHooksParameters.DEFAULT_GIT_DIRECTORY_NAME;
+        this.versionTagPrefix = VersionTags.DEFAULT_TAG_PREFIX;
+    }
+
+    GenerateChangelogMojo(File basedir, String gitDirectory,
+                          CommitMsgParameters commitMsgParameters, String versionTagPrefix,
+                          File changelogFile) {
+        super(commitMsgParameters);
+        this.basedir = basedir;
+        this.gitDirectory = gitDirectory;
+        this.versionTagPrefix = versionTagPrefix;
+        this.changelogFile = changelogFile;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation writes the changelog of HEAD, appending to the existing changelog
+     * when it was generated from an ancestor of HEAD.
+     *
+     * @throws IllegalArgumentException if parameters are invalid.
+     * @throws IllegalStateException    if the project is not a git repository.
+     * @throws RuntimeIOException       if the repository or the changelog cannot be read or
+     *                                  written.
+     */
+    @Override
+    public void execute() {
+        if (null == changelogFile) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_CHANGELOG_FILE));
+        }
+        ChangelogGenerator generator = new ChangelogGenerator(buildCommitMsgConfiguration(),
+                versionTagPrefix, buildCommitScanner());
+
+        ChangelogGeneration generation;
+        try (Repository repository = GitRepositories.open(basedir, gitDirectory)) {
+            generation = generator.generate(repository, changelogFile.toPath());
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+
+        if (generation.isAppended()) {
+            getLog().info(String.format(Messages.CHANGELOG_APPENDED_MESSAGE,
+                    generation.getCommits(), generation.getReleasedSections(),
+                    changelogFile.getPath()));
+        } else {
+            getLog().info(String.format(Messages.CHANGELOG_GENERATED_MESSAGE,
+                    changelogFile.getPath(), generation.getCommits(),
+                    generation.getReleasedSections()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+/**
+ * Provides the configuration of a git hook.
+ * <p>
+ * Providers are discovered with {@link java.util.ServiceLoader}, a provider is registered by
+ * listing it in a
+ * {@code META-INF/services/org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfigurationProvider}
+ * file. The configuration of a hook is only created, and its parameters only validated, if the
+ * hook is enabled.
+ */
+public interface GitHookConfigurationProvider {
+
+    /**
+     * Gets the name of the provided git hook, e.g. {@code commit-msg}.
+     *
+     * @return hook name.
+     */
+    String getHookName();
+
+    /**
+     * Checks if the hook is enabled, without validating its parameters.
+     *
+     * @param gitHooksParameters the parameters.
+     * @return true if enabled, otherwise - false.
+     */
+    boolean isEnabled(GitHooksParameters gitHooksParameters);
+
+    /**
+     * Creates the configuration of the hook.
+     *
+     * @param gitHooksParameters the parameters.
+     * @return configuration.
+     * @throws IllegalArgumentException if the hook's parameters are invalid.
+     */
+    GitHookConfiguration create(GitHooksParameters gitHooksParameters);
+
+}
@@ -0,0 +1,39 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * The registry of the git hook configuration providers found in the plugin's class loader.
+ * <p>
+ * Providers are loaded once per class loader, on first use, and ordered by hook name.
+ */
+final class GitHookConfigurationProviders {
+
+    private GitHookConfigurationProviders() {
+    }
+
+    /**
+     * Gets the registered providers.
+     *
+     * @return unmodifiable list of providers ordered by hook name.
+     */
+    static List<GitHookConfigurationProvider> getProviders() {
+        return ProvidersHolder.PROVIDERS;
+    }
+
+    /**
+     * Loads the providers once, on first use.
+     */
+    private static final class ProvidersHolder {
+
+        private static final List<GitHookConfigurationProvider> PROVIDERS =
+                ServiceLoader.load(GitHookConfigurationProvider.class,
+                                GitHookConfigurationProviders.class.getClassLoader())
+                        .stream()
+                        .map(ServiceLoader.Provider::get)
+                        .sorted(Comparator.comparing(GitHookConfigurationProvider::getHookName))
+                        .toList();
+    }
+}
@@ -1,19 +1,39 @@
 package org.dev.spanciuc.maven.mojo.git.hooks;
 
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 
 /**
  * Provides the necessary methods for git hooks file generation.
  */
 public interface GitHookFileGenerator {
 
+    /**
+     * Creates a git hook file in directory with default write options.
+     *
+     * @param parentDirectory the target directory.
+     * @return generated file.
+     * @see FileWriteOptions#DEFAULT
+     */
+    default File generate(File parentDirectory) {
+        return generate(parentDirectory, FileWriteOptions.DEFAULT);
+    }
+
     /**
      * Creates a git hook file in directory.
+     * <p>
+     * The file is executable and replaced atomically, so concurrent builds never leave a
+     * partially written hook.
      *
      * @param parentDirectory the target directory.
+     * @param writeOptions    the write options.
      * @return generated file.
      */
-    File generate(File parentDirectory);
+    File generate(File parentDirectory, FileWriteOptions writeOptions);
 
     /**
      * Gets the name of the file.
@@ -22,4 +42,32 @@ public interface GitHookFileGenerator {
      */
     String getFileName();
 
+    /**
+     * Gets the fingerprint of the content this generator would write.
+     *
+     * @return hex encoded fingerprint.
+     * @see Fingerprints
+     */
+    String getFingerprint();
+
+    /**
+     * Checks if the hook file in directory already has the content this generator would write.
+     * <p>
+     * A missing or unreadable file is never up-to-date.
+     *
+     * @param parentDirectory the target directory.
+     * @return true if the existent file is up-to-date, otherwise - false.
+     */
+    default boolean isUpToDate(File parentDirectory) {
+        File file = new File(parentDirectory, getFileName());
+        if (!file.isFile()) {
+            return false;
+        }
+        try {
+            return getFingerprint().equals(Fingerprints.of(Files.readAllBytes(file.toPath())));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
 }
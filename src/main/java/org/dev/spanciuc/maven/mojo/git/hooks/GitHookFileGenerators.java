@@ -0,0 +1,91 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.ExecutionMetrics;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Runs the enabled hooks generators of the add-git-hooks goal and of the
+ * {@link ClassDataSharingTrainingRun}.
+ * <p>
+ * It doesn't depend on the Maven API, which is not on the classpath of the training run.
+ */
+final class GitHookFileGenerators {
+
+    private GitHookFileGenerators() {
+    }
+
+    /**
+     * Builds a key identifying the content written by the generators.
+     *
+     * @param enabledHooksGenerators the enabled hooks generators.
+     * @return content key.
+     */
+    static String contentKey(List<GitHookFileGenerator> enabledHooksGenerators) {
+        StringBuilder contentKey = new StringBuilder();
+        for (GitHookFileGenerator hookGenerator : enabledHooksGenerators) {
+            contentKey.append(hookGenerator.getFileName()).append('=')
+                    .append(hookGenerator.getFingerprint()).append(';');
+        }
+        return contentKey.toString();
+    }
+
+    /**
+     * Generates the hooks. Hook files of a versioned directory are named after their content,
+     * so existent ones are up-to-date and are not read.
+     *
+     * @param enabledHooksGenerators the enabled hooks generators.
+     * @param hooksDirectory         the hooks directory, created if missing.
+     * @param fingerprintEnabled     whether up-to-date hook files are left unchanged.
+     * @param versioned              whether the hooks directory is named after the content.
+     * @param writeOptions           the hook files write options.
+     * @param metrics                the metrics of the execution.
+     * @param log                    the consumer of the info messages.
+     * @return the created and the unchanged hook files.
+     */
+    static GitHooksGenerationCoordinator.Generation generate(
+            List<GitHookFileGenerator> enabledHooksGenerators, File hooksDirectory,
+            boolean fingerprintEnabled, boolean versioned, FileWriteOptions writeOptions,
+            ExecutionMetrics metrics, Consumer<String> log) {
+
+        File targetHooksDirectory = metrics.time(AddGitHooksMojo.STAGE_DIRECTORY_CREATION, null,
+                () -> createOrGetGitHooksDirectory(hooksDirectory, log));
+
+        List<File> hookFiles = new ArrayList<>();
+        List<File> unchangedHookFiles = new ArrayList<>();
+
+        for (GitHookFileGenerator hookGenerator : enabledHooksGenerators) {
+            File existentHookFile = new File(targetHooksDirectory, hookGenerator.getFileName());
+            if (versioned ? existentHookFile.isFile() :
+                    fingerprintEnabled && hookGenerator.isUpToDate(targetHooksDirectory)) {
+                log.accept(String.format(Messages.HOOK_BY_NAME_UNCHANGED_MESSAGE,
+                        existentHookFile.getPath()));
+                unchangedHookFiles.add(existentHookFile);
+                continue;
+            }
+            File hookFile = metrics.time(AddGitHooksMojo.STAGE_GENERATE,
+                    hookGenerator.getFileName(),
+                    () -> hookGenerator.generate(targetHooksDirectory, writeOptions));
+            log.accept(String.format(Messages.HOOK_BY_NAME_SUCCESSFULLY_GENERATED_MESSAGE,
+                    hookFile.getPath()));
+            hookFiles.add(hookFile);
+        }
+        return new GitHooksGenerationCoordinator.Generation(List.copyOf(hookFiles),
+                List.copyOf(unchangedHookFiles), false);
+    }
+
+    private static File createOrGetGitHooksDirectory(File gitHooksDir, Consumer<String> log) {
+        if (!gitHooksDir.mkdirs()) {
+            log.accept(String.format(Messages.FOUND_EXISTENT_FILE_MESSAGE, gitHooksDir.getPath()));
+        } else {
+            log.accept(
+                    String.format(Messages.CREATED_NEW_DIRECTORY_MESSAGE, gitHooksDir.getPath()));
+        }
+        return gitHooksDir;
+    }
+}
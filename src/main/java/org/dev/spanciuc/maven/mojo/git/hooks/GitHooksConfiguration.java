@@ -1,8 +1,8 @@
 package org.dev.spanciuc.maven.mojo.git.hooks;
 
-import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
 import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.GitHooksAreDisabledException;
 import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.NoEnabledGitHooksFoundException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
 import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
 import org.dev.spanciuc.maven.mojo.git.hooks.utils.ParameterSanitizer;
 
@@ -19,6 +19,15 @@ public class GitHooksConfiguration {
 
     private final String gitHooksDirectoryName;
 
+    private final boolean fingerprintEnabled;
+
+    private final FileWriteOptions writeOptions;
+
+    private final GitHooksInstallMode installMode;
+
+    private final String versionedHooksDirectoryName;
+
+    private final boolean discoveryEnabled;
 
     private final List<GitHookConfiguration> gitHooksConfigurations;
 
@@ -32,7 +41,10 @@ public class GitHooksConfiguration {
      * @throws IllegalArgumentException if parameters object is null.
      * @throws IllegalArgumentException if parameters object has invalid git directory name.
      * @throws IllegalArgumentException if parameters object has invalid git hooks directory name.
-     * @throws IllegalArgumentException if parameters object has invalid commit-msg parameters.
+     * @throws IllegalArgumentException if parameters object has invalid versioned hooks
+     *                                  directory name.
+     * @throws IllegalArgumentException if parameters object has invalid parameters for an
+     *                                  enabled hook.
      */
     public GitHooksConfiguration(GitHooksParameters gitHooksParameters) {
         if (null == gitHooksParameters) {
@@ -44,8 +56,16 @@ public class GitHooksConfiguration {
         this.gitHooksDirectoryName =
                 sanitizeGitHooksDirectoryName(gitHooksParameters.getGitHooksDirectoryName());
         this.enabled = gitHooksParameters.isEnabled();
-        this.gitHooksConfigurations =
-                List.of(new CommitMsgConfiguration(gitHooksParameters.getCommitMsg()));
+        this.fingerprintEnabled = gitHooksParameters.isFingerprintEnabled();
+        this.writeOptions = null == gitHooksParameters.getWriteOptions() ?
+                FileWriteOptions.DEFAULT : gitHooksParameters.getWriteOptions();
+        this.installMode = null == gitHooksParameters.getInstallMode() ?
+                GitHooksParameters.DEFAULT_INSTALL_MODE : gitHooksParameters.getInstallMode();
+        this.versionedHooksDirectoryName = sanitizeVersionedHooksDirectoryName(
+                gitHooksParameters.getVersionedHooksDirectoryName());
+        this.discoveryEnabled = gitHooksParameters.isDiscoveryEnabled();
+        this.gitHooksConfigurations = enabled ? createEnabledConfigurations(gitHooksParameters,
+                GitHookConfigurationProviders.getProviders()) : List.of();
     }
 
     /**
@@ -90,6 +110,24 @@ public class GitHooksConfiguration {
         return gitHooksDirectoryName;
     }
 
+    /**
+     * Gets the way git hooks are installed.
+     *
+     * @return install mode.
+     */
+    public GitHooksInstallMode getInstallMode() {
+        return installMode;
+    }
+
+    /**
+     * Gets the parent directory name of versioned git hooks directories.
+     *
+     * @return versioned hooks directory name.
+     */
+    public String getVersionedHooksDirectoryName() {
+        return versionedHooksDirectoryName;
+    }
+
     /**
      * Checks if at least one hook is enabled.
      *
@@ -99,6 +137,33 @@ public class GitHooksConfiguration {
         return gitHooksConfigurations.stream().anyMatch(GitHookConfiguration::isEnabled);
     }
 
+    /**
+     * Checks if hooks with unchanged content should be skipped instead of being rewritten.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    public boolean isFingerprintEnabled() {
+        return fingerprintEnabled;
+    }
+
+    /**
+     * Gets the options used to write hook files.
+     *
+     * @return write options.
+     */
+    public FileWriteOptions getWriteOptions() {
+        return writeOptions;
+    }
+
+    /**
+     * Checks if the git repository is discovered from the project's directory and its parents.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    public boolean isDiscoveryEnabled() {
+        return discoveryEnabled;
+    }
+
     /**
      * Checks  if git hooks are globally enabled.
      *
@@ -108,6 +173,19 @@ public class GitHooksConfiguration {
         return enabled;
     }
 
+    /**
+     * Creates the configurations of the enabled hooks only, parameters of disabled hooks are
+     * neither parsed nor validated.
+     */
+    static List<GitHookConfiguration> createEnabledConfigurations(
+            GitHooksParameters gitHooksParameters,
+            List<GitHookConfigurationProvider> providers) {
+        return providers.stream()
+                .filter(provider -> provider.isEnabled(gitHooksParameters))
+                .map(provider -> provider.create(gitHooksParameters))
+                .toList();
+    }
+
     private String sanitizeGitDirectoryName(String gitDirectoryName) {
         return ParameterSanitizer.sanitizeRequiredStringParameter(gitDirectoryName,
                 Messages.VALUE_GIT_DIRECTORY_NAME);
@@ -118,4 +196,9 @@ public class GitHooksConfiguration {
                 Messages.VALUE_GIT_HOOKS_DIRECTORY_NAME);
     }
 
+    private String sanitizeVersionedHooksDirectoryName(String versionedHooksDirectoryName) {
+        return ParameterSanitizer.sanitizeRequiredStringParameter(versionedHooksDirectoryName,
+                Messages.VALUE_VERSIONED_HOOKS_DIRECTORY_NAME);
+    }
+
 }
@@ -0,0 +1,144 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A JVM-wide coordinator of git hooks generations.
+ * <p>
+ * Modules built in parallel, e.g. with {@code mvn -T}, often write the same git hooks
+ * directory. Only one generation per canonical hooks directory runs at a time: the first module
+ * generates the hooks and every module arriving while it runs awaits it. A module reuses the
+ * awaited result if it would generate the same content, otherwise it generates the hooks itself
+ * once the running generation completes. A finished generation is forgotten, so later builds
+ * in the same JVM, e.g. a daemon, always generate again.
+ */
+final class GitHooksGenerationCoordinator {
+
+    private static final ConcurrentMap<String, RunningGeneration> RUNNING_GENERATIONS =
+            new ConcurrentHashMap<>();
+
+    private GitHooksGenerationCoordinator() {
+    }
+
+    /**
+     * Runs a generation of a hooks directory or reuses the result of a concurrent one.
+     *
+     * @param hooksDirectory the git hooks directory.
+     * @param contentKey     the key of the generated content, generations with equal keys
+     *                       write the same files.
+     * @param generation     the generation.
+     * @return the result of the generation, marked as reused if awaited from another one.
+     * @throws IllegalArgumentException if any argument is null.
+     */
+    static Generation generate(File hooksDirectory, String contentKey,
+                               Supplier<Generation> generation) {
+        if (null == hooksDirectory) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_GIT_HOOKS_DIRECTORY_NAME));
+        }
+        if (null == contentKey || null == generation) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        String key = canonicalPath(hooksDirectory);
+        while (true) {
+            RunningGeneration own = new RunningGeneration(contentKey, new CompletableFuture<>());
+            RunningGeneration running = RUNNING_GENERATIONS.putIfAbsent(key, own);
+            if (null == running) {
+                return run(key, own, generation);
+            }
+            Generation awaited = await(running);
+            if (null != awaited && running.getContentKey().equals(contentKey)) {
+                return awaited.asReused();
+            }
+        }
+    }
+
+    private static Generation run(String key, RunningGeneration own,
+                                  Supplier<Generation> generation) {
+        try {
+            Generation result = generation.get();
+            own.getResult().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.getResult().completeExceptionally(e);
+            throw e;
+        } finally {
+            RUNNING_GENERATIONS.remove(key, own);
+        }
+    }
+
+    /**
+     * Awaits a running generation.
+     *
+     * @return its result or null if it failed, the caller then generates the hooks itself.
+     */
+    private static Generation await(RunningGeneration running) {
+        try {
+            return running.getResult().join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private static String canonicalPath(File hooksDirectory) {
+        try {
+            return hooksDirectory.getCanonicalPath();
+        } catch (IOException e) {
+            return hooksDirectory.getAbsoluteFile().toPath().normalize().toString();
+        }
+    }
+
+    /**
+     * The result of a git hooks generation.
+     */
+    @Value
+    static class Generation {
+
+        /**
+         * The hook files written by the generation.
+         *
+         * @return created hook files.
+         */
+        @SuppressWarnings("JavadocDeclaration")
+        List<File> createdHookFiles;
+
+        /**
+         * The hook files skipped by the generation because they were up-to-date.
+         *
+         * @return unchanged hook files.
+         */
+        @SuppressWarnings("JavadocDeclaration")
+        List<File> unchangedHookFiles;
+
+        /**
+         * Whether the result was generated by a concurrent module and reused.
+         *
+         * @return true if reused, otherwise - false.
+         */
+        @SuppressWarnings("JavadocDeclaration")
+        boolean reused;
+
+        Generation asReused() {
+            return new Generation(createdHookFiles, unchangedHookFiles, true);
+        }
+    }
+
+    @Value
+    private static class RunningGeneration {
+
+        String contentKey;
+
+        CompletableFuture<Generation> result;
+    }
+}
@@ -0,0 +1,20 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+/**
+ * The ways generated git hooks are installed.
+ */
+public enum GitHooksInstallMode {
+
+    /**
+     * Hooks are written into the git hooks directory on every build.
+     */
+    HOOKS_DIRECTORY,
+
+    /**
+     * Hooks are written once into a directory of the project named after the hash of their
+     * content, git is pointed at it with the {@code core.hooksPath} configuration.
+     * <p>
+     * Builds with an unchanged hooks configuration only read the git configuration.
+     */
+    CORE_HOOKS_PATH
+}
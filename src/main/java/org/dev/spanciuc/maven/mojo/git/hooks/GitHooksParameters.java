@@ -4,6 +4,9 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.pre_push.PrePushParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg.PrepareCommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
 
 /**
  * A class to hold git hooks configuration's parameters..
@@ -34,12 +37,63 @@ public class GitHooksParameters {
     @SuppressWarnings("ConstantConditions")
     public static final boolean DEFAULT_ENABLED = Boolean.parseBoolean(DEFAULT_ENABLED_AS_STRING);
 
+    /**
+     * Default value for fingerprint mode represented as string.
+     */
+    public static final String DEFAULT_FINGERPRINT_ENABLED_AS_STRING = "false";
+
+    /**
+     * Default value for fingerprint mode.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_FINGERPRINT_ENABLED =
+            Boolean.parseBoolean(DEFAULT_FINGERPRINT_ENABLED_AS_STRING);
+
+    /**
+     * Default value for git hooks install mode represented as string.
+     */
+    public static final String DEFAULT_INSTALL_MODE_AS_STRING = "HOOKS_DIRECTORY";
+
+    /**
+     * Default value for git hooks install mode.
+     */
+    public static final GitHooksInstallMode DEFAULT_INSTALL_MODE =
+            GitHooksInstallMode.valueOf(DEFAULT_INSTALL_MODE_AS_STRING);
+
+    /**
+     * Default value for the parent directory name of versioned git hooks directories.
+     */
+    public static final String DEFAULT_VERSIONED_HOOKS_DIRECTORY_NAME = ".githooks";
+
+    /**
+     * Default value for git repository discovery represented as string.
+     */
+    public static final String DEFAULT_DISCOVERY_ENABLED_AS_STRING = "false";
+
+    /**
+     * Default value for git repository discovery.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_DISCOVERY_ENABLED =
+            Boolean.parseBoolean(DEFAULT_DISCOVERY_ENABLED_AS_STRING);
+
     /**
      * Default commit-msg hook parameters.
      */
     public static final CommitMsgParameters DEFAULT_COMMIT_MSG_PARAMETERS =
             new CommitMsgParameters();
 
+    /**
+     * Default prepare-commit-msg hook parameters.
+     */
+    public static final PrepareCommitMsgParameters DEFAULT_PREPARE_COMMIT_MSG_PARAMETERS =
+            new PrepareCommitMsgParameters();
+
+    /**
+     * Default pre-push hook parameters.
+     */
+    public static final PrePushParameters DEFAULT_PRE_PUSH_PARAMETERS = new PrePushParameters();
+
     /**
      * Whether git hooks are enabled.
      *
@@ -72,6 +126,63 @@ public class GitHooksParameters {
     @SuppressWarnings("JavadocDeclaration")
     CommitMsgParameters commitMsg;
 
+    /**
+     * Whether hooks with unchanged content are skipped instead of being rewritten.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean fingerprintEnabled;
+
+    /**
+     * The options used to write hook files.
+     *
+     * @return write options.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    FileWriteOptions writeOptions;
+
+    /**
+     * The way git hooks are installed.
+     *
+     * @return install mode.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    GitHooksInstallMode installMode;
+
+    /**
+     * The parent directory name of versioned git hooks directories, relative to the project.
+     *
+     * @return versioned hooks directory name.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String versionedHooksDirectoryName;
+
+    /**
+     * Whether the git repository is discovered from the project's directory and its parents
+     * instead of being expected at the git directory name.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean discoveryEnabled;
+
+    /**
+     * The prepare commit message hook parameters.
+     *
+     * @return prepare commit message parameters.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    PrepareCommitMsgParameters prepareCommitMsg;
+
+    /**
+     * The pre-push hook parameters.
+     *
+     * @return pre-push parameters.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    PrePushParameters prePush;
+
     /**
      * Creates an instance with default values.
      */
@@ -79,4 +190,117 @@ public class GitHooksParameters {
         this(DEFAULT_ENABLED, DEFAULT_GIT_DIRECTORY_NAME, DEFAULT_GIT_HOOKS_DIRECTORY_NAME,
                 DEFAULT_COMMIT_MSG_PARAMETERS);
     }
+
+    /**
+     * Creates an instance with default values for optional parameters.
+     *
+     * @param enabled               enabled parameter.
+     * @param gitDirectoryName      gitDirectoryName parameter.
+     * @param gitHooksDirectoryName gitHooksDirectoryName parameter.
+     * @param commitMsg             commitMsg parameter.
+     */
+    GitHooksParameters(boolean enabled, String gitDirectoryName, String gitHooksDirectoryName,
+                       CommitMsgParameters commitMsg) {
+        this(enabled, gitDirectoryName, gitHooksDirectoryName, commitMsg,
+                DEFAULT_FINGERPRINT_ENABLED);
+    }
+
+    /**
+     * Creates an instance with default write options.
+     *
+     * @param enabled               enabled parameter.
+     * @param gitDirectoryName      gitDirectoryName parameter.
+     * @param gitHooksDirectoryName gitHooksDirectoryName parameter.
+     * @param commitMsg             commitMsg parameter.
+     * @param fingerprintEnabled    fingerprintEnabled parameter.
+     */
+    GitHooksParameters(boolean enabled, String gitDirectoryName, String gitHooksDirectoryName,
+                       CommitMsgParameters commitMsg, boolean fingerprintEnabled) {
+        this(enabled, gitDirectoryName, gitHooksDirectoryName, commitMsg, fingerprintEnabled,
+                FileWriteOptions.DEFAULT);
+    }
+
+    /**
+     * Creates an instance with default install mode.
+     *
+     * @param enabled               enabled parameter.
+     * @param gitDirectoryName      gitDirectoryName parameter.
+     * @param gitHooksDirectoryName gitHooksDirectoryName parameter.
+     * @param commitMsg             commitMsg parameter.
+     * @param fingerprintEnabled    fingerprintEnabled parameter.
+     * @param writeOptions          writeOptions parameter.
+     */
+    GitHooksParameters(boolean enabled, String gitDirectoryName, String gitHooksDirectoryName,
+                       CommitMsgParameters commitMsg, boolean fingerprintEnabled,
+                       FileWriteOptions writeOptions) {
+        this(enabled, gitDirectoryName, gitHooksDirectoryName, commitMsg, fingerprintEnabled,
+                writeOptions, DEFAULT_INSTALL_MODE, DEFAULT_VERSIONED_HOOKS_DIRECTORY_NAME);
+    }
+
+    /**
+     * Creates an instance with default discovery mode.
+     *
+     * @param enabled                     enabled parameter.
+     * @param gitDirectoryName            gitDirectoryName parameter.
+     * @param gitHooksDirectoryName       gitHooksDirectoryName parameter.
+     * @param commitMsg                   commitMsg parameter.
+     * @param fingerprintEnabled          fingerprintEnabled parameter.
+     * @param writeOptions                writeOptions parameter.
+     * @param installMode                 installMode parameter.
+     * @param versionedHooksDirectoryName versionedHooksDirectoryName parameter.
+     */
+    GitHooksParameters(boolean enabled, String gitDirectoryName, String gitHooksDirectoryName,
+                       CommitMsgParameters commitMsg, boolean fingerprintEnabled,
+                       FileWriteOptions writeOptions, GitHooksInstallMode installMode,
+                       String versionedHooksDirectoryName) {
+        this(enabled, gitDirectoryName, gitHooksDirectoryName, commitMsg, fingerprintEnabled,
+                writeOptions, installMode, versionedHooksDirectoryName,
+                DEFAULT_DISCOVERY_ENABLED);
+    }
+
+    /**
+     * Creates an instance with default prepare-commit-msg hook parameters.
+     *
+     * @param enabled                     enabled parameter.
+     * @param gitDirectoryName            gitDirectoryName parameter.
+     * @param gitHooksDirectoryName       gitHooksDirectoryName parameter.
+     * @param commitMsg                   commitMsg parameter.
+     * @param fingerprintEnabled          fingerprintEnabled parameter.
+     * @param writeOptions                writeOptions parameter.
+     * @param installMode                 installMode parameter.
+     * @param versionedHooksDirectoryName versionedHooksDirectoryName parameter.
+     * @param discoveryEnabled            discoveryEnabled parameter.
+     */
+    GitHooksParameters(boolean enabled, String gitDirectoryName, String gitHooksDirectoryName,
+                       CommitMsgParameters commitMsg, boolean fingerprintEnabled,
+                       FileWriteOptions writeOptions, GitHooksInstallMode installMode,
+                       String versionedHooksDirectoryName, boolean discoveryEnabled) {
+        this(enabled, gitDirectoryName, gitHooksDirectoryName, commitMsg, fingerprintEnabled,
+                writeOptions, installMode, versionedHooksDirectoryName, discoveryEnabled,
+                DEFAULT_PREPARE_COMMIT_MSG_PARAMETERS);
+    }
+
+    /**
+     * Creates an instance with default pre-push hook parameters.
+     *
+     * @param enabled                     enabled parameter.
+     * @param gitDirectoryName            gitDirectoryName parameter.
+     * @param gitHooksDirectoryName       gitHooksDirectoryName parameter.
+     * @param commitMsg                   commitMsg parameter.
+     * @param fingerprintEnabled          fingerprintEnabled parameter.
+     * @param writeOptions                writeOptions parameter.
+     * @param installMode                 installMode parameter.
+     * @param versionedHooksDirectoryName versionedHooksDirectoryName parameter.
+     * @param discoveryEnabled            discoveryEnabled parameter.
+     * @param prepareCommitMsg            prepareCommitMsg parameter.
+     */
+    GitHooksParameters(boolean enabled, String gitDirectoryName, String gitHooksDirectoryName,
+                       CommitMsgParameters commitMsg, boolean fingerprintEnabled,
+                       FileWriteOptions writeOptions, GitHooksInstallMode installMode,
+                       String versionedHooksDirectoryName, boolean discoveryEnabled,
+                       PrepareCommitMsgParameters prepareCommitMsg) {
+        this(enabled, gitDirectoryName, gitHooksDirectoryName, commitMsg, fingerprintEnabled,
+                writeOptions, installMode, versionedHooksDirectoryName, discoveryEnabled,
+                prepareCommitMsg, DEFAULT_PRE_PUSH_PARAMETERS);
+    }
 }
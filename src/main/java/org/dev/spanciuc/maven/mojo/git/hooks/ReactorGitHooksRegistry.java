@@ -0,0 +1,68 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.execution.MavenSession;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.aether.SessionData;
+
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A session scoped registry of git hooks directories already handled in the current reactor.
+ * <p>
+ * The registry is stored in the session data, so it lives exactly as long as one build and is
+ * shared by all modules of the reactor.
+ */
+final class ReactorGitHooksRegistry {
+
+    static final String SESSION_DATA_KEY = ReactorGitHooksRegistry.class.getName();
+
+    private final Set<String> handledHooksDirectories = ConcurrentHashMap.newKeySet();
+
+    private ReactorGitHooksRegistry() {
+    }
+
+    /**
+     * Gets the registry of the given session, creating it on first access.
+     *
+     * @param session the maven session.
+     * @return the registry.
+     * @throws IllegalArgumentException if session is null.
+     */
+    static ReactorGitHooksRegistry of(MavenSession session) {
+        if (null == session) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_MAVEN_SESSION));
+        }
+        SessionData data = session.getRepositorySession().getData();
+        Object registry = data.get(SESSION_DATA_KEY);
+        while (!(registry instanceof ReactorGitHooksRegistry)) {
+            data.set(SESSION_DATA_KEY, registry, new ReactorGitHooksRegistry());
+            registry = data.get(SESSION_DATA_KEY);
+        }
+        return (ReactorGitHooksRegistry) registry;
+    }
+
+    /**
+     * Registers a git hooks directory as handled.
+     *
+     * @param hooksDirectory the git hooks directory.
+     * @return true if it's the first registration in this reactor, otherwise - false.
+     */
+    boolean register(File hooksDirectory) {
+        return handledHooksDirectories.add(
+                hooksDirectory.getAbsoluteFile().toPath().normalize().toString());
+    }
+
+    /**
+     * Removes the registration of a git hooks directory, ex. after its generation failed.
+     *
+     * @param hooksDirectory the git hooks directory.
+     */
+    void unregister(File hooksDirectory) {
+        handledHooksDirectories.remove(
+                hooksDirectory.getAbsoluteFile().toPath().normalize().toString());
+    }
+}
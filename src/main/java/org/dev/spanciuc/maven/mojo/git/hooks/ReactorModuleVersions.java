@@ -0,0 +1,107 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.execution.MavenSession;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionCalculation;
+import org.eclipse.aether.SessionData;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A session scoped registry of the module versions already calculated in the current reactor.
+ * <p>
+ * The first module of a repository calculates the versions of all modules in one history walk,
+ * the other modules take theirs from the registry, awaiting the calculation if it's still
+ * running, e.g. with {@code mvn -T}. Calculations are shared only between modules using the
+ * same tag prefix and configuration. A failed calculation is forgotten, so the next module
+ * calculates the versions again.
+ */
+final class ReactorModuleVersions {
+
+    static final String SESSION_DATA_KEY = ReactorModuleVersions.class.getName();
+
+    private final ConcurrentMap<List<String>, CompletableFuture<Map<String, VersionCalculation>>>
+            calculations = new ConcurrentHashMap<>();
+
+    private ReactorModuleVersions() {
+    }
+
+    /**
+     * Gets the registry of the given session, creating it on first access.
+     *
+     * @param session the maven session.
+     * @return the registry.
+     * @throws IllegalArgumentException if session is null.
+     */
+    static ReactorModuleVersions of(MavenSession session) {
+        if (null == session) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_MAVEN_SESSION));
+        }
+        SessionData data = session.getRepositorySession().getData();
+        Object registry = data.get(SESSION_DATA_KEY);
+        while (!(registry instanceof ReactorModuleVersions)) {
+            data.set(SESSION_DATA_KEY, registry, new ReactorModuleVersions());
+            registry = data.get(SESSION_DATA_KEY);
+        }
+        return (ReactorModuleVersions) registry;
+    }
+
+    /**
+     * Gets the module versions of a work tree, running the calculation unless the versions
+     * were or are being calculated with the same tag prefix and configuration.
+     *
+     * @param workTree                 the work tree.
+     * @param tagPrefix                the version tag prefix.
+     * @param configurationFingerprint the fingerprint of the calculation's configuration.
+     * @param calculation              the calculation of the versions by module name.
+     * @return calculations by module name.
+     * @throws IllegalArgumentException if any argument is null.
+     */
+    Map<String, VersionCalculation> calculate(File workTree, String tagPrefix,
+                                              String configurationFingerprint,
+                                              Supplier<Map<String, VersionCalculation>>
+                                                      calculation) {
+        if (null == workTree || null == tagPrefix || null == configurationFingerprint ||
+                null == calculation) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        List<String> key = List.of(workTree.getAbsoluteFile().toPath().normalize().toString(),
+                tagPrefix, configurationFingerprint);
+        while (true) {
+            CompletableFuture<Map<String, VersionCalculation>> own = new CompletableFuture<>();
+            CompletableFuture<Map<String, VersionCalculation>> registered =
+                    calculations.computeIfAbsent(key, k -> own);
+            if (registered == own) {
+                return run(key, own, calculation);
+            }
+            try {
+                return registered.join();
+            } catch (CompletionException e) {
+                // the failed calculation is forgotten, calculate the versions again
+            }
+        }
+    }
+
+    private Map<String, VersionCalculation> run(
+            List<String> key, CompletableFuture<Map<String, VersionCalculation>> own,
+            Supplier<Map<String, VersionCalculation>> calculation) {
+        try {
+            Map<String, VersionCalculation> result = calculation.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            calculations.remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgValidationResult;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * A Mojo class to validate a commit message against the conventional commit rules.
+ * <p>
+ * The message is either given directly or read from a file, like the one git passes to the
+ * commit-msg hook.
+ */
+@Mojo(name = "validate-commit-message", requiresProject = false, threadSafe = true)
+public class ValidateCommitMessageMojo extends AbstractConventionalCommitMojo {
+
+    /**
+     * The file containing the commit message. Takes precedence over the commit message
+     * parameter.
+     */
+    @Parameter(property = "commitMsgFile")
+    private File commitMsgFile;
+
+    /**
+     * The commit message.
+     */
+    @Parameter(property = "commitMessage")
+    private String commitMessage;
+
+    /**
+     * Creates an instance.
+     */
+    public ValidateCommitMessageMojo() {
+        super();
+    }
+
+    ValidateCommitMessageMojo(CommitMsgParameters commitMsgParameters, File commitMsgFile,
+                              String commitMessage) {
+        super(commitMsgParameters);
+        this.commitMsgFile = commitMsgFile;
+        this.commitMessage = commitMessage;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation validates the first line of the commit message.
+     *
+     * @throws MojoFailureException     if the commit message is invalid.
+     * @throws IllegalStateException    if neither a commit message nor a file is given.
+     * @throws IllegalArgumentException if the commit message parameters are invalid.
+     * @throws RuntimeIOException       if the commit message file cannot be read.
+     */
+    @Override
+    public void execute() throws MojoFailureException {
+        CommitMsgConfiguration configuration = buildCommitMsgConfiguration();
+        String message = readCommitMessage();
+        CommitMsgValidationResult result =
+                new ConventionalCommitParser(configuration).validate(message);
+        if (!result.isValid()) {
+            throw new MojoFailureException(
+                    String.format(result.getMessage(), configuration.getHeaderMaxLength()));
+        }
+        getLog().info(Messages.COMMIT_MESSAGE_IS_VALID_MESSAGE);
+    }
+
+    private String readCommitMessage() {
+        if (null != commitMsgFile) {
+            try {
+                return Files.readString(commitMsgFile.toPath());
+            } catch (IOException e) {
+                throw new RuntimeIOException(e.getMessage(), e);
+            }
+        }
+        if (null != commitMessage) {
+            return commitMessage;
+        }
+        throw new IllegalStateException(Messages.NO_COMMIT_MESSAGE_GIVEN_MESSAGE);
+    }
+}
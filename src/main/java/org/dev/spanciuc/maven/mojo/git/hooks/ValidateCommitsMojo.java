@@ -0,0 +1,140 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitMessageViolation;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitRange;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitRangeValidator;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitScanner;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A Mojo class to validate the messages of all commits in a range against the conventional
+ * commit rules, ex. the commits of a pull request in CI.
+ * <p>
+ * All violations are reported before the build fails.
+ */
+@Mojo(name = "validate-commits", threadSafe = true)
+public class ValidateCommitsMojo extends AbstractConventionalCommitMojo {
+
+    /**
+     * Default value for skipping merge commits represented as string.
+     */
+    public static final String DEFAULT_SKIP_MERGES_AS_STRING = "true";
+
+    /**
+     * Default value for skipping merge commits.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_SKIP_MERGES =
+            Boolean.parseBoolean(DEFAULT_SKIP_MERGES_AS_STRING);
+
+    /**
+     * The project's base dir.
+     */
+    @Parameter(defaultValue = "${project.basedir}", readonly = true)
+    private File basedir;
+
+    /**
+     * The git directory name.
+     */
+    @Parameter(property = "gitDirectory",
+            defaultValue = GitHooksParameters.DEFAULT_GIT_DIRECTORY_NAME)
+    private String gitDirectory;
+
+    /**
+     * The range of commits to validate, ex. 'origin/main..HEAD'. A range without 'from', ex.
+     * 'HEAD', validates the whole history.
+     */
+    @Parameter(property = "commitRange", defaultValue = Constants.HEAD)
+    private String commitRange;
+
+    /**
+     * Whether merge commits are skipped.
+     */
+    @Parameter(property = "commitRangeSkipMerges", defaultValue = DEFAULT_SKIP_MERGES_AS_STRING)
+    private boolean commitRangeSkipMerges;
+
+    /**
+     * Creates an instance.
+     */
+    public ValidateCommitsMojo() {
+        super();
+        this.gitDirectory = GitHooksParameters.DEFAULT_GIT_DIRECTORY_NAME;
+        this.commitRange = Constants.HEAD;
+        this.commitRangeSkipMerges = DEFAULT_SKIP_MERGES;
+    }
+
+    ValidateCommitsMojo(File basedir, String gitDirectory, CommitMsgParameters commitMsgParameters,
+                        String commitRange, boolean commitRangeSkipMerges) {
+        this(basedir, gitDirectory, commitMsgParameters, commitRange, commitRangeSkipMerges,
+                CommitScanner.DEFAULT_THREADS);
+    }
+
+    ValidateCommitsMojo(File basedir, String gitDirectory, CommitMsgParameters commitMsgParameters,
+                        String commitRange, boolean commitRangeSkipMerges,
+                        int commitScanThreads) {
+        super(commitMsgParameters, commitScanThreads);
+        this.basedir = basedir;
+        this.gitDirectory = gitDirectory;
+        this.commitRange = commitRange;
+        this.commitRangeSkipMerges = commitRangeSkipMerges;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation validates the first line of the message of every commit in the range
+     * and logs each violation.
+     *
+     * @throws MojoFailureException     if any commit message is invalid.
+     * @throws IllegalArgumentException if parameters are invalid.
+     * @throws IllegalStateException    if the project is not a git repository.
+     * @throws RuntimeIOException       if the repository cannot be read.
+     */
+    @Override
+    public void execute() throws MojoFailureException {
+        CommitMsgConfiguration configuration = buildCommitMsgConfiguration();
+        CommitRange range = CommitRange.parse(commitRange);
+        CommitRangeValidator validator =
+                new CommitRangeValidator(configuration, buildCommitScanner());
+
+        int[] violations = {0};
+        int validated;
+        try (Repository repository = GitRepositories.open(basedir, gitDirectory)) {
+            validated = validator.validate(repository, range, commitRangeSkipMerges,
+                    violation -> {
+                        violations[0]++;
+                        logViolation(violation, configuration);
+                    });
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+
+        getLog().info(String.format(Messages.VALIDATED_NUMBER_OF_COMMITS_MESSAGE, validated,
+                range));
+        if (violations[0] > 0) {
+            throw new MojoFailureException(
+                    String.format(Messages.INVALID_NUMBER_OF_COMMITS_MESSAGE, violations[0],
+                            range));
+        }
+    }
+
+    private void logViolation(CommitMessageViolation violation,
+                              CommitMsgConfiguration configuration) {
+        getLog().error(String.format(Messages.COMMIT_MESSAGE_VIOLATION_MESSAGE,
+                violation.getCommitId(), violation.getHeader(),
+                String.format(violation.getResult().getMessage(),
+                        configuration.getHeaderMaxLength())));
+    }
+}
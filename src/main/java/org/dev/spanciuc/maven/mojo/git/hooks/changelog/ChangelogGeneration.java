@@ -0,0 +1,34 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.changelog;
+
+import lombok.Value;
+
+/**
+ * A class represents the result of a changelog generation.
+ */
+@Value
+public class ChangelogGeneration {
+
+    /**
+     * The number of commits walked by the generation.
+     *
+     * @return number of commits.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int commits;
+
+    /**
+     * The number of released sections written by the generation.
+     *
+     * @return number of released sections.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int releasedSections;
+
+    /**
+     * Whether the generation appended to the existing changelog instead of regenerating it.
+     *
+     * @return true if appended.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean appended;
+}
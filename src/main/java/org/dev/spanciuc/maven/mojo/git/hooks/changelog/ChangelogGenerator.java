@@ -0,0 +1,414 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.changelog;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommit;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitScanner;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionTag;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionTags;
+import org.eclipse.jgit.errors.IncorrectObjectTypeException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Generates a Markdown changelog from the conventional commits of a repository.
+ * <p>
+ * The changelog has one section per version tag reachable from HEAD, from the lowest to the
+ * highest version, followed by an 'Unreleased' section. A commit is listed in the section of the
+ * lowest version tag that contains it, each section is walked as the range between its tag and
+ * the tags of the previous sections, so commits of branches merged after a release are not
+ * listed in that release. Within a section the commits are grouped by type and scope, from the
+ * oldest to the newest. Commits that don't follow the conventional commit format are left out.
+ * <p>
+ * The output is streamed to the file through a buffered writer and every section is written as
+ * soon as its range is walked. The entries of a section are spilled to a temporary file, read
+ * once per type and scope when the section is written, so only the types and scopes are kept in
+ * memory. A marker line after the last released section records its last commit, so the next
+ * generation truncates the file at the marker and only appends the sections of newer commits.
+ * The changelog is regenerated when the marker is missing or its commit is no longer an
+ * ancestor of HEAD.
+ */
+public class ChangelogGenerator {
+
+    /**
+     * The title written at the top of a new changelog.
+     */
+    public static final String TITLE = "# Changelog";
+    /**
+     * The title of the section of the commits since the last version tag.
+     */
+    public static final String UNRELEASED_SECTION_TITLE = "Unreleased";
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String SECTION_PREFIX = "## ";
+    private static final String TYPE_PREFIX = "### ";
+    private static final String ENTRY_PREFIX = "- ";
+    private static final String BREAKING_PREFIX = "**BREAKING** ";
+    private static final int ABBREVIATED_ID_LENGTH = 7;
+    private static final String TEMPORARY_FILE_PREFIX = "changelog-entries";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final ConventionalCommitParser parser;
+
+    private final String tagPrefix;
+
+    private final CommitScanner scanner;
+
+    /**
+     * Creates a generator.
+     *
+     * @param configuration the commit-msg configuration.
+     * @param tagPrefix     the version tag prefix.
+     * @param scanner       the commit scanner.
+     * @throws IllegalArgumentException if any parameter is null.
+     */
+    public ChangelogGenerator(CommitMsgConfiguration configuration, String tagPrefix,
+                              CommitScanner scanner) {
+        if (null == tagPrefix) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_VERSION_TAG_PREFIX));
+        }
+        if (null == scanner) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        this.parser = new ConventionalCommitParser(configuration);
+        this.tagPrefix = tagPrefix;
+        this.scanner = scanner;
+    }
+
+    /**
+     * Generates the changelog of the repository's HEAD.
+     *
+     * @param repository the repository.
+     * @param file       the changelog file.
+     * @return generation result.
+     * @throws IOException if the repository or the file cannot be read or written.
+     */
+    public ChangelogGeneration generate(Repository repository, Path file) throws IOException {
+        ObjectId headId = repository.resolve(Constants.HEAD);
+        if (null == headId) {
+            return new ChangelogGeneration(0, 0, false);
+        }
+        try (RevWalk walk = new RevWalk(repository)) {
+            RevCommit head = walk.parseCommit(headId);
+            ChangelogMarker marker = ChangelogMarker.find(file);
+            boolean append = canAppend(repository, walk, head, marker);
+            List<RevCommit> excluded = new ArrayList<>();
+            if (append) {
+                excluded.add(walk.parseCommit(ObjectId.fromString(marker.getCommitId())));
+            }
+
+            // bodies are parsed again one at a time by the scanner
+            walk.setRetainBody(false);
+            List<VersionTag> releasedTags = findReleasedTags(repository, walk, head, excluded);
+            if (append) {
+                truncate(file, marker.getOffset());
+            } else if (null != file.getParent()) {
+                Files.createDirectories(file.getParent());
+            }
+
+            Path entriesFile = Files.createTempFile(TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+                 Section section = new Section(writer, entriesFile,
+                         append ? ObjectId.fromString(marker.getCommitId()) : null)) {
+                if (!append) {
+                    writer.write(TITLE);
+                    writer.write(LINE_SEPARATOR);
+                }
+                int commits = 0;
+                for (VersionTag tag : releasedTags) {
+                    RevCommit tagCommit = walk.parseCommit(tag.getCommitId());
+                    commits += scan(walk, tagCommit, excluded, section);
+                    section.release(tag.getName(), tagCommit);
+                    excluded.add(tagCommit);
+                }
+                commits += scan(walk, head, excluded, section);
+                section.finish();
+                return new ChangelogGeneration(commits, section.releasedSections, append);
+            } finally {
+                Files.deleteIfExists(entriesFile);
+            }
+        }
+    }
+
+    /**
+     * Finds the version tags of the commits reachable from HEAD and not from the excluded
+     * commits, the walk stops once every tagged commit is found.
+     *
+     * @return version tags ordered from the lowest to the highest version, one per commit.
+     */
+    private List<VersionTag> findReleasedTags(Repository repository, RevWalk walk,
+                                              RevCommit head, List<RevCommit> excluded)
+            throws IOException {
+        Map<ObjectId, VersionTag> taggedCommits = new HashMap<>();
+        for (VersionTag tag : VersionTags.list(repository, tagPrefix)) {
+            taggedCommits.putIfAbsent(tag.getCommitId(), tag);
+        }
+        List<VersionTag> releasedTags = new ArrayList<>();
+        if (taggedCommits.isEmpty()) {
+            return releasedTags;
+        }
+        try {
+            walk.markStart(head);
+            for (RevCommit commit : excluded) {
+                walk.markUninteresting(commit);
+            }
+            for (RevCommit commit = walk.next(); null != commit; commit = walk.next()) {
+                VersionTag tag = taggedCommits.get(commit);
+                if (null != tag) {
+                    releasedTags.add(tag);
+                    if (releasedTags.size() == taggedCommits.size()) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            walk.reset();
+        }
+        releasedTags.sort(Comparator.comparing(VersionTag::getVersion));
+        return releasedTags;
+    }
+
+    /**
+     * Scans the commits reachable from a commit and not from the excluded commits, from the
+     * oldest to the newest.
+     */
+    private int scan(RevWalk walk, RevCommit start, List<RevCommit> excluded, Section section)
+            throws IOException {
+        try {
+            walk.sort(RevSort.REVERSE);
+            walk.markStart(start);
+            for (RevCommit commit : excluded) {
+                walk.markUninteresting(commit);
+            }
+            return scan(walk, section);
+        } finally {
+            walk.reset();
+            walk.sort(RevSort.NONE);
+        }
+    }
+
+    private int scan(RevWalk walk, Section section) throws IOException {
+        try {
+            return scanner.scan(walk,
+                    (commitId, message) -> new Entry(commitId.copy(), parser.parse(message)),
+                    section);
+        } catch (RuntimeIOException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
+    private static boolean canAppend(Repository repository, RevWalk walk, RevCommit head,
+                                     ChangelogMarker marker) throws IOException {
+        if (null == marker) {
+            return false;
+        }
+        ObjectId markerCommitId = ObjectId.fromString(marker.getCommitId());
+        if (!repository.getObjectDatabase().has(markerCommitId)) {
+            return false;
+        }
+        try {
+            return walk.isMergedInto(walk.parseCommit(markerCommitId), head);
+        } catch (IncorrectObjectTypeException e) {
+            return false;
+        } finally {
+            walk.reset();
+        }
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    /**
+     * A walked commit, the conventional commit is null if the message has another format.
+     */
+    private static final class Entry {
+
+        private final ObjectId commitId;
+
+        private final ConventionalCommit commit;
+
+        private Entry(ObjectId commitId, ConventionalCommit commit) {
+            this.commitId = commitId;
+            this.commit = commit;
+        }
+    }
+
+    /**
+     * Spills the entries of the current section and writes it when its range is walked.
+     */
+    private static final class Section implements Consumer<Entry>, Closeable {
+
+        private final Writer writer;
+
+        private final Path entriesFile;
+
+        private final Map<String, Set<String>> scopes = new TreeMap<>();
+
+        private DataOutputStream entries;
+
+        private int entriesCount;
+
+        private ObjectId lastReleasedCommitId;
+
+        private int releasedSections;
+
+        private Section(Writer writer, Path entriesFile, ObjectId lastReleasedCommitId)
+                throws IOException {
+            this.writer = writer;
+            this.entriesFile = entriesFile;
+            this.lastReleasedCommitId = lastReleasedCommitId;
+            this.entries = openEntries();
+        }
+
+        @Override
+        public void accept(Entry entry) {
+            if (null == entry.commit) {
+                return;
+            }
+            String type = entry.commit.getType();
+            String scope = null == entry.commit.getScope() ? "" : entry.commit.getScope();
+            scopes.computeIfAbsent(type, t -> new TreeSet<>()).add(scope);
+            try {
+                writeString(entries, type);
+                writeString(entries, scope);
+                writeString(entries, formatEntry(entry));
+            } catch (IOException e) {
+                throw new RuntimeIOException(e.getMessage(), e);
+            }
+            entriesCount++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            entries.close();
+        }
+
+        private void release(String tagName, ObjectId commitId) throws IOException {
+            write(tagName);
+            lastReleasedCommitId = commitId.copy();
+            releasedSections++;
+        }
+
+        private void finish() throws IOException {
+            if (null != lastReleasedCommitId) {
+                writer.write(LINE_SEPARATOR);
+                writer.write(ChangelogMarker.format(lastReleasedCommitId));
+                writer.write(LINE_SEPARATOR);
+            }
+            if (!scopes.isEmpty()) {
+                write(UNRELEASED_SECTION_TITLE);
+            }
+        }
+
+        private void write(String title) throws IOException {
+            entries.flush();
+            writer.write(LINE_SEPARATOR);
+            writer.write(SECTION_PREFIX);
+            writer.write(title);
+            writer.write(LINE_SEPARATOR);
+            for (Map.Entry<String, Set<String>> type : scopes.entrySet()) {
+                writer.write(LINE_SEPARATOR);
+                writer.write(TYPE_PREFIX);
+                writer.write(type.getKey());
+                writer.write(LINE_SEPARATOR);
+                writer.write(LINE_SEPARATOR);
+                for (String scope : type.getValue()) {
+                    writeEntries(type.getKey(), scope);
+                }
+            }
+            scopes.clear();
+            entries.close();
+            entries = openEntries();
+            entriesCount = 0;
+        }
+
+        /**
+         * Copies the spilled lines of a type and scope, in walk order.
+         */
+        private void writeEntries(String type, String scope) throws IOException {
+            try (DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(entriesFile)))) {
+                for (int i = 0; i < entriesCount; i++) {
+                    String entryType = readString(input);
+                    String entryScope = readString(input);
+                    String line = readString(input);
+                    if (type.equals(entryType) && scope.equals(entryScope)) {
+                        writer.write(line);
+                        writer.write(LINE_SEPARATOR);
+                    }
+                }
+            }
+        }
+
+        private DataOutputStream openEntries() throws IOException {
+            return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                    entriesFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)));
+        }
+
+        private static void writeString(DataOutputStream output, String value)
+                throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        private static String readString(DataInputStream input) throws IOException {
+            byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static String formatEntry(Entry entry) {
+            ConventionalCommit commit = entry.commit;
+            StringBuilder line = new StringBuilder(ENTRY_PREFIX);
+            if (commit.isBreaking()) {
+                line.append(BREAKING_PREFIX);
+            }
+            if (null != commit.getScope()) {
+                line.append("**").append(commit.getScope()).append(":** ");
+            }
+            return line.append(commit.getDescription())
+                    .append(" (")
+                    .append(entry.commitId.abbreviate(ABBREVIATED_ID_LENGTH).name())
+                    .append(')')
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.changelog;
+
+import lombok.Value;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A class represents the marker line written after the last released section of a changelog.
+ * <p>
+ * The marker holds the id of the last commit of the released sections, so the next generation
+ * only walks the commits added since then. Everything after the marker is regenerated.
+ */
+@Value
+public class ChangelogMarker {
+
+    /**
+     * The marker line prefix.
+     */
+    public static final String PREFIX = "<!-- generate-changelog last-commit: ";
+    /**
+     * The marker line suffix.
+     */
+    public static final String SUFFIX = " -->";
+
+    private static final byte[] PREFIX_BYTES = PREFIX.getBytes(StandardCharsets.US_ASCII);
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    /**
+     * The offset of the marker line in the changelog file.
+     *
+     * @return offset.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    long offset;
+
+    /**
+     * The id of the last commit of the released sections.
+     *
+     * @return commit id.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String commitId;
+
+    /**
+     * Formats the marker line of a commit.
+     *
+     * @param commitId the commit id.
+     * @return marker line, without line separator.
+     */
+    public static String format(ObjectId commitId) {
+        return PREFIX + commitId.name() + SUFFIX;
+    }
+
+    /**
+     * Finds the last marker of a changelog file.
+     * <p>
+     * The file is read backwards in small chunks, so only its tail is read.
+     *
+     * @param file the changelog file.
+     * @return marker or null if the file does not exist or has no valid marker.
+     * @throws IOException if the file cannot be read.
+     */
+    public static ChangelogMarker find(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        int markerLength = PREFIX_BYTES.length + 2 * ObjectId.zeroId().name().length();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long end = size;
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE + markerLength);
+            while (end > 0) {
+                long start = Math.max(0, end - CHUNK_SIZE);
+                buffer.clear().limit((int) (Math.min(end + markerLength, size) - start));
+                while (buffer.hasRemaining() &&
+                        channel.read(buffer, start + buffer.position()) >= 0) {
+                    // read the whole chunk, overlapping the previous one by a marker length
+                }
+                ChangelogMarker marker = findLast(buffer.array(), buffer.position(), start);
+                if (null != marker) {
+                    return marker;
+                }
+                end = start;
+            }
+        }
+        return null;
+    }
+
+    private static ChangelogMarker findLast(byte[] chunk, int length, long chunkOffset) {
+        int idLength = ObjectId.zeroId().name().length();
+        for (int i = length - PREFIX_BYTES.length; i >= 0; i--) {
+            if (startsWith(chunk, i, PREFIX_BYTES) && (i == 0 || chunk[i - 1] == '\n') &&
+                    i + PREFIX_BYTES.length + idLength <= length) {
+                String commitId = new String(chunk, i + PREFIX_BYTES.length, idLength,
+                        StandardCharsets.US_ASCII);
+                if (ObjectId.isId(commitId)) {
+                    return new ChangelogMarker(chunkOffset + i, commitId);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] chunk, int offset, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (chunk[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,11 +2,16 @@ package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
 
 import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
 import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.AtomicFileWriter;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.CompiledTemplate;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.LruCache;
 import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A class representing bash script commit-msg hook generator.
@@ -39,7 +44,7 @@ public class BashScriptCommitMsgHookGenerator implements GitHookFileGenerator {
      * @throws IllegalStateException if parentDirectory is null.
      */
     @Override
-    public File generate(File parentDirectory) {
+    public File generate(File parentDirectory, FileWriteOptions writeOptions) {
         if (!commitMessageConfiguration.isEnabled()) {
             throw new IllegalStateException(
                     Messages.MESSAGE_CALLED_GENERATE_METHOD_ON_DISABLED_HOOK_MESSAGE);
@@ -50,7 +55,7 @@ public class BashScriptCommitMsgHookGenerator implements GitHookFileGenerator {
                             Messages.TYPE_PARENT_DIRECTORY));
         }
         String scriptContent = generateScriptContent();
-        return generateScriptFile(parentDirectory, scriptContent);
+        return generateScriptFile(parentDirectory, scriptContent, writeOptions);
     }
 
     /**
@@ -63,13 +68,24 @@ public class BashScriptCommitMsgHookGenerator implements GitHookFileGenerator {
         return commitMessageConfiguration.getFileName();
     }
 
+    /**
+     * Gets the fingerprint of the rendered script content.
+     *
+     * @return hex encoded fingerprint.
+     */
+    @Override
+    public String getFingerprint() {
+        return Fingerprints.of(generateScriptContent());
+    }
+
     private String generateScriptContent() {
         return BashScriptContentBuilder.build(commitMessageConfiguration);
     }
 
-    private File generateScriptFile(File parentDirectory, String scriptContent) {
+    private File generateScriptFile(File parentDirectory, String scriptContent,
+                                    FileWriteOptions writeOptions) {
         return BashScriptFileWriter.createAndWrite(parentDirectory,
-                commitMessageConfiguration.getFileName(), scriptContent);
+                commitMessageConfiguration.getFileName(), scriptContent, writeOptions);
     }
 
     static final class BashScriptFileWriter {
@@ -79,6 +95,12 @@ public class BashScriptCommitMsgHookGenerator implements GitHookFileGenerator {
 
         public static File createAndWrite(File parentDirectory, String fileName,
                                           String fileContent) {
+            return createAndWrite(parentDirectory, fileName, fileContent,
+                    FileWriteOptions.DEFAULT);
+        }
+
+        public static File createAndWrite(File parentDirectory, String fileName,
+                                          String fileContent, FileWriteOptions writeOptions) {
             if (null == parentDirectory) {
                 throw new IllegalArgumentException(
                         String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
@@ -97,8 +119,9 @@ public class BashScriptCommitMsgHookGenerator implements GitHookFileGenerator {
             }
 
             File file = new File(parentDirectory, fileName);
-            try (FileWriter fw = new FileWriter(file)) {
-                fw.write(fileContent);
+            try {
+                AtomicFileWriter.write(file.toPath(),
+                        fileContent.getBytes(StandardCharsets.UTF_8), writeOptions);
             } catch (IOException e) {
                 throw new RuntimeIOException(e.getMessage(), e);
             }
@@ -122,6 +145,18 @@ public class BashScriptCommitMsgHookGenerator implements GitHookFileGenerator {
                     echo "Aborting commit. Your commit message is too long. Max %s characters allowed." >&2
                     exit 1
                 fi""";
+        private static final CompiledTemplate COMMIT_MESSAGE_CHECK =
+                CompiledTemplate.compile(TEMPLATE_COMMIT_MESSAGE_CHECK);
+        private static final CompiledTemplate COMMIT_MESSAGE_HEADER_LENGTH_CHECK =
+                CompiledTemplate.compile(TEMPLATE_COMMIT_MESSAGE_HEADER_LENGTH_CHECK);
+
+        /**
+         * The max number of rendered scripts kept in memory, a build uses a handful of
+         * configurations, long-running daemons reuse them across builds.
+         */
+        static final int RENDERED_SCRIPTS_CACHE_SIZE = 64;
+        private static final LruCache<CommitMsgConfiguration, String> RENDERED_SCRIPTS =
+                new LruCache<>(RENDERED_SCRIPTS_CACHE_SIZE);
 
         private BashScriptContentBuilder() {
         }
@@ -132,20 +167,23 @@ public class BashScriptCommitMsgHookGenerator implements GitHookFileGenerator {
                 throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
             }
 
+            return RENDERED_SCRIPTS.computeIfAbsent(commitMsgConfiguration,
+                    BashScriptContentBuilder::render);
+        }
+
+        private static String render(CommitMsgConfiguration commitMsgConfiguration) {
             StringBuilder scriptContent = new StringBuilder(TEMPLATE_BASH_SCRIPT_HEADER);
             scriptContent.append(LINE_SEPARATOR);
-            scriptContent.append(String.format(TEMPLATE_COMMIT_MESSAGE_CHECK,
+            COMMIT_MESSAGE_CHECK.renderTo(scriptContent,
                     String.join(TEMPLATE_COMMIT_TYPES_DELIMITER,
-                            commitMsgConfiguration.getTypes())));
+                            commitMsgConfiguration.getTypes()));
             if (commitMsgConfiguration.hasHeaderMaxLengthRestriction()) {
                 int headerMaxLength = commitMsgConfiguration.getHeaderMaxLength();
                 scriptContent.append(LINE_SEPARATOR);
-                scriptContent.append(
-                        String.format(TEMPLATE_COMMIT_MESSAGE_HEADER_LENGTH_CHECK, headerMaxLength,
-                                headerMaxLength));
+                COMMIT_MESSAGE_HEADER_LENGTH_CHECK.renderTo(scriptContent, headerMaxLength,
+                        headerMaxLength);
             }
             return scriptContent.toString();
-
         }
     }
 }
@@ -1,14 +1,18 @@
 package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.Value;
 import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfiguration;
 import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
 import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
 import org.dev.spanciuc.maven.mojo.git.hooks.utils.ParameterSanitizer;
 
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -66,6 +70,40 @@ public class CommitMsgConfiguration implements GitHookConfiguration {
     @SuppressWarnings("JavadocDeclaration")
     SortedSet<String> types;
 
+    /**
+     * The matcher of the allowed commit types, compiled once from the types.
+     *
+     * @return type matcher.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    TypeMatcher typeMatcher;
+
+    /**
+     * The runtime the generated hook validates messages with.
+     *
+     * @return hook runtime.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    CommitMsgHookRuntime hookRuntime;
+
+    /**
+     * The static class data sharing archive the JVM hook maps when the file exists, or null.
+     *
+     * @return shared archive file.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    Path sharedArchiveFile;
+
+    /**
+     * The classpath the shared archive was dumped with.
+     *
+     * @return unmodifiable list of shared archive classpath entries.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    List<Path> sharedArchiveClasspath;
+
     /**
      * Creates an instance with the given parameters
      * <p>
@@ -79,6 +117,7 @@ public class CommitMsgConfiguration implements GitHookConfiguration {
      * @throws IllegalArgumentException if parameters object has invalid file name.
      * @throws IllegalArgumentException if parameters object has invalid header max length.
      * @throws IllegalArgumentException if parameters object has invalid types.
+     * @throws IllegalArgumentException if parameters object has null hook runtime.
      */
     public CommitMsgConfiguration(CommitMsgParameters commitMsgParameters) {
         if (null == commitMsgParameters) {
@@ -89,7 +128,17 @@ public class CommitMsgConfiguration implements GitHookConfiguration {
         this.fileName = sanitizeFileName(commitMsgParameters.getFileName());
         this.enabled = commitMsgParameters.isEnabled();
         this.headerMaxLength = sanitizeHeaderMaxLength(commitMsgParameters.getHeaderMaxLength());
-        this.types = sanitizeTypes(commitMsgParameters.getTypes());
+        this.types = parseTypes(commitMsgParameters.getTypes());
+        this.typeMatcher = TypeMatcher.compile(this.types);
+        if (null == commitMsgParameters.getHookRuntime()) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_HOOK_RUNTIME));
+        }
+        this.hookRuntime = commitMsgParameters.getHookRuntime();
+        this.sharedArchiveFile = commitMsgParameters.getSharedArchiveFile();
+        this.sharedArchiveClasspath = null == commitMsgParameters.getSharedArchiveClasspath() ?
+                List.of() : List.copyOf(commitMsgParameters.getSharedArchiveClasspath());
     }
 
     /**
@@ -97,6 +146,9 @@ public class CommitMsgConfiguration implements GitHookConfiguration {
      */
     @Override
     public GitHookFileGenerator getGitHookFileGenerator() {
+        if (hookRuntime == CommitMsgHookRuntime.JVM) {
+            return new JvmCommitMsgHookGenerator(this);
+        }
         return new BashScriptCommitMsgHookGenerator(this);
     }
 
@@ -123,7 +175,16 @@ public class CommitMsgConfiguration implements GitHookConfiguration {
                 Messages.VALUE_FILE_NAME);
     }
 
-    private int sanitizeHeaderMaxLength(int headerMaxLength) {
+    /**
+     * Validates a commit header max length.
+     *
+     * @param headerMaxLength the max length.
+     * @return the same max length.
+     * @throws IllegalArgumentException if the value is neither
+     *                                  {@value #UNRESTRICTED_HEADER_MAX_LENGTH_VALUE} nor a
+     *                                  positive number.
+     */
+    public static int sanitizeHeaderMaxLength(int headerMaxLength) {
         if (headerMaxLength != UNRESTRICTED_HEADER_MAX_LENGTH_VALUE &&
                 headerMaxLength < HEADER_MAX_LENGTH_MIN_ALLOWED_VALUE) {
             throw new IllegalArgumentException(Messages.MESSAGE_INVALID_HEADER_MAX_LENGTH_VALUE);
@@ -131,11 +192,14 @@ public class CommitMsgConfiguration implements GitHookConfiguration {
         return headerMaxLength;
     }
 
-    private String sanitizeType(String type) {
-        return ParameterSanitizer.sanitizeRequiredStringParameter(type, Messages.VALUE_TYPE_NAME);
-    }
-
-    private SortedSet<String> sanitizeTypes(String types) {
+    /**
+     * Parses comma separated commit types.
+     *
+     * @param types the comma separated commit types.
+     * @return sorted set of sanitized types.
+     * @throws IllegalArgumentException if types are null, empty, blank or duplicated.
+     */
+    public static SortedSet<String> parseTypes(String types) {
         if (null == types) {
             throw new IllegalArgumentException(
                     String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
@@ -158,4 +222,8 @@ public class CommitMsgConfiguration implements GitHookConfiguration {
         return result;
     }
 
+    private static String sanitizeType(String type) {
+        return ParameterSanitizer.sanitizeRequiredStringParameter(type, Messages.VALUE_TYPE_NAME);
+    }
+
 }
@@ -0,0 +1,41 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfigurationProvider;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHooksParameters;
+
+/**
+ * Provides the commit-msg hook configuration.
+ */
+public class CommitMsgConfigurationProvider implements GitHookConfigurationProvider {
+
+    /**
+     * The name of the provided hook.
+     */
+    public static final String HOOK_NAME = "commit-msg";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getHookName() {
+        return HOOK_NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled(GitHooksParameters gitHooksParameters) {
+        return null != gitHooksParameters.getCommitMsg() &&
+                gitHooksParameters.getCommitMsg().isEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GitHookConfiguration create(GitHooksParameters gitHooksParameters) {
+        return new CommitMsgConfiguration(gitHooksParameters.getCommitMsg());
+    }
+}
@@ -0,0 +1,83 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The entry point of the JVM commit-msg hook.
+ * <p>
+ * It validates the message file with {@link ConventionalCommitParser}, the same rules the
+ * plugin's goals use, and exits with {@value #EXIT_VALID} if the message is valid. It loads as
+ * few classes as possible, so they all fit in the class data sharing archive.
+ * <p>
+ * Usage: {@code <types> <header max length> <message file>}.
+ */
+public final class CommitMsgHookLauncher {
+
+    /**
+     * The exit status of a valid message.
+     */
+    public static final int EXIT_VALID = 0;
+
+    /**
+     * The exit status of an invalid message.
+     */
+    public static final int EXIT_INVALID = 1;
+
+    /**
+     * The exit status of invalid arguments or an unreadable message file.
+     */
+    public static final int EXIT_ERROR = 2;
+
+    static final int ARGUMENTS_COUNT = 3;
+
+    private static final String ABORTING_COMMIT_MESSAGE = "Aborting commit. ";
+
+    private CommitMsgHookLauncher() {
+    }
+
+    /**
+     * Validates a commit message file and exits with the validation status.
+     *
+     * @param args the types, the header max length and the message file.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Validates a commit message file.
+     *
+     * @param args the types, the header max length and the message file.
+     * @return the exit status.
+     */
+    static int run(String[] args) {
+        if (args.length != ARGUMENTS_COUNT) {
+            System.err.println(
+                    "Usage: " + CommitMsgHookLauncher.class.getName() +
+                            " <types> <header max length> <message file>");
+            return EXIT_ERROR;
+        }
+        CommitMsgConfiguration configuration;
+        String message;
+        try {
+            configuration = new CommitMsgConfiguration(new CommitMsgParameters(true,
+                    CommitMsgParameters.DEFAULT_FILE_NAME, Integer.parseInt(args[1]), args[0]));
+            message = Files.readString(Path.of(args[2]), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(e.getMessage());
+            return EXIT_ERROR;
+        }
+        CommitMsgValidationResult result =
+                new ConventionalCommitParser(configuration).validate(message);
+        if (result.isValid()) {
+            return EXIT_VALID;
+        }
+        System.err.println(ABORTING_COMMIT_MESSAGE +
+                String.format(result.getMessage(), configuration.getHeaderMaxLength()));
+        System.err.print(message);
+        return EXIT_INVALID;
+    }
+}
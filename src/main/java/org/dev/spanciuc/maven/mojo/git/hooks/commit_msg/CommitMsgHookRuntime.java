@@ -0,0 +1,18 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+/**
+ * The runtime a generated commit-msg hook validates messages with.
+ */
+public enum CommitMsgHookRuntime {
+
+    /**
+     * A bash script matching the header with {@code grep -E}.
+     */
+    BASH,
+
+    /**
+     * A bash script launching {@link CommitMsgHookLauncher} on the JVM that generated it, with a
+     * class data sharing archive created at generation time.
+     */
+    JVM
+}
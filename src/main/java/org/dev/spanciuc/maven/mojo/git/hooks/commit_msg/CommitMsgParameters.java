@@ -2,6 +2,9 @@ package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
 
 import lombok.Value;
 
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * A class to hold commit message configuration's parameters.
  */
@@ -35,6 +38,15 @@ public class CommitMsgParameters {
      */
     public static final String DEFAULT_TYPES =
             "feat,fix,chore,refactor,docs,style,test,perf,revert,merge";
+    /**
+     * The default hook runtime as string.
+     */
+    public static final String DEFAULT_HOOK_RUNTIME_AS_STRING = "BASH";
+    /**
+     * The default hook runtime.
+     */
+    public static final CommitMsgHookRuntime DEFAULT_HOOK_RUNTIME =
+            CommitMsgHookRuntime.valueOf(DEFAULT_HOOK_RUNTIME_AS_STRING);
     /**
      * Whether the hook is enabled.
      *
@@ -65,9 +77,30 @@ public class CommitMsgParameters {
      */
     @SuppressWarnings("JavadocDeclaration")
     String types;
+    /**
+     * The runtime the generated hook validates messages with.
+     *
+     * @return hook runtime.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    CommitMsgHookRuntime hookRuntime;
+    /**
+     * The static class data sharing archive the JVM hook maps when the file exists, or null.
+     *
+     * @return shared archive file.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    Path sharedArchiveFile;
+    /**
+     * The classpath the shared archive was dumped with.
+     *
+     * @return shared archive classpath entries.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    List<Path> sharedArchiveClasspath;
 
     /**
-     * Creates an instance with parameters.
+     * Creates an instance with parameters and the default hook runtime.
      *
      * @param enabled         enabled parameter.
      * @param fileName        fileName parameter.
@@ -76,10 +109,44 @@ public class CommitMsgParameters {
      */
     public CommitMsgParameters(boolean enabled, String fileName, int headerMaxLength,
                                String types) {
+        this(enabled, fileName, headerMaxLength, types, DEFAULT_HOOK_RUNTIME);
+    }
+
+    /**
+     * Creates an instance with parameters.
+     *
+     * @param enabled         enabled parameter.
+     * @param fileName        fileName parameter.
+     * @param headerMaxLength headerMaxLength parameter.
+     * @param types           types parameter
+     * @param hookRuntime     hookRuntime parameter
+     */
+    public CommitMsgParameters(boolean enabled, String fileName, int headerMaxLength,
+                               String types, CommitMsgHookRuntime hookRuntime) {
+        this(enabled, fileName, headerMaxLength, types, hookRuntime, null, List.of());
+    }
+
+    /**
+     * Creates an instance with parameters and a shared class data sharing archive.
+     *
+     * @param enabled                enabled parameter.
+     * @param fileName               fileName parameter.
+     * @param headerMaxLength        headerMaxLength parameter.
+     * @param types                  types parameter
+     * @param hookRuntime            hookRuntime parameter
+     * @param sharedArchiveFile      sharedArchiveFile parameter
+     * @param sharedArchiveClasspath sharedArchiveClasspath parameter
+     */
+    public CommitMsgParameters(boolean enabled, String fileName, int headerMaxLength,
+                               String types, CommitMsgHookRuntime hookRuntime,
+                               Path sharedArchiveFile, List<Path> sharedArchiveClasspath) {
         this.enabled = enabled;
         this.fileName = fileName;
         this.headerMaxLength = headerMaxLength;
         this.types = types;
+        this.hookRuntime = hookRuntime;
+        this.sharedArchiveFile = sharedArchiveFile;
+        this.sharedArchiveClasspath = sharedArchiveClasspath;
     }
 
     /**
@@ -0,0 +1,48 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+/**
+ * The result of a commit message validation.
+ */
+public enum CommitMsgValidationResult {
+
+    /**
+     * The commit message is valid.
+     */
+    VALID(null),
+
+    /**
+     * The commit message header does not follow the conventional commit format.
+     */
+    INVALID_FORMAT(Messages.COMMIT_MESSAGE_INVALID_FORMAT_MESSAGE),
+
+    /**
+     * The commit message header is longer than allowed.
+     */
+    HEADER_TOO_LONG(Messages.COMMIT_MESSAGE_HEADER_TOO_LONG_MESSAGE);
+
+    private final String message;
+
+    CommitMsgValidationResult(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Gets the message describing the violation or null for a valid result.
+     *
+     * @return message.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Checks if the result is valid.
+     *
+     * @return true if valid, otherwise - false.
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
@@ -0,0 +1,43 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import lombok.Value;
+
+/**
+ * A class represents a parsed conventional commit message.
+ */
+@Value
+public class ConventionalCommit {
+
+    /**
+     * The commit type, one of the configured types.
+     *
+     * @return type.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String type;
+
+    /**
+     * The commit scope or null if the header has no scope.
+     *
+     * @return scope.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String scope;
+
+    /**
+     * Whether the commit introduces a breaking change, either with '!' in the header or with a
+     * breaking change footer.
+     *
+     * @return true if breaking, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean breaking;
+
+    /**
+     * The header's description.
+     *
+     * @return description.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String description;
+}
@@ -0,0 +1,203 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+/**
+ * A single-pass conventional commit message parser.
+ * <p>
+ * It validates the same rules as the generated commit-msg hook:
+ * <ul>
+ *   <li>the header starts with one of the configured types</li>
+ *   <li>the type is optionally followed by a non-empty scope in parentheses</li>
+ *   <li>the type or scope is optionally followed by '!'</li>
+ *   <li>then follow ': ' and a non-empty description</li>
+ *   <li>the header is not longer than the configured max length</li>
+ * </ul>
+ * The header is scanned once, without regular expressions and without allocations on the
+ * validation path. The type is matched with the configuration's {@link TypeMatcher}.
+ * Instances are immutable and thread-safe.
+ */
+public class ConventionalCommitParser {
+
+    /**
+     * The breaking change footer token.
+     */
+    public static final String BREAKING_CHANGE_TOKEN = "BREAKING CHANGE:";
+    /**
+     * The breaking change footer token synonym.
+     */
+    public static final String BREAKING_CHANGE_TOKEN_SYNONYM = "BREAKING-CHANGE:";
+
+    static final char SCOPE_START = '(';
+    static final char BREAKING_MARK = '!';
+    static final char DESCRIPTION_SEPARATOR = ':';
+    private static final char SCOPE_END = ')';
+    private static final char SPACE = ' ';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final int NOT_FOUND = -1;
+
+    private final CommitMsgConfiguration configuration;
+
+    private final TypeMatcher typeMatcher;
+
+    /**
+     * Creates a parser for the given configuration.
+     *
+     * @param configuration the commit-msg configuration.
+     * @throws IllegalArgumentException if configuration is null.
+     */
+    public ConventionalCommitParser(CommitMsgConfiguration configuration) {
+        if (null == configuration) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_COMMIT_MESSAGE_CONFIGURATION));
+        }
+        this.configuration = configuration;
+        this.typeMatcher = configuration.getTypeMatcher();
+    }
+
+    /**
+     * Validates a commit message.
+     * <p>
+     * Only the first line of the message is validated.
+     *
+     * @param message the commit message.
+     * @return validation result.
+     * @throws IllegalArgumentException if message is null.
+     */
+    public CommitMsgValidationResult validate(CharSequence message) {
+        requireMessage(message);
+        int headerEnd = headerEnd(message);
+        if (NOT_FOUND == scopeEnd(message, headerEnd, typeEnd(message, headerEnd))) {
+            return CommitMsgValidationResult.INVALID_FORMAT;
+        }
+        if (configuration.hasHeaderMaxLengthRestriction() &&
+                headerEnd > configuration.getHeaderMaxLength()) {
+            return CommitMsgValidationResult.HEADER_TOO_LONG;
+        }
+        return CommitMsgValidationResult.VALID;
+    }
+
+    /**
+     * Parses a commit message.
+     * <p>
+     * The header max length is not checked, use {@link #validate(CharSequence)} for it.
+     *
+     * @param message the commit message.
+     * @return parsed commit or null if the header does not follow the conventional commit
+     *         format.
+     * @throws IllegalArgumentException if message is null.
+     */
+    public ConventionalCommit parse(CharSequence message) {
+        requireMessage(message);
+        int headerEnd = headerEnd(message);
+        int ordinal = typeMatcher.match(message, headerEnd);
+        int typeEnd = TypeMatcher.NO_MATCH == ordinal ? NOT_FOUND :
+                typeMatcher.getTypeLength(ordinal);
+        int scopeEnd = scopeEnd(message, headerEnd, typeEnd);
+        if (NOT_FOUND == scopeEnd) {
+            return null;
+        }
+        String type = typeMatcher.getType(ordinal);
+        String scope = scopeEnd == typeEnd ? null :
+                message.subSequence(typeEnd + 1, scopeEnd - 1).toString();
+        boolean breakingMark = message.charAt(scopeEnd) == BREAKING_MARK;
+        int descriptionStart = scopeEnd + (breakingMark ? 3 : 2);
+        String description = message.subSequence(descriptionStart, headerEnd).toString();
+        boolean breaking = breakingMark || hasBreakingChangeFooter(message, headerEnd);
+        return new ConventionalCommit(type, scope, breaking, description);
+    }
+
+    /**
+     * Finds the end of the type token.
+     *
+     * @return the index after the type or {@value #NOT_FOUND} if no configured type matches.
+     */
+    private int typeEnd(CharSequence message, int headerEnd) {
+        int ordinal = typeMatcher.match(message, headerEnd);
+        return TypeMatcher.NO_MATCH == ordinal ? NOT_FOUND : typeMatcher.getTypeLength(ordinal);
+    }
+
+    /**
+     * Finds the end of the optional scope, the tail after it must be a valid description.
+     *
+     * @return the index after the scope, the type end if there is no scope or
+     *         {@value #NOT_FOUND} if the header is invalid.
+     */
+    private int scopeEnd(CharSequence message, int headerEnd, int typeEnd) {
+        if (NOT_FOUND == typeEnd) {
+            return NOT_FOUND;
+        }
+        if (message.charAt(typeEnd) != SCOPE_START) {
+            return hasDescription(message, headerEnd, typeEnd) ? typeEnd : NOT_FOUND;
+        }
+        // the scope must not be empty, so the first candidate closing char is at typeEnd + 2
+        for (int i = typeEnd + 2; i < headerEnd; i++) {
+            if (message.charAt(i) == SCOPE_END && hasDescription(message, headerEnd, i + 1)) {
+                return i + 1;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Checks that '!'?': ' followed by at least one character starts at index.
+     */
+    private static boolean hasDescription(CharSequence message, int headerEnd, int index) {
+        int i = index;
+        if (i < headerEnd && message.charAt(i) == BREAKING_MARK) {
+            i++;
+        }
+        return i + 2 < headerEnd && message.charAt(i) == DESCRIPTION_SEPARATOR &&
+                message.charAt(i + 1) == SPACE;
+    }
+
+    private static boolean hasBreakingChangeFooter(CharSequence message, int headerEnd) {
+        int length = message.length();
+        int lineStart = headerEnd;
+        while (lineStart < length) {
+            if (message.charAt(lineStart) == LINE_FEED) {
+                lineStart++;
+                if (startsWith(message, lineStart, BREAKING_CHANGE_TOKEN) ||
+                        startsWith(message, lineStart, BREAKING_CHANGE_TOKEN_SYNONYM)) {
+                    return true;
+                }
+            } else {
+                lineStart++;
+            }
+        }
+        return false;
+    }
+
+    private static int headerEnd(CharSequence message) {
+        int length = message.length();
+        for (int i = 0; i < length; i++) {
+            if (message.charAt(i) == LINE_FEED) {
+                return i > 0 && message.charAt(i - 1) == CARRIAGE_RETURN ? i - 1 : i;
+            }
+        }
+        return length;
+    }
+
+    private static boolean startsWith(CharSequence message, int offset, String prefix) {
+        int length = prefix.length();
+        if (offset + length > message.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (message.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void requireMessage(CharSequence message) {
+        if (null == message) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_COMMIT_MESSAGE));
+        }
+    }
+}
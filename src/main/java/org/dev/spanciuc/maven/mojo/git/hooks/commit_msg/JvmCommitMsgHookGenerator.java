@@ -0,0 +1,285 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.AtomicFileWriter;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.BashScripts;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.ClassDataSharingArchives;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.CompiledTemplate;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class representing JVM commit-msg hook generator.
+ * <p>
+ * The generated hook is a bash script that only launches {@link CommitMsgHookLauncher} on the
+ * JVM that generated it, so messages are validated by {@link ConventionalCommitParser} instead
+ * of a {@code grep -E} pattern whose features differ between grep implementations.
+ * <p>
+ * To keep the JVM startup short, the hook runs interpreted with the serial collector, and when
+ * the launcher is loaded from a jar, a dynamic class data sharing archive of the classes it
+ * loads is created next to the hook at generation time. If the configured shared archive,
+ * e.g. created by the generate-cds-archive goal, exists at generation time, the hook maps it
+ * with the classpath it was dumped with instead. A missing or stale archive is ignored by the
+ * JVM, the hook then only starts slower.
+ */
+public class JvmCommitMsgHookGenerator implements GitHookFileGenerator {
+
+    /**
+     * The extension of the class data sharing archive, it's named after the hook file.
+     */
+    public static final String ARCHIVE_EXTENSION = ".jsa";
+
+    /**
+     * The JVM options of the hook.
+     */
+    static final List<String> JVM_OPTIONS = List.of(ClassDataSharingArchives.SHARE_AUTO_OPTION,
+            "-Xint", "-XX:+UseSerialGC", "-XX:-UsePerfData");
+
+    static final String ARCHIVE_SAMPLE_DESCRIPTION = ": create class data sharing archive\n";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * The directory of the running hook, the archive is looked up next to it.
+     */
+    private static final String HOOK_DIRECTORY = "\"${0%/*}\"/";
+
+    private static final String TEMPLATE_SCRIPT = """
+            #!/usr/bin/env bash
+            # launcher: %s
+            exec %s %s %s%s%s -cp %s %s %s %s "$1"
+            """;
+
+    private static final CompiledTemplate SCRIPT = CompiledTemplate.compile(TEMPLATE_SCRIPT);
+
+    private final CommitMsgConfiguration configuration;
+
+    private final Path javaExecutable;
+
+    private final List<Path> classpath;
+
+    /**
+     * The shared archive the hook maps, null if the hook's own archive is created.
+     */
+    private final Path sharedArchive;
+
+    /**
+     * Creates a generator instance for given configuration.
+     * <p>
+     * The hook runs on the current JVM with the classpath the launcher is loaded from, preceded
+     * by the shared archive's classpath when the configured shared archive exists.
+     *
+     * @param configuration the commit-msg hook configuration.
+     * @throws IllegalArgumentException if configuration object is null.
+     * @throws IllegalStateException    if the launcher's classpath cannot be located.
+     */
+    public JvmCommitMsgHookGenerator(CommitMsgConfiguration configuration) {
+        this(configuration, Path.of(System.getProperty("java.home"), "bin", "java"),
+                locateClasspath());
+    }
+
+    JvmCommitMsgHookGenerator(CommitMsgConfiguration configuration, Path javaExecutable,
+                              Path classpath) {
+        if (null == configuration) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_COMMIT_MESSAGE_CONFIGURATION));
+        }
+        this.configuration = configuration;
+        this.javaExecutable = javaExecutable.toAbsolutePath();
+        Path launcherClasspath = classpath.toAbsolutePath();
+        Path archive = configuration.getSharedArchiveFile();
+        List<Path> archiveClasspath = configuration.getSharedArchiveClasspath();
+        if (null != archive && Files.isRegularFile(archive) &&
+                ClassDataSharingArchives.isArchivable(archiveClasspath)) {
+            // the JVM maps the archive if its classpath is a prefix of the hook's one
+            List<Path> entries = new ArrayList<>();
+            for (Path entry : archiveClasspath) {
+                entries.add(entry.toAbsolutePath());
+            }
+            if (!entries.contains(launcherClasspath)) {
+                entries.add(launcherClasspath);
+            }
+            this.classpath = List.copyOf(entries);
+            this.sharedArchive = archive.toAbsolutePath();
+        } else {
+            this.classpath = List.of(launcherClasspath);
+            this.sharedArchive = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The class data sharing archive is created after the hook unless a shared archive is
+     * mapped, failing to create it does not fail the generation.
+     *
+     * @throws IllegalStateException    if trying to generate a disabled hook.
+     * @throws IllegalArgumentException if parentDirectory is null.
+     * @throws RuntimeIOException       if the hook file cannot be written.
+     */
+    @Override
+    public File generate(File parentDirectory, FileWriteOptions writeOptions) {
+        if (!configuration.isEnabled()) {
+            throw new IllegalStateException(
+                    Messages.MESSAGE_CALLED_GENERATE_METHOD_ON_DISABLED_HOOK_MESSAGE);
+        }
+        if (null == parentDirectory) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_PARENT_DIRECTORY));
+        }
+        File file = new File(parentDirectory, configuration.getFileName());
+        try {
+            AtomicFileWriter.write(file.toPath(),
+                    generateScriptContent().getBytes(StandardCharsets.UTF_8), writeOptions);
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+        if (isArchiveSupported()) {
+            createArchive(parentDirectory.toPath());
+        }
+        return file;
+    }
+
+    /**
+     * Gets the commit-msg hook filename.
+     *
+     * @return the filename.
+     */
+    @Override
+    public String getFileName() {
+        return configuration.getFileName();
+    }
+
+    /**
+     * Gets the fingerprint of the rendered script content.
+     * <p>
+     * The script records the size and modification time of the launcher's classpath, so the
+     * fingerprint changes whenever the archive would be stale.
+     *
+     * @return hex encoded fingerprint.
+     */
+    @Override
+    public String getFingerprint() {
+        return Fingerprints.of(generateScriptContent());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The hook is not up-to-date while its own class data sharing archive is missing.
+     */
+    @Override
+    public boolean isUpToDate(File parentDirectory) {
+        return GitHookFileGenerator.super.isUpToDate(parentDirectory) &&
+                (!isArchiveSupported() || new File(parentDirectory, getArchiveName()).isFile());
+    }
+
+    /**
+     * Gets the class data sharing archive filename.
+     *
+     * @return the filename.
+     */
+    public String getArchiveName() {
+        return configuration.getFileName() + ARCHIVE_EXTENSION;
+    }
+
+    /**
+     * Checks if the hook's own class data sharing archive is created, i.e. no shared archive is
+     * mapped and the launcher is loaded from a jar, the JVM archives classes loaded from jars
+     * only.
+     *
+     * @return true if the own archive is created, otherwise - false.
+     */
+    boolean isArchiveSupported() {
+        return null == sharedArchive && ClassDataSharingArchives.isArchivable(classpath);
+    }
+
+    /**
+     * Gets the shared archive the hook maps.
+     *
+     * @return the absolute archive path or null if the hook's own archive is used.
+     */
+    Path getSharedArchive() {
+        return sharedArchive;
+    }
+
+    String generateScriptContent() {
+        return SCRIPT.render(classpathStamp(),
+                BashScripts.quote(javaExecutable.toString()),
+                String.join(" ", JVM_OPTIONS),
+                ClassDataSharingArchives.SHARED_ARCHIVE_FILE_OPTION,
+                null == sharedArchive ? HOOK_DIRECTORY : "",
+                BashScripts.quote(null == sharedArchive ?
+                        getArchiveName() : sharedArchive.toString()),
+                BashScripts.quote(ClassDataSharingArchives.toClasspath(classpath)),
+                CommitMsgHookLauncher.class.getName(),
+                BashScripts.quote(String.join(CommitMsgConfiguration.TYPES_SPLIT_CHAR,
+                        configuration.getTypes())),
+                configuration.getHeaderMaxLength());
+    }
+
+    private String classpathStamp() {
+        List<String> stamps = new ArrayList<>();
+        for (Path entry : classpath) {
+            try {
+                stamps.add(Files.size(entry) + "-" +
+                        Files.getLastModifiedTime(entry).toMillis());
+            } catch (IOException e) {
+                stamps.add("unknown");
+            }
+        }
+        return String.join(" ", stamps);
+    }
+
+    /**
+     * Dumps the classes loaded by a validation of a sample message.
+     */
+    private void createArchive(Path parentDirectory) {
+        Path sampleMessage = null;
+        try {
+            sampleMessage = Files.createTempFile(parentDirectory,
+                    "." + configuration.getFileName(), TEMPORARY_FILE_SUFFIX);
+            Files.writeString(sampleMessage,
+                    configuration.getTypes().iterator().next() + ARCHIVE_SAMPLE_DESCRIPTION);
+            // an invalid sample, e.g. longer than the header max length, is archived as well
+            ClassDataSharingArchives.create(javaExecutable, JVM_OPTIONS, classpath,
+                    CommitMsgHookLauncher.class.getName(),
+                    List.of(String.join(CommitMsgConfiguration.TYPES_SPLIT_CHAR,
+                                    configuration.getTypes()),
+                            String.valueOf(configuration.getHeaderMaxLength()),
+                            sampleMessage.toString()),
+                    parentDirectory.resolve(getArchiveName()),
+                    ClassDataSharingArchives.DEFAULT_TIMEOUT_SECONDS);
+        } catch (IOException e) {
+            // the hook works without the archive
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (null != sampleMessage) {
+                sampleMessage.toFile().delete();
+            }
+        }
+    }
+
+    private static Path locateClasspath() {
+        try {
+            return Path.of(CommitMsgHookLauncher.class.getProtectionDomain().getCodeSource()
+                    .getLocation().toURI());
+        } catch (URISyntaxException | NullPointerException | SecurityException e) {
+            throw new IllegalStateException(Messages.MESSAGE_CANNOT_LOCATE_HOOK_CLASSPATH, e);
+        }
+    }
+}
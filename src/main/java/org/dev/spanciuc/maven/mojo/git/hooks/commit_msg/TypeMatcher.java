@@ -0,0 +1,237 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable matcher of the commit type token at the start of a commit header.
+ * <p>
+ * The allowed types are compiled once into a trie over their UTF-8 bytes. A header is matched by
+ * walking the trie from its first character, so the cost depends on the length of the type token
+ * only, not on the number of allowed types, and no substring is created. Headers are matched
+ * either as {@link CharSequence} or as raw UTF-8 bytes, ex. a commit object buffer.
+ * <p>
+ * A type matches when it is followed by one of the characters that may follow the type in a
+ * conventional commit header: '(', '!' or ':'. The result is the type ordinal, the index of the
+ * type in the sorted allowed types. Instances are thread-safe.
+ */
+public final class TypeMatcher {
+
+    /**
+     * The result of a match when no type matches.
+     */
+    public static final int NO_MATCH = -1;
+
+    private static final int ROOT = 0;
+    private static final byte[] NO_LABELS = new byte[0];
+    private static final int[] NO_CHILDREN = new int[0];
+
+    private final String[] types;
+
+    private final int[] typeLengths;
+
+    private final int[] typeByteLengths;
+
+    /**
+     * The labels of each node's outgoing edges.
+     */
+    private final byte[][] labels;
+
+    /**
+     * The child nodes of each node, parallel to the labels.
+     */
+    private final int[][] children;
+
+    /**
+     * The type ordinal of each node or {@value #NO_MATCH} if no type ends there.
+     */
+    private final int[] terminals;
+
+    private TypeMatcher(String[] types, byte[][] labels, int[][] children, int[] terminals) {
+        this.types = types;
+        this.typeLengths = new int[types.length];
+        this.typeByteLengths = new int[types.length];
+        for (int i = 0; i < types.length; i++) {
+            typeLengths[i] = types[i].length();
+            typeByteLengths[i] = types[i].getBytes(StandardCharsets.UTF_8).length;
+        }
+        this.labels = labels;
+        this.children = children;
+        this.terminals = terminals;
+    }
+
+    /**
+     * Compiles a matcher.
+     *
+     * @param types the sorted allowed types.
+     * @return matcher.
+     * @throws IllegalArgumentException if types are null.
+     */
+    public static TypeMatcher compile(Collection<String> types) {
+        if (null == types) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_COMMIT_TYPES));
+        }
+        List<byte[]> nodeLabels = new ArrayList<>();
+        List<int[]> nodeChildren = new ArrayList<>();
+        List<Integer> nodeTerminals = new ArrayList<>();
+        nodeLabels.add(NO_LABELS);
+        nodeChildren.add(NO_CHILDREN);
+        nodeTerminals.add(NO_MATCH);
+
+        String[] typesArray = types.toArray(new String[0]);
+        for (int ordinal = 0; ordinal < typesArray.length; ordinal++) {
+            int node = ROOT;
+            for (byte label : typesArray[ordinal].getBytes(StandardCharsets.UTF_8)) {
+                int child = find(nodeLabels.get(node), nodeChildren.get(node), label);
+                if (NO_MATCH == child) {
+                    child = nodeLabels.size();
+                    nodeLabels.add(NO_LABELS);
+                    nodeChildren.add(NO_CHILDREN);
+                    nodeTerminals.add(NO_MATCH);
+                    byte[] labels = Arrays.copyOf(nodeLabels.get(node),
+                            nodeLabels.get(node).length + 1);
+                    labels[labels.length - 1] = label;
+                    int[] children = Arrays.copyOf(nodeChildren.get(node), labels.length);
+                    children[children.length - 1] = child;
+                    nodeLabels.set(node, labels);
+                    nodeChildren.set(node, children);
+                }
+                node = child;
+            }
+            if (NO_MATCH == nodeTerminals.get(node)) {
+                nodeTerminals.set(node, ordinal);
+            }
+        }
+        return new TypeMatcher(typesArray, nodeLabels.toArray(new byte[0][]),
+                nodeChildren.toArray(new int[0][]),
+                nodeTerminals.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Gets the number of types.
+     *
+     * @return number of types.
+     */
+    public int getTypesCount() {
+        return types.length;
+    }
+
+    /**
+     * Gets the type of an ordinal.
+     *
+     * @param ordinal the type ordinal.
+     * @return type.
+     * @throws IndexOutOfBoundsException if ordinal is invalid.
+     */
+    public String getType(int ordinal) {
+        return types[ordinal];
+    }
+
+    /**
+     * Gets the length in characters of the type of an ordinal.
+     *
+     * @param ordinal the type ordinal.
+     * @return type length.
+     * @throws IndexOutOfBoundsException if ordinal is invalid.
+     */
+    public int getTypeLength(int ordinal) {
+        return typeLengths[ordinal];
+    }
+
+    /**
+     * Gets the length in UTF-8 bytes of the type of an ordinal.
+     *
+     * @param ordinal the type ordinal.
+     * @return type length in bytes.
+     * @throws IndexOutOfBoundsException if ordinal is invalid.
+     */
+    public int getTypeByteLength(int ordinal) {
+        return typeByteLengths[ordinal];
+    }
+
+    /**
+     * Matches the type at the start of a header.
+     *
+     * @param header the header.
+     * @param end    the end index of the header, exclusive.
+     * @return type ordinal or {@value #NO_MATCH}.
+     */
+    public int match(CharSequence header, int end) {
+        int node = ROOT;
+        for (int i = 0; i < end; i++) {
+            int ordinal = terminals[node];
+            char c = header.charAt(i);
+            if (NO_MATCH != ordinal && isDelimiter(c)) {
+                return ordinal;
+            }
+            if (c < 0x80) {
+                node = find(labels[node], children[node], (byte) c);
+            } else if (c < 0x800) {
+                node = next(next(node, 0xC0 | c >> 6), 0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < end &&
+                    Character.isLowSurrogate(header.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, header.charAt(++i));
+                node = next(next(next(next(node, 0xF0 | codePoint >> 18),
+                                0x80 | codePoint >> 12 & 0x3F), 0x80 | codePoint >> 6 & 0x3F),
+                        0x80 | codePoint & 0x3F);
+            } else {
+                node = next(next(next(node, 0xE0 | c >> 12), 0x80 | c >> 6 & 0x3F),
+                        0x80 | c & 0x3F);
+            }
+            if (NO_MATCH == node) {
+                return NO_MATCH;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Matches the type at the start of a UTF-8 encoded header.
+     *
+     * @param header the header bytes.
+     * @param start  the start index of the header.
+     * @param end    the end index of the header, exclusive.
+     * @return type ordinal or {@value #NO_MATCH}.
+     */
+    public int match(byte[] header, int start, int end) {
+        int node = ROOT;
+        for (int i = start; i < end; i++) {
+            int ordinal = terminals[node];
+            byte b = header[i];
+            if (NO_MATCH != ordinal && isDelimiter((char) b)) {
+                return ordinal;
+            }
+            node = find(labels[node], children[node], b);
+            if (NO_MATCH == node) {
+                return NO_MATCH;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private int next(int node, int label) {
+        return NO_MATCH == node ? NO_MATCH : find(labels[node], children[node], (byte) label);
+    }
+
+    private static int find(byte[] labels, int[] children, byte label) {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] == label) {
+                return children[i];
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == ConventionalCommitParser.SCOPE_START ||
+                c == ConventionalCommitParser.BREAKING_MARK ||
+                c == ConventionalCommitParser.DESCRIPTION_SEPARATOR;
+    }
+}
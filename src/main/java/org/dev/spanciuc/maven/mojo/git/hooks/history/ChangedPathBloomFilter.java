@@ -0,0 +1,242 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.lib.Constants;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * A changed-path Bloom filter of a commit, in the format of git's commit-graph.
+ * <p>
+ * A path is hashed twice with 32-bit murmur3 and the seeds {@value #SEED_0} and
+ * {@value #SEED_1}, the i-th bit of the path is {@code (hash0 + i * hash1) mod bits}. Version 1
+ * of the hash sign-extends the path bytes, like git before 2.46, version 2 does not. Both
+ * versions only differ for non-ASCII paths.
+ * <p>
+ * A filter answers if a path was possibly changed or was certainly not changed. An empty filter
+ * contains no path. Instances are immutable and thread-safe.
+ */
+public final class ChangedPathBloomFilter {
+
+    /**
+     * The murmur3 seed of the first hash of a path.
+     */
+    public static final int SEED_0 = 0x293ae76f;
+    /**
+     * The murmur3 seed of the second hash of a path.
+     */
+    public static final int SEED_1 = 0x7e646e2c;
+    /**
+     * The number of hashes of a path used by git.
+     */
+    public static final int DEFAULT_NUM_HASHES = 7;
+    /**
+     * The number of filter bits per path used by git.
+     */
+    public static final int DEFAULT_BITS_PER_ENTRY = 10;
+    /**
+     * The hash version sign-extending the path bytes.
+     */
+    public static final int HASH_VERSION_1 = 1;
+    /**
+     * The hash version of unsigned path bytes.
+     */
+    public static final int HASH_VERSION_2 = 2;
+
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+    private static final int R1 = 15;
+    private static final int R2 = 13;
+    private static final int M = 5;
+    private static final int N = 0xe6546b64;
+
+    private final ByteBuffer data;
+
+    private final int offset;
+
+    private final int length;
+
+    private final int hashVersion;
+
+    private final int numHashes;
+
+    /**
+     * Creates a filter over a region of a buffer.
+     *
+     * @param data        the buffer, not modified.
+     * @param offset      the offset of the filter in the buffer.
+     * @param length      the length of the filter in bytes.
+     * @param hashVersion the hash version.
+     * @param numHashes   the number of hashes of a path.
+     */
+    ChangedPathBloomFilter(ByteBuffer data, int offset, int length, int hashVersion,
+                           int numHashes) {
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+        this.hashVersion = hashVersion;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Creates a filter of paths with git's default settings and version 2 of the hash.
+     *
+     * @param keys the keys of the paths.
+     * @return filter.
+     * @throws IllegalArgumentException if keys are null.
+     */
+    public static ChangedPathBloomFilter create(Collection<Key> keys) {
+        if (null == keys) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        int length = (keys.size() * DEFAULT_BITS_PER_ENTRY + Byte.SIZE - 1) / Byte.SIZE;
+        byte[] bits = new byte[length];
+        for (Key key : keys) {
+            for (int i = 0; i < DEFAULT_NUM_HASHES; i++) {
+                long bit = bit(key.hash0(HASH_VERSION_2), key.hash1(HASH_VERSION_2), i, length);
+                bits[(int) (bit / Byte.SIZE)] |= (byte) (1 << (bit % Byte.SIZE));
+            }
+        }
+        return new ChangedPathBloomFilter(ByteBuffer.wrap(bits), 0, length, HASH_VERSION_2,
+                DEFAULT_NUM_HASHES);
+    }
+
+    /**
+     * Computes the key of a path.
+     *
+     * @param path the path relative to the work tree, separated by '/'.
+     * @return key.
+     * @throws IllegalArgumentException if path is null.
+     */
+    public static Key key(String path) {
+        if (null == path) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        byte[] bytes = Constants.encode(path);
+        return new Key(murmur3(SEED_0, bytes, HASH_VERSION_1),
+                murmur3(SEED_1, bytes, HASH_VERSION_1), murmur3(SEED_0, bytes, HASH_VERSION_2),
+                murmur3(SEED_1, bytes, HASH_VERSION_2));
+    }
+
+    /**
+     * Checks if a path was possibly changed.
+     *
+     * @param key the key of the path.
+     * @return true if the path was possibly changed, false if it certainly was not.
+     */
+    public boolean mightContain(Key key) {
+        if (0 == length) {
+            return false;
+        }
+        int hash0 = key.hash0(hashVersion);
+        int hash1 = key.hash1(hashVersion);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = bit(hash0, hash1, i, length);
+            if ((data.get(offset + (int) (bit / Byte.SIZE)) & (1 << (bit % Byte.SIZE))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the length of the filter in bytes.
+     *
+     * @return length.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Copies the filter bytes to a buffer.
+     *
+     * @param buffer the buffer, written from its position.
+     */
+    public void copyTo(ByteBuffer buffer) {
+        for (int i = 0; i < length; i++) {
+            buffer.put(data.get(offset + i));
+        }
+    }
+
+    /**
+     * Computes the 32-bit murmur3 hash of data, the bytes are sign-extended by version 1.
+     */
+    static int murmur3(int seed, byte[] data, int version) {
+        int byteMask = HASH_VERSION_1 == version ? -1 : 0xff;
+        int h = seed;
+        int blocks = data.length / Integer.BYTES;
+        for (int i = 0; i < blocks; i++) {
+            int index = i * Integer.BYTES;
+            int k = (data[index] & byteMask) | (data[index + 1] & byteMask) << 8 |
+                    (data[index + 2] & byteMask) << 16 | (data[index + 3] & byteMask) << 24;
+            h ^= mixK(k);
+            h = Integer.rotateLeft(h, R2) * M + N;
+        }
+        int tail = blocks * Integer.BYTES;
+        int k = 0;
+        switch (data.length & (Integer.BYTES - 1)) {
+            case 3:
+                k ^= (data[tail + 2] & byteMask) << 16;
+                // fall through
+            case 2:
+                k ^= (data[tail + 1] & byteMask) << 8;
+                // fall through
+            case 1:
+                k ^= data[tail] & byteMask;
+                h ^= mixK(k);
+                break;
+            default:
+                break;
+        }
+        h ^= data.length;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int mixK(int k) {
+        return Integer.rotateLeft(k * C1, R1) * C2;
+    }
+
+    /**
+     * Computes the i-th bit of a path, the hashes are unsigned.
+     */
+    private static long bit(int hash0, int hash1, int i, int length) {
+        return Integer.toUnsignedLong(hash0 + i * hash1) % ((long) length * Byte.SIZE);
+    }
+
+    /**
+     * The hashes of a path, computed once and tested against the filters of many commits.
+     */
+    public static final class Key {
+
+        private final int hash0Version1;
+
+        private final int hash1Version1;
+
+        private final int hash0Version2;
+
+        private final int hash1Version2;
+
+        private Key(int hash0Version1, int hash1Version1, int hash0Version2,
+                    int hash1Version2) {
+            this.hash0Version1 = hash0Version1;
+            this.hash1Version1 = hash1Version1;
+            this.hash0Version2 = hash0Version2;
+            this.hash1Version2 = hash1Version2;
+        }
+
+        int hash0(int version) {
+            return HASH_VERSION_1 == version ? hash0Version1 : hash0Version2;
+        }
+
+        int hash1(int version) {
+            return HASH_VERSION_1 == version ? hash1Version1 : hash1Version2;
+        }
+    }
+}
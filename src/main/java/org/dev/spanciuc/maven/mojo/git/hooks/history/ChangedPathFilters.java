@@ -0,0 +1,165 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.internal.storage.file.ObjectDirectory;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectDatabase;
+import org.eclipse.jgit.lib.Repository;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * The changed-path Bloom filters of a repository's commits, used to skip the tree diffs of the
+ * commits that cannot have changed a module.
+ * <p>
+ * A commit is looked up in the plugin's {@link ModuleChangedPathFilters} first, then in git's
+ * {@link CommitGraphBloomFilters} when the commit-graph has changed-path filters. Git's filters
+ * hold paths, so they cannot rule out the module at the work tree root, which owns the paths
+ * of no other module. The modules changed by a commit that no filter could rule out are
+ * recorded in the plugin's filters, so the next calculation skips the commit without diffing.
+ * <p>
+ * Both kinds of filters compare a commit with its first parent only. A module unchanged
+ * compared with the first parent of a merge is not changed by the merge, because a merge
+ * changes a module only if the module differs from every parent. Instances are not
+ * thread-safe.
+ */
+public class ChangedPathFilters implements Closeable {
+
+    private final CommitGraphBloomFilters commitGraph;
+
+    private final ModuleChangedPathFilters moduleFilters;
+
+    private int checkedCommits;
+
+    private int skippedCommits;
+
+    /**
+     * Creates an instance.
+     *
+     * @param commitGraph   git's commit-graph filters or null if there are none.
+     * @param moduleFilters the plugin's module filters.
+     * @throws IllegalArgumentException if moduleFilters is null.
+     */
+    public ChangedPathFilters(CommitGraphBloomFilters commitGraph,
+                              ModuleChangedPathFilters moduleFilters) {
+        if (null == moduleFilters) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        this.commitGraph = commitGraph;
+        this.moduleFilters = moduleFilters;
+    }
+
+    /**
+     * Opens the filters of a repository: git's commit-graph in the objects directory and the
+     * plugin's module filters in {@value ModuleChangedPathFilters#DEFAULT_FILE} of the common
+     * git directory, shared by linked worktrees.
+     *
+     * @param repository  the repository.
+     * @param modulePaths the module paths relative to the work tree, separated by '/'.
+     * @return filters, must be closed by the caller.
+     * @throws IllegalArgumentException if any parameter is null.
+     * @throws IOException              if a filters file cannot be read or written.
+     */
+    public static ChangedPathFilters open(Repository repository, Collection<String> modulePaths)
+            throws IOException {
+        if (null == repository) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        ObjectDatabase objectDatabase = repository.getObjectDatabase();
+        File objectsDirectory = objectDatabase instanceof ObjectDirectory ?
+                ((ObjectDirectory) objectDatabase).getDirectory() : null;
+        ModuleChangedPathFilters moduleFilters = ModuleChangedPathFilters.open(
+                repository.getCommonDirectory().toPath()
+                        .resolve(ModuleChangedPathFilters.DEFAULT_FILE),
+                modulePaths);
+        try {
+            return new ChangedPathFilters(CommitGraphBloomFilters.open(objectsDirectory),
+                    moduleFilters);
+        } catch (IOException | RuntimeException e) {
+            moduleFilters.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if a commit possibly changed one of the given module paths compared with its
+     * first parent.
+     *
+     * @param commitId       the commit id.
+     * @param keys           the keys of the module paths.
+     * @param workTreeModule whether one of the modules is at the work tree root.
+     * @return true if a module was possibly changed or no filter is known, false if no module
+     *         was changed.
+     */
+    public boolean mightChange(AnyObjectId commitId, Collection<ChangedPathBloomFilter.Key> keys,
+                               boolean workTreeModule) {
+        checkedCommits++;
+        ChangedPathBloomFilter filter = moduleFilters.get(commitId);
+        if (null == filter && !workTreeModule && null != commitGraph) {
+            filter = commitGraph.get(commitId);
+        }
+        if (null == filter) {
+            return true;
+        }
+        for (ChangedPathBloomFilter.Key key : keys) {
+            if (filter.mightContain(key)) {
+                return true;
+            }
+        }
+        skippedCommits++;
+        return false;
+    }
+
+    /**
+     * Records the module paths changed by a commit compared with its first parent, unless
+     * already recorded.
+     *
+     * @param commitId    the commit id.
+     * @param changedKeys the keys of the changed module paths.
+     */
+    public void record(AnyObjectId commitId, Collection<ChangedPathBloomFilter.Key> changedKeys) {
+        if (null == moduleFilters.get(commitId)) {
+            moduleFilters.add(commitId, ChangedPathBloomFilter.create(changedKeys));
+        }
+    }
+
+    /**
+     * Checks if git's commit-graph has changed-path filters.
+     *
+     * @return true if the commit-graph has filters, otherwise - false.
+     */
+    public boolean hasCommitGraph() {
+        return null != commitGraph;
+    }
+
+    /**
+     * Gets the number of commits checked against the filters.
+     *
+     * @return number of commits.
+     */
+    public int getCheckedCommits() {
+        return checkedCommits;
+    }
+
+    /**
+     * Gets the number of commits the filters ruled out, their trees were not diffed.
+     *
+     * @return number of commits.
+     */
+    public int getSkippedCommits() {
+        return skippedCommits;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Writes the recorded module filters.
+     */
+    @Override
+    public void close() throws IOException {
+        moduleFilters.close();
+    }
+}
@@ -0,0 +1,242 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reader of the changed-path Bloom filters of git's commit-graph, written by
+ * 'git commit-graph write --changed-paths' or with 'fetch.writeCommitGraph'.
+ * <p>
+ * The single file 'objects/info/commit-graph' and the split files listed by
+ * 'objects/info/commit-graphs/commit-graph-chain' are memory-mapped. Only the chunks needed to
+ * find a commit's filter are read: the OID fanout (OIDF), the OID lookup (OIDL), the Bloom
+ * filter index (BIDX) and the Bloom filter data (BDAT). Graph files without filters, in an
+ * unknown version or for another hash than SHA-1 are ignored.
+ * <p>
+ * The filter of a commit holds the paths changed compared with its first parent and all their
+ * leading directories. A commit missing from the graph, or whose filter was not computed, has
+ * no filter. Instances are immutable and thread-safe.
+ */
+public final class CommitGraphBloomFilters {
+
+    static final String COMMIT_GRAPH_FILE = "info/commit-graph";
+    static final String CHAIN_FILE = "info/commit-graphs/commit-graph-chain";
+    static final String SPLIT_FILE_FORMAT = "info/commit-graphs/graph-%s.graph";
+
+    private static final int SIGNATURE = 0x43475048;
+    private static final int VERSION = 1;
+    private static final int SHA1_VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int CHUNK_ENTRY_SIZE = 12;
+    private static final int OID_FANOUT = 0x4f494446;
+    private static final int OID_LOOKUP = 0x4f49444c;
+    private static final int BLOOM_INDEXES = 0x42494458;
+    private static final int BLOOM_DATA = 0x42444154;
+    private static final int FANOUT_SIZE = 256 * Integer.BYTES;
+    private static final int BLOOM_DATA_HEADER_SIZE = 3 * Integer.BYTES;
+
+    private final List<Layer> layers;
+
+    private CommitGraphBloomFilters(List<Layer> layers) {
+        this.layers = layers;
+    }
+
+    /**
+     * Opens the commit-graph of an objects directory.
+     *
+     * @param objectsDirectory the objects directory.
+     * @return filters or null if there is no commit-graph with changed-path filters.
+     * @throws IOException if a commit-graph file cannot be read.
+     */
+    public static CommitGraphBloomFilters open(File objectsDirectory) throws IOException {
+        if (null == objectsDirectory) {
+            return null;
+        }
+        List<Layer> layers = new ArrayList<>();
+        addLayer(layers, objectsDirectory.toPath().resolve(COMMIT_GRAPH_FILE));
+        List<String> chain = readLines(objectsDirectory.toPath().resolve(CHAIN_FILE));
+        for (String hash : chain) {
+            addLayer(layers, objectsDirectory.toPath().resolve(
+                    String.format(SPLIT_FILE_FORMAT, hash.trim())));
+        }
+        return layers.isEmpty() ? null : new CommitGraphBloomFilters(layers);
+    }
+
+    /**
+     * Gets the changed-path filter of a commit.
+     *
+     * @param commitId the commit id.
+     * @return filter or null if the commit has no filter in the graph.
+     */
+    public ChangedPathBloomFilter get(AnyObjectId commitId) {
+        for (Layer layer : layers) {
+            int position = layer.find(commitId);
+            if (position >= 0) {
+                return layer.getFilter(position);
+            }
+        }
+        return null;
+    }
+
+    private static void addLayer(List<Layer> layers, Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        Layer layer = Layer.parse(buffer);
+        if (null != layer) {
+            layers.add(layer);
+        }
+    }
+
+    private static List<String> readLines(Path file) throws IOException {
+        try {
+            return Files.readAllLines(file, StandardCharsets.US_ASCII);
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * A commit-graph file with changed-path filters.
+     */
+    private static final class Layer {
+
+        private final ByteBuffer buffer;
+
+        private final int fanout;
+
+        private final int lookup;
+
+        private final int count;
+
+        private final int indexes;
+
+        private final int data;
+
+        private final int dataEnd;
+
+        private final int hashVersion;
+
+        private final int numHashes;
+
+        private Layer(ByteBuffer buffer, int fanout, int lookup, int indexes, int data,
+                      int dataEnd) {
+            this.buffer = buffer;
+            this.fanout = fanout;
+            this.lookup = lookup;
+            this.count = buffer.getInt(fanout + FANOUT_SIZE - Integer.BYTES);
+            this.indexes = indexes;
+            this.data = data + BLOOM_DATA_HEADER_SIZE;
+            this.dataEnd = dataEnd;
+            this.hashVersion = buffer.getInt(data);
+            this.numHashes = buffer.getInt(data + Integer.BYTES);
+        }
+
+        /**
+         * Parses the header and the chunk table of a graph file.
+         *
+         * @return layer or null if the file has no usable changed-path filters.
+         */
+        private static Layer parse(ByteBuffer buffer) {
+            int size = buffer.limit();
+            if (size < HEADER_SIZE || buffer.getInt(0) != SIGNATURE ||
+                    buffer.get(4) != VERSION || buffer.get(5) != SHA1_VERSION) {
+                return null;
+            }
+            int chunks = buffer.get(6) & 0xff;
+            if (HEADER_SIZE + (chunks + 1L) * CHUNK_ENTRY_SIZE > size) {
+                return null;
+            }
+            long[] offsets = new long[4];
+            long[] ends = new long[4];
+            int[] ids = {OID_FANOUT, OID_LOOKUP, BLOOM_INDEXES, BLOOM_DATA};
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int entry = HEADER_SIZE + chunk * CHUNK_ENTRY_SIZE;
+                int id = buffer.getInt(entry);
+                for (int i = 0; i < ids.length; i++) {
+                    if (ids[i] == id) {
+                        offsets[i] = buffer.getLong(entry + Integer.BYTES);
+                        ends[i] = buffer.getLong(entry + CHUNK_ENTRY_SIZE + Integer.BYTES);
+                    }
+                }
+            }
+            for (int i = 0; i < ids.length; i++) {
+                if (offsets[i] <= 0 || ends[i] < offsets[i] || ends[i] > size) {
+                    return null;
+                }
+            }
+            if (ends[0] - offsets[0] != FANOUT_SIZE ||
+                    ends[3] - offsets[3] < BLOOM_DATA_HEADER_SIZE) {
+                return null;
+            }
+            Layer layer = new Layer(buffer, (int) offsets[0], (int) offsets[1],
+                    (int) offsets[2], (int) offsets[3], (int) ends[3]);
+            boolean knownHash = ChangedPathBloomFilter.HASH_VERSION_1 == layer.hashVersion ||
+                    ChangedPathBloomFilter.HASH_VERSION_2 == layer.hashVersion;
+            if (!knownHash || layer.numHashes <= 0 || layer.count < 0 ||
+                    (long) layer.count * Constants.OBJECT_ID_LENGTH > ends[1] - offsets[1] ||
+                    (long) layer.count * Integer.BYTES > ends[2] - offsets[2]) {
+                return null;
+            }
+            return layer;
+        }
+
+        /**
+         * Finds the position of a commit with the fanout and a binary search of the ids.
+         *
+         * @return position or -1 if the commit is not in the graph.
+         */
+        private int find(AnyObjectId commitId) {
+            int firstByte = commitId.getFirstByte();
+            int low = 0 == firstByte ? 0 : buffer.getInt(fanout + (firstByte - 1) * Integer.BYTES);
+            int high = buffer.getInt(fanout + firstByte * Integer.BYTES);
+            byte[] id = new byte[Constants.OBJECT_ID_LENGTH];
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                buffer.get(lookup + middle * Constants.OBJECT_ID_LENGTH, id);
+                int comparison = ObjectId.fromRaw(id).compareTo(commitId);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Gets the filter at a position, a filter of length 0 was not computed.
+         */
+        private ChangedPathBloomFilter getFilter(int position) {
+            int start = 0 == position ? 0 :
+                    buffer.getInt(indexes + (position - 1) * Integer.BYTES);
+            int end = buffer.getInt(indexes + position * Integer.BYTES);
+            if (end <= start || start < 0 || data + (long) end > dataEnd) {
+                return null;
+            }
+            return new ChangedPathBloomFilter(buffer, data + start, end - start, hashVersion,
+                    numHashes);
+        }
+    }
+}
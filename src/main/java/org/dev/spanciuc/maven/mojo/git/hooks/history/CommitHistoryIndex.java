@@ -0,0 +1,624 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommit;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.TypeMatcher;
+import org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg.RawCommitHeader;
+import org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg.RawConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectIdOwnerMap;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevFlag;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * An append-only binary index of the conventional commits of a repository, memory-mapped for
+ * reading.
+ * <p>
+ * The file starts with a header of {@value #RECORD_SIZE} bytes: a magic number, the format
+ * version and the fingerprint of the configured commit types. One fixed-width record per
+ * commit follows:
+ * <pre>
+ * offset size
+ *      0   20 commit id
+ *     20    4 position of the first parent or -1
+ *     24    4 position of the second parent or -1
+ *     28    4 commit time in seconds
+ *     32    4 scope hash or 0 if there is no scope
+ *     36    2 type ordinal or -1 if the commit is not conventional
+ *     38    1 flags: breaking change, more than two parents
+ *     39    1 reserved
+ * </pre>
+ * The type ordinals are the ones of the configuration's {@link TypeMatcher}. Records are
+ * appended parents first, so the commits reachable from a record are found with one backward
+ * scan of the records, without reading any git object.
+ * <p>
+ * An update appends the commits that are not indexed yet. A record left partially written by
+ * an interrupted update is dropped on the next open. An index built for other commit types is
+ * replaced by a new one moved over it, never truncated, since another process may still have
+ * it mapped; an instance keeps updating the file it opened. Updates are serialized with a file
+ * lock, taken by one thread at a time per file within the JVM. Instances are not thread-safe.
+ */
+public class CommitHistoryIndex implements Closeable {
+
+    /**
+     * The position of a commit that is not indexed.
+     */
+    public static final int NOT_INDEXED = -1;
+
+    /**
+     * The type ordinal of a commit that is not conventional.
+     */
+    public static final int NO_TYPE = TypeMatcher.NO_MATCH;
+
+    /**
+     * The scope hash of a commit without scope.
+     */
+    public static final int NO_SCOPE = 0;
+
+    /**
+     * The default file, relative to the git directory.
+     */
+    public static final String DEFAULT_FILE = "semantic-version/commit-history.idx";
+
+    static final int RECORD_SIZE = 40;
+    static final int HEADER_SIZE = RECORD_SIZE;
+    static final int MAGIC = 0x53564349;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int NO_PARENT = -1;
+    private static final int FIRST_PARENT_OFFSET = Constants.OBJECT_ID_LENGTH;
+    private static final int SECOND_PARENT_OFFSET = FIRST_PARENT_OFFSET + Integer.BYTES;
+    private static final int COMMIT_TIME_OFFSET = SECOND_PARENT_OFFSET + Integer.BYTES;
+    private static final int SCOPE_HASH_OFFSET = COMMIT_TIME_OFFSET + Integer.BYTES;
+    private static final int TYPE_OFFSET = SCOPE_HASH_OFFSET + Integer.BYTES;
+    private static final int FLAGS_OFFSET = TYPE_OFFSET + Short.BYTES;
+    private static final byte BREAKING_FLAG = 1;
+    private static final byte MORE_PARENTS_FLAG = 2;
+    private static final int FINGERPRINT_OFFSET = 2 * Integer.BYTES;
+    private static final int RECORDS_PER_WRITE = 1024;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Map<Path, Object> IN_PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+
+    private FileChannel channel;
+
+    private final List<String> types;
+
+    private final byte[] typesFingerprint;
+
+    private final Map<String, Integer> typeOrdinals = new HashMap<>();
+
+    private final ConventionalCommitParser parser;
+
+    private final RawConventionalCommitParser rawParser;
+
+    private final RawCommitHeader rawHeader = new RawCommitHeader();
+
+    private final ObjectIdOwnerMap<Position> positions = new ObjectIdOwnerMap<>();
+
+    private MappedByteBuffer records;
+
+    private int size;
+
+    private CommitHistoryIndex(Path file, CommitMsgConfiguration configuration) {
+        this.file = file;
+        TypeMatcher typeMatcher = configuration.getTypeMatcher();
+        List<String> orderedTypes = new ArrayList<>(typeMatcher.getTypesCount());
+        for (int ordinal = 0; ordinal < typeMatcher.getTypesCount(); ordinal++) {
+            orderedTypes.add(typeMatcher.getType(ordinal));
+            typeOrdinals.put(typeMatcher.getType(ordinal), ordinal);
+        }
+        this.types = Collections.unmodifiableList(orderedTypes);
+        this.typesFingerprint = HexFormat.of().parseHex(Fingerprints.of(
+                String.join(CommitMsgConfiguration.TYPES_SPLIT_CHAR, orderedTypes)));
+        this.parser = new ConventionalCommitParser(configuration);
+        this.rawParser = new RawConventionalCommitParser(configuration);
+    }
+
+    /**
+     * Opens an index file, creating it if it doesn't exist.
+     * <p>
+     * The index is replaced by an empty one if it was built for other commit types.
+     *
+     * @param file          the index file.
+     * @param configuration the commit-msg configuration.
+     * @return index.
+     * @throws IllegalArgumentException if any parameter is null.
+     * @throws IOException              if the file cannot be read or written.
+     */
+    public static CommitHistoryIndex open(Path file, CommitMsgConfiguration configuration)
+            throws IOException {
+        if (null == file) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_HISTORY_INDEX_FILE));
+        }
+        if (null == configuration) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_COMMIT_MESSAGE_CONFIGURATION));
+        }
+        Path absoluteFile = file.toAbsolutePath().normalize();
+        Files.createDirectories(absoluteFile.getParent());
+        CommitHistoryIndex index = new CommitHistoryIndex(absoluteFile, configuration);
+        try {
+            synchronized (inProcessLock(absoluteFile)) {
+                index.prepare();
+            }
+            index.map();
+            return index;
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the commit types the index was built for, in ordinal order.
+     *
+     * @return commit types.
+     */
+    public List<String> getTypes() {
+        return types;
+    }
+
+    /**
+     * Gets the number of indexed commits.
+     *
+     * @return number of commits.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Appends the commits reachable from a commit that are not indexed yet.
+     *
+     * @param repository the repository.
+     * @param head       the commit.
+     * @return number of appended commits.
+     * @throws IOException if the repository or the index cannot be read or written.
+     */
+    public int update(Repository repository, AnyObjectId head) throws IOException {
+        if (NOT_INDEXED != find(head)) {
+            return 0;
+        }
+        synchronized (inProcessLock(file)) {
+            try (FileLock ignored = channel.lock()) {
+                // another process or module may have indexed the commits meanwhile
+                map();
+                if (NOT_INDEXED != find(head)) {
+                    return 0;
+                }
+                int appended;
+                try (RevWalk walk = new RevWalk(repository)) {
+                    appended = append(walk, walk.parseCommit(head));
+                }
+                map();
+                return appended;
+            }
+        }
+    }
+
+    /**
+     * Finds the position of a commit.
+     *
+     * @param commitId the commit id.
+     * @return position or {@value #NOT_INDEXED} if the commit is not indexed.
+     */
+    public int find(AnyObjectId commitId) {
+        Position position = positions.get(commitId);
+        return null == position ? NOT_INDEXED : position.position;
+    }
+
+    /**
+     * Gets the commit id at a position.
+     *
+     * @param position the position.
+     * @return commit id.
+     */
+    public ObjectId getCommitId(int position) {
+        byte[] id = new byte[Constants.OBJECT_ID_LENGTH];
+        records.get(offset(position), id);
+        return ObjectId.fromRaw(id);
+    }
+
+    /**
+     * Gets the commit time in seconds at a position.
+     *
+     * @param position the position.
+     * @return commit time.
+     */
+    public int getCommitTime(int position) {
+        return records.getInt(offset(position) + COMMIT_TIME_OFFSET);
+    }
+
+    /**
+     * Gets the type ordinal at a position.
+     *
+     * @param position the position.
+     * @return type ordinal or {@value #NO_TYPE} if the commit is not conventional.
+     */
+    public int getTypeOrdinal(int position) {
+        return records.getShort(offset(position) + TYPE_OFFSET);
+    }
+
+    /**
+     * Gets the scope hash at a position.
+     *
+     * @param position the position.
+     * @return scope hash or {@value #NO_SCOPE} if the commit has no scope.
+     * @see #scopeHash(String)
+     */
+    public int getScopeHash(int position) {
+        return records.getInt(offset(position) + SCOPE_HASH_OFFSET);
+    }
+
+    /**
+     * Checks if the commit at a position is a breaking change.
+     *
+     * @param position the position.
+     * @return true if breaking, otherwise - false.
+     */
+    public boolean isBreaking(int position) {
+        return (records.get(offset(position) + FLAGS_OFFSET) & BREAKING_FLAG) != 0;
+    }
+
+    /**
+     * Computes the hash of a scope as stored in the index. Different scopes may have the same
+     * hash, the message of a matching commit confirms its scope.
+     *
+     * @param scope the scope or null.
+     * @return scope hash or {@value #NO_SCOPE} if scope is null.
+     */
+    public static int scopeHash(String scope) {
+        return null == scope ? NO_SCOPE : scope.hashCode();
+    }
+
+    /**
+     * Finds the commits reachable from a position.
+     *
+     * @param position the position.
+     * @return the reachable positions or null if an octopus merge is reachable, the index does
+     *         not store its further parents.
+     */
+    public BitSet reachable(int position) {
+        BitSet reachable = new BitSet(position + 1);
+        return NOT_INDEXED == scan(position, new int[0], reachable::set) ? null : reachable;
+    }
+
+    /**
+     * Scans the commits reachable from a position but not from the excluded positions, from
+     * the most recently indexed to the oldest one.
+     *
+     * @param start    the start position.
+     * @param excluded the excluded positions, ex. of the last version tag.
+     * @param consumer the consumer of the scanned positions.
+     * @return number of scanned commits or {@value #NOT_INDEXED} if an octopus merge was
+     *         reached, the index does not store its further parents.
+     */
+    public int scan(int start, int[] excluded, IntConsumer consumer) {
+        BitSet interesting = new BitSet(start + 1);
+        BitSet uninteresting = new BitSet(start + 1);
+        interesting.set(start);
+        int top = start;
+        for (int position : excluded) {
+            uninteresting.set(position);
+            top = Math.max(top, position);
+        }
+        int pending = 1;
+        int scanned = 0;
+        // children are always stored after their parents, so a position is final when reached
+        for (int position = top; position >= 0 && pending > 0; position--) {
+            boolean isInteresting = interesting.get(position);
+            if (!isInteresting && !uninteresting.get(position)) {
+                continue;
+            }
+            if (hasMoreParents(position)) {
+                return NOT_INDEXED;
+            }
+            if (isInteresting) {
+                pending--;
+            }
+            if (uninteresting.get(position)) {
+                markParent(uninteresting, getFirstParent(position));
+                markParent(uninteresting, getSecondParent(position));
+                continue;
+            }
+            consumer.accept(position);
+            scanned++;
+            pending += markInteresting(interesting, getFirstParent(position));
+            pending += markInteresting(interesting, getSecondParent(position));
+        }
+        return scanned;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Closes the index file, the mapped records are released by the garbage collector.
+     */
+    @Override
+    public void close() throws IOException {
+        if (null != channel) {
+            channel.close();
+        }
+    }
+
+    private static Object inProcessLock(Path file) {
+        return IN_PROCESS_LOCKS.computeIfAbsent(file, f -> new Object());
+    }
+
+    int getFirstParent(int position) {
+        return records.getInt(offset(position) + FIRST_PARENT_OFFSET);
+    }
+
+    int getSecondParent(int position) {
+        return records.getInt(offset(position) + SECOND_PARENT_OFFSET);
+    }
+
+    private boolean hasMoreParents(int position) {
+        return (records.get(offset(position) + FLAGS_OFFSET) & MORE_PARENTS_FLAG) != 0;
+    }
+
+    private static void markParent(BitSet positions, int parent) {
+        if (NO_PARENT != parent) {
+            positions.set(parent);
+        }
+    }
+
+    /**
+     * Marks a parent as interesting.
+     *
+     * @return 1 if the parent was not marked yet, otherwise - 0.
+     */
+    private static int markInteresting(BitSet interesting, int parent) {
+        if (NO_PARENT == parent || interesting.get(parent)) {
+            return 0;
+        }
+        interesting.set(parent);
+        return 1;
+    }
+
+    private static long offset(long position) {
+        return HEADER_SIZE + position * RECORD_SIZE;
+    }
+
+    private int offset(int position) {
+        return (int) offset((long) position);
+    }
+
+    /**
+     * Opens the index file, writes the header of a new index, replaces an incompatible index
+     * and drops a partially written record.
+     */
+    private void prepare() throws IOException {
+        FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try (FileLock ignored = opened.lock()) {
+            channel = opened;
+            if (0 == channel.size()) {
+                writeFully(channel, header(), 0);
+            } else if (!hasCompatibleHeader()) {
+                channel = replace();
+            } else {
+                long recordsSize = channel.size() - HEADER_SIZE;
+                if (recordsSize % RECORD_SIZE != 0) {
+                    // only the partial record is cut, the records mapped by other processes stay
+                    channel.truncate(offset(recordsSize / RECORD_SIZE));
+                }
+            }
+        } finally {
+            if (channel != opened) {
+                opened.close();
+            }
+        }
+    }
+
+    private ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).put(typesFingerprint).rewind();
+        return header;
+    }
+
+    /**
+     * Moves a new index with only the header over the index file, called under the lock of the
+     * replaced file.
+     *
+     * @return the channel of the new index.
+     */
+    private FileChannel replace() throws IOException {
+        Path temporaryFile = Files.createTempFile(file.getParent(),
+                "." + file.getFileName(), TEMPORARY_FILE_SUFFIX);
+        FileChannel replacement = null;
+        try {
+            replacement = FileChannel.open(temporaryFile, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            writeFully(replacement, header(), 0);
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return replacement;
+        } catch (IOException | RuntimeException e) {
+            if (null != replacement) {
+                replacement.close();
+            }
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+    }
+
+    private boolean hasCompatibleHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                return false;
+            }
+        }
+        byte[] fingerprint = new byte[typesFingerprint.length];
+        header.get(FINGERPRINT_OFFSET, fingerprint);
+        return header.getInt(0) == MAGIC && header.getInt(Integer.BYTES) == FORMAT_VERSION &&
+                Arrays.equals(fingerprint, typesFingerprint);
+    }
+
+    /**
+     * Maps the complete records and indexes the positions of the records appended since the
+     * last mapping.
+     */
+    private void map() throws IOException {
+        long count = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        if (offset(count) > Integer.MAX_VALUE) {
+            count = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+        }
+        if (null != records && count == size) {
+            return;
+        }
+        records = channel.map(FileChannel.MapMode.READ_ONLY, 0, offset(count));
+        for (int position = size; position < count; position++) {
+            positions.addIfAbsent(new Position(getCommitId(position), position));
+        }
+        size = (int) count;
+    }
+
+    /**
+     * Appends the commits reachable from head that are not indexed, parents first.
+     */
+    private int append(RevWalk walk, RevCommit head) throws IOException {
+        RevFlag expanded = walk.newFlag("expanded");
+        RevFlag appended = walk.newFlag("appended");
+        Deque<RevCommit> stack = new ArrayDeque<>();
+        stack.push(head);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORDS_PER_WRITE * RECORD_SIZE);
+        long end = offset((long) size);
+        int next = size;
+        while (!stack.isEmpty()) {
+            RevCommit commit = stack.peek();
+            if (!commit.has(expanded)) {
+                commit.add(expanded);
+                for (RevCommit parent : commit.getParents()) {
+                    if (!parent.has(expanded) && NOT_INDEXED == find(parent)) {
+                        walk.parseHeaders(parent);
+                        stack.push(parent);
+                    }
+                }
+                continue;
+            }
+            stack.pop();
+            if (commit.has(appended)) {
+                continue;
+            }
+            commit.add(appended);
+            if (!buffer.hasRemaining()) {
+                buffer.flip();
+                end += writeFully(channel, buffer, end);
+                buffer.clear();
+            }
+            writeRecord(walk, commit, buffer);
+            positions.add(new Position(commit, next++));
+        }
+        buffer.flip();
+        writeFully(channel, buffer, end);
+        return next - size;
+    }
+
+    private void writeRecord(RevWalk walk, RevCommit commit, ByteBuffer buffer)
+            throws IOException {
+        if (null == commit.getRawBuffer()) {
+            walk.parseBody(commit);
+        }
+        int typeOrdinal = NO_TYPE;
+        int scopeHash = NO_SCOPE;
+        boolean breaking = false;
+        byte[] raw = commit.getRawBuffer();
+        if (rawParser.parseCommit(raw, rawHeader)) {
+            if (rawHeader.isConventional()) {
+                typeOrdinal = rawHeader.getTypeOrdinal();
+                breaking = rawHeader.isBreaking();
+                if (RawCommitHeader.NOT_PRESENT != rawHeader.getScopeStart()) {
+                    scopeHash = scopeHash(new String(raw, rawHeader.getScopeStart(),
+                            rawHeader.getScopeEnd() - rawHeader.getScopeStart(),
+                            StandardCharsets.UTF_8));
+                }
+            }
+        } else {
+            ConventionalCommit conventionalCommit =
+                    parser.parse(CommitScanner.decodeMessage(raw));
+            if (null != conventionalCommit) {
+                typeOrdinal = typeOrdinals.get(conventionalCommit.getType());
+                breaking = conventionalCommit.isBreaking();
+                scopeHash = scopeHash(conventionalCommit.getScope());
+            }
+        }
+        commit.disposeBody();
+
+        int parents = commit.getParentCount();
+        commit.copyRawTo(buffer.array(), buffer.arrayOffset() + buffer.position());
+        buffer.position(buffer.position() + Constants.OBJECT_ID_LENGTH);
+        buffer.putInt(parents > 0 ? find(commit.getParent(0)) : NO_PARENT);
+        buffer.putInt(parents > 1 ? find(commit.getParent(1)) : NO_PARENT);
+        buffer.putInt(commit.getCommitTime());
+        buffer.putInt(scopeHash);
+        buffer.putShort((short) typeOrdinal);
+        buffer.put((byte) ((breaking ? BREAKING_FLAG : 0) |
+                (parents > 2 ? MORE_PARENTS_FLAG : 0)));
+        buffer.put((byte) 0);
+    }
+
+    private static int writeFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    /**
+     * The position of an indexed commit.
+     */
+    private static final class Position extends ObjectIdOwnerMap.Entry {
+
+        private final int position;
+
+        private Position(AnyObjectId commitId, int position) {
+            super(commitId);
+            this.position = position;
+        }
+    }
+}
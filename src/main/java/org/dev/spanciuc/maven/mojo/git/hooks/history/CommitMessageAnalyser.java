@@ -0,0 +1,21 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * Analyses the message of a commit.
+ *
+ * @param <T> the type of the analysis result.
+ */
+@FunctionalInterface
+public interface CommitMessageAnalyser<T> {
+
+    /**
+     * Analyses the message of a commit.
+     *
+     * @param commitId the commit id.
+     * @param message  the full commit message.
+     * @return analysis result or null if there is nothing to report for the commit.
+     */
+    T analyse(ObjectId commitId, String message);
+}
@@ -0,0 +1,35 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgValidationResult;
+
+/**
+ * A class represents a commit whose message does not follow the conventional commit rules.
+ */
+@Value
+public class CommitMessageViolation {
+
+    /**
+     * The commit id.
+     *
+     * @return commit id.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String commitId;
+
+    /**
+     * The first line of the commit message.
+     *
+     * @return commit message header.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String header;
+
+    /**
+     * The validation result.
+     *
+     * @return validation result.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    CommitMsgValidationResult result;
+}
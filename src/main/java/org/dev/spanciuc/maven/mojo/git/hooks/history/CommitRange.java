@@ -0,0 +1,92 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+
+/**
+ * A class represents a git commit range in the 'from..to' notation.
+ * <p>
+ * The range contains the commits reachable from 'to' and not reachable from 'from'. A missing
+ * 'to' means HEAD, a missing 'from' means the whole history of 'to'.
+ */
+@Value
+public class CommitRange {
+
+    /**
+     * The range separator.
+     */
+    public static final String SEPARATOR = "..";
+
+    /**
+     * The excluded revision or null.
+     *
+     * @return from revision.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String from;
+
+    /**
+     * The included revision.
+     *
+     * @return to revision.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String to;
+
+    /**
+     * Parses a range, ex. 'origin/main..HEAD', 'v1.0.0..', 'HEAD'.
+     *
+     * @param range the range.
+     * @return parsed range.
+     * @throws IllegalArgumentException if range is null or blank.
+     */
+    public static CommitRange parse(String range) {
+        if (null == range || range.isBlank()) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_INVALID_COMMIT_RANGE, range));
+        }
+        String trimmed = range.trim();
+        int separator = trimmed.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return new CommitRange(null, trimmed);
+        }
+        String from = trimmed.substring(0, separator).trim();
+        String to = trimmed.substring(separator + SEPARATOR.length()).trim();
+        return new CommitRange(from.isEmpty() ? null : from, to.isEmpty() ? Constants.HEAD : to);
+    }
+
+    /**
+     * Marks the range's boundaries on a walk.
+     *
+     * @param repository the repository.
+     * @param walk       the walk.
+     * @throws IllegalArgumentException if a revision cannot be resolved.
+     * @throws IOException              if the repository cannot be read.
+     */
+    public void markOn(Repository repository, RevWalk walk) throws IOException {
+        walk.markStart(walk.parseCommit(resolve(repository, to)));
+        if (null != from) {
+            walk.markUninteresting(walk.parseCommit(resolve(repository, from)));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return null == from ? to : from + SEPARATOR + to;
+    }
+
+    private static ObjectId resolve(Repository repository, String revision) throws IOException {
+        ObjectId id = repository.resolve(revision);
+        if (null == id) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_UNKNOWN_REVISION, revision));
+        }
+        return id;
+    }
+}
@@ -0,0 +1,110 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgValidationResult;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg.RawCommitHeader;
+import org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg.RawConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.RevFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Validates the messages of all commits in a range against the conventional commit rules.
+ * <p>
+ * The messages are read directly from the object database, violations are streamed to the
+ * caller as they are found.
+ */
+public class CommitRangeValidator {
+
+    private final ConventionalCommitParser parser;
+
+    private final RawConventionalCommitParser rawParser;
+
+    private final ThreadLocal<RawCommitHeader> rawHeaders =
+            ThreadLocal.withInitial(RawCommitHeader::new);
+
+    private final CommitScanner scanner;
+
+    /**
+     * Creates a validator.
+     *
+     * @param configuration the commit-msg configuration.
+     * @throws IllegalArgumentException if configuration is null.
+     */
+    public CommitRangeValidator(CommitMsgConfiguration configuration) {
+        this(configuration, new CommitScanner());
+    }
+
+    /**
+     * Creates a validator.
+     *
+     * @param configuration the commit-msg configuration.
+     * @param scanner       the commit scanner.
+     * @throws IllegalArgumentException if any parameter is null.
+     */
+    public CommitRangeValidator(CommitMsgConfiguration configuration, CommitScanner scanner) {
+        if (null == scanner) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        this.parser = new ConventionalCommitParser(configuration);
+        this.rawParser = new RawConventionalCommitParser(configuration);
+        this.scanner = scanner;
+    }
+
+    /**
+     * Validates the commits of a range.
+     *
+     * @param repository  the repository.
+     * @param range       the commit range.
+     * @param skipMerges  whether merge commits are skipped.
+     * @param violations  the consumer of violations, called in walk order.
+     * @return number of validated commits.
+     * @throws IllegalArgumentException if a revision of the range cannot be resolved.
+     * @throws IOException              if the repository cannot be read.
+     */
+    public int validate(Repository repository, CommitRange range, boolean skipMerges,
+                        Consumer<CommitMessageViolation> violations) throws IOException {
+        try (RevWalk walk = new RevWalk(repository)) {
+            range.markOn(repository, walk);
+            if (skipMerges) {
+                walk.setRevFilter(RevFilter.NO_MERGES);
+            }
+            return scanner.scanRaw(walk, this::analyse, violations);
+        }
+    }
+
+    /**
+     * Validates a raw commit in place, the header is decoded for violations only.
+     */
+    private CommitMessageViolation analyse(ObjectId commitId, byte[] commit) {
+        RawCommitHeader header = rawHeaders.get();
+        if (!rawParser.parseCommit(commit, header)) {
+            return analyse(commitId, CommitScanner.decodeMessage(commit));
+        }
+        CommitMsgValidationResult result = rawParser.validate(header);
+        if (result.isValid()) {
+            return null;
+        }
+        return new CommitMessageViolation(commitId.name(),
+                new String(commit, header.getHeaderStart(),
+                        header.getHeaderEnd() - header.getHeaderStart(),
+                        StandardCharsets.UTF_8).stripTrailing(), result);
+    }
+
+    private CommitMessageViolation analyse(ObjectId commitId, String message) {
+        CommitMsgValidationResult result = parser.validate(message);
+        if (result.isValid()) {
+            return null;
+        }
+        int headerEnd = message.indexOf('\n');
+        String header = (headerEnd < 0 ? message : message.substring(0, headerEnd)).stripTrailing();
+        return new CommitMessageViolation(commitId.name(), header, result);
+    }
+}
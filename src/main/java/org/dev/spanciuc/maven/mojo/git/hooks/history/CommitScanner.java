@@ -0,0 +1,243 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.util.RawParseUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Scans the messages of the commits produced by a {@link RevWalk}.
+ * <p>
+ * With a single thread, commits are analysed one at a time in walk order and their bodies are
+ * released right after, so the memory stays constant regardless of the number of commits.
+ * <p>
+ * With more threads, the calling thread walks the history and hands the raw commit buffers to a
+ * pool of workers, which decode and analyse the messages. At most {@value #WINDOW_PER_THREAD}
+ * commits per thread are in flight, the results are consumed on the calling thread in walk
+ * order, so the output is the same as in the single thread mode.
+ * <p>
+ * Commits are either analysed as decoded messages or, with {@link RawCommitAnalyser}, as raw
+ * commit objects, which saves decoding each message into a string.
+ */
+public class CommitScanner {
+
+    /**
+     * The default number of threads.
+     */
+    public static final int DEFAULT_THREADS = 1;
+    /**
+     * The default number of threads as string.
+     */
+    public static final String DEFAULT_THREADS_AS_STRING = "1";
+    /**
+     * The max number of commits in flight per worker thread.
+     */
+    static final int WINDOW_PER_THREAD = 256;
+
+    private static final String THREAD_NAME_PREFIX = "commit-scanner-";
+
+    private final int threads;
+
+    /**
+     * Creates a single thread scanner.
+     */
+    public CommitScanner() {
+        this(DEFAULT_THREADS);
+    }
+
+    /**
+     * Creates a scanner.
+     *
+     * @param threads the number of threads analysing commit messages.
+     * @throws IllegalArgumentException if threads is not positive.
+     */
+    public CommitScanner(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_INVALID_NUMBER_OF_THREADS, threads));
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the number of threads analysing commit messages.
+     *
+     * @return number of threads.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Scans the commit messages of a walk whose start and boundaries are already marked.
+     *
+     * @param walk     the walk.
+     * @param analyser the analyser of commit messages, must be thread-safe when more than one
+     *                 thread is used.
+     * @param consumer the consumer of non-null analysis results, called in walk order on the
+     *                 calling thread.
+     * @param <T>      the type of the analysis result.
+     * @return number of scanned commits.
+     * @throws IllegalArgumentException if any parameter is null.
+     * @throws IOException              if the repository cannot be read.
+     */
+    public <T> int scan(RevWalk walk, CommitMessageAnalyser<T> analyser, Consumer<T> consumer)
+            throws IOException {
+        if (null == analyser) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        return scanRaw(walk, (commitId, commit) -> analyser.analyse(commitId,
+                decodeMessage(commit)), consumer);
+    }
+
+    /**
+     * Scans the raw commit objects of a walk whose start and boundaries are already marked.
+     *
+     * @param walk     the walk.
+     * @param analyser the analyser of raw commits, must be thread-safe when more than one
+     *                 thread is used.
+     * @param consumer the consumer of non-null analysis results, called in walk order on the
+     *                 calling thread.
+     * @param <T>      the type of the analysis result.
+     * @return number of scanned commits.
+     * @throws IllegalArgumentException if any parameter is null.
+     * @throws IOException              if the repository cannot be read.
+     */
+    public <T> int scanRaw(RevWalk walk, RawCommitAnalyser<T> analyser, Consumer<T> consumer)
+            throws IOException {
+        if (null == walk || null == analyser || null == consumer) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        return threads == 1 ? scanSequentially(walk, analyser, consumer) :
+                scanInParallel(walk, analyser, consumer);
+    }
+
+    private static <T> int scanSequentially(RevWalk walk, RawCommitAnalyser<T> analyser,
+                                            Consumer<T> consumer) throws IOException {
+        int scanned = 0;
+        RevCommit commit;
+        while (null != (commit = walk.next())) {
+            parseBody(walk, commit);
+            T result = analyser.analyse(commit, commit.getRawBuffer());
+            commit.disposeBody();
+            scanned++;
+            accept(consumer, result);
+        }
+        return scanned;
+    }
+
+    private <T> int scanInParallel(RevWalk walk, RawCommitAnalyser<T> analyser,
+                                   Consumer<T> consumer) throws IOException {
+        int window = threads * WINDOW_PER_THREAD;
+        Deque<Future<T>> inFlight = new ArrayDeque<>(window);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new WorkerFactory());
+        try {
+            int scanned = 0;
+            RevCommit commit;
+            while (null != (commit = walk.next())) {
+                parseBody(walk, commit);
+                ObjectId commitId = commit.copy();
+                byte[] raw = commit.getRawBuffer();
+                commit.disposeBody();
+                scanned++;
+                if (inFlight.size() == window) {
+                    accept(consumer, await(inFlight.poll()));
+                }
+                inFlight.add(executor.submit(() -> analyser.analyse(commitId, raw)));
+            }
+            while (!inFlight.isEmpty()) {
+                accept(consumer, await(inFlight.poll()));
+            }
+            return scanned;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses the body again when the walk does not retain bodies, ex. sorted walks that parse
+     * all commits before producing the first one.
+     */
+    private static void parseBody(RevWalk walk, RevCommit commit) throws IOException {
+        if (null == commit.getRawBuffer()) {
+            walk.parseBody(commit);
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception = new InterruptedIOException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static <T> void accept(Consumer<T> consumer, T result) {
+        if (null != result) {
+            consumer.accept(result);
+        }
+    }
+
+    /**
+     * Decodes the message of a raw commit the same way as {@link RevCommit#getFullMessage()}.
+     *
+     * @param raw the raw commit object.
+     * @return message.
+     */
+    public static String decodeMessage(byte[] raw) {
+        int messageStart = RawParseUtils.commitMessage(raw, 0);
+        if (messageStart < 0) {
+            return "";
+        }
+        Charset charset;
+        try {
+            charset = RawParseUtils.parseEncoding(raw);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            charset = StandardCharsets.UTF_8;
+        }
+        return RawParseUtils.decode(charset, raw, messageStart, raw.length);
+    }
+
+    /**
+     * Creates daemon worker threads, so a failed build never hangs on them.
+     */
+    private static final class WorkerFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
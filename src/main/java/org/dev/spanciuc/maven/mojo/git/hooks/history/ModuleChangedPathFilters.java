@@ -0,0 +1,299 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectIdOwnerMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An append-only file of per-commit Bloom filters of the changed module directories, the
+ * fallback of the {@link CommitGraphBloomFilters} when git's commit-graph has no changed-path
+ * filters.
+ * <p>
+ * The filter of a commit holds the paths of the modules changed compared with its first parent,
+ * or with the empty tree for a root commit, in the format of {@link ChangedPathBloomFilter}.
+ * Unlike git's filters, an empty filter means that no module was changed and the work tree
+ * root is a module path like any other.
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: a magic number, the format
+ * version and the fingerprint of the module paths. One record per commit follows: the commit id,
+ * the filter length in 2 bytes and the filter bytes. A file built for other module paths is
+ * replaced by a new one moved over it, never truncated, since another process may still have
+ * it mapped. A record left partially written by an interrupted process is dropped on the next
+ * open. New filters are appended on close, under a file lock serialized per file within the
+ * JVM, and only if the file still has the header they were built for. Instances are not
+ * thread-safe.
+ */
+public class ModuleChangedPathFilters implements Closeable {
+
+    /**
+     * The default file, relative to the git directory.
+     */
+    public static final String DEFAULT_FILE = "semantic-version/module-changed-paths.bloom";
+
+    static final int HEADER_SIZE = 40;
+    static final int MAGIC = 0x5356424d;
+    static final int FORMAT_VERSION = 1;
+
+    private static final int FINGERPRINT_OFFSET = 2 * Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = Constants.OBJECT_ID_LENGTH + Short.BYTES;
+    private static final int MAX_FILTER_LENGTH = 0xffff;
+    private static final String PATHS_SEPARATOR = "\n";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Map<Path, Object> IN_PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+
+    private final byte[] modulesFingerprint;
+
+    private final ObjectIdOwnerMap<Filter> filters = new ObjectIdOwnerMap<>();
+
+    private final List<Filter> added = new ArrayList<>();
+
+    private ModuleChangedPathFilters(Path file, Collection<String> modulePaths) {
+        this.file = file;
+        this.modulesFingerprint = HexFormat.of().parseHex(
+                Fingerprints.of(String.join(PATHS_SEPARATOR, new TreeSet<>(modulePaths))));
+    }
+
+    /**
+     * Opens a filters file, creating it if it doesn't exist.
+     * <p>
+     * The file is replaced by an empty one if it was built for other module paths.
+     *
+     * @param file        the filters file.
+     * @param modulePaths the module paths relative to the work tree, separated by '/'.
+     * @return filters.
+     * @throws IllegalArgumentException if any parameter is null.
+     * @throws IOException              if the file cannot be read or written.
+     */
+    public static ModuleChangedPathFilters open(Path file, Collection<String> modulePaths)
+            throws IOException {
+        if (null == file) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_MODULE_FILTERS_FILE));
+        }
+        if (null == modulePaths) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_MODULE_PATHS));
+        }
+        Path absoluteFile = file.toAbsolutePath().normalize();
+        Files.createDirectories(absoluteFile.getParent());
+        ModuleChangedPathFilters filters = new ModuleChangedPathFilters(absoluteFile, modulePaths);
+        synchronized (inProcessLock(absoluteFile)) {
+            try (FileChannel channel = FileChannel.open(absoluteFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                filters.load(channel);
+            }
+        }
+        return filters;
+    }
+
+    /**
+     * Gets the filter of a commit.
+     *
+     * @param commitId the commit id.
+     * @return filter or null if the commit has no filter yet.
+     */
+    public ChangedPathBloomFilter get(AnyObjectId commitId) {
+        Filter filter = filters.get(commitId);
+        return null == filter ? null : filter.filter;
+    }
+
+    /**
+     * Adds the filter of a commit, written on close.
+     *
+     * @param commitId the commit id.
+     * @param filter   the filter of the changed module paths.
+     */
+    public void add(AnyObjectId commitId, ChangedPathBloomFilter filter) {
+        if (filter.getLength() > MAX_FILTER_LENGTH || null != filters.get(commitId)) {
+            return;
+        }
+        Filter entry = new Filter(commitId, filter);
+        filters.add(entry);
+        added.add(entry);
+    }
+
+    /**
+     * Gets the number of commits with a filter.
+     *
+     * @return number of commits.
+     */
+    public int getSize() {
+        return filters.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Appends the added filters.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!added.isEmpty()) {
+            append();
+        }
+    }
+
+    private static Object inProcessLock(Path file) {
+        return IN_PROCESS_LOCKS.computeIfAbsent(file, f -> new Object());
+    }
+
+    /**
+     * Writes the header of a new file, replaces an incompatible file, reads the records and
+     * drops a partially written one.
+     * <p>
+     * The records stay mapped after the channel is closed.
+     */
+    private void load(FileChannel channel) throws IOException {
+        if (0 == channel.size()) {
+            writeFully(channel, header(), 0);
+            return;
+        }
+        if (!hasCompatibleHeader(channel)) {
+            replace();
+            return;
+        }
+        ByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        int position = HEADER_SIZE;
+        byte[] id = new byte[Constants.OBJECT_ID_LENGTH];
+        while (position + RECORD_HEADER_SIZE <= records.limit()) {
+            int length = records.getShort(position + Constants.OBJECT_ID_LENGTH) & 0xffff;
+            int data = position + RECORD_HEADER_SIZE;
+            if (data + length > records.limit()) {
+                break;
+            }
+            records.get(position, id);
+            filters.addIfAbsent(new Filter(ObjectId.fromRaw(id),
+                    new ChangedPathBloomFilter(records, data, length,
+                            ChangedPathBloomFilter.HASH_VERSION_2,
+                            ChangedPathBloomFilter.DEFAULT_NUM_HASHES)));
+            position = data + length;
+        }
+        if (position < records.limit()) {
+            // only the partial record is cut, the records mapped by other processes stay
+            channel.truncate(position);
+        }
+    }
+
+    private ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).put(modulesFingerprint).rewind();
+        return header;
+    }
+
+    /**
+     * Moves a new file with only the header over the file, called under the lock of the
+     * replaced file.
+     */
+    private void replace() throws IOException {
+        Path temporaryFile = Files.createTempFile(file.getParent(),
+                "." + file.getFileName(), TEMPORARY_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile,
+                    StandardOpenOption.WRITE)) {
+                writeFully(channel, header(), 0);
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+    }
+
+    private boolean hasCompatibleHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                return false;
+            }
+        }
+        byte[] fingerprint = new byte[modulesFingerprint.length];
+        header.get(FINGERPRINT_OFFSET, fingerprint);
+        return header.getInt(0) == MAGIC && header.getInt(Integer.BYTES) == FORMAT_VERSION &&
+                Arrays.equals(fingerprint, modulesFingerprint);
+    }
+
+    private void append() throws IOException {
+        int size = 0;
+        for (Filter filter : added) {
+            size += RECORD_HEADER_SIZE + filter.filter.getLength();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (Filter filter : added) {
+            filter.copyRawTo(buffer.array(), buffer.position());
+            buffer.position(buffer.position() + Constants.OBJECT_ID_LENGTH);
+            buffer.putShort((short) filter.filter.getLength());
+            filter.filter.copyTo(buffer);
+        }
+        buffer.flip();
+        synchronized (inProcessLock(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                // a run with other module paths may have replaced the file since it was loaded,
+                // the filters are then built for other module keys and must not be written
+                if (hasCompatibleHeader(channel)) {
+                    // a concurrent process may have appended the same commits, they are skipped
+                    // on load
+                    writeFully(channel, buffer, channel.size());
+                }
+            } catch (NoSuchFileException e) {
+                // the file was removed, the filters are built again on the next run
+            }
+        }
+        added.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+    }
+
+    /**
+     * The filter of a commit.
+     */
+    private static final class Filter extends ObjectIdOwnerMap.Entry {
+
+        private final ChangedPathBloomFilter filter;
+
+        private Filter(AnyObjectId commitId, ChangedPathBloomFilter filter) {
+            super(commitId);
+            this.filter = filter;
+        }
+    }
+}
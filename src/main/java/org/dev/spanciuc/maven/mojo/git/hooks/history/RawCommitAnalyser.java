@@ -0,0 +1,21 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * Analyses a raw commit object, without decoding its message.
+ *
+ * @param <T> the type of the analysis result.
+ */
+@FunctionalInterface
+public interface RawCommitAnalyser<T> {
+
+    /**
+     * Analyses a raw commit object.
+     *
+     * @param commitId the commit id.
+     * @param commit   the raw commit object, must not be retained.
+     * @return analysis result or null if there is nothing to report for the commit.
+     */
+    T analyse(ObjectId commitId, byte[] commit);
+}
@@ -0,0 +1,147 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.metrics;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Collects the durations of the stages of one goal execution.
+ * <p>
+ * Durations are measured with {@link System#nanoTime()}. The classes loaded during the
+ * execution are counted JVM-wide, so modules built in parallel inflate each other's count.
+ * Instances are not thread-safe, every execution has its own.
+ */
+public final class ExecutionMetrics {
+
+    private final String goal;
+
+    private final long startNanos;
+
+    private final long startLoadedClasses;
+
+    private final List<StageTiming> stageTimings = new ArrayList<>();
+
+    private long totalNanos = -1;
+
+    private long loadedClasses = -1;
+
+    /**
+     * Creates metrics of an execution starting now.
+     *
+     * @param goal the goal.
+     * @throws IllegalArgumentException if goal is null.
+     */
+    public ExecutionMetrics(String goal) {
+        if (null == goal) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL, Messages.VALUE_GOAL));
+        }
+        this.goal = goal;
+        this.startLoadedClasses = getTotalLoadedClassCount();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Times a stage.
+     * <p>
+     * The stage is recorded even if the action fails.
+     *
+     * @param stage  the stage.
+     * @param name   the subject of the stage or null.
+     * @param action the stage's action.
+     * @param <T>    the type of the result.
+     * @return the result of the action.
+     */
+    public <T> T time(String stage, String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            stageTimings.add(new StageTiming(stage, name, System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Records a stage that started at the given time and completes now.
+     * <p>
+     * Used for stages that cannot be expressed as an action, e.g. because they throw checked
+     * exceptions.
+     *
+     * @param stage      the stage.
+     * @param name       the subject of the stage or null.
+     * @param startNanos the {@link System#nanoTime()} at the start of the stage.
+     */
+    public void record(String stage, String name, long startNanos) {
+        stageTimings.add(new StageTiming(stage, name, System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Times a stage without subject.
+     *
+     * @param stage  the stage.
+     * @param action the stage's action.
+     */
+    public void time(String stage, Runnable action) {
+        time(stage, null, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Completes the execution, only the first call records the total duration.
+     */
+    public void complete() {
+        if (totalNanos < 0) {
+            totalNanos = System.nanoTime() - startNanos;
+            loadedClasses = getTotalLoadedClassCount() - startLoadedClasses;
+        }
+    }
+
+    /**
+     * Gets the goal.
+     *
+     * @return goal.
+     */
+    public String getGoal() {
+        return goal;
+    }
+
+    /**
+     * Gets an unmodifiable list of the timed stages in completion order.
+     *
+     * @return stage timings.
+     */
+    public List<StageTiming> getStageTimings() {
+        return Collections.unmodifiableList(stageTimings);
+    }
+
+    /**
+     * Gets the total duration of the execution in nanoseconds.
+     *
+     * @return total duration or the duration so far if not completed.
+     */
+    public long getTotalNanos() {
+        return totalNanos < 0 ? System.nanoTime() - startNanos : totalNanos;
+    }
+
+    /**
+     * Gets the number of classes loaded during the execution.
+     *
+     * @return loaded classes or the number loaded so far if not completed.
+     */
+    public long getLoadedClasses() {
+        return loadedClasses < 0 ? getTotalLoadedClassCount() - startLoadedClasses :
+                loadedClasses;
+    }
+
+    private static long getTotalLoadedClassCount() {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        return classLoading.getTotalLoadedClassCount();
+    }
+}
@@ -0,0 +1,21 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.metrics;
+
+/**
+ * Receives the metrics of goal executions.
+ * <p>
+ * Implementations are loaded with {@link java.util.ServiceLoader} from the plugin's class
+ * loader, so they are registered by adding a jar with a
+ * {@code META-INF/services/org.dev.spanciuc.maven.mojo.git.hooks.metrics.ExecutionMetricsListener}
+ * file to the plugin's dependencies. Executions of parallel builds notify listeners
+ * concurrently. A failing listener does not fail the build.
+ */
+public interface ExecutionMetricsListener {
+
+    /**
+     * Called once a goal execution has completed, successfully or not.
+     *
+     * @param metrics the metrics of the execution.
+     */
+    void executionCompleted(ExecutionMetrics metrics);
+
+}
@@ -0,0 +1,139 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.metrics;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+
+/**
+ * Utility class for publishing execution metrics to reports and listeners.
+ */
+public final class ExecutionMetricsReports {
+
+    /**
+     * The total row's stage of CSV reports.
+     */
+    public static final String TOTAL_STAGE = "total";
+
+    private static final String REPORT_FILE_NAME_TEMPLATE = "%s-metrics.%s";
+
+    private static final String CSV_HEADER = "stage,name,nanos";
+
+    /**
+     * To prevent instance creation.
+     */
+    private ExecutionMetricsReports() {
+    }
+
+    /**
+     * Gets the listeners registered in the plugin's class loader.
+     *
+     * @return unmodifiable list of listeners.
+     */
+    public static List<ExecutionMetricsListener> getListeners() {
+        return ListenersHolder.LISTENERS;
+    }
+
+    /**
+     * Writes a report into a directory.
+     * <p>
+     * The report is named after the goal, e.g. {@code add-git-hooks-metrics.json}, and
+     * replaces a previous one.
+     *
+     * @param metrics   the metrics.
+     * @param format    the format.
+     * @param directory the directory, created if missing.
+     * @return the report file or null if the format is {@link MetricsReportFormat#NONE}.
+     * @throws IOException if the report cannot be written.
+     */
+    public static File write(ExecutionMetrics metrics, MetricsReportFormat format,
+                             File directory) throws IOException {
+        if (MetricsReportFormat.NONE == format) {
+            return null;
+        }
+        String content = MetricsReportFormat.JSON == format ? toJson(metrics) : toCsv(metrics);
+        Files.createDirectories(directory.toPath());
+        File report = new File(directory, String.format(REPORT_FILE_NAME_TEMPLATE,
+                metrics.getGoal(), format.name().toLowerCase(Locale.ROOT)));
+        Files.writeString(report.toPath(), content, StandardCharsets.UTF_8);
+        return report;
+    }
+
+    static String toJson(ExecutionMetrics metrics) {
+        StringBuilder json = new StringBuilder("{\"goal\":");
+        appendJsonString(json, metrics.getGoal());
+        json.append(",\"totalNanos\":").append(metrics.getTotalNanos())
+                .append(",\"loadedClasses\":").append(metrics.getLoadedClasses())
+                .append(",\"stages\":[");
+        List<StageTiming> stageTimings = metrics.getStageTimings();
+        for (int i = 0; i < stageTimings.size(); i++) {
+            StageTiming stageTiming = stageTimings.get(i);
+            json.append(i == 0 ? "{\"stage\":" : ",{\"stage\":");
+            appendJsonString(json, stageTiming.getStage());
+            json.append(",\"name\":");
+            appendJsonString(json, stageTiming.getName());
+            json.append(",\"nanos\":").append(stageTiming.getDurationNanos()).append('}');
+        }
+        return json.append("]}\n").toString();
+    }
+
+    static String toCsv(ExecutionMetrics metrics) {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (StageTiming stageTiming : metrics.getStageTimings()) {
+            appendCsvValue(csv, stageTiming.getStage());
+            csv.append(',');
+            appendCsvValue(csv, stageTiming.getName());
+            csv.append(',').append(stageTiming.getDurationNanos()).append('\n');
+        }
+        return csv.append(TOTAL_STAGE).append(",,").append(metrics.getTotalNanos()).append('\n')
+                .toString();
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        if (null == value) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < ' ') {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static void appendCsvValue(StringBuilder csv, String value) {
+        if (null == value) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            csv.append(value);
+            return;
+        }
+        csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * Loads the listeners once, on first use.
+     */
+    private static final class ListenersHolder {
+
+        private static final List<ExecutionMetricsListener> LISTENERS =
+                ServiceLoader.load(ExecutionMetricsListener.class,
+                                ExecutionMetricsReports.class.getClassLoader())
+                        .stream()
+                        .map(ServiceLoader.Provider::get)
+                        .toList();
+    }
+}
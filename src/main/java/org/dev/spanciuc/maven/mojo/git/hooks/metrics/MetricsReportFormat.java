@@ -0,0 +1,22 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.metrics;
+
+/**
+ * The formats of execution metrics reports.
+ */
+public enum MetricsReportFormat {
+
+    /**
+     * No report is written.
+     */
+    NONE,
+
+    /**
+     * A JSON object with the goal, the total duration and the list of stages.
+     */
+    JSON,
+
+    /**
+     * A CSV file with a {@code stage,name,nanos} row per stage and a {@code total} row.
+     */
+    CSV
+}
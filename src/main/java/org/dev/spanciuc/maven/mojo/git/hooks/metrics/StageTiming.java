@@ -0,0 +1,34 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.metrics;
+
+import lombok.Value;
+
+/**
+ * A class to hold the duration of a timed stage of a goal execution.
+ */
+@Value
+public class StageTiming {
+
+    /**
+     * The stage, e.g. {@code checks}.
+     *
+     * @return stage.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String stage;
+
+    /**
+     * The subject of the stage, e.g. the hook file name, or null if the stage has none.
+     *
+     * @return name.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String name;
+
+    /**
+     * The duration in nanoseconds.
+     *
+     * @return duration.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    long durationNanos;
+}
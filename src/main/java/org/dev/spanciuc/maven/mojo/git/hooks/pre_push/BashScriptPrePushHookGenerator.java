@@ -0,0 +1,171 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.pre_push;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.AtomicFileWriter;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.BashScripts;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.CompiledTemplate;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.LruCache;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A class representing bash script pre-push hook generator.
+ * <p>
+ * The generated hook validates the headers of the commits being pushed, which the commit-msg
+ * hook cannot enforce when it is bypassed with {@code --no-verify}. Only the commits missing on
+ * the remote are validated: {@code remote..local} for an updated ref and the commits not on any
+ * remote-tracking branch for a new ref. Each pushed ref costs one {@code git log} call whatever
+ * the number of commits, headers are matched with bash's built-in regular expressions.
+ */
+public class BashScriptPrePushHookGenerator implements GitHookFileGenerator {
+
+    private final PrePushConfiguration configuration;
+
+    /**
+     * Creates a generator instance for given configuration.
+     *
+     * @param configuration the pre-push hook configuration.
+     * @throws IllegalArgumentException if configuration object is null.
+     */
+    public BashScriptPrePushHookGenerator(PrePushConfiguration configuration) {
+        if (null == configuration) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_PRE_PUSH_CONFIGURATION));
+        }
+        this.configuration = configuration;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException    if trying to generate a disabled hook.
+     * @throws IllegalArgumentException if parentDirectory is null.
+     * @throws RuntimeIOException       if the file cannot be written.
+     */
+    @Override
+    public File generate(File parentDirectory, FileWriteOptions writeOptions) {
+        if (!configuration.isEnabled()) {
+            throw new IllegalStateException(
+                    Messages.MESSAGE_CALLED_GENERATE_METHOD_ON_DISABLED_HOOK_MESSAGE);
+        }
+        if (null == parentDirectory) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_PARENT_DIRECTORY));
+        }
+        File file = new File(parentDirectory, configuration.getFileName());
+        try {
+            AtomicFileWriter.write(file.toPath(),
+                    BashScriptContentBuilder.build(configuration)
+                            .getBytes(StandardCharsets.UTF_8), writeOptions);
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+        return file;
+    }
+
+    /**
+     * Gets the pre-push hook filename.
+     *
+     * @return the filename.
+     */
+    @Override
+    public String getFileName() {
+        return configuration.getFileName();
+    }
+
+    /**
+     * Gets the fingerprint of the rendered script content.
+     *
+     * @return hex encoded fingerprint.
+     */
+    @Override
+    public String getFingerprint() {
+        return Fingerprints.of(BashScriptContentBuilder.build(configuration));
+    }
+
+    static final class BashScriptContentBuilder {
+
+        private static final String TEMPLATE_TYPES_DELIMITER = "|";
+        private static final String TEMPLATE_HEADER_PATTERN = "^(%s)(\\(.+\\))?!?: .+$";
+        private static final String TEMPLATE_SCRIPT_START = """
+                #!/usr/bin/env bash
+                header_pattern=%s
+                invalid=0
+                while read -r local_ref local_sha remote_ref remote_sha; do
+                    # deleted refs have no commits to validate
+                    if [[ "$local_sha" =~ ^0+$ ]]; then
+                        continue
+                    fi
+                    if [[ "$remote_sha" =~ ^0+$ ]] || \\
+                            ! git cat-file -e "$remote_sha^{commit}" 2>/dev/null; then
+                        range=("$local_sha" --not --remotes)
+                    else
+                        range=("$remote_sha..$local_sha")
+                    fi
+                    while IFS= read -r -d '' commit; do
+                        sha="${commit%%$'\\n'*}"
+                        body="${commit#*$'\\n'}"
+                        header="${body%%$'\\n'*}"
+                        if [[ ! "$header" =~ $header_pattern ]]; then
+                            echo "Aborting push. Commit $sha of $local_ref has an invalid message:" >&2
+                            echo "$header" >&2
+                            invalid=1
+                """;
+        private static final String TEMPLATE_HEADER_LENGTH_CHECK = """
+                        elif (( ${#header} > %s )); then
+                            echo "Aborting push. Commit $sha of $local_ref has a too long message. Max %s characters allowed." >&2
+                            echo "$header" >&2
+                            invalid=1
+                """;
+        private static final String TEMPLATE_SCRIPT_END = """
+                        fi
+                    done < <(git log -z --no-merges --format='%H%n%B' "${range[@]}")
+                done
+                exit $invalid
+                """;
+        private static final CompiledTemplate HEADER_PATTERN =
+                CompiledTemplate.compile(TEMPLATE_HEADER_PATTERN);
+        private static final CompiledTemplate SCRIPT_START =
+                CompiledTemplate.compile(TEMPLATE_SCRIPT_START);
+        private static final CompiledTemplate HEADER_LENGTH_CHECK =
+                CompiledTemplate.compile(TEMPLATE_HEADER_LENGTH_CHECK);
+
+        /**
+         * The max number of rendered scripts kept in memory.
+         */
+        static final int RENDERED_SCRIPTS_CACHE_SIZE = 16;
+        private static final LruCache<PrePushConfiguration, String> RENDERED_SCRIPTS =
+                new LruCache<>(RENDERED_SCRIPTS_CACHE_SIZE);
+
+        private BashScriptContentBuilder() {
+        }
+
+        public static String build(PrePushConfiguration configuration) {
+            if (null == configuration) {
+                throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+            }
+            return RENDERED_SCRIPTS.computeIfAbsent(configuration,
+                    BashScriptContentBuilder::render);
+        }
+
+        private static String render(PrePushConfiguration configuration) {
+            String headerPattern = HEADER_PATTERN.render(
+                    String.join(TEMPLATE_TYPES_DELIMITER, configuration.getTypes()));
+            StringBuilder scriptContent = new StringBuilder();
+            SCRIPT_START.renderTo(scriptContent, BashScripts.quote(headerPattern));
+            if (configuration.hasHeaderMaxLengthRestriction()) {
+                int headerMaxLength = configuration.getHeaderMaxLength();
+                HEADER_LENGTH_CHECK.renderTo(scriptContent, headerMaxLength, headerMaxLength);
+            }
+            return scriptContent.append(TEMPLATE_SCRIPT_END).toString();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.pre_push;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.ParameterSanitizer;
+
+import java.util.Collections;
+import java.util.SortedSet;
+
+/**
+ * A class represents a pre-push hook configuration.
+ * <p>
+ * Pushed commits are validated with the same rules as the commit-msg hook.
+ */
+@Value
+public class PrePushConfiguration implements GitHookConfiguration {
+
+    /**
+     * Whether the hook is enabled.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean enabled;
+
+    /**
+     * The hook's file name.
+     *
+     * @return fileName.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String fileName;
+
+    /**
+     * The max allowed length for commit header. For unrestricted length
+     * use:{@value
+     * CommitMsgConfiguration#UNRESTRICTED_HEADER_MAX_LENGTH_VALUE}
+     *
+     * @return max allowed length.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int headerMaxLength;
+
+    /**
+     * The allowed commit types.
+     *
+     * @return allowed commit types.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    SortedSet<String> types;
+
+    /**
+     * Creates an instance with the given parameters.
+     * <p>
+     * This method sanitizes and validates the parameters.
+     *
+     * @param parameters the parameters.
+     * @throws IllegalArgumentException if parameters object is null.
+     * @throws IllegalArgumentException if parameters object has invalid file name.
+     * @throws IllegalArgumentException if parameters object has invalid header max length.
+     * @throws IllegalArgumentException if parameters object has invalid types.
+     */
+    public PrePushConfiguration(PrePushParameters parameters) {
+        if (null == parameters) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_PRE_PUSH_PARAMETERS));
+        }
+        this.enabled = parameters.isEnabled();
+        this.fileName = ParameterSanitizer.sanitizeRequiredStringParameter(
+                parameters.getFileName(), Messages.VALUE_FILE_NAME);
+        this.headerMaxLength =
+                CommitMsgConfiguration.sanitizeHeaderMaxLength(parameters.getHeaderMaxLength());
+        this.types = Collections.unmodifiableSortedSet(
+                CommitMsgConfiguration.parseTypes(parameters.getTypes()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GitHookFileGenerator getGitHookFileGenerator() {
+        return new BashScriptPrePushHookGenerator(this);
+    }
+
+    /**
+     * Checks if commit header has length restriction.
+     *
+     * @return true if it has restriction, otherwise - false.
+     */
+    public boolean hasHeaderMaxLengthRestriction() {
+        return headerMaxLength != CommitMsgConfiguration.UNRESTRICTED_HEADER_MAX_LENGTH_VALUE;
+    }
+}
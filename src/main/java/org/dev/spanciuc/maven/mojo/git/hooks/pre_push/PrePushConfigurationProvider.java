@@ -0,0 +1,41 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.pre_push;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfigurationProvider;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHooksParameters;
+
+/**
+ * Provides the pre-push hook configuration.
+ */
+public class PrePushConfigurationProvider implements GitHookConfigurationProvider {
+
+    /**
+     * The name of the provided hook.
+     */
+    public static final String HOOK_NAME = "pre-push";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getHookName() {
+        return HOOK_NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled(GitHooksParameters gitHooksParameters) {
+        return null != gitHooksParameters.getPrePush() &&
+                gitHooksParameters.getPrePush().isEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GitHookConfiguration create(GitHooksParameters gitHooksParameters) {
+        return new PrePushConfiguration(gitHooksParameters.getPrePush());
+    }
+}
@@ -0,0 +1,83 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.pre_push;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+
+/**
+ * A class to hold pre-push hook configuration's parameters.
+ */
+@Value
+public class PrePushParameters {
+
+    /**
+     * The default value for file name.
+     */
+    public static final String DEFAULT_FILE_NAME = "pre-push";
+
+    /**
+     * The default enabled value as string.
+     */
+    public static final String DEFAULT_ENABLED_AS_STRING = "false";
+
+    /**
+     * The default enabled value.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_ENABLED = Boolean.parseBoolean(DEFAULT_ENABLED_AS_STRING);
+
+    /**
+     * Whether the hook is enabled.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean enabled;
+
+    /**
+     * The hook's file name.
+     *
+     * @return fileName.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String fileName;
+
+    /**
+     * The max allowed length for the header of pushed commits.
+     *
+     * @return max allowed length.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int headerMaxLength;
+
+    /**
+     * The allowed commit types of pushed commits, as comma separated values.
+     *
+     * @return allowed commit types.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String types;
+
+    /**
+     * Creates an instance with parameters.
+     *
+     * @param enabled         enabled parameter.
+     * @param fileName        fileName parameter.
+     * @param headerMaxLength headerMaxLength parameter.
+     * @param types           types parameter.
+     */
+    public PrePushParameters(boolean enabled, String fileName, int headerMaxLength,
+                             String types) {
+        this.enabled = enabled;
+        this.fileName = fileName;
+        this.headerMaxLength = headerMaxLength;
+        this.types = types;
+    }
+
+    /**
+     * Creates an instance with default values.
+     */
+    public PrePushParameters() {
+        this(DEFAULT_ENABLED, DEFAULT_FILE_NAME, CommitMsgParameters.DEFAULT_HEADER_MAX_LENGTH,
+                CommitMsgParameters.DEFAULT_TYPES);
+    }
+}
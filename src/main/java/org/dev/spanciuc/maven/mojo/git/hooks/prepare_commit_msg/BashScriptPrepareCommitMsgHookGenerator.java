@@ -0,0 +1,190 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.AtomicFileWriter;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.BashScripts;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.CompiledTemplate;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.LruCache;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A class representing bash script prepare-commit-msg hook generator.
+ * <p>
+ * The generated hook pre-fills an empty commit message with a conventional commit header. The
+ * type is the first segment of the branch name, e.g. {@code feat} for {@code feat/login}, if
+ * it's an allowed type. The scope is the module of the staged paths, if they all belong to the
+ * same one. Module scopes are embedded in the script as a case statement, so the hook starts
+ * no JVM and runs only two git commands.
+ */
+public class BashScriptPrepareCommitMsgHookGenerator implements GitHookFileGenerator {
+
+    private final PrepareCommitMsgConfiguration configuration;
+
+    /**
+     * Creates a generator instance for given configuration.
+     *
+     * @param configuration the prepare-commit-msg hook configuration.
+     * @throws IllegalArgumentException if configuration object is null.
+     */
+    public BashScriptPrepareCommitMsgHookGenerator(PrepareCommitMsgConfiguration configuration) {
+        if (null == configuration) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_PREPARE_COMMIT_MESSAGE_CONFIGURATION));
+        }
+        this.configuration = configuration;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException    if trying to generate a disabled hook.
+     * @throws IllegalArgumentException if parentDirectory is null.
+     * @throws RuntimeIOException       if the file cannot be written.
+     */
+    @Override
+    public File generate(File parentDirectory, FileWriteOptions writeOptions) {
+        if (!configuration.isEnabled()) {
+            throw new IllegalStateException(
+                    Messages.MESSAGE_CALLED_GENERATE_METHOD_ON_DISABLED_HOOK_MESSAGE);
+        }
+        if (null == parentDirectory) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_PARENT_DIRECTORY));
+        }
+        File file = new File(parentDirectory, configuration.getFileName());
+        try {
+            AtomicFileWriter.write(file.toPath(),
+                    BashScriptContentBuilder.build(configuration)
+                            .getBytes(StandardCharsets.UTF_8), writeOptions);
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+        return file;
+    }
+
+    /**
+     * Gets the prepare-commit-msg hook filename.
+     *
+     * @return the filename.
+     */
+    @Override
+    public String getFileName() {
+        return configuration.getFileName();
+    }
+
+    /**
+     * Gets the fingerprint of the rendered script content.
+     *
+     * @return hex encoded fingerprint.
+     */
+    @Override
+    public String getFingerprint() {
+        return Fingerprints.of(BashScriptContentBuilder.build(configuration));
+    }
+
+    static final class BashScriptContentBuilder {
+
+        public static final String LINE_SEPARATOR = "\n";
+        private static final String TEMPLATE_TYPES_DELIMITER = "|";
+        private static final String TEMPLATE_SCRIPT_START = """
+                #!/usr/bin/env bash
+                # only messages git did not pre-fill and the user did not type yet
+                if [[ -n "$2" && "$2" != "template" ]]; then
+                    exit 0
+                fi
+                IFS= read -r first_line < "$1"
+                if [[ -n "$first_line" && "$first_line" != \\#* ]]; then
+                    exit 0
+                fi
+                branch=$(git symbolic-ref --quiet --short HEAD 2>/dev/null) || exit 0
+                IFS=/ read -r type _ <<< "$branch"
+                case "$type" in
+                    %s) ;;
+                    *) exit 0 ;;
+                esac
+                scope=""
+                """;
+        private static final String TEMPLATE_SCOPE_LOOKUP_START = """
+                while IFS= read -r path; do
+                    case "$path" in
+                """;
+        private static final String TEMPLATE_SCOPE_LOOKUP_ENTRY = """
+                        %s*) path_scope=%s ;;
+                """;
+        private static final String TEMPLATE_SCOPE_LOOKUP_END = """
+                        *) continue ;;
+                    esac
+                    if [[ -z "$scope" ]]; then
+                        scope="$path_scope"
+                    elif [[ "$scope" != "$path_scope" ]]; then
+                        scope=""
+                        break
+                    fi
+                done < <(git diff --cached --name-only)
+                """;
+        private static final String TEMPLATE_SCRIPT_END = """
+                message=$(<"$1")
+                printf '%s\\n%s\\n' "$type${scope:+($scope)}: " "$message" > "$1"
+                """;
+        private static final CompiledTemplate SCRIPT_START =
+                CompiledTemplate.compile(TEMPLATE_SCRIPT_START);
+        private static final CompiledTemplate SCOPE_LOOKUP_ENTRY =
+                CompiledTemplate.compile(TEMPLATE_SCOPE_LOOKUP_ENTRY);
+
+        /**
+         * The max number of rendered scripts kept in memory.
+         */
+        static final int RENDERED_SCRIPTS_CACHE_SIZE = 16;
+        private static final LruCache<PrepareCommitMsgConfiguration, String> RENDERED_SCRIPTS =
+                new LruCache<>(RENDERED_SCRIPTS_CACHE_SIZE);
+
+        private BashScriptContentBuilder() {
+        }
+
+        public static String build(PrepareCommitMsgConfiguration configuration) {
+            if (null == configuration) {
+                throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+            }
+            return RENDERED_SCRIPTS.computeIfAbsent(configuration,
+                    BashScriptContentBuilder::render);
+        }
+
+        private static String render(PrepareCommitMsgConfiguration configuration) {
+            List<String> quotedTypes = new ArrayList<>();
+            for (String type : configuration.getTypes()) {
+                quotedTypes.add(BashScripts.quote(type));
+            }
+            StringBuilder scriptContent = new StringBuilder();
+            SCRIPT_START.renderTo(scriptContent,
+                    String.join(TEMPLATE_TYPES_DELIMITER, quotedTypes));
+            if (!configuration.getModuleScopes().isEmpty()) {
+                scriptContent.append(TEMPLATE_SCOPE_LOOKUP_START);
+                // case takes the first matching pattern, nested modules must come first
+                List<Map.Entry<String, String>> moduleScopes =
+                        new ArrayList<>(configuration.getModuleScopes().entrySet());
+                moduleScopes.sort(Comparator.comparing(
+                        (Map.Entry<String, String> entry) -> entry.getKey().length()).reversed());
+                for (Map.Entry<String, String> moduleScope : moduleScopes) {
+                    SCOPE_LOOKUP_ENTRY.renderTo(scriptContent,
+                            BashScripts.quote(moduleScope.getKey() + "/"),
+                            BashScripts.quote(moduleScope.getValue()));
+                }
+                scriptContent.append(TEMPLATE_SCOPE_LOOKUP_END);
+            }
+            return scriptContent.append(TEMPLATE_SCRIPT_END).toString();
+        }
+    }
+}
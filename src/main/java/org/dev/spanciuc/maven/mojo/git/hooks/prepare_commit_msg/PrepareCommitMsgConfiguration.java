@@ -0,0 +1,125 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookFileGenerator;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.ParameterSanitizer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+/**
+ * A class represents a prepare-commit-msg hook configuration.
+ */
+@Value
+public class PrepareCommitMsgConfiguration implements GitHookConfiguration {
+
+    private static final char PATH_SEPARATOR = '/';
+
+    /**
+     * Whether the hook is enabled.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean enabled;
+
+    /**
+     * The hook's file name.
+     *
+     * @return fileName.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String fileName;
+
+    /**
+     * The commit types a branch name may start with.
+     *
+     * @return commit types.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    SortedSet<String> types;
+
+    /**
+     * The scopes by module path, paths use '/' separators without leading or trailing one.
+     *
+     * @return module scopes.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    SortedMap<String, String> moduleScopes;
+
+    /**
+     * Creates an instance with the given parameters.
+     * <p>
+     * This method sanitizes and validates the parameters. Modules at the work tree root have no
+     * scope and are ignored.
+     *
+     * @param parameters the parameters.
+     * @throws IllegalArgumentException if parameters object is null.
+     * @throws IllegalArgumentException if parameters object has invalid file name.
+     * @throws IllegalArgumentException if parameters object has invalid types.
+     * @throws IllegalArgumentException if parameters object has invalid module scopes.
+     */
+    public PrepareCommitMsgConfiguration(PrepareCommitMsgParameters parameters) {
+        if (null == parameters) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_PREPARE_COMMIT_MESSAGE_PARAMETERS));
+        }
+        this.enabled = parameters.isEnabled();
+        this.fileName = ParameterSanitizer.sanitizeRequiredStringParameter(
+                parameters.getFileName(), Messages.VALUE_FILE_NAME);
+        this.types = Collections.unmodifiableSortedSet(
+                CommitMsgConfiguration.parseTypes(parameters.getTypes()));
+        this.moduleScopes = Collections.unmodifiableSortedMap(
+                sanitizeModuleScopes(parameters.getModuleScopes()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GitHookFileGenerator getGitHookFileGenerator() {
+        return new BashScriptPrepareCommitMsgHookGenerator(this);
+    }
+
+    private static SortedMap<String, String> sanitizeModuleScopes(
+            Map<String, String> moduleScopes) {
+        SortedMap<String, String> result = new TreeMap<>();
+        if (null == moduleScopes) {
+            return result;
+        }
+        for (Map.Entry<String, String> moduleScope : moduleScopes.entrySet()) {
+            String path = sanitizeModulePath(moduleScope.getKey());
+            String scope = ParameterSanitizer.sanitizeRequiredStringParameter(
+                    moduleScope.getValue(), Messages.VALUE_SCOPE_NAME);
+            if (!path.isEmpty()) {
+                result.put(path, scope);
+            }
+        }
+        return result;
+    }
+
+    private static String sanitizeModulePath(String path) {
+        if (null == path) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_MODULE_PATH));
+        }
+        String sanitized = path.strip().replace('\\', PATH_SEPARATOR);
+        int start = 0;
+        int end = sanitized.length();
+        while (start < end && sanitized.charAt(start) == PATH_SEPARATOR) {
+            start++;
+        }
+        while (end > start && sanitized.charAt(end - 1) == PATH_SEPARATOR) {
+            end--;
+        }
+        return sanitized.substring(start, end);
+    }
+}
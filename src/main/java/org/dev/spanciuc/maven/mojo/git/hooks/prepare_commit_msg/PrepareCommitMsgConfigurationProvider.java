@@ -0,0 +1,41 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHookConfigurationProvider;
+import org.dev.spanciuc.maven.mojo.git.hooks.GitHooksParameters;
+
+/**
+ * Provides the prepare-commit-msg hook configuration.
+ */
+public class PrepareCommitMsgConfigurationProvider implements GitHookConfigurationProvider {
+
+    /**
+     * The name of the provided hook.
+     */
+    public static final String HOOK_NAME = "prepare-commit-msg";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getHookName() {
+        return HOOK_NAME;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled(GitHooksParameters gitHooksParameters) {
+        return null != gitHooksParameters.getPrepareCommitMsg() &&
+                gitHooksParameters.getPrepareCommitMsg().isEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GitHookConfiguration create(GitHooksParameters gitHooksParameters) {
+        return new PrepareCommitMsgConfiguration(gitHooksParameters.getPrepareCommitMsg());
+    }
+}
@@ -0,0 +1,84 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+
+import java.util.Map;
+
+/**
+ * A class to hold prepare-commit-msg hook configuration's parameters.
+ */
+@Value
+public class PrepareCommitMsgParameters {
+
+    /**
+     * The default value for file name.
+     */
+    public static final String DEFAULT_FILE_NAME = "prepare-commit-msg";
+
+    /**
+     * The default enabled value as string.
+     */
+    public static final String DEFAULT_ENABLED_AS_STRING = "false";
+
+    /**
+     * The default enabled value.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_ENABLED = Boolean.parseBoolean(DEFAULT_ENABLED_AS_STRING);
+
+    /**
+     * Whether the hook is enabled.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean enabled;
+
+    /**
+     * The hook's file name.
+     *
+     * @return fileName.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String fileName;
+
+    /**
+     * The commit types a branch name may start with, as comma separated values.
+     *
+     * @return commit types.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String types;
+
+    /**
+     * The scopes by module path, relative to the work tree root.
+     *
+     * @return module scopes.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    Map<String, String> moduleScopes;
+
+    /**
+     * Creates an instance with parameters.
+     *
+     * @param enabled      enabled parameter.
+     * @param fileName     fileName parameter.
+     * @param types        types parameter.
+     * @param moduleScopes moduleScopes parameter.
+     */
+    public PrepareCommitMsgParameters(boolean enabled, String fileName, String types,
+                                      Map<String, String> moduleScopes) {
+        this.enabled = enabled;
+        this.fileName = fileName;
+        this.types = types;
+        this.moduleScopes = moduleScopes;
+    }
+
+    /**
+     * Creates an instance with default values.
+     */
+    public PrepareCommitMsgParameters() {
+        this(DEFAULT_ENABLED, DEFAULT_FILE_NAME, CommitMsgParameters.DEFAULT_TYPES, Map.of());
+    }
+}
@@ -0,0 +1,157 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.TypeMatcher;
+
+/**
+ * A reusable holder of the offsets and flags of a conventional commit parsed from a raw commit
+ * buffer.
+ * <p>
+ * Offsets are indexes in the parsed buffer, ends are exclusive. A holder is meant to be reused
+ * for every commit of a scan, so parsing allocates nothing. Instances are not thread-safe.
+ */
+public final class RawCommitHeader {
+
+    /**
+     * The offset value when the element is not present.
+     */
+    public static final int NOT_PRESENT = -1;
+
+    int headerStart;
+    int headerEnd;
+    int headerLength;
+    int typeOrdinal;
+    int typeEnd;
+    int scopeStart;
+    int scopeEnd;
+    int descriptionStart;
+    boolean breakingMark;
+    int breakingFooterStart;
+
+    /**
+     * Creates an empty holder.
+     */
+    public RawCommitHeader() {
+        reset(0);
+    }
+
+    void reset(int start) {
+        headerStart = start;
+        headerEnd = start;
+        headerLength = 0;
+        typeOrdinal = TypeMatcher.NO_MATCH;
+        typeEnd = NOT_PRESENT;
+        scopeStart = NOT_PRESENT;
+        scopeEnd = NOT_PRESENT;
+        descriptionStart = NOT_PRESENT;
+        breakingMark = false;
+        breakingFooterStart = NOT_PRESENT;
+    }
+
+    /**
+     * Checks if the header follows the conventional commit format.
+     *
+     * @return true if conventional, otherwise - false.
+     */
+    public boolean isConventional() {
+        return TypeMatcher.NO_MATCH != typeOrdinal;
+    }
+
+    /**
+     * Checks if the commit is a breaking change, marked with '!' or a breaking change footer.
+     *
+     * @return true if breaking, otherwise - false.
+     */
+    public boolean isBreaking() {
+        return breakingMark || NOT_PRESENT != breakingFooterStart;
+    }
+
+    /**
+     * Checks if the type or scope is followed by the breaking change mark '!'.
+     *
+     * @return true if marked, otherwise - false.
+     */
+    public boolean hasBreakingMark() {
+        return breakingMark;
+    }
+
+    /**
+     * Gets the offset of the first breaking change footer.
+     *
+     * @return offset or {@value #NOT_PRESENT}.
+     */
+    public int getBreakingFooterStart() {
+        return breakingFooterStart;
+    }
+
+    /**
+     * Gets the offset of the header, the first line of the message.
+     *
+     * @return header start.
+     */
+    public int getHeaderStart() {
+        return headerStart;
+    }
+
+    /**
+     * Gets the end offset of the header, excluding the line terminator.
+     *
+     * @return header end.
+     */
+    public int getHeaderEnd() {
+        return headerEnd;
+    }
+
+    /**
+     * Gets the length of the header in characters, as counted by {@link String#length()}.
+     *
+     * @return header length.
+     */
+    public int getHeaderLength() {
+        return headerLength;
+    }
+
+    /**
+     * Gets the ordinal of the type in the configuration's {@link TypeMatcher}.
+     *
+     * @return type ordinal or {@value TypeMatcher#NO_MATCH} if the header is not conventional.
+     */
+    public int getTypeOrdinal() {
+        return typeOrdinal;
+    }
+
+    /**
+     * Gets the end offset of the type.
+     *
+     * @return type end or {@value #NOT_PRESENT}.
+     */
+    public int getTypeEnd() {
+        return typeEnd;
+    }
+
+    /**
+     * Gets the offset of the scope, after '('.
+     *
+     * @return scope start or {@value #NOT_PRESENT}.
+     */
+    public int getScopeStart() {
+        return scopeStart;
+    }
+
+    /**
+     * Gets the end offset of the scope, at ')'.
+     *
+     * @return scope end or {@value #NOT_PRESENT}.
+     */
+    public int getScopeEnd() {
+        return scopeEnd;
+    }
+
+    /**
+     * Gets the offset of the description, after ': '. The description ends at the header end.
+     *
+     * @return description start or {@value #NOT_PRESENT}.
+     */
+    public int getDescriptionStart() {
+        return descriptionStart;
+    }
+}
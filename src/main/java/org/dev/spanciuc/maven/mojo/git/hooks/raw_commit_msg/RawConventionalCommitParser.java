@@ -0,0 +1,215 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgValidationResult;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.TypeMatcher;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.util.RawParseUtils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+
+/**
+ * A conventional commit parser working on raw commit object buffers, ex.
+ * {@link org.eclipse.jgit.revwalk.RevCommit#getRawBuffer()}.
+ * <p>
+ * It follows the same rules as {@link ConventionalCommitParser}, but reads the UTF-8 bytes of
+ * the message in place and only fills the offsets and flags of a reusable
+ * {@link RawCommitHeader}, so no string is decoded and nothing is allocated per commit.
+ * <p>
+ * Commits declaring another encoding than UTF-8 are not parsed, the caller decodes them and
+ * falls back to {@link ConventionalCommitParser}. Instances are immutable and thread-safe.
+ */
+public class RawConventionalCommitParser {
+
+    private static final byte[] BREAKING_CHANGE_TOKEN =
+            ConventionalCommitParser.BREAKING_CHANGE_TOKEN.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BREAKING_CHANGE_TOKEN_SYNONYM =
+            ConventionalCommitParser.BREAKING_CHANGE_TOKEN_SYNONYM.getBytes(
+                    StandardCharsets.US_ASCII);
+    private static final byte SCOPE_START = '(';
+    private static final byte SCOPE_END = ')';
+    private static final byte BREAKING_MARK = '!';
+    private static final byte DESCRIPTION_SEPARATOR = ':';
+    private static final byte SPACE = ' ';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int NOT_FOUND = -1;
+
+    private final CommitMsgConfiguration configuration;
+
+    private final TypeMatcher typeMatcher;
+
+    /**
+     * Creates a parser for the given configuration.
+     *
+     * @param configuration the commit-msg configuration.
+     * @throws IllegalArgumentException if configuration is null.
+     */
+    public RawConventionalCommitParser(CommitMsgConfiguration configuration) {
+        if (null == configuration) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_COMMIT_MESSAGE_CONFIGURATION));
+        }
+        this.configuration = configuration;
+        this.typeMatcher = configuration.getTypeMatcher();
+    }
+
+    /**
+     * Parses the message of a raw commit object.
+     *
+     * @param commit the raw commit object.
+     * @param header the holder of the result.
+     * @return true if parsed, false if the commit declares an encoding other than UTF-8.
+     */
+    public boolean parseCommit(byte[] commit, RawCommitHeader header) {
+        if (NOT_FOUND != RawParseUtils.encoding(commit, 0) && !isUtf8(commit)) {
+            return false;
+        }
+        int messageStart = RawParseUtils.commitMessage(commit, 0);
+        if (messageStart < 0) {
+            header.reset(commit.length);
+            return true;
+        }
+        parseMessage(commit, messageStart, commit.length, header);
+        return true;
+    }
+
+    /**
+     * Parses a UTF-8 encoded commit message.
+     *
+     * @param buffer the buffer.
+     * @param start  the start index of the message.
+     * @param end    the end index of the message, exclusive.
+     * @param header the holder of the result.
+     */
+    public void parseMessage(byte[] buffer, int start, int end, RawCommitHeader header) {
+        header.reset(start);
+        int headerEnd = headerEnd(buffer, start, end);
+        header.headerEnd = headerEnd;
+        header.headerLength = charCount(buffer, start, headerEnd);
+
+        int ordinal = typeMatcher.match(buffer, start, headerEnd);
+        if (TypeMatcher.NO_MATCH == ordinal) {
+            return;
+        }
+        int typeEnd = start + typeMatcher.getTypeByteLength(ordinal);
+        int scopeEnd = scopeEnd(buffer, headerEnd, typeEnd);
+        if (NOT_FOUND == scopeEnd) {
+            return;
+        }
+        header.typeOrdinal = ordinal;
+        header.typeEnd = typeEnd;
+        if (scopeEnd != typeEnd) {
+            header.scopeStart = typeEnd + 1;
+            header.scopeEnd = scopeEnd - 1;
+        }
+        header.breakingMark = buffer[scopeEnd] == BREAKING_MARK;
+        header.descriptionStart = scopeEnd + (header.breakingMark ? 3 : 2);
+        header.breakingFooterStart = breakingFooterStart(buffer, headerEnd, end);
+    }
+
+    /**
+     * Validates a parsed header the same way as
+     * {@link ConventionalCommitParser#validate(CharSequence)}.
+     *
+     * @param header the parsed header.
+     * @return validation result.
+     */
+    public CommitMsgValidationResult validate(RawCommitHeader header) {
+        if (!header.isConventional()) {
+            return CommitMsgValidationResult.INVALID_FORMAT;
+        }
+        if (configuration.hasHeaderMaxLengthRestriction() &&
+                header.getHeaderLength() > configuration.getHeaderMaxLength()) {
+            return CommitMsgValidationResult.HEADER_TOO_LONG;
+        }
+        return CommitMsgValidationResult.VALID;
+    }
+
+    private static int scopeEnd(byte[] buffer, int headerEnd, int typeEnd) {
+        if (buffer[typeEnd] != SCOPE_START) {
+            return hasDescription(buffer, headerEnd, typeEnd) ? typeEnd : NOT_FOUND;
+        }
+        for (int i = typeEnd + 2; i < headerEnd; i++) {
+            if (buffer[i] == SCOPE_END && hasDescription(buffer, headerEnd, i + 1)) {
+                return i + 1;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean hasDescription(byte[] buffer, int headerEnd, int index) {
+        int i = index;
+        if (i < headerEnd && buffer[i] == BREAKING_MARK) {
+            i++;
+        }
+        return i + 2 < headerEnd && buffer[i] == DESCRIPTION_SEPARATOR &&
+                buffer[i + 1] == SPACE;
+    }
+
+    private static int breakingFooterStart(byte[] buffer, int headerEnd, int end) {
+        for (int i = headerEnd; i < end; i++) {
+            if (buffer[i] == LINE_FEED) {
+                int lineStart = i + 1;
+                if (startsWith(buffer, lineStart, end, BREAKING_CHANGE_TOKEN) ||
+                        startsWith(buffer, lineStart, end, BREAKING_CHANGE_TOKEN_SYNONYM)) {
+                    return lineStart;
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static int headerEnd(byte[] buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buffer[i] == LINE_FEED) {
+                return i > start && buffer[i - 1] == CARRIAGE_RETURN ? i - 1 : i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Counts the UTF-16 characters of UTF-8 bytes: every byte except continuation bytes starts
+     * a character, 4 byte sequences are surrogate pairs.
+     */
+    private static int charCount(byte[] buffer, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            int b = buffer[i];
+            if ((b & 0xC0) != 0x80) {
+                count += (b & 0xF8) == 0xF0 ? 2 : 1;
+            }
+        }
+        return count;
+    }
+
+    private static boolean startsWith(byte[] buffer, int offset, int end, byte[] prefix) {
+        if (offset + prefix.length > end) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUtf8(byte[] commit) {
+        Charset charset;
+        try {
+            charset = RawParseUtils.parseEncoding(commit);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            // JGit decodes messages of unknown encodings as UTF-8 too
+            return true;
+        }
+        return StandardCharsets.UTF_8.equals(charset) ||
+                StandardCharsets.US_ASCII.equals(charset);
+    }
+}
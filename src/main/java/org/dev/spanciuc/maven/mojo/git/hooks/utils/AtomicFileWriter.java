@@ -0,0 +1,208 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class to atomically replace executable files.
+ * <p>
+ * The content is written to a temporary file in the target's directory, made executable and
+ * then moved over the target, so readers see either the previous or the new content and never
+ * a partially written file. When the file system does not support atomic moves the temporary
+ * file replaces the target with a regular move.
+ */
+public final class AtomicFileWriter {
+
+    /**
+     * The permissions of written files on POSIX file systems.
+     */
+    public static final String EXECUTABLE_PERMISSIONS = "rwxr-xr-x";
+
+    private static final Set<PosixFilePermission> POSIX_EXECUTABLE_PERMISSIONS =
+            PosixFilePermissions.fromString(EXECUTABLE_PERMISSIONS);
+
+    private static final boolean POSIX_SUPPORTED =
+            FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+
+    private static final String HIDDEN_FILE_PREFIX = ".";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+
+    private static final Map<Path, Object> IN_PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    /**
+     * The key of a file that does not exist, it differs from the key of every file.
+     */
+    private static final Object MISSING_FILE_KEY = new Object();
+
+    /**
+     * To prevent instance creation.
+     */
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Atomically writes an executable file.
+     * <p>
+     * When locking is enabled, writers of the same target are serialized with an exclusive
+     * lock on a hidden {@value #LOCK_FILE_SUFFIX} file next to the target, which also excludes
+     * writers from other processes. The lock file is deleted by its holder once the target is
+     * replaced. A writer holds the lock only while the lock file's path still refers to the file
+     * it locked, otherwise it locks the file now at the path. Where the file system has no file
+     * keys to compare, the lock file is kept. When forcing is enabled, the content and the
+     * directory entry are forced to the storage device.
+     *
+     * @param target  the target file.
+     * @param content the content.
+     * @param options the write options.
+     * @throws IllegalArgumentException if any argument is null.
+     * @throws IOException              if the file cannot be written.
+     */
+    public static void write(Path target, byte[] content, FileWriteOptions options)
+            throws IOException {
+        if (null == target) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_FILE_NAME));
+        }
+        if (null == content) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_FILE_CONTENT));
+        }
+        if (null == options) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_FILE_WRITE_OPTIONS));
+        }
+        Path absoluteTarget = target.toAbsolutePath();
+        if (!options.isLockEnabled()) {
+            replace(absoluteTarget, content, options.isForceEnabled());
+            return;
+        }
+        Path lockFile = absoluteTarget.resolveSibling(
+                HIDDEN_FILE_PREFIX + absoluteTarget.getFileName() + LOCK_FILE_SUFFIX);
+        // file locks are held by the whole process, so its threads are serialized first
+        synchronized (IN_PROCESS_LOCKS.computeIfAbsent(lockFile, file -> new Object())) {
+            writeLocked(absoluteTarget, lockFile, content, options.isForceEnabled());
+        }
+    }
+
+    private static void writeLocked(Path target, Path lockFile, byte[] content, boolean force)
+            throws IOException {
+        while (true) {
+            Object expectedKey = fileKey(lockFile);
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                Object openedKey = fileKey(lockFile);
+                if (null != openedKey && !openedKey.equals(expectedKey)) {
+                    // created or replaced around the open, reopen to know which file is open
+                    continue;
+                }
+                try (FileLock ignored = channel.lock()) {
+                    if (null == openedKey) {
+                        // the locked file can't be told apart from a new one, so it's kept
+                        replace(target, content, force);
+                        return;
+                    }
+                    // a previous holder deleted the locked file, lock the one at the path
+                    if (openedKey.equals(fileKey(lockFile))) {
+                        try {
+                            replace(target, content, force);
+                        } finally {
+                            Files.deleteIfExists(lockFile);
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the key identifying a file.
+     *
+     * @return the file key, {@link #MISSING_FILE_KEY} if the file does not exist or null if the
+     *         file system has no file keys.
+     */
+    private static Object fileKey(Path file) throws IOException {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        } catch (NoSuchFileException e) {
+            return MISSING_FILE_KEY;
+        }
+    }
+
+    private static void replace(Path target, byte[] content, boolean force) throws IOException {
+        Path directory = target.getParent();
+        Path temporaryFile = Files.createTempFile(directory,
+                HIDDEN_FILE_PREFIX + target.getFileName() + HIDDEN_FILE_PREFIX,
+                TEMPORARY_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile,
+                    StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (force) {
+                    channel.force(true);
+                }
+            }
+            makeExecutable(temporaryFile);
+            move(temporaryFile, target);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+        if (force) {
+            forceDirectory(directory);
+        }
+    }
+
+    private static void makeExecutable(Path file) throws IOException {
+        if (POSIX_SUPPORTED) {
+            Files.setPosixFilePermissions(file, POSIX_EXECUTABLE_PERMISSIONS);
+        } else if (!file.toFile().setExecutable(true, false)) {
+            throw new IOException(String.format(Messages.MESSAGE_CANNOT_MAKE_FILE_EXECUTABLE,
+                    file));
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of the moved file, not every platform can open a directory
+     * so it's a best effort.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the content itself is already forced, only the rename may not be durable yet
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+/**
+ * Utility class for rendering values into bash scripts.
+ */
+public final class BashScripts {
+
+    private static final char SINGLE_QUOTE = '\'';
+
+    private static final String ESCAPED_SINGLE_QUOTE = "'\\''";
+
+    /**
+     * To prevent instance creation.
+     */
+    private BashScripts() {
+    }
+
+    /**
+     * Quotes a value as a single bash word taken literally, also in case patterns.
+     *
+     * @param value the value.
+     * @return single quoted value.
+     * @throws IllegalArgumentException if value is null.
+     */
+    public static String quote(String value) {
+        if (null == value) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append(SINGLE_QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SINGLE_QUOTE) {
+                quoted.append(ESCAPED_SINGLE_QUOTE);
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append(SINGLE_QUOTE).toString();
+    }
+}
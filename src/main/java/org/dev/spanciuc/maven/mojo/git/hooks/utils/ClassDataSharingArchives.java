@@ -0,0 +1,290 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Utility class to create and use dynamic class data sharing archives.
+ * <p>
+ * An archive holds the classes a training run of a main class loaded, a later JVM started with
+ * the same classpath maps them instead of parsing and verifying them again. The JVM archives
+ * classes loaded from jars only and ignores a missing or stale archive when started with
+ * {@value #SHARE_AUTO_OPTION}.
+ */
+public final class ClassDataSharingArchives {
+
+    /**
+     * The option that lets the JVM start without a missing or unusable archive.
+     */
+    public static final String SHARE_AUTO_OPTION = "-Xshare:auto";
+
+    /**
+     * The option prefix that selects the archive of a JVM.
+     */
+    public static final String SHARED_ARCHIVE_FILE_OPTION = "-XX:SharedArchiveFile=";
+
+    /**
+     * The option prefix that dumps the classes loaded until the JVM exits.
+     */
+    public static final String ARCHIVE_CLASSES_AT_EXIT_OPTION = "-XX:ArchiveClassesAtExit=";
+
+    /**
+     * The option prefix that writes the classes loaded by a training run to a class list.
+     */
+    public static final String DUMP_LOADED_CLASS_LIST_OPTION = "-XX:DumpLoadedClassList=";
+
+    /**
+     * The option prefix that selects the class list of a static dump.
+     */
+    public static final String SHARED_CLASS_LIST_FILE_OPTION = "-XX:SharedClassListFile=";
+
+    /**
+     * The option that dumps a static archive and exits.
+     */
+    public static final String SHARE_DUMP_OPTION = "-Xshare:dump";
+
+    /**
+     * The default timeout of a training run in seconds.
+     */
+    public static final long DEFAULT_TIMEOUT_SECONDS = 60;
+
+    private static final String CLASSPATH_OPTION = "-cp";
+
+    private static final String JAR_EXTENSION = ".jar";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final String CLASS_LIST_SUFFIX = ".classlist";
+
+    /**
+     * Prefix of the class list lines that are not classes, e.g. lambda proxies.
+     */
+    private static final String CLASS_LIST_DIRECTIVE_PREFIX = "@";
+
+    /**
+     * To prevent instance creation.
+     */
+    private ClassDataSharingArchives() {
+    }
+
+    /**
+     * Gets the java executable of the current JVM.
+     *
+     * @return java executable.
+     */
+    public static Path getJavaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java");
+    }
+
+    /**
+     * Checks if classes of a classpath can be archived, i.e. every entry is a jar file.
+     *
+     * @param classpath the classpath entries.
+     * @return true if archivable, otherwise - false.
+     */
+    public static boolean isArchivable(List<Path> classpath) {
+        if (null == classpath || classpath.isEmpty()) {
+            return false;
+        }
+        for (Path entry : classpath) {
+            if (!Files.isRegularFile(entry) ||
+                    !entry.getFileName().toString().endsWith(JAR_EXTENSION)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Joins classpath entries with the platform's path separator.
+     *
+     * @param classpath the classpath entries.
+     * @return the classpath.
+     */
+    public static String toClasspath(List<Path> classpath) {
+        return classpath.stream().map(entry -> entry.toAbsolutePath().toString())
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    /**
+     * Creates a dynamic archive with a training run.
+     * <p>
+     * The archive is dumped to a temporary file next to it and moved in place when the run
+     * completes, so a running JVM never maps a partially written archive.
+     *
+     * @param javaExecutable the java executable.
+     * @param jvmOptions     the options of the training run, also used by the JVMs mapping it.
+     * @param classpath      the classpath entries.
+     * @param mainClass      the main class.
+     * @param arguments      the arguments of the main class.
+     * @param archive        the archive file.
+     * @param timeoutSeconds the timeout of the training run.
+     * @return true if the archive was created, false if the run failed or timed out.
+     * @throws IOException          if the training run cannot be started or the archive cannot
+     *                              be moved.
+     * @throws InterruptedException if interrupted while waiting for the training run.
+     */
+    public static boolean create(Path javaExecutable, List<String> jvmOptions,
+                                 List<Path> classpath, String mainClass, List<String> arguments,
+                                 Path archive, long timeoutSeconds)
+            throws IOException, InterruptedException {
+        Path temporaryArchive = createTemporaryArchive(archive);
+        try {
+            List<String> options = new ArrayList<>(jvmOptions);
+            options.add(ARCHIVE_CLASSES_AT_EXIT_OPTION + temporaryArchive);
+            return complete(start(javaExecutable, options, classpath, mainClass, arguments),
+                    timeoutSeconds) && moveArchive(temporaryArchive, archive);
+        } finally {
+            Files.deleteIfExists(temporaryArchive);
+        }
+    }
+
+    /**
+     * Creates a static archive from the class list of a training run.
+     * <p>
+     * Unlike a dynamic archive it also holds the JDK classes the run loaded and replaces the
+     * JDK's default archive. Lambda proxies are left out of the class list, the JVM can't dump
+     * them when their classes are excluded, e.g. loaded from a signed jar. The archive is
+     * dumped to a temporary file next to it and moved in place like
+     * {@link #create(Path, List, List, String, List, Path, long)} does.
+     *
+     * @param javaExecutable the java executable.
+     * @param jvmOptions     the options of the training run.
+     * @param classpath      the classpath entries.
+     * @param mainClass      the main class.
+     * @param arguments      the arguments of the main class.
+     * @param archive        the archive file.
+     * @param timeoutSeconds the timeout of the training run and of the dump.
+     * @return true if the archive was created, false if the run or the dump failed or timed
+     *         out.
+     * @throws IOException          if the training run or the dump cannot be started or the
+     *                              archive cannot be moved.
+     * @throws InterruptedException if interrupted while waiting for the training run or the
+     *                              dump.
+     */
+    public static boolean createStatic(Path javaExecutable, List<String> jvmOptions,
+                                       List<Path> classpath, String mainClass,
+                                       List<String> arguments, Path archive,
+                                       long timeoutSeconds)
+            throws IOException, InterruptedException {
+        Path temporaryArchive = createTemporaryArchive(archive);
+        Path classList = Files.createTempFile(temporaryArchive.getParent(),
+                "." + archive.getFileName(), CLASS_LIST_SUFFIX);
+        try {
+            List<String> options = new ArrayList<>(jvmOptions);
+            options.add(DUMP_LOADED_CLASS_LIST_OPTION + classList);
+            if (!complete(start(javaExecutable, options, classpath, mainClass, arguments),
+                    timeoutSeconds)) {
+                return false;
+            }
+            List<String> classes = Files.readAllLines(classList, StandardCharsets.UTF_8);
+            classes.removeIf(line -> line.startsWith(CLASS_LIST_DIRECTIVE_PREFIX));
+            Files.write(classList, classes, StandardCharsets.UTF_8);
+            List<String> dumpOptions = List.of(SHARE_DUMP_OPTION,
+                    SHARED_CLASS_LIST_FILE_OPTION + classList,
+                    SHARED_ARCHIVE_FILE_OPTION + temporaryArchive);
+            return complete(start(javaExecutable, dumpOptions, classpath, null, List.of()),
+                    timeoutSeconds) && moveArchive(temporaryArchive, archive);
+        } finally {
+            Files.deleteIfExists(classList);
+            Files.deleteIfExists(temporaryArchive);
+        }
+    }
+
+    /**
+     * Runs a main class with an archive and returns its standard output.
+     *
+     * @param javaExecutable the java executable.
+     * @param jvmOptions     the JVM options.
+     * @param classpath      the classpath entries.
+     * @param mainClass      the main class.
+     * @param arguments      the arguments of the main class.
+     * @param archive        the archive file or null to run without the archive.
+     * @param timeoutSeconds the timeout of the run.
+     * @return the standard output lines.
+     * @throws IOException          if the run cannot be started, fails or times out.
+     * @throws InterruptedException if interrupted while waiting for the run.
+     */
+    public static List<String> run(Path javaExecutable, List<String> jvmOptions,
+                                   List<Path> classpath, String mainClass, List<String> arguments,
+                                   Path archive, long timeoutSeconds)
+            throws IOException, InterruptedException {
+        List<String> options = new ArrayList<>(jvmOptions);
+        if (null != archive) {
+            options.add(SHARED_ARCHIVE_FILE_OPTION + archive.toAbsolutePath());
+        }
+        Path output = Files.createTempFile("cds-run", TEMPORARY_FILE_SUFFIX);
+        try {
+            Process process = start(javaExecutable, options, classpath, mainClass, arguments)
+                    .redirectOutput(output.toFile()).start();
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException(String.format(Messages.MESSAGE_PROCESS_TIMED_OUT,
+                        mainClass, timeoutSeconds));
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException(String.format(Messages.MESSAGE_PROCESS_FAILED,
+                        mainClass, process.exitValue()));
+            }
+            return Files.readAllLines(output, StandardCharsets.UTF_8);
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+
+    /**
+     * Reserves a temporary archive file next to the archive, the file itself is deleted since
+     * the JVM refuses to dump into an existing file.
+     */
+    private static Path createTemporaryArchive(Path archive) throws IOException {
+        Path directory = archive.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryArchive = Files.createTempFile(directory,
+                "." + archive.getFileName(), TEMPORARY_FILE_SUFFIX);
+        Files.delete(temporaryArchive);
+        return temporaryArchive;
+    }
+
+    private static boolean moveArchive(Path temporaryArchive, Path archive) throws IOException {
+        if (!Files.isRegularFile(temporaryArchive)) {
+            return false;
+        }
+        Files.move(temporaryArchive, archive, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    private static boolean complete(ProcessBuilder processBuilder, long timeoutSeconds)
+            throws IOException, InterruptedException {
+        Process process =
+                processBuilder.redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            return false;
+        }
+        return process.exitValue() == 0;
+    }
+
+    private static ProcessBuilder start(Path javaExecutable, List<String> jvmOptions,
+                                        List<Path> classpath, String mainClass,
+                                        List<String> arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable.toString());
+        command.addAll(jvmOptions);
+        command.add(CLASSPATH_OPTION);
+        command.add(toClasspath(classpath));
+        if (null != mainClass) {
+            command.add(mainClass);
+        }
+        command.addAll(arguments);
+        return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD);
+    }
+}
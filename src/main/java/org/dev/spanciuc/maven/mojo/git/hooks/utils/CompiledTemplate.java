@@ -0,0 +1,99 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A text template pre-compiled into literal segments separated by placeholders.
+ * <p>
+ * The template is parsed once, rendering only appends the literal segments and the values to a
+ * presized builder. Instances are immutable and thread-safe.
+ */
+public final class CompiledTemplate {
+
+    /**
+     * The placeholder of a value in a template.
+     */
+    public static final String PLACEHOLDER = "%s";
+
+    private final String[] literals;
+
+    private final int literalsLength;
+
+    private CompiledTemplate(String[] literals) {
+        this.literals = literals;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param template the template, values are marked with {@value #PLACEHOLDER}.
+     * @return compiled template.
+     * @throws IllegalArgumentException if template is null.
+     */
+    public static CompiledTemplate compile(String template) {
+        if (null == template) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_TEMPLATE));
+        }
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        int placeholder = template.indexOf(PLACEHOLDER);
+        while (placeholder >= 0) {
+            literals.add(template.substring(start, placeholder));
+            start = placeholder + PLACEHOLDER.length();
+            placeholder = template.indexOf(PLACEHOLDER, start);
+        }
+        literals.add(template.substring(start));
+        return new CompiledTemplate(literals.toArray(new String[0]));
+    }
+
+    /**
+     * Gets the number of placeholders.
+     *
+     * @return number of placeholders.
+     */
+    public int getPlaceholdersCount() {
+        return literals.length - 1;
+    }
+
+    /**
+     * Renders the template with values.
+     *
+     * @param values the values, one per placeholder.
+     * @return rendered text.
+     * @throws IllegalArgumentException if the number of values does not match the number of
+     *                                  placeholders.
+     */
+    public String render(Object... values) {
+        StringBuilder result = new StringBuilder(literalsLength + 16 * values.length);
+        renderTo(result, values);
+        return result.toString();
+    }
+
+    /**
+     * Renders the template with values and appends it to a builder.
+     *
+     * @param builder the target builder.
+     * @param values  the values, one per placeholder.
+     * @throws IllegalArgumentException if the number of values does not match the number of
+     *                                  placeholders.
+     */
+    public void renderTo(StringBuilder builder, Object... values) {
+        if (values.length != getPlaceholdersCount()) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_INVALID_NUMBER_OF_TEMPLATE_VALUES,
+                            getPlaceholdersCount(), values.length));
+        }
+        builder.append(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            builder.append(values[i]).append(literals[i + 1]);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import lombok.Value;
+
+/**
+ * A class to hold the options of an {@link AtomicFileWriter} write.
+ */
+@Value
+public class FileWriteOptions {
+
+    /**
+     * Default value for cross-process locking represented as string.
+     */
+    public static final String DEFAULT_LOCK_ENABLED_AS_STRING = "false";
+
+    /**
+     * Default value for cross-process locking.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_LOCK_ENABLED =
+            Boolean.parseBoolean(DEFAULT_LOCK_ENABLED_AS_STRING);
+
+    /**
+     * Default value for forcing written content to the storage device represented as string.
+     */
+    public static final String DEFAULT_FORCE_ENABLED_AS_STRING = "true";
+
+    /**
+     * Default value for forcing written content to the storage device.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_FORCE_ENABLED =
+            Boolean.parseBoolean(DEFAULT_FORCE_ENABLED_AS_STRING);
+
+    /**
+     * Default write options.
+     */
+    public static final FileWriteOptions DEFAULT =
+            new FileWriteOptions(DEFAULT_LOCK_ENABLED, DEFAULT_FORCE_ENABLED);
+
+    /**
+     * Whether concurrent writers of the same file, including other processes, are serialized
+     * with a file lock.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean lockEnabled;
+
+    /**
+     * Whether the written content is forced to the storage device before the file is moved
+     * into place.
+     *
+     * @return true if enabled, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean forceEnabled;
+}
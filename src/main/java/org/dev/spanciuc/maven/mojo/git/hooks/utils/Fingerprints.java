@@ -0,0 +1,66 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility class for content fingerprints.
+ * <p>
+ * A fingerprint is the hex encoded SHA-256 digest of the given content.
+ */
+public class Fingerprints {
+
+    /**
+     * The digest algorithm used for fingerprints.
+     */
+    public static final String ALGORITHM = "SHA-256";
+
+    /**
+     * To prevent instance creation.
+     */
+    private Fingerprints() {
+    }
+
+    /**
+     * Computes the fingerprint of a string encoded as UTF-8.
+     *
+     * @param content the content.
+     * @return hex encoded fingerprint.
+     * @throws IllegalArgumentException if content is null.
+     */
+    public static String of(String content) {
+        if (null == content) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_FILE_CONTENT));
+        }
+        return of(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Computes the fingerprint of a byte array.
+     *
+     * @param content the content.
+     * @return hex encoded fingerprint.
+     * @throws IllegalArgumentException if content is null.
+     */
+    public static String of(byte[] content) {
+        if (null == content) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_FILE_CONTENT));
+        }
+        return HexFormat.of().formatHex(newDigest().digest(content));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM is required to support SHA-256
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
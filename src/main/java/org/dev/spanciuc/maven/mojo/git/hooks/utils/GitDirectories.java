@@ -0,0 +1,54 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import lombok.Value;
+
+import java.io.File;
+
+/**
+ * A class to hold the directories of a git repository.
+ * <p>
+ * A linked worktree has its own git directory, e.g. {@code .git/worktrees/name}, while the
+ * configuration, the objects and the hooks live in the common directory shared by all
+ * worktrees. For every other repository both directories are the same.
+ */
+@Value
+public class GitDirectories {
+
+    /**
+     * The name of the hooks directory inside the common directory.
+     */
+    public static final String HOOKS_DIRECTORY_NAME = "hooks";
+
+    /**
+     * The git directory of the checkout.
+     *
+     * @return git directory.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    File gitDirectory;
+
+    /**
+     * The git directory shared by all worktrees.
+     *
+     * @return common directory.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    File commonDirectory;
+
+    /**
+     * The work tree, null for bare repositories.
+     *
+     * @return work tree.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    File workTree;
+
+    /**
+     * Gets the hooks directory shared by all worktrees.
+     *
+     * @return hooks directory.
+     */
+    public File getHooksDirectory() {
+        return new File(commonDirectory, HOOKS_DIRECTORY_NAME);
+    }
+}
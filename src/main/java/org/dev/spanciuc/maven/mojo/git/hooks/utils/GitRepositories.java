@@ -0,0 +1,173 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.eclipse.jgit.errors.RepositoryNotFoundException;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Utility class for opening git repositories.
+ */
+public class GitRepositories {
+
+    /**
+     * The file of a linked worktree's git directory pointing at the common directory.
+     */
+    static final String COMMON_DIRECTORY_FILE_NAME = "commondir";
+
+    /**
+     * Discovered repositories by walked directory, shared by every module built in this JVM.
+     */
+    private static final ConcurrentMap<Path, GitDirectories> DISCOVERED_REPOSITORIES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * To prevent instance creation.
+     */
+    private GitRepositories() {
+    }
+
+    /**
+     * Opens the git repository of a project.
+     *
+     * @param basedir          the project's base dir.
+     * @param gitDirectoryName the git directory name, relative to the base dir.
+     * @return the repository, must be closed by the caller.
+     * @throws IllegalArgumentException if the git directory name is invalid.
+     * @throws IllegalStateException    if the directory is not a git repository.
+     * @throws RuntimeIOException       if the repository cannot be read.
+     */
+    public static Repository open(File basedir, String gitDirectoryName) {
+        File gitDirectory = new File(basedir,
+                ParameterSanitizer.sanitizeRequiredStringParameter(gitDirectoryName,
+                        Messages.VALUE_GIT_DIRECTORY_NAME));
+        try {
+            return new FileRepositoryBuilder()
+                    .setGitDir(gitDirectory)
+                    .setMustExist(true)
+                    .build();
+        } catch (RepositoryNotFoundException e) {
+            throw new IllegalStateException(Messages.NOT_A_GIT_REPOSITORY_MESSAGE, e);
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Discovers the git repository of a directory.
+     * <p>
+     * The directory and its parents are searched for a {@code .git} directory, a {@code .git}
+     * file with a {@code gitdir:} pointer, as used by submodules and linked worktrees, or a
+     * bare repository. Discoveries are cached per JVM for every walked directory, so modules of
+     * the same repository stop the walk at the first already walked parent.
+     *
+     * @param directory the directory.
+     * @return the repository's directories or null if the directory is not in a repository.
+     * @throws IllegalArgumentException if directory is null.
+     * @throws RuntimeIOException       if a linked worktree's common directory cannot be read.
+     */
+    public static GitDirectories discover(File directory) {
+        if (null == directory) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_DIRECTORY));
+        }
+        List<Path> walkedDirectories = new ArrayList<>();
+        GitDirectories discovered = null;
+        Path current = directory.getAbsoluteFile().toPath().normalize();
+        while (null != current && null == discovered) {
+            discovered = DISCOVERED_REPOSITORIES.get(current);
+            if (null != discovered && !discovered.getGitDirectory().isDirectory()) {
+                DISCOVERED_REPOSITORIES.remove(current, discovered);
+                discovered = null;
+            }
+            if (null == discovered) {
+                walkedDirectories.add(current);
+                discovered = probe(current.toFile());
+                current = current.getParent();
+            }
+        }
+        if (null != discovered) {
+            for (Path walkedDirectory : walkedDirectories) {
+                DISCOVERED_REPOSITORIES.put(walkedDirectory, discovered);
+            }
+        }
+        return discovered;
+    }
+
+    /**
+     * Opens a discovered git repository.
+     * <p>
+     * The repository is opened on the git directory, so a linked worktree resolves its own HEAD
+     * and index, while objects, refs and the configuration are read from the common directory
+     * its {@value #COMMON_DIRECTORY_FILE_NAME} file points at.
+     *
+     * @param gitDirectories the repository's directories.
+     * @return the repository, must be closed by the caller.
+     * @throws IllegalArgumentException if directories are null.
+     * @throws IllegalStateException    if the directory is not a git repository.
+     * @throws RuntimeIOException       if the repository cannot be read.
+     */
+    public static Repository open(GitDirectories gitDirectories) {
+        if (null == gitDirectories) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_GIT_DIRECTORY_NAME));
+        }
+        FileRepositoryBuilder builder = new FileRepositoryBuilder()
+                .setGitDir(gitDirectories.getGitDirectory())
+                .setMustExist(true);
+        if (null != gitDirectories.getWorkTree()) {
+            builder.setWorkTree(gitDirectories.getWorkTree());
+        }
+        try {
+            return builder.build();
+        } catch (RepositoryNotFoundException e) {
+            throw new IllegalStateException(Messages.NOT_A_GIT_REPOSITORY_MESSAGE, e);
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Checks only the directory itself, the ceiling stops the builder from walking up.
+     */
+    private static GitDirectories probe(File directory) {
+        FileRepositoryBuilder builder = new FileRepositoryBuilder();
+        File parent = directory.getParentFile();
+        if (null != parent) {
+            builder.addCeilingDirectory(parent);
+        }
+        File foundGitDirectory = builder.findGitDir(directory).getGitDir();
+        if (null == foundGitDirectory) {
+            return null;
+        }
+        File gitDirectory = foundGitDirectory.getAbsoluteFile().toPath().normalize().toFile();
+        File workTree = gitDirectory.equals(directory) ? null : directory;
+        return new GitDirectories(gitDirectory, commonDirectory(gitDirectory), workTree);
+    }
+
+    private static File commonDirectory(File gitDirectory) {
+        Path commonDirectoryFile = gitDirectory.toPath().resolve(COMMON_DIRECTORY_FILE_NAME);
+        if (!Files.isRegularFile(commonDirectoryFile)) {
+            return gitDirectory;
+        }
+        try {
+            String commonDirectory =
+                    Files.readString(commonDirectoryFile, StandardCharsets.UTF_8).strip();
+            return gitDirectory.toPath().resolve(commonDirectory).normalize().toFile();
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+    }
+}
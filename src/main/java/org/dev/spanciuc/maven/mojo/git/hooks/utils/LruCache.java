@@ -0,0 +1,58 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A thread-safe, bounded cache that evicts the least recently used entry.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ */
+public final class LruCache<K, V> {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<K, V> entries;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize the max number of entries.
+     * @throws IllegalArgumentException if max size is not positive.
+     */
+    public LruCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(Messages.MESSAGE_INVALID_CACHE_SIZE);
+        }
+        this.entries = Collections.synchronizedMap(
+                new LinkedHashMap<>((int) (maxSize / LOAD_FACTOR) + 1, LOAD_FACTOR, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                        return size() > maxSize;
+                    }
+                });
+    }
+
+    /**
+     * Gets the cached value of a key, computing and caching it if absent.
+     *
+     * @param key             the key.
+     * @param mappingFunction the function to compute a missing value.
+     * @return the value.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return entries.computeIfAbsent(key, mappingFunction);
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+}
@@ -50,6 +50,16 @@ public class Messages {
      * {@value}
      */
     public static final String CREATED_NUMBER_OF_HOOKS_MESSAGE = "Created %d git hook(s).";
+    /**
+     * {@value}
+     */
+    public static final String UNCHANGED_NUMBER_OF_HOOKS_MESSAGE =
+            "Skipped %d unchanged git hook(s).";
+    /**
+     * {@value}
+     */
+    public static final String HOOK_BY_NAME_UNCHANGED_MESSAGE =
+            "Hook: '%s' is up-to-date. Skipping...";
     /**
      * {@value}
      */
@@ -149,6 +159,331 @@ public class Messages {
      */
     public static final String TYPE_FILE_CONTENT = "File content";
 
+    /**
+     * {@value}
+     */
+    public static final String VALUE_MAVEN_SESSION = "Maven session";
+    /**
+     * {@value}
+     */
+    public static final String HOOKS_ALREADY_HANDLED_IN_REACTOR_MESSAGE =
+            "Git hooks directory: '%s' already handled in this reactor. Skipping...";
+    /**
+     * {@value}
+     */
+    public static final String HOOKS_GENERATED_CONCURRENTLY_MESSAGE =
+            "Git hooks directory: '%s' generated concurrently by another module. Reusing...";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_COMMIT_MESSAGE = "Commit message";
+    /**
+     * {@value}
+     */
+    public static final String COMMIT_MESSAGE_INVALID_FORMAT_MESSAGE =
+            "Commit message is invalid.";
+    /**
+     * {@value}
+     */
+    public static final String COMMIT_MESSAGE_HEADER_TOO_LONG_MESSAGE =
+            "Commit message is too long. Max %d characters allowed.";
+    /**
+     * {@value}
+     */
+    public static final String COMMIT_MESSAGE_IS_VALID_MESSAGE = "Commit message is valid.";
+    /**
+     * {@value}
+     */
+    public static final String NO_COMMIT_MESSAGE_GIVEN_MESSAGE =
+            "Neither a commit message nor a commit message file is given.";
+
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_INVALID_VERSION_NUMBER =
+            "The version numbers must not be negative.";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_TYPE_IS_NOT_ALLOWED =
+            "The type name '%s' is not an allowed commit type.";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_VERSION_BUMP = "Version bump";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_VERSION_BUMP_RULES = "Version bump rules";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_VERSION_TAG_PREFIX = "Version tag prefix";
+    /**
+     * {@value}
+     */
+    public static final String LAST_VERSION_TAG_MESSAGE = "Last version tag: %s";
+    /**
+     * {@value}
+     */
+    public static final String NO_VERSION_TAG_FOUND_MESSAGE =
+            "No version tag found. Starting from version: %s";
+    /**
+     * {@value}
+     */
+    public static final String ANALYSED_NUMBER_OF_COMMITS_MESSAGE =
+            "Analysed %d commit(s) since last version.";
+    /**
+     * {@value}
+     */
+    public static final String NEXT_VERSION_MESSAGE = "Next version: %s (%s bump)";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_VERSION_PROPERTY = "Version property name";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_VERSION_CACHE_FILE = "Version cache file";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_VERSION_STATE = "Version state";
+    /**
+     * {@value}
+     */
+    public static final String RESUMED_FROM_VERSION_CACHE_MESSAGE =
+            "Resumed version calculation from cache: %s";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_HISTORY_INDEX_FILE = "History index file";
+    /**
+     * {@value}
+     */
+    public static final String TYPE_COMMIT_HISTORY_INDEX = "Commit history index";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_HISTORY_INDEX_TYPES_MISMATCH =
+            "The history index was built for other commit types: %s";
+    /**
+     * {@value}
+     */
+    public static final String CALCULATED_FROM_HISTORY_INDEX_MESSAGE =
+            "Calculated version from history index: %s";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_MODULE_PATHS = "Module paths";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_MODULE_OUTSIDE_WORK_TREE =
+            "The module %s is outside the git work tree %s";
+    /**
+     * {@value}
+     */
+    public static final String CALCULATED_MODULE_VERSIONS_MESSAGE =
+            "Calculated the versions of %d module(s) from one history walk";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_MODULE_FILTERS_FILE = "Module filters file";
+    /**
+     * {@value}
+     */
+    public static final String SKIPPED_TREE_DIFFS_MESSAGE =
+            "Skipped the tree diffs of %d of %d commit(s) with changed-path Bloom filters";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_TEMPLATE = "Template";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_INVALID_NUMBER_OF_TEMPLATE_VALUES =
+            "The template expects %d value(s) but got %d.";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_INVALID_CACHE_SIZE =
+            "The cache size must be positive integer.";
+
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_INVALID_COMMIT_RANGE =
+            "Invalid commit range: '%s'. Expected 'from..to', 'from..' or 'to'.";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_UNKNOWN_REVISION = "Unknown revision: '%s'.";
+    /**
+     * {@value}
+     */
+    public static final String COMMIT_MESSAGE_VIOLATION_MESSAGE = "Commit %s '%s': %s";
+    /**
+     * {@value}
+     */
+    public static final String VALIDATED_NUMBER_OF_COMMITS_MESSAGE =
+            "Validated %d commit(s) in range %s.";
+    /**
+     * {@value}
+     */
+    public static final String INVALID_NUMBER_OF_COMMITS_MESSAGE =
+            "%d commit(s) in range %s do not follow the conventional commit format.";
+
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_INVALID_NUMBER_OF_THREADS =
+            "The number of threads must be positive integer, but was %d.";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_CHANGELOG_FILE = "Changelog file";
+    /**
+     * {@value}
+     */
+    public static final String CHANGELOG_APPENDED_MESSAGE =
+            "Appended %d commit(s) in %d released section(s) to changelog %s.";
+    /**
+     * {@value}
+     */
+    public static final String CHANGELOG_GENERATED_MESSAGE =
+            "Generated changelog %s from %d commit(s) in %d released section(s).";
+
+    /**
+     * {@value}
+     */
+    public static final String TYPE_FILE_WRITE_OPTIONS = "File write options";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_CANNOT_MAKE_FILE_EXECUTABLE =
+            "Cannot make file: '%s' executable.";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_VERSIONED_HOOKS_DIRECTORY_NAME =
+            "Versioned git hooks directory name";
+    /**
+     * {@value}
+     */
+    public static final String CORE_HOOKS_PATH_UPDATED_MESSAGE =
+            "Git core.hooksPath set to: '%s'.";
+    /**
+     * {@value}
+     */
+    public static final String CORE_HOOKS_PATH_UP_TO_DATE_MESSAGE =
+            "Git core.hooksPath already set to: '%s'.";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_DIRECTORY = "Directory";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_GOAL = "Goal";
+    /**
+     * {@value}
+     */
+    public static final String METRICS_REPORT_WRITTEN_MESSAGE = "Metrics report written to: '%s'.";
+    /**
+     * {@value}
+     */
+    public static final String METRICS_REPORT_FAILED_MESSAGE =
+            "Metrics report cannot be written: %s";
+    /**
+     * {@value}
+     */
+    public static final String METRICS_LISTENER_FAILED_MESSAGE =
+            "Metrics listener %s failed: %s";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_PREPARE_COMMIT_MESSAGE_PARAMETERS =
+            "Prepare commit message parameters";
+    /**
+     * {@value}
+     */
+    public static final String TYPE_PREPARE_COMMIT_MESSAGE_CONFIGURATION =
+            "Prepare commit message configuration";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_SCOPE_NAME = "Scope name";
+    /**
+     * {@value}
+     */
+    public static final String VALUE_MODULE_PATH = "Module path";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_PRE_PUSH_PARAMETERS = "Pre push parameters";
+    /**
+     * {@value}
+     */
+    public static final String TYPE_PRE_PUSH_CONFIGURATION = "Pre push configuration";
+
+    /**
+     * {@value}
+     */
+    public static final String VALUE_HOOK_RUNTIME = "Hook runtime";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_CANNOT_LOCATE_HOOK_CLASSPATH =
+            "The classpath of the hook launcher cannot be located.";
+
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_PROCESS_TIMED_OUT = "%s did not complete in %d seconds.";
+    /**
+     * {@value}
+     */
+    public static final String MESSAGE_PROCESS_FAILED = "%s failed with exit status %d.";
+    /**
+     * {@value}
+     */
+    public static final String CDS_ARCHIVE_UNSUPPORTED_CLASSPATH_MESSAGE =
+            "Class data sharing archive skipped, only jars can be archived: %s";
+    /**
+     * {@value}
+     */
+    public static final String CDS_ARCHIVE_NOT_CREATED_MESSAGE =
+            "Class data sharing archive %s was not created by the training run.";
+    /**
+     * {@value}
+     */
+    public static final String CDS_ARCHIVE_CREATED_MESSAGE =
+            "Class data sharing archive written to %s, use it with: java %s %s -cp %s";
+    /**
+     * {@value}
+     */
+    public static final String CDS_MEASUREMENT_WITHOUT_ARCHIVE = "without archive";
+    /**
+     * {@value}
+     */
+    public static final String CDS_MEASUREMENT_WITH_ARCHIVE = "with archive";
+    /**
+     * {@value}
+     */
+    public static final String CDS_MEASUREMENT_MESSAGE =
+            "Training run %s: %d loaded classes, %.1f ms in add-git-hooks, %.1f ms in total.";
+
     private Messages() {
     }
 }
@@ -0,0 +1,421 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.ChangedPathBloomFilter;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.ChangedPathFilters;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevFlag;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calculates the next semantic version of each module of a multi-module repository from the
+ * conventional commits that changed the module's directory since the module's last version
+ * tag.
+ * <p>
+ * A module's version tags are named as the module name, {@value #MODULE_TAG_SEPARATOR} and the
+ * version tag prefix, ex. 'module-1/v1.2.0'. A file belongs to the innermost module whose
+ * directory contains it, the module with an empty path gets the files of no other module.
+ * <p>
+ * The history is walked once for all modules: each commit is compared with its parents by one
+ * {@link TreeWalk} limited to the modules' paths, which only descends into changed trees and
+ * stops at the modules' directories, and the commit is attributed to every module it changed.
+ * A merge changes a module only if the module differs from every parent, like a path-limited
+ * 'git log'. The work grows with the commits and the changed paths, not with commits times
+ * modules.
+ * <p>
+ * Like {@link VersionTags#findLatest}, a module's base tag is the highest of its nearest tagged
+ * ancestors, and the commits behind any of the module's tags are released and not counted. The
+ * modules each pending commit is behind a tag of are carried from children to parents while
+ * the commits stream past, each module's bump is accumulated as they do, and the commits
+ * behind a tag of every module end the walk, so only the unreleased history is read.
+ * <p>
+ * With {@link ChangedPathFilters}, the commits whose changed-path Bloom filter rules out every
+ * module are skipped without loading their trees.
+ */
+public class ModuleVersionCalculator {
+
+    /**
+     * The separator of the module name and the version tag prefix in module version tags.
+     */
+    public static final String MODULE_TAG_SEPARATOR = "/";
+
+    private final VersionCalculator calculator;
+
+    private final String tagPrefix;
+
+    /**
+     * Creates a calculator.
+     *
+     * @param configuration the commit-msg configuration.
+     * @param rules         the version bump rules.
+     * @param tagPrefix     the version tag prefix, prefixed by the module name.
+     * @throws IllegalArgumentException if any parameter is null.
+     */
+    public ModuleVersionCalculator(CommitMsgConfiguration configuration, VersionBumpRules rules,
+                                   String tagPrefix) {
+        this.calculator = new VersionCalculator(configuration, rules, tagPrefix);
+        this.tagPrefix = tagPrefix;
+    }
+
+    /**
+     * Gets the version tag prefix of a module.
+     *
+     * @param module the module name.
+     * @return tag prefix.
+     */
+    public String getTagPrefix(String module) {
+        return module + MODULE_TAG_SEPARATOR + tagPrefix;
+    }
+
+    /**
+     * Gets the fingerprint of the configuration the versions are calculated with.
+     *
+     * @return hex encoded fingerprint.
+     * @see VersionCalculator#getConfigurationFingerprint()
+     */
+    public String getConfigurationFingerprint() {
+        return calculator.getConfigurationFingerprint();
+    }
+
+    /**
+     * Calculates the next version of each module at the repository's HEAD.
+     * <p>
+     * The calculations are not resumable, their state is null.
+     *
+     * @param repository  the repository.
+     * @param modulePaths the module paths relative to the work tree, separated by '/' and
+     *                    empty for the work tree itself, by module name.
+     * @return calculation results by module name, in the order of the given modules.
+     * @throws IllegalArgumentException if any parameter is null.
+     * @throws IOException              if the repository cannot be read.
+     */
+    public Map<String, VersionCalculation> calculate(Repository repository,
+                                                     Map<String, String> modulePaths)
+            throws IOException {
+        return calculate(repository, modulePaths, null);
+    }
+
+    /**
+     * Calculates the next version of each module at the repository's HEAD, skipping the tree
+     * diffs of the commits that changed no module according to changed-path filters.
+     * <p>
+     * The calculations are not resumable, their state is null.
+     *
+     * @param repository  the repository.
+     * @param modulePaths the module paths relative to the work tree, separated by '/' and
+     *                    empty for the work tree itself, by module name.
+     * @param filters     the changed-path filters of the module paths or null.
+     * @return calculation results by module name, in the order of the given modules.
+     * @throws IllegalArgumentException if repository or module paths are null.
+     * @throws IOException              if the repository cannot be read.
+     */
+    public Map<String, VersionCalculation> calculate(Repository repository,
+                                                     Map<String, String> modulePaths,
+                                                     ChangedPathFilters filters)
+            throws IOException {
+        if (null == repository) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        if (null == modulePaths) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_MODULE_PATHS));
+        }
+        List<Module> modules = new ArrayList<>();
+        for (Map.Entry<String, String> modulePath : modulePaths.entrySet()) {
+            modules.add(new Module(modules.size(), modulePath.getKey(),
+                    normalize(modulePath.getValue())));
+        }
+        ObjectId headId = repository.resolve(Constants.HEAD);
+        if (null != headId && !modules.isEmpty()) {
+            walk(repository, headId, modules, filters);
+        }
+        Map<String, VersionCalculation> calculations = new LinkedHashMap<>();
+        for (Module module : modules) {
+            calculations.put(module.name, module.toCalculation());
+        }
+        return calculations;
+    }
+
+    private void walk(Repository repository, ObjectId headId, List<Module> modules,
+                      ChangedPathFilters filters) throws IOException {
+        Map<ObjectId, List<Module>> taggedModules = new HashMap<>();
+        Map<ObjectId, List<VersionTag>> tags = new HashMap<>();
+        for (Module module : modules) {
+            for (VersionTag tag : VersionTags.list(repository, getTagPrefix(module.name))) {
+                taggedModules.computeIfAbsent(tag.getCommitId(), id -> new ArrayList<>())
+                        .add(module);
+                tags.computeIfAbsent(tag.getCommitId(), id -> new ArrayList<>()).add(tag);
+            }
+        }
+        // innermost modules first, so a path is attributed to the first module containing it
+        List<Module> innermostFirst = new ArrayList<>(modules);
+        innermostFirst.sort(Comparator.comparingInt((Module module) -> module.path.length)
+                .reversed());
+        List<ChangedPathBloomFilter.Key> keys = new ArrayList<>();
+        boolean workTreeModule = false;
+        for (Module module : modules) {
+            keys.add(module.key);
+            workTreeModule |= 0 == module.path.length;
+        }
+
+        try (RevWalk walk = new RevWalk(repository);
+             TreeWalk treeWalk = new TreeWalk(repository, walk.getObjectReader())) {
+            walk.markStart(walk.parseCommit(headId));
+            treeWalk.setFilter(createFilter(modules));
+
+            // the modules each pending commit is behind a version tag of
+            Map<RevCommit, BitSet> behindTag = new HashMap<>();
+            RevCommit commit;
+            while (null != (commit = walk.next())) {
+                BitSet behind = behindTag.remove(commit);
+                if (null == behind) {
+                    behind = new BitSet();
+                }
+                List<VersionTag> commitTags = tags.get(commit);
+                if (null != commitTags) {
+                    List<Module> commitModules = taggedModules.get(commit);
+                    for (int i = 0; i < commitTags.size(); i++) {
+                        Module module = commitModules.get(i);
+                        if (!behind.get(module.index)) {
+                            module.offerBaseTag(commitTags.get(i));
+                        }
+                    }
+                    for (Module module : commitModules) {
+                        behind.set(module.index);
+                    }
+                }
+                if (behind.cardinality() == modules.size()) {
+                    // released for every module, the walk ends when only such commits remain
+                    walk.markUninteresting(commit);
+                    commit.disposeBody();
+                    continue;
+                }
+                for (RevCommit parent : commit.getParents()) {
+                    if (!behind.isEmpty() && !parent.has(RevFlag.UNINTERESTING)) {
+                        behindTag.computeIfAbsent(parent, id -> new BitSet()).or(behind);
+                    }
+                }
+                BitSet changed = findChangedModules(treeWalk, commit, modules, innermostFirst,
+                        filters, keys, workTreeModule);
+                changed.andNot(behind);
+                if (!changed.isEmpty()) {
+                    VersionCalculator.Classification classification =
+                            calculator.classify(commit, commit.getRawBuffer());
+                    for (int index = changed.nextSetBit(0); index >= 0;
+                         index = changed.nextSetBit(index + 1)) {
+                        modules.get(index).accept(classification);
+                    }
+                }
+                commit.disposeBody();
+            }
+        }
+    }
+
+    /**
+     * Finds the modules a commit changed compared with every parent, skipping the tree diff if
+     * the changed-path filters rule out every module.
+     */
+    private static BitSet findChangedModules(TreeWalk treeWalk, RevCommit commit,
+                                             List<Module> modules, List<Module> innermostFirst,
+                                             ChangedPathFilters filters,
+                                             List<ChangedPathBloomFilter.Key> keys,
+                                             boolean workTreeModule) throws IOException {
+        if (null != filters && !filters.mightChange(commit, keys, workTreeModule)) {
+            return new BitSet();
+        }
+        BitSet[] changedByParent = findChangedModules(treeWalk, commit, innermostFirst);
+        if (null != filters) {
+            filters.record(commit, keysOf(changedByParent[0], modules));
+        }
+        BitSet changed = changedByParent[0];
+        for (int i = 1; i < changedByParent.length; i++) {
+            changed.and(changedByParent[i]);
+        }
+        return changed;
+    }
+
+    private static List<ChangedPathBloomFilter.Key> keysOf(BitSet indexes,
+                                                           List<Module> modules) {
+        List<ChangedPathBloomFilter.Key> keys = new ArrayList<>(indexes.cardinality());
+        for (int index = indexes.nextSetBit(0); index >= 0;
+             index = indexes.nextSetBit(index + 1)) {
+            keys.add(modules.get(index).key);
+        }
+        return keys;
+    }
+
+    /**
+     * Finds the modules a commit changed compared with each parent, the first parent first.
+     */
+    private static BitSet[] findChangedModules(TreeWalk treeWalk, RevCommit commit,
+                                             List<Module> innermostFirst) throws IOException {
+        RevCommit[] parents = commit.getParents();
+        treeWalk.reset();
+        if (0 == parents.length) {
+            treeWalk.addTree(new EmptyTreeIterator());
+        }
+        for (RevCommit parent : parents) {
+            treeWalk.addTree(parent.getTree());
+        }
+        int commitTree = treeWalk.addTree(commit.getTree());
+        BitSet[] changedByParent = new BitSet[commitTree];
+        for (int i = 0; i < commitTree; i++) {
+            changedByParent[i] = new BitSet();
+        }
+        while (treeWalk.next()) {
+            if (treeWalk.isSubtree() && containsModule(treeWalk, innermostFirst)) {
+                treeWalk.enterSubtree();
+                continue;
+            }
+            Module module = findModule(treeWalk, innermostFirst);
+            if (null == module) {
+                continue;
+            }
+            for (int i = 0; i < commitTree; i++) {
+                if (!treeWalk.idEqual(i, commitTree) ||
+                        treeWalk.getRawMode(i) != treeWalk.getRawMode(commitTree)) {
+                    changedByParent[i].set(module.index);
+                }
+            }
+        }
+        return changedByParent;
+    }
+
+    /**
+     * Checks if a module's directory is below the current directory of a tree walk, the
+     * directory must be entered to attribute its entries.
+     */
+    private static boolean containsModule(TreeWalk treeWalk, List<Module> modules) {
+        for (Module module : modules) {
+            if (module.path.length > treeWalk.getPathLength() &&
+                    treeWalk.isPathPrefix(module.path, module.path.length) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Module findModule(TreeWalk treeWalk, List<Module> innermostFirst) {
+        for (Module module : innermostFirst) {
+            if (module.contains(treeWalk)) {
+                return module;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates the filter of the changed paths of the modules.
+     */
+    private static TreeFilter createFilter(List<Module> modules) {
+        List<PathFilter> pathFilters = new ArrayList<>();
+        for (Module module : modules) {
+            if (0 == module.path.length) {
+                return TreeFilter.ANY_DIFF;
+            }
+            pathFilters.add(PathFilter.create(module.pathString));
+        }
+        return AndTreeFilter.create(PathFilterGroup.create(pathFilters), TreeFilter.ANY_DIFF);
+    }
+
+    private static String normalize(String path) {
+        if (null == path) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_MODULE_PATHS));
+        }
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
+    /**
+     * A module, its base tag and the accumulated version bump.
+     */
+    private static final class Module {
+
+        private final int index;
+
+        private final String name;
+
+        private final String pathString;
+
+        private final byte[] path;
+
+        private final ChangedPathBloomFilter.Key key;
+
+        private final VersionCalculator.Accumulator accumulator =
+                new VersionCalculator.Accumulator();
+
+        private VersionTag baseTag;
+
+        private int analysedCommits;
+
+        private Module(int index, String name, String path) {
+            this.index = index;
+            this.name = name;
+            this.pathString = path;
+            this.path = Constants.encode(path);
+            this.key = ChangedPathBloomFilter.key(path);
+        }
+
+        /**
+         * Checks if the current path of a tree walk is the module's directory or below it.
+         */
+        private boolean contains(TreeWalk treeWalk) {
+            return 0 == path.length || 0 == treeWalk.isPathPrefix(path, path.length);
+        }
+
+        /**
+         * Keeps the highest version tag among the module's nearest tagged ancestors, the tags
+         * behind another tag of the module are not offered.
+         */
+        private void offerBaseTag(VersionTag tag) {
+            if (null == baseTag || tag.getVersion().compareTo(baseTag.getVersion()) > 0) {
+                baseTag = tag;
+            }
+        }
+
+        private void accept(VersionCalculator.Classification classification) {
+            analysedCommits++;
+            if (null != classification) {
+                accumulator.accept(classification);
+            }
+        }
+
+        private VersionCalculation toCalculation() {
+            SemanticVersion baseVersion =
+                    null == baseTag ? SemanticVersion.INITIAL : baseTag.getVersion();
+            VersionBump bump = accumulator.getBump();
+            return new VersionCalculation(baseTag, baseVersion, bump, baseVersion.bump(bump),
+                    analysedCommits, Collections.unmodifiableMap(accumulator.getTypeCounters()),
+                    false, false, null);
+        }
+    }
+}
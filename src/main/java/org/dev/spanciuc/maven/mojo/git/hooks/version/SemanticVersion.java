@@ -0,0 +1,153 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+/**
+ * A class represents a semantic version with major, minor and patch numbers.
+ */
+@Value
+public class SemanticVersion implements Comparable<SemanticVersion> {
+
+    /**
+     * The version used when no version was released yet.
+     */
+    public static final SemanticVersion INITIAL = new SemanticVersion(0, 0, 0);
+
+    private static final char SEPARATOR = '.';
+
+    /**
+     * The major number.
+     *
+     * @return major number.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int major;
+
+    /**
+     * The minor number.
+     *
+     * @return minor number.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int minor;
+
+    /**
+     * The patch number.
+     *
+     * @return patch number.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int patch;
+
+    /**
+     * Creates an instance.
+     *
+     * @param major the major number.
+     * @param minor the minor number.
+     * @param patch the patch number.
+     * @throws IllegalArgumentException if any number is negative.
+     */
+    public SemanticVersion(int major, int minor, int patch) {
+        if (major < 0 || minor < 0 || patch < 0) {
+            throw new IllegalArgumentException(Messages.MESSAGE_INVALID_VERSION_NUMBER);
+        }
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+    }
+
+    /**
+     * Parses a version in 'major.minor.patch' format.
+     *
+     * @param value the value.
+     * @return parsed version or null if the value is not a version.
+     */
+    public static SemanticVersion parse(String value) {
+        if (null == value) {
+            return null;
+        }
+        int firstSeparator = value.indexOf(SEPARATOR);
+        int secondSeparator = value.indexOf(SEPARATOR, firstSeparator + 1);
+        if (firstSeparator < 0 || secondSeparator < 0 ||
+                value.indexOf(SEPARATOR, secondSeparator + 1) >= 0) {
+            return null;
+        }
+        int major = parseNumber(value, 0, firstSeparator);
+        int minor = parseNumber(value, firstSeparator + 1, secondSeparator);
+        int patch = parseNumber(value, secondSeparator + 1, value.length());
+        if (major < 0 || minor < 0 || patch < 0) {
+            return null;
+        }
+        return new SemanticVersion(major, minor, patch);
+    }
+
+    /**
+     * Creates the next version for the given bump.
+     *
+     * @param bump the version bump.
+     * @return next version.
+     * @throws IllegalArgumentException if bump is null.
+     */
+    public SemanticVersion bump(VersionBump bump) {
+        if (null == bump) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_VERSION_BUMP));
+        }
+        return switch (bump) {
+            case NONE -> this;
+            case PATCH -> new SemanticVersion(major, minor, patch + 1);
+            case MINOR -> new SemanticVersion(major, minor + 1, 0);
+            case MAJOR -> new SemanticVersion(major + 1, 0, 0);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(SemanticVersion other) {
+        int result = Integer.compare(major, other.major);
+        if (result == 0) {
+            result = Integer.compare(minor, other.minor);
+        }
+        if (result == 0) {
+            result = Integer.compare(patch, other.patch);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the version in 'major.minor.patch' format.
+     *
+     * @return formatted version.
+     */
+    @Override
+    public String toString() {
+        return major + "." + minor + "." + patch;
+    }
+
+    /**
+     * Parses a non-negative decimal number without sign and leading zeros.
+     *
+     * @return the number or -1 if invalid.
+     */
+    private static int parseNumber(String value, int start, int end) {
+        if (start >= end || (value.charAt(start) == '0' && end - start > 1)) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+            if (result > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) result;
+    }
+}
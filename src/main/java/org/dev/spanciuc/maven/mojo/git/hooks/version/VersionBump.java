@@ -0,0 +1,37 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+/**
+ * The semantic version increment, ordered from the lowest to the highest.
+ */
+public enum VersionBump {
+
+    /**
+     * The version stays the same.
+     */
+    NONE,
+
+    /**
+     * The patch number is incremented.
+     */
+    PATCH,
+
+    /**
+     * The minor number is incremented and the patch number is reset.
+     */
+    MINOR,
+
+    /**
+     * The major number is incremented, the minor and patch numbers are reset.
+     */
+    MAJOR;
+
+    /**
+     * Gets the highest of this and the other bump.
+     *
+     * @param other the other bump.
+     * @return the highest bump.
+     */
+    public VersionBump max(VersionBump other) {
+        return compareTo(other) >= 0 ? this : other;
+    }
+}
@@ -0,0 +1,139 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import lombok.Value;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommit;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.ParameterSanitizer;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * A class represents the rules that map conventional commits to version bumps.
+ * <p>
+ * Breaking commits always bump the major number. Otherwise, the commit type decides between
+ * minor, patch or no bump.
+ */
+@Value
+public class VersionBumpRules {
+
+    /**
+     * The default commit types that bump the minor number.
+     */
+    public static final String DEFAULT_MINOR_TYPES = "feat";
+
+    /**
+     * The default commit types that bump the patch number.
+     */
+    public static final String DEFAULT_PATCH_TYPES = "fix,perf";
+
+    /**
+     * The commit types that bump the minor number.
+     *
+     * @return minor types.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    SortedSet<String> minorTypes;
+
+    /**
+     * The commit types that bump the patch number.
+     *
+     * @return patch types.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    SortedSet<String> patchTypes;
+
+    /**
+     * Creates rules from comma separated types.
+     * <p>
+     * Every type must be one of the commit types allowed by the configuration.
+     *
+     * @param configuration the commit-msg configuration.
+     * @param minorTypes    the comma separated commit types that bump the minor number.
+     * @param patchTypes    the comma separated commit types that bump the patch number.
+     * @throws IllegalArgumentException if configuration is null.
+     * @throws IllegalArgumentException if types are invalid or not allowed.
+     */
+    public VersionBumpRules(CommitMsgConfiguration configuration, String minorTypes,
+                            String patchTypes) {
+        if (null == configuration) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.TYPE_COMMIT_MESSAGE_CONFIGURATION));
+        }
+        this.minorTypes = sanitizeTypes(configuration, minorTypes);
+        this.patchTypes = sanitizeTypes(configuration, patchTypes);
+    }
+
+    /**
+     * Classifies a commit.
+     *
+     * @param commit the parsed commit or null for a non-conventional commit.
+     * @return the version bump required by the commit.
+     */
+    public VersionBump classify(ConventionalCommit commit) {
+        if (null == commit) {
+            return VersionBump.NONE;
+        }
+        if (commit.isBreaking()) {
+            return VersionBump.MAJOR;
+        }
+        return classify(commit.getType());
+    }
+
+    /**
+     * Classifies a non-breaking commit type.
+     *
+     * @param type the commit type.
+     * @return the version bump required by the type.
+     */
+    public VersionBump classify(String type) {
+        if (minorTypes.contains(type)) {
+            return VersionBump.MINOR;
+        }
+        if (patchTypes.contains(type)) {
+            return VersionBump.PATCH;
+        }
+        return VersionBump.NONE;
+    }
+
+    /**
+     * Gets an unmodifiable sorted set of the types that bump the minor number.
+     *
+     * @return minor types.
+     */
+    public Set<String> getMinorTypes() {
+        return Collections.unmodifiableSortedSet(minorTypes);
+    }
+
+    /**
+     * Gets an unmodifiable sorted set of the types that bump the patch number.
+     *
+     * @return patch types.
+     */
+    public Set<String> getPatchTypes() {
+        return Collections.unmodifiableSortedSet(patchTypes);
+    }
+
+    private static SortedSet<String> sanitizeTypes(CommitMsgConfiguration configuration,
+                                                   String types) {
+        String sanitizedTypes =
+                ParameterSanitizer.sanitizeRequiredStringParameter(types,
+                        Messages.VALUE_COMMIT_TYPES);
+        SortedSet<String> result = new TreeSet<>();
+        for (String type : sanitizedTypes.split(CommitMsgConfiguration.TYPES_SPLIT_CHAR)) {
+            String sanitizedType =
+                    ParameterSanitizer.sanitizeRequiredStringParameter(type,
+                            Messages.VALUE_TYPE_NAME);
+            if (!configuration.getTypes().contains(sanitizedType)) {
+                throw new IllegalArgumentException(
+                        String.format(Messages.MESSAGE_TYPE_IS_NOT_ALLOWED, sanitizedType));
+            }
+            result.add(sanitizedType);
+        }
+        return result;
+    }
+}
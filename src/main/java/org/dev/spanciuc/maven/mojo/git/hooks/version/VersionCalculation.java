@@ -0,0 +1,86 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * A class represents the result of a version calculation.
+ */
+@Value
+public class VersionCalculation {
+
+    /**
+     * The version tag the calculation started from or null if no version was released yet.
+     *
+     * @return base tag.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    VersionTag baseTag;
+
+    /**
+     * The version the calculation started from.
+     *
+     * @return base version.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    SemanticVersion baseVersion;
+
+    /**
+     * The highest bump required by the analysed commits.
+     *
+     * @return version bump.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    VersionBump bump;
+
+    /**
+     * The next version.
+     *
+     * @return next version.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    SemanticVersion nextVersion;
+
+    /**
+     * The number of commits analysed since the base version.
+     *
+     * @return number of commits.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int analysedCommits;
+
+    /**
+     * The number of analysed conventional commits by type.
+     *
+     * @return counters by type.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    Map<String, Integer> typeCounters;
+
+    /**
+     * Whether the calculation was resumed from a previous state instead of walking the full
+     * history since the base version.
+     *
+     * @return true if resumed, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean resumed;
+
+    /**
+     * Whether the calculation was answered from a commit history index, without walking the
+     * commits.
+     *
+     * @return true if indexed, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean indexed;
+
+    /**
+     * The state to resume the next calculation from or null if the repository has no commits.
+     *
+     * @return state.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    VersionState state;
+}
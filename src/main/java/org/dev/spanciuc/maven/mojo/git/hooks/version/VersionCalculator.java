@@ -0,0 +1,422 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommit;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.TypeMatcher;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitHistoryIndex;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitScanner;
+import org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg.RawCommitHeader;
+import org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg.RawConventionalCommitParser;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.errors.IncorrectObjectTypeException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Calculates the next semantic version from the conventional commits since the last version
+ * tag.
+ * <p>
+ * The history is walked with a {@link RevWalk} that parses commit objects only, trees are never
+ * loaded. Commits are read by a {@link CommitScanner}, which releases commit bodies as soon as
+ * the commit is classified, and parsed in place by a {@link RawConventionalCommitParser}.
+ * <p>
+ * A calculation can be resumed from the state of a previous one, so only the commits added
+ * since the previously analysed commit are walked, the base tag lookup included. The state is
+ * discarded when the configuration changed, when a version tag was added, moved or deleted
+ * since, when a version tag points to an added commit, or when the previously analysed commit
+ * is no longer an ancestor of HEAD, ex. after a rebase or a force push.
+ * <p>
+ * A calculation can also be answered from a {@link CommitHistoryIndex}: the commits missing
+ * from the index are appended, then the base tag and the commits since it are found by
+ * scanning the index records. The commits are walked when the index cannot answer, ex. when
+ * an octopus merge is reachable.
+ */
+public class VersionCalculator {
+
+    private static final String FINGERPRINT_SEPARATOR = "\n";
+
+    private final ConventionalCommitParser parser;
+
+    private final RawConventionalCommitParser rawParser;
+
+    private final ThreadLocal<RawCommitHeader> rawHeaders =
+            ThreadLocal.withInitial(RawCommitHeader::new);
+
+    /**
+     * The classification of each type ordinal, at even indexes for regular commits and at odd
+     * indexes for breaking ones.
+     */
+    private final Classification[] classifications;
+
+    private final CommitScanner scanner;
+
+    private final VersionBumpRules rules;
+
+    private final String tagPrefix;
+
+    private final String configurationFingerprint;
+
+    private final List<String> types;
+
+    /**
+     * Creates a calculator.
+     *
+     * @param configuration the commit-msg configuration.
+     * @param rules         the version bump rules.
+     * @param tagPrefix     the version tag prefix.
+     * @throws IllegalArgumentException if any parameter is null.
+     */
+    public VersionCalculator(CommitMsgConfiguration configuration, VersionBumpRules rules,
+                             String tagPrefix) {
+        this(configuration, rules, tagPrefix, new CommitScanner());
+    }
+
+    /**
+     * Creates a calculator.
+     *
+     * @param configuration the commit-msg configuration.
+     * @param rules         the version bump rules.
+     * @param tagPrefix     the version tag prefix.
+     * @param scanner       the commit scanner.
+     * @throws IllegalArgumentException if any parameter is null.
+     */
+    public VersionCalculator(CommitMsgConfiguration configuration, VersionBumpRules rules,
+                             String tagPrefix, CommitScanner scanner) {
+        if (null == scanner) {
+            throw new IllegalArgumentException(Messages.MUST_NOT_BE_NULL_MESSAGE);
+        }
+        if (null == rules) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_VERSION_BUMP_RULES));
+        }
+        if (null == tagPrefix) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_VERSION_TAG_PREFIX));
+        }
+        this.parser = new ConventionalCommitParser(configuration);
+        this.rawParser = new RawConventionalCommitParser(configuration);
+        this.scanner = scanner;
+        TypeMatcher typeMatcher = configuration.getTypeMatcher();
+        this.classifications = new Classification[2 * typeMatcher.getTypesCount()];
+        this.types = new ArrayList<>(typeMatcher.getTypesCount());
+        for (int ordinal = 0; ordinal < typeMatcher.getTypesCount(); ordinal++) {
+            String type = typeMatcher.getType(ordinal);
+            types.add(type);
+            classifications[2 * ordinal] = new Classification(type, rules.classify(type));
+            classifications[2 * ordinal + 1] = new Classification(type, VersionBump.MAJOR);
+        }
+        this.rules = rules;
+        this.tagPrefix = tagPrefix;
+        this.configurationFingerprint = Fingerprints.of(
+                String.join(CommitMsgConfiguration.TYPES_SPLIT_CHAR, configuration.getTypes()) +
+                        FINGERPRINT_SEPARATOR +
+                        String.join(CommitMsgConfiguration.TYPES_SPLIT_CHAR,
+                                rules.getMinorTypes()) + FINGERPRINT_SEPARATOR +
+                        String.join(CommitMsgConfiguration.TYPES_SPLIT_CHAR,
+                                rules.getPatchTypes()) + FINGERPRINT_SEPARATOR + tagPrefix +
+                        FINGERPRINT_SEPARATOR + configuration.getHeaderMaxLength());
+    }
+
+    /**
+     * Gets the fingerprint of the configuration the versions are calculated with, calculations
+     * with equal fingerprints classify every commit the same way.
+     *
+     * @return hex encoded fingerprint.
+     */
+    public String getConfigurationFingerprint() {
+        return configurationFingerprint;
+    }
+
+    /**
+     * Calculates the next version of the repository's HEAD.
+     *
+     * @param repository the repository.
+     * @return calculation result.
+     * @throws IOException if the repository cannot be read.
+     */
+    public VersionCalculation calculate(Repository repository) throws IOException {
+        return calculate(repository, null);
+    }
+
+    /**
+     * Calculates the next version of the repository's HEAD, resuming from a previous state when
+     * it's still valid.
+     *
+     * @param repository    the repository.
+     * @param previousState the state of a previous calculation or null.
+     * @return calculation result.
+     * @throws IOException if the repository cannot be read.
+     */
+    public VersionCalculation calculate(Repository repository, VersionState previousState)
+            throws IOException {
+        return calculate(repository, previousState, null);
+    }
+
+    /**
+     * Calculates the next version of the repository's HEAD from a commit history index, or
+     * resuming from a previous state when the index cannot answer.
+     *
+     * @param repository    the repository.
+     * @param previousState the state of a previous calculation or null.
+     * @param index         the commit history index or null.
+     * @return calculation result.
+     * @throws IllegalArgumentException if the index was built for other commit types.
+     * @throws IOException              if the repository or the index cannot be read or
+     *                                  written.
+     */
+    public VersionCalculation calculate(Repository repository, VersionState previousState,
+                                        CommitHistoryIndex index) throws IOException {
+        if (null != index && !types.equals(index.getTypes())) {
+            throw new IllegalArgumentException(String.format(
+                    Messages.MESSAGE_HISTORY_INDEX_TYPES_MISMATCH, index.getTypes()));
+        }
+        ObjectId headId = repository.resolve(Constants.HEAD);
+        if (null == headId) {
+            return new VersionCalculation(null, SemanticVersion.INITIAL, VersionBump.NONE,
+                    SemanticVersion.INITIAL, 0, Collections.emptyMap(), false, false, null);
+        }
+        if (null != index) {
+            VersionCalculation calculation = calculateFromIndex(repository, headId, index);
+            if (null != calculation) {
+                return calculation;
+            }
+        }
+        try (RevWalk walk = new RevWalk(repository)) {
+            RevCommit head = walk.parseCommit(headId);
+            List<VersionTag> tags = VersionTags.list(repository, tagPrefix);
+            boolean resumed = canResume(repository, walk, head, tags, previousState);
+            VersionTag baseTag = resumed ? findTag(tags, previousState.getBaseCommitId()) :
+                    VersionTags.findLatest(repository, walk, head, tagPrefix);
+
+            walk.markStart(head);
+            if (null != baseTag) {
+                walk.markUninteresting(walk.parseCommit(baseTag.getCommitId()));
+            }
+
+            Accumulator accumulator = new Accumulator();
+            int analysedCommits = 0;
+            if (resumed) {
+                walk.markUninteresting(
+                        walk.parseCommit(ObjectId.fromString(previousState.getLastCommitId())));
+                accumulator.bump = previousState.getBump();
+                accumulator.typeCounters.putAll(previousState.getTypeCounters());
+                analysedCommits = previousState.getAnalysedCommits();
+            }
+            analysedCommits += scanner.scanRaw(walk, this::classify, accumulator);
+            return toCalculation(baseTag, tags, head, accumulator, analysedCommits, resumed,
+                    false);
+        }
+    }
+
+    /**
+     * Calculates the next version by scanning the index records.
+     *
+     * @return calculation result or null if the index cannot answer.
+     */
+    private VersionCalculation calculateFromIndex(Repository repository, ObjectId headId,
+                                                  CommitHistoryIndex index)
+            throws IOException {
+        index.update(repository, headId);
+        int head = index.find(headId);
+        BitSet reachable = index.reachable(head);
+        if (null == reachable) {
+            return null;
+        }
+        VersionTag baseTag = null;
+        int base = CommitHistoryIndex.NOT_INDEXED;
+        List<VersionTag> tags = VersionTags.list(repository, tagPrefix);
+        for (VersionTag tag : tags) {
+            int position = index.find(tag.getCommitId());
+            if (CommitHistoryIndex.NOT_INDEXED != position && reachable.get(position)) {
+                baseTag = tag;
+                base = position;
+                break;
+            }
+        }
+        Accumulator accumulator = new Accumulator();
+        int analysedCommits = index.scan(head,
+                CommitHistoryIndex.NOT_INDEXED == base ? new int[0] : new int[]{base},
+                position -> {
+                    int ordinal = index.getTypeOrdinal(position);
+                    if (CommitHistoryIndex.NO_TYPE != ordinal) {
+                        accumulator.accept(classifications[2 * ordinal +
+                                (index.isBreaking(position) ? 1 : 0)]);
+                    }
+                });
+        if (CommitHistoryIndex.NOT_INDEXED == analysedCommits) {
+            return null;
+        }
+        return toCalculation(baseTag, tags, headId, accumulator, analysedCommits, false, true);
+    }
+
+    private VersionCalculation toCalculation(VersionTag baseTag, List<VersionTag> tags,
+                                             ObjectId headId, Accumulator accumulator,
+                                             int analysedCommits, boolean resumed,
+                                             boolean indexed) {
+        String baseCommitId = null == baseTag ? null : baseTag.getCommitId().name();
+        VersionBump bump = accumulator.bump;
+        SemanticVersion baseVersion =
+                null == baseTag ? SemanticVersion.INITIAL : baseTag.getVersion();
+        Map<String, Integer> unmodifiableTypeCounters =
+                Collections.unmodifiableMap(accumulator.typeCounters);
+        VersionState state = new VersionState(configurationFingerprint, baseCommitId,
+                tagsFingerprint(tags), headId.name(), bump, analysedCommits,
+                unmodifiableTypeCounters);
+        return new VersionCalculation(baseTag, baseVersion, bump, baseVersion.bump(bump),
+                analysedCommits, unmodifiableTypeCounters, resumed, indexed, state);
+    }
+
+    /**
+     * Classifies a raw commit without decoding its message, only commits in another encoding
+     * than UTF-8 are decoded.
+     */
+    Classification classify(ObjectId commitId, byte[] commit) {
+        RawCommitHeader header = rawHeaders.get();
+        if (rawParser.parseCommit(commit, header)) {
+            return header.isConventional() ? classifications[2 * header.getTypeOrdinal() +
+                    (header.isBreaking() ? 1 : 0)] : null;
+        }
+        ConventionalCommit conventionalCommit =
+                parser.parse(CommitScanner.decodeMessage(commit));
+        return null == conventionalCommit ? null :
+                new Classification(conventionalCommit.getType(),
+                        rules.classify(conventionalCommit));
+    }
+
+    /**
+     * Checks if a previous state is still valid, before the base tag is looked up.
+     * <p>
+     * Only the commits added since the previously analysed commit are walked: the state is
+     * valid if that commit is an ancestor of HEAD, the version tags are the ones the state was
+     * calculated with, since a tag added on an analysed commit would be a nearer base, and no
+     * version tag points to it or to an added commit.
+     */
+    private boolean canResume(Repository repository, RevWalk walk, RevCommit head,
+                              List<VersionTag> tags, VersionState previousState)
+            throws IOException {
+        if (null == previousState ||
+                !configurationFingerprint.equals(previousState.getConfigurationFingerprint()) ||
+                !ObjectId.isId(previousState.getLastCommitId()) ||
+                !tagsFingerprint(tags).equals(previousState.getTagsFingerprint()) ||
+                (null != previousState.getBaseCommitId() &&
+                        null == findTag(tags, previousState.getBaseCommitId()))) {
+            return false;
+        }
+        ObjectId lastCommitId = ObjectId.fromString(previousState.getLastCommitId());
+        if (!repository.getObjectDatabase().has(lastCommitId)) {
+            return false;
+        }
+        try {
+            RevCommit lastCommit = walk.parseCommit(lastCommitId);
+            if (!walk.isMergedInto(lastCommit, head)) {
+                return false;
+            }
+            walk.reset();
+            Set<ObjectId> taggedCommits = new HashSet<>();
+            for (VersionTag tag : tags) {
+                taggedCommits.add(tag.getCommitId());
+            }
+            if (taggedCommits.contains(lastCommit)) {
+                return false;
+            }
+            walk.markStart(head);
+            walk.markUninteresting(lastCommit);
+            for (RevCommit commit = walk.next(); null != commit; commit = walk.next()) {
+                if (taggedCommits.contains(commit)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IncorrectObjectTypeException e) {
+            return false;
+        } finally {
+            walk.reset();
+        }
+    }
+
+    /**
+     * Fingerprints the names and the commits of the version tags.
+     */
+    private static String tagsFingerprint(List<VersionTag> tags) {
+        Set<String> entries = new TreeSet<>();
+        for (VersionTag tag : tags) {
+            entries.add(tag.getName() + ' ' + tag.getCommitId().name());
+        }
+        return Fingerprints.of(String.join(FINGERPRINT_SEPARATOR, entries));
+    }
+
+    /**
+     * Finds the highest version tag of a commit.
+     *
+     * @return version tag or null if the commit id is null or the commit has no version tag.
+     */
+    private static VersionTag findTag(List<VersionTag> tags, String commitId) {
+        if (null == commitId) {
+            return null;
+        }
+        for (VersionTag tag : tags) {
+            if (tag.getCommitId().name().equals(commitId)) {
+                return tag;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The type and the version bump of a conventional commit.
+     */
+    static final class Classification {
+
+        private final String type;
+
+        private final VersionBump bump;
+
+        private Classification(String type, VersionBump bump) {
+            this.type = type;
+            this.bump = bump;
+        }
+    }
+
+    /**
+     * Accumulates the bump and the type counters of the scanned conventional commits.
+     */
+    static final class Accumulator implements Consumer<Classification> {
+
+        private final Map<String, Integer> typeCounters = new TreeMap<>();
+
+        private VersionBump bump = VersionBump.NONE;
+
+        Map<String, Integer> getTypeCounters() {
+            return typeCounters;
+        }
+
+        VersionBump getBump() {
+            return bump;
+        }
+
+        @Override
+        public void accept(Classification classification) {
+            typeCounters.merge(classification.type, 1, Integer::sum);
+            bump = bump.max(classification.bump);
+        }
+    }
+}
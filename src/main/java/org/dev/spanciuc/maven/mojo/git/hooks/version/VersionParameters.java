@@ -0,0 +1,224 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import lombok.Value;
+
+import java.io.File;
+
+/**
+ * A class to hold version calculation's parameters.
+ */
+@Value
+public class VersionParameters {
+
+    /**
+     * The default name of the project property set to the next version.
+     */
+    public static final String DEFAULT_PROPERTY_NAME = "semanticVersion";
+
+    /**
+     * Default value for the version state cache represented as string.
+     */
+    public static final String DEFAULT_CACHE_ENABLED_AS_STRING = "true";
+
+    /**
+     * Default value for the version state cache.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_CACHE_ENABLED =
+            Boolean.parseBoolean(DEFAULT_CACHE_ENABLED_AS_STRING);
+
+    /**
+     * Default value for the commit history index represented as string.
+     */
+    public static final String DEFAULT_INDEX_ENABLED_AS_STRING = "false";
+
+    /**
+     * Default value for the commit history index.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_INDEX_ENABLED =
+            Boolean.parseBoolean(DEFAULT_INDEX_ENABLED_AS_STRING);
+
+    /**
+     * Default value for per-module versions represented as string.
+     */
+    public static final String DEFAULT_PER_MODULE_AS_STRING = "false";
+
+    /**
+     * Default value for per-module versions.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_PER_MODULE =
+            Boolean.parseBoolean(DEFAULT_PER_MODULE_AS_STRING);
+
+    /**
+     * Default value for the changed-path Bloom filters represented as string.
+     */
+    public static final String DEFAULT_BLOOM_FILTERS_AS_STRING = "false";
+
+    /**
+     * Default value for the changed-path Bloom filters.
+     */
+    @SuppressWarnings("ConstantConditions")
+    public static final boolean DEFAULT_BLOOM_FILTERS =
+            Boolean.parseBoolean(DEFAULT_BLOOM_FILTERS_AS_STRING);
+
+    /**
+     * The version tag prefix.
+     *
+     * @return tag prefix.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String tagPrefix;
+
+    /**
+     * The comma separated commit types that bump the minor number.
+     *
+     * @return minor types.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String minorTypes;
+
+    /**
+     * The comma separated commit types that bump the patch number.
+     *
+     * @return patch types.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String patchTypes;
+
+    /**
+     * The name of the project property set to the next version.
+     *
+     * @return property name.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String propertyName;
+
+    /**
+     * The version state cache file or null if the cache is disabled.
+     *
+     * @return cache file.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    File cacheFile;
+
+    /**
+     * The commit history index file or null if the index is disabled.
+     *
+     * @return index file.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    File indexFile;
+
+    /**
+     * Whether each module of the reactor gets its own version from the commits that changed
+     * its directory.
+     *
+     * @return true if versions are calculated per module, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean perModule;
+
+    /**
+     * Whether the per-module calculation skips the commits that changed no module according
+     * to changed-path Bloom filters.
+     *
+     * @return true if Bloom filters are used, otherwise - false.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    boolean bloomFilters;
+
+    /**
+     * Creates an instance with parameters.
+     *
+     * @param tagPrefix    tagPrefix parameter.
+     * @param minorTypes   minorTypes parameter.
+     * @param patchTypes   patchTypes parameter.
+     * @param propertyName propertyName parameter.
+     * @param cacheFile    cacheFile parameter.
+     * @param indexFile    indexFile parameter.
+     * @param perModule    perModule parameter.
+     * @param bloomFilters bloomFilters parameter.
+     */
+    public VersionParameters(String tagPrefix, String minorTypes, String patchTypes,
+                             String propertyName, File cacheFile, File indexFile,
+                             boolean perModule, boolean bloomFilters) {
+        this.tagPrefix = tagPrefix;
+        this.minorTypes = minorTypes;
+        this.patchTypes = patchTypes;
+        this.propertyName = propertyName;
+        this.cacheFile = cacheFile;
+        this.indexFile = indexFile;
+        this.perModule = perModule;
+        this.bloomFilters = bloomFilters;
+    }
+
+    /**
+     * Creates an instance with parameters and without Bloom filters.
+     *
+     * @param tagPrefix    tagPrefix parameter.
+     * @param minorTypes   minorTypes parameter.
+     * @param patchTypes   patchTypes parameter.
+     * @param propertyName propertyName parameter.
+     * @param cacheFile    cacheFile parameter.
+     * @param indexFile    indexFile parameter.
+     * @param perModule    perModule parameter.
+     */
+    public VersionParameters(String tagPrefix, String minorTypes, String patchTypes,
+                             String propertyName, File cacheFile, File indexFile,
+                             boolean perModule) {
+        this(tagPrefix, minorTypes, patchTypes, propertyName, cacheFile, indexFile, perModule,
+                false);
+    }
+
+    /**
+     * Creates an instance with parameters and a single version.
+     *
+     * @param tagPrefix    tagPrefix parameter.
+     * @param minorTypes   minorTypes parameter.
+     * @param patchTypes   patchTypes parameter.
+     * @param propertyName propertyName parameter.
+     * @param cacheFile    cacheFile parameter.
+     * @param indexFile    indexFile parameter.
+     */
+    public VersionParameters(String tagPrefix, String minorTypes, String patchTypes,
+                             String propertyName, File cacheFile, File indexFile) {
+        this(tagPrefix, minorTypes, patchTypes, propertyName, cacheFile, indexFile, false);
+    }
+
+    /**
+     * Creates an instance with parameters and disabled index.
+     *
+     * @param tagPrefix    tagPrefix parameter.
+     * @param minorTypes   minorTypes parameter.
+     * @param patchTypes   patchTypes parameter.
+     * @param propertyName propertyName parameter.
+     * @param cacheFile    cacheFile parameter.
+     */
+    public VersionParameters(String tagPrefix, String minorTypes, String patchTypes,
+                             String propertyName, File cacheFile) {
+        this(tagPrefix, minorTypes, patchTypes, propertyName, cacheFile, null);
+    }
+
+    /**
+     * Creates an instance with parameters and disabled cache and index.
+     *
+     * @param tagPrefix    tagPrefix parameter.
+     * @param minorTypes   minorTypes parameter.
+     * @param patchTypes   patchTypes parameter.
+     * @param propertyName propertyName parameter.
+     */
+    public VersionParameters(String tagPrefix, String minorTypes, String patchTypes,
+                             String propertyName) {
+        this(tagPrefix, minorTypes, patchTypes, propertyName, null);
+    }
+
+    /**
+     * Creates an instance with default values.
+     */
+    public VersionParameters() {
+        this(VersionTags.DEFAULT_TAG_PREFIX, VersionBumpRules.DEFAULT_MINOR_TYPES,
+                VersionBumpRules.DEFAULT_PATCH_TYPES, DEFAULT_PROPERTY_NAME);
+    }
+}
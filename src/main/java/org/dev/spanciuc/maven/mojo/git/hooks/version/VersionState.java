@@ -0,0 +1,69 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * A class represents the accumulated state of a version calculation, used to resume the
+ * calculation from the last analysed commit.
+ */
+@Value
+public class VersionState {
+
+    /**
+     * The fingerprint of the configuration the state was calculated with.
+     *
+     * @return configuration fingerprint.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String configurationFingerprint;
+
+    /**
+     * The id of the base version tag commit or null if no version was released yet.
+     *
+     * @return base commit id.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String baseCommitId;
+
+    /**
+     * The fingerprint of the version tags when the state was calculated.
+     *
+     * @return tags fingerprint.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String tagsFingerprint;
+
+    /**
+     * The id of the last analysed commit.
+     *
+     * @return last commit id.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String lastCommitId;
+
+    /**
+     * The accumulated version bump.
+     *
+     * @return version bump.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    VersionBump bump;
+
+    /**
+     * The number of analysed commits since the base version.
+     *
+     * @return number of commits.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    int analysedCommits;
+
+    /**
+     * The number of analysed conventional commits by type.
+     *
+     * @return counters by type.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    Map<String, Integer> typeCounters;
+}
@@ -0,0 +1,120 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * A properties file cache of a {@link VersionState}.
+ */
+public class VersionStateCache {
+
+    static final String KEY_CONFIGURATION_FINGERPRINT = "configurationFingerprint";
+    static final String KEY_BASE_COMMIT_ID = "baseCommitId";
+    static final String KEY_TAGS_FINGERPRINT = "tagsFingerprint";
+    static final String KEY_LAST_COMMIT_ID = "lastCommitId";
+    static final String KEY_BUMP = "bump";
+    static final String KEY_ANALYSED_COMMITS = "analysedCommits";
+    static final String KEY_TYPE_COUNTER_PREFIX = "type.";
+
+    private static final String COMMENTS = "Semantic version calculation state";
+
+    private final File file;
+
+    /**
+     * Creates a cache stored in the given file.
+     *
+     * @param file the cache file.
+     * @throws IllegalArgumentException if file is null.
+     */
+    public VersionStateCache(File file) {
+        if (null == file) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_VERSION_CACHE_FILE));
+        }
+        this.file = file;
+    }
+
+    /**
+     * Loads the cached state.
+     * <p>
+     * A missing, unreadable or corrupt cache file is treated as an empty cache.
+     *
+     * @return cached state or null if there is no valid cached state.
+     */
+    public VersionState load() {
+        if (!file.isFile()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            Map<String, Integer> typeCounters = new TreeMap<>();
+            for (String key : properties.stringPropertyNames()) {
+                if (key.startsWith(KEY_TYPE_COUNTER_PREFIX)) {
+                    typeCounters.put(key.substring(KEY_TYPE_COUNTER_PREFIX.length()),
+                            Integer.parseInt(properties.getProperty(key)));
+                }
+            }
+            String lastCommitId = properties.getProperty(KEY_LAST_COMMIT_ID);
+            String fingerprint = properties.getProperty(KEY_CONFIGURATION_FINGERPRINT);
+            String tagsFingerprint = properties.getProperty(KEY_TAGS_FINGERPRINT);
+            if (null == lastCommitId || null == fingerprint || null == tagsFingerprint) {
+                return null;
+            }
+            return new VersionState(fingerprint,
+                    properties.getProperty(KEY_BASE_COMMIT_ID), tagsFingerprint, lastCommitId,
+                    VersionBump.valueOf(properties.getProperty(KEY_BUMP)),
+                    Integer.parseInt(properties.getProperty(KEY_ANALYSED_COMMITS)),
+                    Collections.unmodifiableMap(typeCounters));
+        } catch (IOException | IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores a state, replacing the cached one.
+     *
+     * @param state the state.
+     * @throws IllegalArgumentException if state is null.
+     * @throws RuntimeIOException       if the cache file cannot be written.
+     */
+    public void store(VersionState state) {
+        if (null == state) {
+            throw new IllegalArgumentException(
+                    String.format(Messages.MESSAGE_VALUE_MUST_NOT_BE_NULL,
+                            Messages.VALUE_VERSION_STATE));
+        }
+        Properties properties = new Properties();
+        properties.setProperty(KEY_CONFIGURATION_FINGERPRINT,
+                state.getConfigurationFingerprint());
+        if (null != state.getBaseCommitId()) {
+            properties.setProperty(KEY_BASE_COMMIT_ID, state.getBaseCommitId());
+        }
+        properties.setProperty(KEY_TAGS_FINGERPRINT, state.getTagsFingerprint());
+        properties.setProperty(KEY_LAST_COMMIT_ID, state.getLastCommitId());
+        properties.setProperty(KEY_BUMP, state.getBump().name());
+        properties.setProperty(KEY_ANALYSED_COMMITS, Integer.toString(state.getAnalysedCommits()));
+        state.getTypeCounters().forEach((type, counter) ->
+                properties.setProperty(KEY_TYPE_COUNTER_PREFIX + type, counter.toString()));
+        try {
+            Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+            try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                properties.store(writer, COMMENTS);
+            }
+        } catch (IOException e) {
+            throw new RuntimeIOException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import lombok.Value;
+import org.eclipse.jgit.lib.ObjectId;
+
+/**
+ * A class represents a git tag that marks a released version.
+ */
+@Value
+public class VersionTag {
+
+    /**
+     * The short tag name, ex. 'v1.2.3'.
+     *
+     * @return tag name.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    String name;
+
+    /**
+     * The released version.
+     *
+     * @return version.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    SemanticVersion version;
+
+    /**
+     * The id of the tagged commit.
+     *
+     * @return commit id.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    ObjectId commitId;
+}
@@ -0,0 +1,112 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class for version tags lookup.
+ */
+public class VersionTags {
+
+    /**
+     * The default prefix of version tags, matches the release plugin tag name format.
+     */
+    public static final String DEFAULT_TAG_PREFIX = "v";
+
+    /**
+     * To prevent instance creation.
+     */
+    private VersionTags() {
+    }
+
+    /**
+     * Lists the version tags of a repository ordered from the highest to the lowest version.
+     * <p>
+     * Only tags named as the prefix followed by a 'major.minor.patch' version and pointing to a
+     * commit are listed.
+     *
+     * @param repository the repository.
+     * @param tagPrefix  the version tag prefix.
+     * @return version tags.
+     * @throws IOException if the repository cannot be read.
+     */
+    public static List<VersionTag> list(Repository repository, String tagPrefix)
+            throws IOException {
+        List<VersionTag> result = new ArrayList<>();
+        for (Ref ref : repository.getRefDatabase()
+                .getRefsByPrefix(Constants.R_TAGS + tagPrefix)) {
+            String name = Repository.shortenRefName(ref.getName());
+            SemanticVersion version = SemanticVersion.parse(name.substring(tagPrefix.length()));
+            if (null == version) {
+                continue;
+            }
+            Ref peeledRef = repository.getRefDatabase().peel(ref);
+            ObjectId objectId = null != peeledRef.getPeeledObjectId() ?
+                    peeledRef.getPeeledObjectId() : peeledRef.getObjectId();
+            if (null != objectId && repository.getObjectDatabase().open(objectId).getType() ==
+                    Constants.OBJ_COMMIT) {
+                result.add(new VersionTag(name, version, objectId));
+            }
+        }
+        result.sort(Comparator.comparing(VersionTag::getVersion).reversed());
+        return result;
+    }
+
+    /**
+     * Finds the highest version tag among the nearest tagged ancestors of a commit.
+     * <p>
+     * The history is walked once from the commit, a tagged commit ends the walk of its own
+     * ancestors, so the walk stops at the nearest tags instead of checking the reachability of
+     * every tag. A tag reachable only through another tagged commit is not considered. The walk
+     * is reset after the lookup.
+     *
+     * @param repository the repository.
+     * @param walk       the walk used for the lookup.
+     * @param head       the commit.
+     * @param tagPrefix  the version tag prefix.
+     * @return version tag or null if no version tag is reachable.
+     * @throws IOException if the repository cannot be read.
+     */
+    public static VersionTag findLatest(Repository repository, RevWalk walk, RevCommit head,
+                                        String tagPrefix) throws IOException {
+        List<VersionTag> tags = list(repository, tagPrefix);
+        if (tags.isEmpty()) {
+            return null;
+        }
+        Map<ObjectId, VersionTag> taggedCommits = new HashMap<>();
+        for (VersionTag tag : tags) {
+            taggedCommits.putIfAbsent(tag.getCommitId(), tag);
+        }
+        try {
+            walk.markStart(head);
+            VersionTag latest = null;
+            for (RevCommit commit = walk.next(); null != commit; commit = walk.next()) {
+                VersionTag tag = taggedCommits.get(commit);
+                if (null == tag) {
+                    continue;
+                }
+                if (null == latest || tag.getVersion().compareTo(latest.getVersion()) > 0) {
+                    latest = tag;
+                }
+                if (latest == tags.get(0)) {
+                    break;
+                }
+                walk.markUninteresting(commit);
+            }
+            return latest;
+        } finally {
+            walk.reset();
+        }
+    }
+}
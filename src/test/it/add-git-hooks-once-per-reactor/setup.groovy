@@ -0,0 +1,3 @@
+import org.dev.spanciuc.maven.mojo.git.hooks.it.utils.GitTestUtils
+
+println GitTestUtils.initRepository(basedir, ".git")
\ No newline at end of file
@@ -0,0 +1,7 @@
+import org.dev.spanciuc.maven.mojo.git.hooks.it.utils.CommitMsgHookTestUtils
+
+println CommitMsgHookTestUtils.checkCommitMsgHookFile(basedir, ".git/hooks", "commit-msg")
+
+def buildLog = new File(basedir, "build.log").text
+assert buildLog.count("Created 1 git hook(s).") == 1
+assert buildLog.count("already handled in this reactor") == 2
@@ -1,7 +1,16 @@
 package org.dev.spanciuc.maven.mojo.git.hooks;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.logging.Log;
 import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.ExecutionMetrics;
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.MetricsReportFormat;
+import org.dev.spanciuc.maven.mojo.git.hooks.metrics.RecordingExecutionMetricsListener;
+import org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg.PrepareCommitMsgParameters;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.jgit.api.Git;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils;
 import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -10,9 +19,11 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class AddGitHooksMojoTest {
@@ -35,6 +46,240 @@ class AddGitHooksMojoTest {
                         .toAbsolutePath()));
     }
 
+    @Test
+    void execute_whenLockEnabledAndForceDisabled_shouldCreateExecutableHookFile(
+            @TempDir File basedir) {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, "commit-msg", 100, "type");
+        String hooksDirectory = "git/hooks";
+        String gitDirectory = "git";
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, gitDirectory, hooksDirectory, commitMsgParameters,
+                        false, new FileWriteOptions(true, false));
+        assertTrue(new File(basedir, gitDirectory).mkdir());
+        new AddGitHooksMojo(basedir, parameters).execute();
+        assertTrue(Files.isExecutable(
+                Path.of(basedir.toString(), hooksDirectory, commitMsgParameters.getFileName())));
+    }
+
+    @Test
+    void execute_whenCoreHooksPathInstallMode_shouldWriteVersionedHooksOnlyOnce(
+            @TempDir File basedir) throws Exception {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, "commit-msg", 100, "type");
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, ".git", ".git/hooks", commitMsgParameters, false,
+                        FileWriteOptions.DEFAULT, GitHooksInstallMode.CORE_HOOKS_PATH,
+                        ".githooks");
+        GitRepositoryTestUtils.init(basedir).close();
+        new AddGitHooksMojo(basedir, parameters).execute();
+
+        File[] versionedDirectories = new File(basedir, ".githooks").listFiles();
+        assertNotNull(versionedDirectories);
+        assertEquals(1, versionedDirectories.length);
+        String hooksPath = ".githooks/" + versionedDirectories[0].getName();
+        Path hookFile = versionedDirectories[0].toPath().resolve("commit-msg");
+        assertTrue(Files.isExecutable(hookFile));
+        assertFalse(Files.exists(Path.of(basedir.getPath(), ".git", "hooks", "commit-msg")));
+        try (Git git = Git.open(basedir)) {
+            assertEquals(hooksPath, git.getRepository().getConfig()
+                    .getString("core", null, "hooksPath"));
+        }
+
+        FileTime unchangedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(hookFile, unchangedTime);
+        AddGitHooksMojo mojo = new AddGitHooksMojo(basedir, parameters);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+
+        assertEquals(unchangedTime, Files.getLastModifiedTime(hookFile));
+        verify(log, times(1)).info(String.format(Messages.CORE_HOOKS_PATH_UP_TO_DATE_MESSAGE,
+                new File(basedir, hooksPath).getPath()));
+        verify(log, times(1)).info(String.format(Messages.CREATED_NUMBER_OF_HOOKS_MESSAGE, 0));
+    }
+
+    @Test
+    void execute_whenDiscoveryEnabledInNestedModule_shouldWriteHooksOfRepository(
+            @TempDir File basedir) throws Exception {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, "commit-msg", 100, "type");
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, ".git", ".git/hooks", commitMsgParameters, false,
+                        FileWriteOptions.DEFAULT, GitHooksInstallMode.HOOKS_DIRECTORY,
+                        ".githooks", true);
+        GitRepositoryTestUtils.init(basedir).close();
+        File module = new File(basedir, "modules/module");
+        assertTrue(module.mkdirs());
+
+        new AddGitHooksMojo(module, parameters).execute();
+
+        assertTrue(Files.isExecutable(Path.of(basedir.getPath(), ".git", "hooks", "commit-msg")));
+        assertFalse(new File(module, ".git").exists());
+    }
+
+    @Test
+    void execute_whenMetricsReportEnabled_shouldWriteReportAndNotifyListeners(
+            @TempDir File basedir) throws IOException {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, "commit-msg", 100, "type");
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, "git", "git/hooks", commitMsgParameters);
+        assertTrue(new File(basedir, "git").mkdir());
+        File target = new File(basedir, "target");
+
+        new AddGitHooksMojo(basedir, parameters, MetricsReportFormat.JSON, target).execute();
+
+        String report = Files.readString(target.toPath().resolve("add-git-hooks-metrics.json"));
+        assertTrue(report.contains("\"stage\":\"" + AddGitHooksMojo.STAGE_CONFIGURATION + "\""));
+        assertTrue(report.contains("\"stage\":\"" + AddGitHooksMojo.STAGE_CHECKS + "\""));
+        assertTrue(report.contains(
+                "\"stage\":\"" + AddGitHooksMojo.STAGE_DIRECTORY_CREATION + "\""));
+        assertTrue(report.contains("\"stage\":\"" + AddGitHooksMojo.STAGE_GENERATE +
+                "\",\"name\":\"commit-msg\""));
+        ExecutionMetrics notified = RecordingExecutionMetricsListener.EXECUTIONS.get(
+                RecordingExecutionMetricsListener.EXECUTIONS.size() - 1);
+        assertEquals(AddGitHooksMojo.GOAL, notified.getGoal());
+        assertEquals(4, notified.getStageTimings().size());
+    }
+
+    @Test
+    void execute_whenFingerprintEnabledAndHookIsUnchanged_shouldNotRewriteHookFile(
+            @TempDir File basedir) throws IOException {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, "commit-msg", 100, "type");
+        String hooksDirectory = "git/hooks";
+        String gitDirectory = "git";
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, gitDirectory, hooksDirectory, commitMsgParameters,
+                        true);
+        File gitFolder = new File(basedir, gitDirectory);
+        assertTrue(gitFolder.mkdir());
+        new AddGitHooksMojo(basedir, parameters).execute();
+        Path hookFile = Path.of(basedir.toString(), hooksDirectory,
+                commitMsgParameters.getFileName());
+        FileTime unchangedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(hookFile, unchangedTime);
+
+        AddGitHooksMojo mojo = new AddGitHooksMojo(basedir, parameters);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+
+        assertEquals(unchangedTime, Files.getLastModifiedTime(hookFile));
+        verify(log, times(1)).info(String.format(Messages.CREATED_NUMBER_OF_HOOKS_MESSAGE, 0));
+        verify(log, times(1)).info(String.format(Messages.UNCHANGED_NUMBER_OF_HOOKS_MESSAGE, 1));
+    }
+
+    @Test
+    void execute_whenFingerprintEnabledAndHookIsChanged_shouldRewriteHookFile(
+            @TempDir File basedir) throws IOException {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, "commit-msg", 100, "type");
+        String hooksDirectory = "git/hooks";
+        String gitDirectory = "git";
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, gitDirectory, hooksDirectory, commitMsgParameters,
+                        true);
+        assertTrue(new File(basedir, hooksDirectory).mkdirs());
+        Path hookFile = Path.of(basedir.toString(), hooksDirectory,
+                commitMsgParameters.getFileName());
+        Files.writeString(hookFile, "outdated");
+
+        AddGitHooksMojo mojo = new AddGitHooksMojo(basedir, parameters);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+
+        assertNotEquals("outdated", Files.readString(hookFile));
+        verify(log, times(1)).info(String.format(Messages.CREATED_NUMBER_OF_HOOKS_MESSAGE, 1));
+        verify(log, times(1)).info(String.format(Messages.UNCHANGED_NUMBER_OF_HOOKS_MESSAGE, 0));
+    }
+
+    @Test
+    void execute_whenOncePerReactor_shouldGenerateHooksOnlyOnceInExecutionRoot(
+            @TempDir File rootDirectory) {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, "commit-msg", 100, "type");
+        String hooksDirectory = "git/hooks";
+        String gitDirectory = "git";
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, gitDirectory, hooksDirectory, commitMsgParameters);
+        assertTrue(new File(rootDirectory, gitDirectory).mkdir());
+        MavenSession session = ReactorGitHooksRegistryTest.mockSession();
+        when(session.getExecutionRootDirectory()).thenReturn(rootDirectory.getPath());
+
+        AddGitHooksMojo rootMojo = new AddGitHooksMojo(rootDirectory, parameters, session);
+        rootMojo.execute();
+        AddGitHooksMojo moduleMojo =
+                new AddGitHooksMojo(new File(rootDirectory, "module"), parameters, session);
+        Log log = mock(Log.class);
+        moduleMojo.setLog(log);
+        moduleMojo.execute();
+
+        assertTrue(Files.exists(Path.of(rootDirectory.toString(), hooksDirectory,
+                commitMsgParameters.getFileName())));
+        verify(log, times(1)).info(String.format(Messages.HOOKS_ALREADY_HANDLED_IN_REACTOR_MESSAGE,
+                new File(rootDirectory, hooksDirectory).getPath()));
+        verify(log, never()).info(Messages.STARTING_CHECKS_MESSAGE);
+    }
+
+    @Test
+    void execute_whenOncePerReactorAndGenerationFailed_shouldGenerateInLaterModule(
+            @TempDir File rootDirectory) {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, "commit-msg", 100, "type");
+        String hooksDirectory = "git/hooks";
+        String gitDirectory = "git";
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, gitDirectory, hooksDirectory, commitMsgParameters);
+        MavenSession session = ReactorGitHooksRegistryTest.mockSession();
+        when(session.getExecutionRootDirectory()).thenReturn(rootDirectory.getPath());
+
+        AddGitHooksMojo rootMojo = new AddGitHooksMojo(rootDirectory, parameters, session);
+        assertThrows(IllegalStateException.class, rootMojo::execute);
+        assertTrue(new File(rootDirectory, gitDirectory).mkdir());
+        new AddGitHooksMojo(new File(rootDirectory, "module"), parameters, session).execute();
+
+        assertTrue(Files.exists(Path.of(rootDirectory.toString(), hooksDirectory,
+                commitMsgParameters.getFileName())));
+    }
+
+    @Test
+    void execute_whenPrepareCommitMsgEnabled_shouldEmbedReactorModuleScopes(
+            @TempDir File rootDirectory) throws IOException {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(false, "commit-msg", 100, "feat,fix");
+        PrepareCommitMsgParameters prepareCommitMsgParameters = new PrepareCommitMsgParameters(
+                true, PrepareCommitMsgParameters.DEFAULT_FILE_NAME, "feat,fix", Map.of());
+        GitHooksParameters parameters = new GitHooksParameters(true, ".git", ".git/hooks",
+                commitMsgParameters, false, FileWriteOptions.DEFAULT,
+                GitHooksInstallMode.HOOKS_DIRECTORY, ".githooks", false,
+                prepareCommitMsgParameters);
+        assertTrue(new File(rootDirectory, ".git").mkdir());
+        MavenSession session = ReactorGitHooksRegistryTest.mockSession();
+        when(session.getExecutionRootDirectory()).thenReturn(rootDirectory.getPath());
+        List<MavenProject> projects = List.of(mockProject(rootDirectory, "parent"),
+                mockProject(new File(rootDirectory, "core"), "core-module"));
+        when(session.getProjects()).thenReturn(projects);
+
+        new AddGitHooksMojo(rootDirectory, parameters, session).execute();
+
+        Path hookFile = Path.of(rootDirectory.toString(), ".git/hooks",
+                PrepareCommitMsgParameters.DEFAULT_FILE_NAME);
+        String content = Files.readString(hookFile);
+        assertTrue(content.contains("'core/'*) path_scope='core-module' ;;"));
+        assertFalse(content.contains("'parent'"));
+        assertFalse(Files.exists(hookFile.resolveSibling("commit-msg")));
+    }
+
+    private static MavenProject mockProject(File basedir, String artifactId) {
+        MavenProject project = mock(MavenProject.class);
+        when(project.getBasedir()).thenReturn(basedir);
+        when(project.getArtifactId()).thenReturn(artifactId);
+        return project;
+    }
+
     @Test
     void execute_whenGitHooksAreDisabled_shouldDisplayMessageAndExit(@TempDir File basedir) {
         CommitMsgParameters commitMsgParameters =
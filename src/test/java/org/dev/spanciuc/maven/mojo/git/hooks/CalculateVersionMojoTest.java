@@ -0,0 +1,250 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.ModuleChangedPathFilters;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionParameters;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CalculateVersionMojoTest {
+
+    @Test
+    void execute_whenGitRepository_shouldSetNextVersionProperty(@TempDir File basedir)
+            throws GitAPIException {
+        try (Git git = init(basedir)) {
+            commit(git, "feat: init");
+            tag(git, "release-1.0.0");
+            commit(git, "feat: feature");
+        }
+        MavenProject project = new MavenProject();
+        CalculateVersionMojo mojo = new CalculateVersionMojo(basedir, project, ".git",
+                new CommitMsgParameters(),
+                new VersionParameters("release-", "feat", "fix", "nextVersion"));
+        mojo.execute();
+        assertEquals("1.1.0", project.getProperties().getProperty("nextVersion"));
+    }
+
+    @Test
+    void execute_whenCacheEnabled_shouldResumeFromCachedState(@TempDir File basedir)
+            throws GitAPIException {
+        File cacheFile = new File(basedir, "target/version-state.properties");
+        VersionParameters versionParameters =
+                new VersionParameters("v", "feat", "fix", "nextVersion", cacheFile);
+        try (Git git = init(basedir)) {
+            commit(git, "feat: init");
+            new CalculateVersionMojo(basedir, new MavenProject(), ".git",
+                    new CommitMsgParameters(), versionParameters).execute();
+            assertTrue(cacheFile.isFile());
+            commit(git, "fix: fix");
+        }
+        MavenProject project = new MavenProject();
+        CalculateVersionMojo mojo = new CalculateVersionMojo(basedir, project, ".git",
+                new CommitMsgParameters(), versionParameters);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+        assertEquals("0.1.0", project.getProperties().getProperty("nextVersion"));
+        verify(log).info(String.format(Messages.RESUMED_FROM_VERSION_CACHE_MESSAGE,
+                cacheFile.getPath()));
+        verify(log).info(String.format(Messages.ANALYSED_NUMBER_OF_COMMITS_MESSAGE, 2));
+    }
+
+    @Test
+    void execute_whenIndexEnabled_shouldCalculateFromIndex(@TempDir File basedir)
+            throws GitAPIException {
+        File indexFile = new File(basedir, "target/commit-history.idx");
+        VersionParameters versionParameters =
+                new VersionParameters("v", "feat", "fix", "nextVersion", null, indexFile);
+        try (Git git = init(basedir)) {
+            commit(git, "feat: init");
+            commit(git, "fix: fix");
+        }
+        MavenProject project = new MavenProject();
+        CalculateVersionMojo mojo = new CalculateVersionMojo(basedir, project, ".git",
+                new CommitMsgParameters(), versionParameters);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+        assertEquals("0.1.0", project.getProperties().getProperty("nextVersion"));
+        assertTrue(indexFile.isFile());
+        verify(log).info(String.format(Messages.CALCULATED_FROM_HISTORY_INDEX_MESSAGE,
+                indexFile.getPath()));
+        verify(log).info(String.format(Messages.ANALYSED_NUMBER_OF_COMMITS_MESSAGE, 2));
+    }
+
+    @Test
+    void execute_whenPerModule_shouldSetModuleVersionsFromOneWalk(@TempDir File rootDirectory)
+            throws GitAPIException, IOException {
+        try (Git git = init(rootDirectory)) {
+            commitFile(git, "pom.xml", "root", "chore: init");
+            commitFile(git, "module-1/pom.xml", "module-1", "feat: first module");
+            tag(git, "module-1/v1.0.0");
+            commitFile(git, "module-1/pom.xml", "module-1 fixed", "fix: first module");
+            commitFile(git, "module-2/pom.xml", "module-2", "feat!: second module");
+        }
+        MavenProject root = project("root", rootDirectory);
+        MavenProject module1 = project("module-1", new File(rootDirectory, "module-1"));
+        MavenProject module2 = project("module-2", new File(rootDirectory, "module-2"));
+        MavenSession session = ReactorGitHooksRegistryTest.mockSession();
+        when(session.getProjects()).thenReturn(List.of(root, module1, module2));
+        VersionParameters versionParameters =
+                new VersionParameters("v", "feat", "fix", "nextVersion", null, null, true);
+
+        Log firstLog = mock(Log.class);
+        CalculateVersionMojo firstMojo = new CalculateVersionMojo(module1.getBasedir(), module1,
+                session, ".git", new CommitMsgParameters(), versionParameters);
+        firstMojo.setLog(firstLog);
+        firstMojo.execute();
+        Log secondLog = mock(Log.class);
+        CalculateVersionMojo secondMojo = new CalculateVersionMojo(module2.getBasedir(), module2,
+                session, ".git", new CommitMsgParameters(), versionParameters);
+        secondMojo.setLog(secondLog);
+        secondMojo.execute();
+        new CalculateVersionMojo(rootDirectory, root, session, ".git",
+                new CommitMsgParameters(), versionParameters).execute();
+
+        assertEquals("1.0.1", module1.getProperties().getProperty("nextVersion"));
+        assertEquals("1.0.0", module2.getProperties().getProperty("nextVersion"));
+        assertEquals("0.0.0", root.getProperties().getProperty("nextVersion"));
+        verify(firstLog).info(String.format(Messages.CALCULATED_MODULE_VERSIONS_MESSAGE, 3));
+        verify(secondLog, never()).info(
+                String.format(Messages.CALCULATED_MODULE_VERSIONS_MESSAGE, 3));
+    }
+
+    @Test
+    void execute_whenPerModuleWithOtherTagPrefix_shouldNotReuseReactorVersions(
+            @TempDir File rootDirectory) throws GitAPIException, IOException {
+        try (Git git = init(rootDirectory)) {
+            commitFile(git, "module-1/pom.xml", "module-1", "feat: first module");
+            tag(git, "module-1/v1.0.0");
+            commitFile(git, "module-1/pom.xml", "module-1 fixed", "fix: first module");
+        }
+        MavenProject module1 = project("module-1", new File(rootDirectory, "module-1"));
+        MavenSession session = ReactorGitHooksRegistryTest.mockSession();
+        when(session.getProjects()).thenReturn(List.of(module1));
+
+        new CalculateVersionMojo(module1.getBasedir(), module1, session, ".git",
+                new CommitMsgParameters(),
+                new VersionParameters("v", "feat", "fix", "nextVersion", null, null, true))
+                .execute();
+        new CalculateVersionMojo(module1.getBasedir(), module1, session, ".git",
+                new CommitMsgParameters(),
+                new VersionParameters("release-", "feat", "fix", "releaseVersion", null, null,
+                        true)).execute();
+
+        assertEquals("1.0.1", module1.getProperties().getProperty("nextVersion"));
+        assertEquals("0.1.0", module1.getProperties().getProperty("releaseVersion"));
+    }
+
+    @Test
+    void execute_whenPerModuleInLinkedWorktree_shouldCalculateFromWorktreeHead(
+            @TempDir File directory) throws GitAPIException, IOException {
+        File worktree = new File(directory, "feature");
+        try (Git git = init(new File(directory, "main"))) {
+            RevCommit released = commitFile(git, "module-1/pom.xml", "module-1",
+                    "feat: first module");
+            tag(git, "module-1/v1.0.0");
+            addWorktree(git, "feature", worktree, released);
+            commitFile(git, "module-1/pom.xml", "module-1 broken", "feat!: main only");
+        }
+        try (Git git = Git.wrap(GitRepositories.open(GitRepositories.discover(worktree)))) {
+            commitFile(git, "module-1/pom.xml", "module-1 fixed", "fix: worktree only");
+        }
+        MavenProject module1 = project("module-1", new File(worktree, "module-1"));
+        MavenSession session = ReactorGitHooksRegistryTest.mockSession();
+        when(session.getProjects()).thenReturn(List.of(module1));
+
+        new CalculateVersionMojo(module1.getBasedir(), module1, session, ".git",
+                new CommitMsgParameters(),
+                new VersionParameters("v", "feat", "fix", "nextVersion", null, null, true))
+                .execute();
+
+        assertEquals("1.0.1", module1.getProperties().getProperty("nextVersion"));
+    }
+
+    @Test
+    void execute_whenPerModuleWithoutSession_shouldSetCurrentModuleVersion(
+            @TempDir File rootDirectory) throws GitAPIException, IOException {
+        try (Git git = init(rootDirectory)) {
+            commitFile(git, "module-1/pom.xml", "module-1", "feat: first module");
+            commitFile(git, "module-2/pom.xml", "module-2", "feat!: second module");
+        }
+        MavenProject module1 = project("module-1", new File(rootDirectory, "module-1"));
+        new CalculateVersionMojo(module1.getBasedir(), module1, ".git",
+                new CommitMsgParameters(),
+                new VersionParameters("v", "feat", "fix", "nextVersion", null, null, true))
+                .execute();
+        assertEquals("0.1.0", module1.getProperties().getProperty("nextVersion"));
+    }
+
+    @Test
+    void execute_whenPerModuleWithBloomFilters_shouldSkipRecordedCommits(
+            @TempDir File rootDirectory) throws GitAPIException, IOException {
+        try (Git git = init(rootDirectory)) {
+            commitFile(git, "module-1/pom.xml", "module-1", "feat: first module");
+            commitFile(git, "module-2/pom.xml", "module-2", "feat!: second module");
+            commitFile(git, "module-2/pom.xml", "module-2 fixed", "fix: second module");
+        }
+        MavenProject module1 = project("module-1", new File(rootDirectory, "module-1"));
+        VersionParameters versionParameters = new VersionParameters("v", "feat", "fix",
+                "nextVersion", null, null, true, true);
+
+        Log firstLog = mock(Log.class);
+        CalculateVersionMojo firstMojo = new CalculateVersionMojo(module1.getBasedir(), module1,
+                ".git", new CommitMsgParameters(), versionParameters);
+        firstMojo.setLog(firstLog);
+        firstMojo.execute();
+        Log secondLog = mock(Log.class);
+        CalculateVersionMojo secondMojo = new CalculateVersionMojo(module1.getBasedir(), module1,
+                ".git", new CommitMsgParameters(), versionParameters);
+        secondMojo.setLog(secondLog);
+        secondMojo.execute();
+
+        assertEquals("0.1.0", module1.getProperties().getProperty("nextVersion"));
+        verify(firstLog).info(String.format(Messages.SKIPPED_TREE_DIFFS_MESSAGE, 0, 3));
+        verify(secondLog).info(String.format(Messages.SKIPPED_TREE_DIFFS_MESSAGE, 2, 3));
+        assertTrue(new File(rootDirectory, ".git/" + ModuleChangedPathFilters.DEFAULT_FILE)
+                .isFile());
+    }
+
+    @Test
+    void execute_whenNotGitRepository_shouldThrowException(@TempDir File basedir) {
+        CalculateVersionMojo mojo = new CalculateVersionMojo(basedir, new MavenProject(), ".git",
+                new CommitMsgParameters(), new VersionParameters());
+        assertThrows(IllegalStateException.class, mojo::execute);
+    }
+
+    @Test
+    void execute_whenVersionTypeIsNotAllowed_shouldThrowException(@TempDir File basedir) {
+        CalculateVersionMojo mojo = new CalculateVersionMojo(basedir, new MavenProject(), ".git",
+                new CommitMsgParameters(),
+                new VersionParameters("v", "feature", "fix", "nextVersion"));
+        assertThrows(IllegalArgumentException.class, mojo::execute);
+    }
+
+    private static MavenProject project(String artifactId, File basedir) {
+        MavenProject project = new MavenProject();
+        project.setArtifactId(artifactId);
+        project.setFile(new File(basedir, "pom.xml"));
+        return project;
+    }
+}
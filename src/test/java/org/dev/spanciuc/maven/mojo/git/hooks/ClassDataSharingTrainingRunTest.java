@@ -0,0 +1,28 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassDataSharingTrainingRunTest {
+
+    @Test
+    void train_shouldInitializeRepositoryAndGenerateEnabledHooks(@TempDir File workTree)
+            throws Exception {
+        ClassDataSharingTrainingRun.train(workTree);
+        File hooksDirectory = new File(workTree, ".git/hooks");
+        assertTrue(new File(hooksDirectory, "commit-msg").isFile());
+        assertTrue(new File(hooksDirectory, "prepare-commit-msg").isFile());
+        assertTrue(new File(hooksDirectory, "pre-push").isFile());
+    }
+
+    @Test
+    void main_whenWorkDirectoryMissing_shouldThrowIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ClassDataSharingTrainingRun.main(new String[0]));
+        assertEquals(ClassDataSharingTrainingRun.USAGE, exception.getMessage());
+    }
+}
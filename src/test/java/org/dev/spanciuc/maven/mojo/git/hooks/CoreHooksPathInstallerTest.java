@@ -0,0 +1,64 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitDirectories;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoreHooksPathInstallerTest {
+
+    @Test
+    void versionedHooksDirectoryName_shouldDependOnContentKey() {
+        String name = CoreHooksPathInstaller.versionedHooksDirectoryName(".githooks", "a");
+        assertTrue(name.startsWith(".githooks/"));
+        assertEquals(".githooks/".length() + CoreHooksPathInstaller.CONFIG_HASH_LENGTH,
+                name.length());
+        assertEquals(name, CoreHooksPathInstaller.versionedHooksDirectoryName(".githooks", "a"));
+        assertNotEquals(name,
+                CoreHooksPathInstaller.versionedHooksDirectoryName(".githooks", "b"));
+    }
+
+    @Test
+    void install_shouldOnlyWriteConfigurationWhenValueDiffers(@TempDir File basedir)
+            throws Exception {
+        GitRepositoryTestUtils.init(basedir).close();
+        File hooksDirectory = new File(basedir, ".githooks/0123456789ab");
+
+        assertTrue(CoreHooksPathInstaller.install(directories(basedir), hooksDirectory));
+        assertFalse(CoreHooksPathInstaller.install(directories(basedir), hooksDirectory));
+
+        try (Git git = Git.open(basedir)) {
+            assertEquals(".githooks/0123456789ab",
+                    git.getRepository().getConfig().getString("core", null, "hooksPath"));
+        }
+    }
+
+    @Test
+    void install_whenHooksDirectoryOutsideWorkTree_shouldUseAbsolutePath(
+            @TempDir File basedir, @TempDir File hooksDirectory) throws Exception {
+        GitRepositoryTestUtils.init(basedir).close();
+
+        assertTrue(CoreHooksPathInstaller.install(directories(basedir), hooksDirectory));
+
+        try (Git git = Git.open(basedir)) {
+            assertEquals(hooksDirectory.getAbsolutePath(),
+                    git.getRepository().getConfig().getString("core", null, "hooksPath"));
+        }
+    }
+
+    @Test
+    void install_whenNotGitRepository_shouldThrowException(@TempDir File basedir) {
+        assertThrows(IllegalStateException.class,
+                () -> CoreHooksPathInstaller.install(directories(basedir), basedir));
+    }
+
+    private static GitDirectories directories(File basedir) {
+        File gitDirectory = new File(basedir, ".git");
+        return new GitDirectories(gitDirectory, gitDirectory, basedir);
+    }
+}
@@ -0,0 +1,118 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import com.googlecode.javaewah.EWAHCompressedBitmap;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.logging.Log;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GenerateCdsArchiveMojoTest {
+
+    @Test
+    void execute_whenClasspathHasDirectory_shouldWarnAndSkip(@TempDir File buildDirectory)
+            throws URISyntaxException {
+        File archive = new File(buildDirectory, "archive.jsa");
+        GenerateCdsArchiveMojo mojo = new GenerateCdsArchiveMojo(
+                List.of(artifact(getCodeSource(GenerateCdsArchiveMojo.class).toFile())),
+                buildDirectory, archive, false);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+        verify(log).warn(startsWith(
+                Messages.CDS_ARCHIVE_UNSUPPORTED_CLASSPATH_MESSAGE.substring(0, 20)));
+        assertFalse(archive.exists());
+    }
+
+    @Test
+    void execute_whenClasspathIsArchivable_shouldCreateArchiveAndMeasure(
+            @TempDir File buildDirectory) throws Exception {
+        File archive = new File(buildDirectory, "archive.jsa");
+        GenerateCdsArchiveMojo mojo = new GenerateCdsArchiveMojo(
+                getPluginArtifacts(buildDirectory), buildDirectory, archive, true);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+        assertTrue(archive.isFile());
+        verify(log).info(startsWith("Class data sharing archive written to " + archive));
+        verify(log, times(3)).info(anyString());
+        verify(log).info(startsWith("Training run without archive"));
+        verify(log).info(startsWith("Training run with archive"));
+        try (Stream<Path> files = Files.list(buildDirectory.toPath())) {
+            assertEquals(List.of(archive.toPath(), buildDirectory.toPath().resolve("plugin.jar")),
+                    files.sorted().toList());
+        }
+    }
+
+    @Test
+    void getClasspath_shouldContainArtifactsAndLoggingApi(@TempDir File directory)
+            throws Exception {
+        File jar = new File(directory, "plugin.jar");
+        GenerateCdsArchiveMojo mojo = new GenerateCdsArchiveMojo(
+                List.of(artifact(jar), artifact(null)), directory,
+                new File(directory, "archive.jsa"), false);
+        List<Path> classpath = mojo.getClasspath();
+        assertEquals(List.of(jar.toPath().toAbsolutePath(),
+                getCodeSource(Class.forName(GenerateCdsArchiveMojo.LOGGING_API_CLASS))),
+                classpath);
+    }
+
+    @Test
+    void getClasspath_whenNoArtifacts_shouldContainOwnCodeSource(@TempDir File directory)
+            throws Exception {
+        GenerateCdsArchiveMojo mojo = new GenerateCdsArchiveMojo(List.of(), directory,
+                new File(directory, "archive.jsa"), false);
+        assertEquals(getCodeSource(GenerateCdsArchiveMojo.class), mojo.getClasspath().get(0));
+    }
+
+    private static List<Artifact> getPluginArtifacts(File directory)
+            throws IOException, URISyntaxException {
+        Path pluginJar = directory.toPath().resolve("plugin.jar");
+        writeJar(getCodeSource(GenerateCdsArchiveMojo.class), pluginJar);
+        List<Artifact> artifacts = new ArrayList<>();
+        artifacts.add(artifact(pluginJar.toFile()));
+        artifacts.add(artifact(getCodeSource(Git.class).toFile()));
+        artifacts.add(artifact(getCodeSource(EWAHCompressedBitmap.class).toFile()));
+        return artifacts;
+    }
+
+    private static void writeJar(Path classes, Path jar) throws IOException {
+        try (OutputStream output = Files.newOutputStream(jar);
+             JarOutputStream jarOutput = new JarOutputStream(output);
+             Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                jarOutput.putNextEntry(new JarEntry(
+                        classes.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, jarOutput);
+                jarOutput.closeEntry();
+            }
+        }
+    }
+
+    private static Artifact artifact(File file) {
+        Artifact artifact = mock(Artifact.class);
+        when(artifact.getFile()).thenReturn(file);
+        return artifact;
+    }
+
+    private static Path getCodeSource(Class<?> type) throws URISyntaxException {
+        return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toAbsolutePath();
+    }
+}
@@ -0,0 +1,56 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.plugin.logging.Log;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class GenerateChangelogMojoTest {
+
+    @Test
+    void execute_shouldGenerateAndThenAppendChangelog(@TempDir File basedir)
+            throws GitAPIException {
+        File changelogFile = new File(basedir, "CHANGELOG.md");
+        try (Git git = init(basedir)) {
+            commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            Log log = mock(Log.class);
+            GenerateChangelogMojo mojo = new GenerateChangelogMojo(basedir, ".git",
+                    new CommitMsgParameters(), "v", changelogFile);
+            mojo.setLog(log);
+            mojo.execute();
+            verify(log).info(String.format(Messages.CHANGELOG_GENERATED_MESSAGE,
+                    changelogFile.getPath(), 1, 1));
+
+            commit(git, "fix: fix");
+            mojo.execute();
+            verify(log).info(String.format(Messages.CHANGELOG_APPENDED_MESSAGE, 1, 0,
+                    changelogFile.getPath()));
+        }
+        assertTrue(changelogFile.isFile());
+    }
+
+    @Test
+    void execute_whenNullChangelogFile_shouldThrowException(@TempDir File basedir) {
+        GenerateChangelogMojo mojo = new GenerateChangelogMojo(basedir, ".git",
+                new CommitMsgParameters(), "v", null);
+        assertThrows(IllegalArgumentException.class, mojo::execute);
+    }
+
+    @Test
+    void execute_whenNotGitRepository_shouldThrowException(@TempDir File basedir) {
+        GenerateChangelogMojo mojo = new GenerateChangelogMojo(basedir, ".git",
+                new CommitMsgParameters(), "v", new File(basedir, "CHANGELOG.md"));
+        assertThrows(IllegalStateException.class, mojo::execute);
+    }
+}
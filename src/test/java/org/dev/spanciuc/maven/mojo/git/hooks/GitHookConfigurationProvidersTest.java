@@ -0,0 +1,26 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfigurationProvider;
+import org.dev.spanciuc.maven.mojo.git.hooks.pre_push.PrePushConfigurationProvider;
+import org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg.PrepareCommitMsgConfigurationProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHookConfigurationProvidersTest {
+
+    @Test
+    void getProviders_shouldReturnRegisteredProvidersOrderedByHookName() {
+        List<GitHookConfigurationProvider> providers =
+                GitHookConfigurationProviders.getProviders();
+        List<String> hookNames =
+                providers.stream().map(GitHookConfigurationProvider::getHookName).toList();
+        assertTrue(hookNames.contains(CommitMsgConfigurationProvider.HOOK_NAME));
+        assertTrue(hookNames.contains(PrepareCommitMsgConfigurationProvider.HOOK_NAME));
+        assertTrue(hookNames.contains(PrePushConfigurationProvider.HOOK_NAME));
+        assertEquals(hookNames.stream().sorted().toList(), hookNames);
+        assertSame(providers, GitHookConfigurationProviders.getProviders());
+    }
+}
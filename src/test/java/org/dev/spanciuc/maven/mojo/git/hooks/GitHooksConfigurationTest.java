@@ -116,6 +116,40 @@ class GitHooksConfigurationTest {
         assertFalse(configuration.hasEnabledHooks());
     }
 
+    @Test
+    void constructor_whenHookIsDisabled_shouldNotValidateItsParameters() {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(false, null, 0, null);
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, "folderName", "folderName", commitMsgParameters);
+        GitHooksConfiguration configuration = new GitHooksConfiguration(parameters);
+        assertFalse(configuration.hasEnabledHooks());
+    }
+
+    @Test
+    void constructor_whenHookIsEnabled_shouldValidateItsParameters() {
+        CommitMsgParameters commitMsgParameters =
+                new CommitMsgParameters(true, null, 0, null);
+        GitHooksParameters parameters =
+                new GitHooksParameters(true, "folderName", "folderName", commitMsgParameters);
+        assertThrows(IllegalArgumentException.class, () -> new GitHooksConfiguration(parameters));
+    }
+
+    @Test
+    void createEnabledConfigurations_shouldOnlyCreateEnabledHooks() {
+        GitHooksParameters parameters = buildValidGitHooksParameters();
+        GitHookConfiguration configuration = Mockito.mock(GitHookConfiguration.class);
+        GitHookConfigurationProvider enabled = Mockito.mock(GitHookConfigurationProvider.class);
+        GitHookConfigurationProvider disabled = Mockito.mock(GitHookConfigurationProvider.class);
+        when(enabled.isEnabled(parameters)).thenReturn(true);
+        when(enabled.create(parameters)).thenReturn(configuration);
+        when(disabled.isEnabled(parameters)).thenReturn(false);
+
+        assertEquals(List.of(configuration), GitHooksConfiguration.createEnabledConfigurations(
+                parameters, List.of(enabled, disabled)));
+        Mockito.verify(disabled, Mockito.never()).create(parameters);
+    }
+
     private static GitHooksParameters buildValidGitHooksParameters() {
         return new GitHooksParameters(true, "gitDirectory", "gitHooksDirectory",
                 new CommitMsgParameters(true, "fileName", -1, "type-1, type-2"));
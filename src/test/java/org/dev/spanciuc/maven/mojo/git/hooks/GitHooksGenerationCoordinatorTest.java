@@ -0,0 +1,125 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHooksGenerationCoordinatorTest {
+
+    private static final GitHooksGenerationCoordinator.Generation GENERATION =
+            new GitHooksGenerationCoordinator.Generation(List.of(new File("commit-msg")),
+                    List.of(), false);
+
+    @Test
+    void generate_whenNullArguments_shouldThrowException(@TempDir File directory) {
+        assertThrows(IllegalArgumentException.class,
+                () -> GitHooksGenerationCoordinator.generate(null, "key", () -> GENERATION));
+        assertThrows(IllegalArgumentException.class,
+                () -> GitHooksGenerationCoordinator.generate(directory, null, () -> GENERATION));
+        assertThrows(IllegalArgumentException.class,
+                () -> GitHooksGenerationCoordinator.generate(directory, "key", null));
+    }
+
+    @Test
+    void generate_whenNotConcurrent_shouldRunEveryGeneration(@TempDir File directory) {
+        AtomicInteger generations = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            GitHooksGenerationCoordinator.Generation generation =
+                    GitHooksGenerationCoordinator.generate(directory, "key", () -> {
+                        generations.incrementAndGet();
+                        return GENERATION;
+                    });
+            assertFalse(generation.isReused());
+        }
+        assertEquals(2, generations.get());
+    }
+
+    @Test
+    void generate_whenConcurrentWithSameContent_shouldReuseRunningGeneration(
+            @TempDir File directory) throws Exception {
+        AtomicInteger generations = new AtomicInteger();
+        GitHooksGenerationCoordinator.Generation awaited =
+                awaitWhileRunning(directory, "key", "key", generations);
+        assertTrue(awaited.isReused());
+        assertEquals(GENERATION.getCreatedHookFiles(), awaited.getCreatedHookFiles());
+        assertEquals(1, generations.get());
+    }
+
+    @Test
+    void generate_whenConcurrentWithDifferentContent_shouldGenerateAfterRunningGeneration(
+            @TempDir File directory) throws Exception {
+        AtomicInteger generations = new AtomicInteger();
+        GitHooksGenerationCoordinator.Generation awaited =
+                awaitWhileRunning(directory, "key", "other-key", generations);
+        assertFalse(awaited.isReused());
+        assertEquals(2, generations.get());
+    }
+
+    @Test
+    void generate_whenRunningGenerationFails_shouldGenerateAgain(@TempDir File directory) {
+        assertThrows(IllegalStateException.class,
+                () -> GitHooksGenerationCoordinator.generate(directory, "key", () -> {
+                    throw new IllegalStateException();
+                }));
+        assertSame(GENERATION,
+                GitHooksGenerationCoordinator.generate(directory, "key", () -> GENERATION));
+    }
+
+    /**
+     * Starts a generation that blocks until a second generation of the same directory is
+     * submitted, returns the result of the second one.
+     */
+    private static GitHooksGenerationCoordinator.Generation awaitWhileRunning(
+            File directory, String runningKey, String awaitingKey, AtomicInteger generations)
+            throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<GitHooksGenerationCoordinator.Generation> first = executor.submit(
+                    () -> GitHooksGenerationCoordinator.generate(directory, runningKey, () -> {
+                        generations.incrementAndGet();
+                        running.countDown();
+                        await(release);
+                        return GENERATION;
+                    }));
+            assertTrue(running.await(10, TimeUnit.SECONDS));
+            Future<GitHooksGenerationCoordinator.Generation> second = executor.submit(
+                    () -> GitHooksGenerationCoordinator.generate(
+                            new File(directory, "../" + directory.getName()), awaitingKey,
+                            () -> {
+                                generations.incrementAndGet();
+                                return GENERATION;
+                            }));
+            // the second generation cannot complete while the first one is running
+            assertThrows(TimeoutException.class,
+                    () -> second.get(100, TimeUnit.MILLISECONDS));
+            assertEquals(1, generations.get());
+            release.countDown();
+            assertFalse(first.get(10, TimeUnit.SECONDS).isReused());
+            return second.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
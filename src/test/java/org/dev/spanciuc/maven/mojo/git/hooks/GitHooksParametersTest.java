@@ -1,5 +1,6 @@
 package org.dev.spanciuc.maven.mojo.git.hooks;
 
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.FileWriteOptions;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -14,5 +15,6 @@ class GitHooksParametersTest {
                 parameters.getGitHooksDirectoryName());
         assertEquals(GitHooksParameters.DEFAULT_ENABLED, parameters.isEnabled());
         assertEquals(GitHooksParameters.DEFAULT_COMMIT_MSG_PARAMETERS, parameters.getCommitMsg());
+        assertEquals(FileWriteOptions.DEFAULT, parameters.getWriteOptions());
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactorGitHooksRegistryTest {
+
+    @Test
+    void of_whenNullSession_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ReactorGitHooksRegistry.of(null));
+    }
+
+    @Test
+    void of_whenSameSession_shouldReturnSameRegistry() {
+        MavenSession session = mockSession();
+        assertSame(ReactorGitHooksRegistry.of(session), ReactorGitHooksRegistry.of(session));
+    }
+
+    @Test
+    void of_whenDifferentSessions_shouldReturnDifferentRegistries() {
+        assertNotSame(ReactorGitHooksRegistry.of(mockSession()),
+                ReactorGitHooksRegistry.of(mockSession()));
+    }
+
+    @Test
+    void register_whenSameDirectoryRegisteredTwice_shouldReturnTrueOnlyFirstTime() {
+        ReactorGitHooksRegistry registry = ReactorGitHooksRegistry.of(mockSession());
+        assertTrue(registry.register(new File("root/.git/hooks")));
+        assertFalse(registry.register(new File("root/module/../.git/hooks")));
+        assertTrue(registry.register(new File("other/.git/hooks")));
+    }
+
+    @Test
+    void unregister_shouldAllowRegisteringAgain() {
+        ReactorGitHooksRegistry registry = ReactorGitHooksRegistry.of(mockSession());
+        assertTrue(registry.register(new File("root/.git/hooks")));
+        registry.unregister(new File("root/module/../.git/hooks"));
+        assertTrue(registry.register(new File("root/.git/hooks")));
+    }
+
+    static MavenSession mockSession() {
+        MavenSession session = mock(MavenSession.class);
+        RepositorySystemSession repositorySession = mock(RepositorySystemSession.class);
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+        when(repositorySession.getData()).thenReturn(new DefaultSessionData());
+        return session;
+    }
+}
@@ -0,0 +1,116 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.execution.MavenSession;
+import org.dev.spanciuc.maven.mojo.git.hooks.version.VersionCalculation;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactorModuleVersionsTest {
+
+    @Test
+    void of_whenNullSession_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ReactorModuleVersions.of(null));
+    }
+
+    @Test
+    void of_whenSameSession_shouldReturnSameRegistry() {
+        MavenSession session = ReactorGitHooksRegistryTest.mockSession();
+        assertSame(ReactorModuleVersions.of(session), ReactorModuleVersions.of(session));
+    }
+
+    @Test
+    void calculate_whenNullArguments_shouldThrowException() {
+        ReactorModuleVersions registry =
+                ReactorModuleVersions.of(ReactorGitHooksRegistryTest.mockSession());
+        File root = new File("root");
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.calculate(null, "v", "fingerprint", HashMap::new));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.calculate(root, null, "fingerprint", HashMap::new));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.calculate(root, "v", null, HashMap::new));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.calculate(root, "v", "fingerprint", null));
+    }
+
+    @Test
+    void calculate_whenSameWorkTreeAndConfiguration_shouldReuseFirstCalculations() {
+        ReactorModuleVersions registry =
+                ReactorModuleVersions.of(ReactorGitHooksRegistryTest.mockSession());
+        Map<String, VersionCalculation> first = new HashMap<>();
+        assertSame(first, registry.calculate(new File("root"), "v", "fingerprint",
+                () -> first));
+        assertSame(first, registry.calculate(new File("root/module/.."), "v", "fingerprint",
+                () -> fail("calculated again")));
+    }
+
+    @Test
+    void calculate_whenOtherWorkTreeTagPrefixOrConfiguration_shouldCalculateAgain() {
+        ReactorModuleVersions registry =
+                ReactorModuleVersions.of(ReactorGitHooksRegistryTest.mockSession());
+        Map<String, VersionCalculation> first = new HashMap<>();
+        registry.calculate(new File("root"), "v", "fingerprint", () -> first);
+        assertNotSame(first, registry.calculate(new File("other"), "v", "fingerprint",
+                HashMap::new));
+        assertNotSame(first, registry.calculate(new File("root"), "release-", "fingerprint",
+                HashMap::new));
+        assertNotSame(first, registry.calculate(new File("root"), "v", "other",
+                HashMap::new));
+    }
+
+    @Test
+    void calculate_whenCalculationFailed_shouldCalculateAgain() {
+        ReactorModuleVersions registry =
+                ReactorModuleVersions.of(ReactorGitHooksRegistryTest.mockSession());
+        File root = new File("root");
+        IllegalStateException failure = new IllegalStateException("failed");
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> registry.calculate(root, "v", "fingerprint", () -> {
+                    throw failure;
+                })));
+        Map<String, VersionCalculation> second = new HashMap<>();
+        assertSame(second, registry.calculate(root, "v", "fingerprint", () -> second));
+    }
+
+    @Test
+    void calculate_whenConcurrent_shouldCalculateOnce() throws Exception {
+        ReactorModuleVersions registry =
+                ReactorModuleVersions.of(ReactorGitHooksRegistryTest.mockSession());
+        AtomicInteger calculationsCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<String, VersionCalculation>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return registry.calculate(new File("root"), "v", "fingerprint", () -> {
+                        calculationsCount.incrementAndGet();
+                        return new HashMap<>();
+                    });
+                }));
+            }
+            start.countDown();
+            Map<String, VersionCalculation> first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Map<String, VersionCalculation>> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calculationsCount.get());
+    }
+}
@@ -0,0 +1,64 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidateCommitMessageMojoTest {
+
+    private static final CommitMsgParameters PARAMETERS =
+            new CommitMsgParameters(true, "commit-msg", 20, "feat,fix");
+
+    @Test
+    void execute_whenValidMessage_shouldSucceed() {
+        ValidateCommitMessageMojo mojo =
+                new ValidateCommitMessageMojo(PARAMETERS, null, "feat: message");
+        assertDoesNotThrow(mojo::execute);
+    }
+
+    @Test
+    void execute_whenInvalidMessage_shouldThrowException() {
+        ValidateCommitMessageMojo mojo =
+                new ValidateCommitMessageMojo(PARAMETERS, null, "docs: message");
+        assertThrows(MojoFailureException.class, mojo::execute);
+    }
+
+    @Test
+    void execute_whenHeaderIsTooLong_shouldThrowException() {
+        ValidateCommitMessageMojo mojo =
+                new ValidateCommitMessageMojo(PARAMETERS, null, "feat: very long message");
+        assertThrows(MojoFailureException.class, mojo::execute);
+    }
+
+    @Test
+    void execute_whenMessageFile_shouldValidateFileContent(@TempDir File directory)
+            throws IOException {
+        File messageFile = new File(directory, "COMMIT_EDITMSG");
+        Files.writeString(messageFile.toPath(), "fix: message\n\nbody");
+        ValidateCommitMessageMojo mojo =
+                new ValidateCommitMessageMojo(PARAMETERS, messageFile, "invalid");
+        assertDoesNotThrow(mojo::execute);
+    }
+
+    @Test
+    void execute_whenMessageFileDoesNotExist_shouldThrowException(@TempDir File directory) {
+        ValidateCommitMessageMojo mojo = new ValidateCommitMessageMojo(PARAMETERS,
+                new File(directory, "missing"), null);
+        assertThrows(RuntimeIOException.class, mojo::execute);
+    }
+
+    @Test
+    void execute_whenNoMessage_shouldThrowException() {
+        ValidateCommitMessageMojo mojo = new ValidateCommitMessageMojo(PARAMETERS, null, null);
+        assertThrows(IllegalStateException.class, mojo::execute);
+    }
+}
@@ -0,0 +1,83 @@
+package org.dev.spanciuc.maven.mojo.git.hooks;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Messages;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ValidateCommitsMojoTest {
+
+    @Test
+    void execute_whenAllCommitsValid_shouldLogNumberOfValidatedCommits(@TempDir File basedir)
+            throws GitAPIException, MojoFailureException {
+        try (Git git = init(basedir)) {
+            commit(git, "wip");
+            tag(git, "base");
+            commit(git, "feat: feature");
+            commit(git, "fix: fix");
+        }
+        ValidateCommitsMojo mojo = new ValidateCommitsMojo(basedir, ".git",
+                new CommitMsgParameters(), "base..HEAD", true);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        mojo.execute();
+        verify(log).info(
+                String.format(Messages.VALIDATED_NUMBER_OF_COMMITS_MESSAGE, 2, "base..HEAD"));
+    }
+
+    @Test
+    void execute_whenInvalidCommits_shouldLogEveryViolationAndFail(@TempDir File basedir)
+            throws GitAPIException {
+        RevCommit first;
+        RevCommit second;
+        try (Git git = init(basedir)) {
+            first = commit(git, "wip");
+            commit(git, "feat: feature");
+            second = commit(git, "fixed things");
+        }
+        ValidateCommitsMojo mojo = new ValidateCommitsMojo(basedir, ".git",
+                new CommitMsgParameters(), "HEAD", true);
+        Log log = mock(Log.class);
+        mojo.setLog(log);
+        MojoFailureException exception = assertThrows(MojoFailureException.class, mojo::execute);
+        assertEquals(String.format(Messages.INVALID_NUMBER_OF_COMMITS_MESSAGE, 2, "HEAD"),
+                exception.getMessage());
+        verify(log).error(String.format(Messages.COMMIT_MESSAGE_VIOLATION_MESSAGE, first.name(),
+                "wip", Messages.COMMIT_MESSAGE_INVALID_FORMAT_MESSAGE));
+        verify(log).error(String.format(Messages.COMMIT_MESSAGE_VIOLATION_MESSAGE, second.name(),
+                "fixed things", Messages.COMMIT_MESSAGE_INVALID_FORMAT_MESSAGE));
+    }
+
+    @Test
+    void execute_whenMoreScanThreads_shouldReportSameViolations(@TempDir File basedir)
+            throws GitAPIException {
+        try (Git git = init(basedir)) {
+            commit(git, "wip");
+            commit(git, "feat: feature");
+        }
+        ValidateCommitsMojo mojo = new ValidateCommitsMojo(basedir, ".git",
+                new CommitMsgParameters(), "HEAD", true, 4);
+        MojoFailureException exception = assertThrows(MojoFailureException.class, mojo::execute);
+        assertEquals(String.format(Messages.INVALID_NUMBER_OF_COMMITS_MESSAGE, 1, "HEAD"),
+                exception.getMessage());
+    }
+
+    @Test
+    void execute_whenNotGitRepository_shouldThrowException(@TempDir File basedir) {
+        ValidateCommitsMojo mojo = new ValidateCommitsMojo(basedir, ".git",
+                new CommitMsgParameters(), "HEAD", true);
+        assertThrows(IllegalStateException.class, mojo::execute);
+    }
+}
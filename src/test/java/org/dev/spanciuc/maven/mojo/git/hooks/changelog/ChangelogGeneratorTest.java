@@ -0,0 +1,205 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.changelog;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitScanner;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangelogGeneratorTest {
+
+    private final ChangelogGenerator generator = new ChangelogGenerator(
+            new CommitMsgConfiguration(new CommitMsgParameters()), "v", new CommitScanner());
+
+    @Test
+    void generate_shouldWriteSectionPerVersionTagGroupedByTypeAndScope(@TempDir File directory)
+            throws Exception {
+        Path file = directory.toPath().resolve("target/CHANGELOG.md");
+        try (Git git = init(directory)) {
+            RevCommit init = commit(git, "feat: init");
+            RevCommit fix = commit(git, "fix(core): fix core");
+            commit(git, "wip");
+            RevCommit release = commit(git, "feat(api)!: new api");
+            tag(git, "v1.0.0");
+            RevCommit docs = commit(git, "docs: readme");
+
+            ChangelogGeneration generation = generator.generate(git.getRepository(), file);
+
+            assertEquals(new ChangelogGeneration(5, 1, false), generation);
+            assertEquals("# Changelog\n" +
+                    "\n" +
+                    "## v1.0.0\n" +
+                    "\n" +
+                    "### feat\n" +
+                    "\n" +
+                    "- init (" + abbreviate(init) + ")\n" +
+                    "- **BREAKING** **api:** new api (" + abbreviate(release) + ")\n" +
+                    "\n" +
+                    "### fix\n" +
+                    "\n" +
+                    "- **core:** fix core (" + abbreviate(fix) + ")\n" +
+                    "\n" +
+                    ChangelogMarker.format(release) + "\n" +
+                    "\n" +
+                    "## Unreleased\n" +
+                    "\n" +
+                    "### docs\n" +
+                    "\n" +
+                    "- readme (" + abbreviate(docs) + ")\n", Files.readString(file));
+        }
+    }
+
+    @Test
+    void generate_whenRerun_shouldOnlyAppendNewCommits(@TempDir File directory)
+            throws Exception {
+        Path file = directory.toPath().resolve("CHANGELOG.md");
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v0.1.0");
+            commit(git, "fix: first fix");
+            generator.generate(git.getRepository(), file);
+            String firstContent = Files.readString(file);
+
+            RevCommit second = commit(git, "fix: second fix");
+            tag(git, "v0.1.1");
+            ChangelogGeneration generation = generator.generate(git.getRepository(), file);
+
+            assertEquals(new ChangelogGeneration(2, 1, true), generation);
+            String content = Files.readString(file);
+            assertTrue(content.startsWith(
+                    firstContent.substring(0, firstContent.indexOf(ChangelogMarker.PREFIX))));
+            assertTrue(content.endsWith("## v0.1.1\n\n### fix\n\n- first fix (" +
+                    abbreviate(git.getRepository().resolve("HEAD~1")) + ")\n" +
+                    "- second fix (" + abbreviate(second) + ")\n\n" +
+                    ChangelogMarker.format(second) + "\n"));
+            assertEquals(1, content.split(ChangelogMarker.PREFIX, -1).length - 1);
+            assertFalse(content.contains("Unreleased"));
+        }
+    }
+
+    @Test
+    void generate_whenMarkerCommitIsNotAncestor_shouldRegenerate(@TempDir File directory)
+            throws Exception {
+        Path file = directory.toPath().resolve("CHANGELOG.md");
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            commit(git, "feat: dropped");
+            tag(git, "v1.0.0");
+            generator.generate(git.getRepository(), file);
+
+            git.tagDelete().setTags("v1.0.0").call();
+            git.reset().setMode(ResetCommand.ResetType.SOFT).setRef("HEAD~1").call();
+            commit(git, "fix: rewritten");
+            tag(git, "v1.0.0");
+            ChangelogGeneration generation = generator.generate(git.getRepository(), file);
+
+            assertFalse(generation.isAppended());
+            assertFalse(Files.readString(file).contains("dropped"));
+        }
+    }
+
+    @Test
+    void generate_whenBranchMergedAfterRelease_shouldListItOnlyAfterRelease(
+            @TempDir File directory) throws Exception {
+        Path file = directory.toPath().resolve("CHANGELOG.md");
+        try (Git git = init(directory)) {
+            ObjectId base = commitAt(git, "feat: base", 1000);
+            ObjectId feature = commitAt(git, "feat: feature branch work", 2000, base);
+            ObjectId release = commitAt(git, "fix: release fix", 3000, base);
+            tag(git, "v1.0.0");
+            commitAt(git, "Merge branch 'feature'", 4000, release, feature);
+
+            ChangelogGeneration generation = generator.generate(git.getRepository(), file);
+
+            assertEquals(new ChangelogGeneration(4, 1, false), generation);
+            assertEquals("# Changelog\n" +
+                    "\n" +
+                    "## v1.0.0\n" +
+                    "\n" +
+                    "### feat\n" +
+                    "\n" +
+                    "- base (" + abbreviate(base) + ")\n" +
+                    "\n" +
+                    "### fix\n" +
+                    "\n" +
+                    "- release fix (" + abbreviate(release) + ")\n" +
+                    "\n" +
+                    ChangelogMarker.format(release) + "\n" +
+                    "\n" +
+                    "## Unreleased\n" +
+                    "\n" +
+                    "### feat\n" +
+                    "\n" +
+                    "- feature branch work (" + abbreviate(feature) + ")\n",
+                    Files.readString(file));
+
+            tag(git, "v1.1.0");
+            generation = generator.generate(git.getRepository(), file);
+
+            assertEquals(new ChangelogGeneration(2, 1, true), generation);
+            String content = Files.readString(file);
+            assertTrue(content.endsWith("## v1.1.0\n\n### feat\n\n- feature branch work (" +
+                    abbreviate(feature) + ")\n\n" +
+                    ChangelogMarker.format(git.getRepository().resolve("HEAD")) + "\n"));
+            assertEquals(1, content.split("release fix", -1).length - 1);
+        }
+    }
+
+    @Test
+    void generate_whenMaintenanceTagMerged_shouldListCommitsUnderLowestContainingTag(
+            @TempDir File directory) throws Exception {
+        Path file = directory.toPath().resolve("CHANGELOG.md");
+        try (Git git = init(directory)) {
+            ObjectId base = commitAt(git, "feat: base", 1000);
+            tag(git, "v1.0.0");
+            ObjectId feature = commitAt(git, "feat: minor feature", 2000, base);
+            tag(git, "v1.1.0");
+            ObjectId maintenance = commitAt(git, "fix: maintenance fix", 3000, base);
+            tag(git, "v1.0.1");
+            ObjectId merge = commitAt(git, "Merge branch 'maintenance'", 4000, feature,
+                    maintenance);
+            ObjectId fix = commitAt(git, "fix: after merge", 5000, merge);
+
+            ChangelogGeneration generation = generator.generate(git.getRepository(), file);
+
+            assertEquals(new ChangelogGeneration(5, 3, false), generation);
+            String content = Files.readString(file);
+            String firstSection = "## v1.0.0\n\n### feat\n\n- base (" + abbreviate(base) + ")\n";
+            String secondSection = "## v1.0.1\n\n### fix\n\n- maintenance fix (" +
+                    abbreviate(maintenance) + ")\n";
+            String thirdSection = "## v1.1.0\n\n### feat\n\n- minor feature (" +
+                    abbreviate(feature) + ")\n";
+            String unreleased = "## Unreleased\n\n### fix\n\n- after merge (" +
+                    abbreviate(fix) + ")\n";
+            assertTrue(content.indexOf(firstSection) < content.indexOf(secondSection));
+            assertTrue(content.indexOf(secondSection) < content.indexOf(thirdSection));
+            assertTrue(content.indexOf(thirdSection) < content.indexOf(unreleased));
+            assertTrue(content.indexOf(firstSection) > 0);
+        }
+    }
+
+    @Test
+    void generate_whenNoCommits_shouldNotWriteFile(@TempDir File directory) throws Exception {
+        Path file = directory.toPath().resolve("CHANGELOG.md");
+        try (Git git = init(directory)) {
+            assertEquals(new ChangelogGeneration(0, 0, false),
+                    generator.generate(git.getRepository(), file));
+            assertFalse(Files.exists(file));
+        }
+    }
+
+    private static String abbreviate(ObjectId commitId) {
+        return commitId.abbreviate(7).name();
+    }
+}
@@ -0,0 +1,45 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.changelog;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangelogMarkerTest {
+
+    private static final ObjectId FIRST_ID =
+            ObjectId.fromString("1111111111111111111111111111111111111111");
+    private static final ObjectId LAST_ID =
+            ObjectId.fromString("2222222222222222222222222222222222222222");
+
+    @Test
+    void find_whenFileDoesNotExist_shouldReturnNull(@TempDir File directory) throws IOException {
+        assertNull(ChangelogMarker.find(directory.toPath().resolve("CHANGELOG.md")));
+    }
+
+    @Test
+    void find_whenNoMarker_shouldReturnNull(@TempDir File directory) throws IOException {
+        Path file = directory.toPath().resolve("CHANGELOG.md");
+        Files.writeString(file, "# Changelog\n\n## Unreleased\n");
+        assertNull(ChangelogMarker.find(file));
+    }
+
+    @Test
+    void find_whenMarkerFarFromEnd_shouldReturnLastMarkerWithOffset(@TempDir File directory)
+            throws IOException {
+        Path file = directory.toPath().resolve("CHANGELOG.md");
+        String head = "# Changelog\n" + ChangelogMarker.format(FIRST_ID) + "\n" +
+                "- entry\n".repeat(5000);
+        String tail = "- unreleased entry\n".repeat(2000);
+        Files.writeString(file, head + ChangelogMarker.format(LAST_ID) + "\n" + tail);
+
+        assertEquals(new ChangelogMarker(head.length(), LAST_ID.name()),
+                ChangelogMarker.find(file));
+    }
+}
@@ -1,6 +1,7 @@
 package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
 
 import org.dev.spanciuc.maven.mojo.git.hooks.exceptions.RuntimeIOException;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -64,6 +65,41 @@ class BashScriptCommitMsgHookGeneratorTest {
         assertEquals(filename, generatedFile.getName());
     }
 
+    @Test
+    void isUpToDate_whenFileHasGeneratedContent_shouldReturnTrue(@TempDir File parentFolder) {
+        BashScriptCommitMsgHookGenerator generator =
+                new BashScriptCommitMsgHookGenerator(buildEnabledConfiguration("some-file"));
+        generator.generate(parentFolder);
+        assertTrue(generator.isUpToDate(parentFolder));
+    }
+
+    @Test
+    void isUpToDate_whenFileHasDifferentContent_shouldReturnFalse(@TempDir File parentFolder)
+            throws IOException {
+        BashScriptCommitMsgHookGenerator generator =
+                new BashScriptCommitMsgHookGenerator(buildEnabledConfiguration("some-file"));
+        Files.writeString(parentFolder.toPath().resolve("some-file"), "content");
+        assertFalse(generator.isUpToDate(parentFolder));
+    }
+
+    @Test
+    void isUpToDate_whenFileDoesNotExist_shouldReturnFalse(@TempDir File parentFolder) {
+        BashScriptCommitMsgHookGenerator generator =
+                new BashScriptCommitMsgHookGenerator(buildEnabledConfiguration("some-file"));
+        assertFalse(generator.isUpToDate(parentFolder));
+    }
+
+    @Test
+    void getFingerprint_shouldReturnFingerprintOfScriptContent() {
+        CommitMsgConfiguration configuration = buildEnabledConfiguration("some-file");
+        BashScriptCommitMsgHookGenerator generator =
+                new BashScriptCommitMsgHookGenerator(configuration);
+        assertEquals(Fingerprints.of(
+                        BashScriptCommitMsgHookGenerator.BashScriptContentBuilder.build(
+                                configuration)),
+                generator.getFingerprint());
+    }
+
     @Test
     void getFileName() {
         CommitMsgConfiguration configuration = mock(CommitMsgConfiguration.class);
@@ -74,6 +110,10 @@ class BashScriptCommitMsgHookGeneratorTest {
         assertEquals(filename, generator.getFileName());
     }
 
+    private static CommitMsgConfiguration buildEnabledConfiguration(String filename) {
+        return new CommitMsgConfiguration(new CommitMsgParameters(true, filename, 50, "1,2,3"));
+    }
+
     @Nested
     @DisplayName("Bash script file writer")
     class BashScriptFileWriterTest {
@@ -162,6 +202,15 @@ class BashScriptCommitMsgHookGeneratorTest {
                             commitMsgConfiguration));
         }
 
+        @Test
+        void build_whenEqualConfigurations_shouldReuseRenderedContent() {
+            String first = BashScriptCommitMsgHookGenerator.BashScriptContentBuilder.build(
+                    new CommitMsgConfiguration(new CommitMsgParameters()));
+            String second = BashScriptCommitMsgHookGenerator.BashScriptContentBuilder.build(
+                    new CommitMsgConfiguration(new CommitMsgParameters()));
+            assertSame(first, second);
+        }
+
         @Test
         void build_whenNullConfiguration_shouldThrowException() {
             assertThrows(IllegalArgumentException.class,
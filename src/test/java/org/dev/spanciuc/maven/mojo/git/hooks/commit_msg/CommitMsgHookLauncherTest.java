@@ -0,0 +1,53 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommitMsgHookLauncherTest {
+
+    @Test
+    void run_whenValidMessage_shouldReturnValidStatus(@TempDir Path directory)
+            throws IOException {
+        Path message = Files.writeString(directory.resolve("COMMIT_EDITMSG"),
+                "feat(core): add launcher\n\nbody\n");
+        assertEquals(CommitMsgHookLauncher.EXIT_VALID,
+                CommitMsgHookLauncher.run(new String[]{"feat,fix", "50", message.toString()}));
+    }
+
+    @Test
+    void run_whenInvalidMessage_shouldReturnInvalidStatus(@TempDir Path directory)
+            throws IOException {
+        Path message = Files.writeString(directory.resolve("COMMIT_EDITMSG"), "WIP\n");
+        assertEquals(CommitMsgHookLauncher.EXIT_INVALID,
+                CommitMsgHookLauncher.run(new String[]{"feat,fix", "50", message.toString()}));
+    }
+
+    @Test
+    void run_whenHeaderTooLong_shouldReturnInvalidStatus(@TempDir Path directory)
+            throws IOException {
+        Path message = Files.writeString(directory.resolve("COMMIT_EDITMSG"),
+                "feat: a rather long description\n");
+        assertEquals(CommitMsgHookLauncher.EXIT_INVALID,
+                CommitMsgHookLauncher.run(new String[]{"feat,fix", "10", message.toString()}));
+    }
+
+    @Test
+    void run_whenMissingMessageFile_shouldReturnErrorStatus(@TempDir Path directory) {
+        assertEquals(CommitMsgHookLauncher.EXIT_ERROR, CommitMsgHookLauncher.run(
+                new String[]{"feat,fix", "50", directory.resolve("missing").toString()}));
+    }
+
+    @Test
+    void run_whenInvalidArguments_shouldReturnErrorStatus() {
+        assertEquals(CommitMsgHookLauncher.EXIT_ERROR,
+                CommitMsgHookLauncher.run(new String[]{"feat,fix"}));
+        assertEquals(CommitMsgHookLauncher.EXIT_ERROR,
+                CommitMsgHookLauncher.run(new String[]{"feat,fix", "none", "file"}));
+    }
+}
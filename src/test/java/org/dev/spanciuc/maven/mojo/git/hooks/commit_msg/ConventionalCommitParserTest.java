@@ -0,0 +1,94 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConventionalCommitParserTest {
+
+    private static final String TYPES = "feat,fix,docs,fixup";
+
+    private static final Pattern HOOK_PATTERN =
+            Pattern.compile("^(docs|feat|fix|fixup)(\\(.+?\\))?!?: .{1,}$");
+
+    private final ConventionalCommitParser parser =
+            new ConventionalCommitParser(buildConfiguration(20));
+
+    @Test
+    void constructor_whenNullConfiguration_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new ConventionalCommitParser(null));
+    }
+
+    @Test
+    void validate_whenNullMessage_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.validate(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"feat: a", "fix(core): b", "fix!: b", "docs(a)!: c", "fixup: d",
+            "feat(a(b)): c", "feat(a): b): c", "feat: a\nbody", "feat: a\r\nbody"})
+    void validate_whenValidHeader_shouldReturnValid(String message) {
+        assertEquals(CommitMsgValidationResult.VALID, parser.validate(message));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "feat", "feat:", "feat: ", "feat:a", "feature: a", "fea: a",
+            "feat(): a", "feat(a: b", "feat!!: a", " feat: a", "Feat: a", "\nfeat: a",
+            "feat()!: a", "feat(a)b: c"})
+    void validate_whenInvalidHeader_shouldReturnInvalidFormat(String message) {
+        assertEquals(CommitMsgValidationResult.INVALID_FORMAT, parser.validate(message));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"feat: a", "fix(core): b", "fix!: b", "docs(a)!: c", "fixup: d",
+            "feat(a(b)): c", "feat(a): b): c", "", "feat", "feat:", "feat: ", "feat:a",
+            "feature: a", "fea: a", "feat(): a", "feat(a: b", "feat!!: a", " feat: a",
+            "feat()!: a", "feat(a)b: c", "fix(a)(b): c", "fix(a)!(b): c"})
+    void validate_shouldMatchHookPattern(String message) {
+        assertEquals(HOOK_PATTERN.matcher(message).matches(),
+                new ConventionalCommitParser(buildConfiguration(-1)).validate(message)
+                        .isValid());
+    }
+
+    @Test
+    void validate_whenHeaderIsTooLong_shouldReturnHeaderTooLong() {
+        assertEquals(CommitMsgValidationResult.VALID, parser.validate("feat: 12345678901234"));
+        assertEquals(CommitMsgValidationResult.HEADER_TOO_LONG,
+                parser.validate("feat: 123456789012345"));
+    }
+
+    @Test
+    void validate_whenBodyIsLong_shouldReturnValid() {
+        assertEquals(CommitMsgValidationResult.VALID,
+                parser.validate("feat: a\n\n" + "b".repeat(100)));
+    }
+
+    @Test
+    void parse_whenInvalidHeader_shouldReturnNull() {
+        assertNull(parser.parse("invalid"));
+    }
+
+    @Test
+    void parse_whenValidHeader_shouldReturnCommit() {
+        assertEquals(new ConventionalCommit("fix", "core", false, "some fix"),
+                parser.parse("fix(core): some fix\n\nbody"));
+        assertEquals(new ConventionalCommit("feat", null, true, "a: b"),
+                parser.parse("feat!: a: b"));
+    }
+
+    @Test
+    void parse_whenBreakingChangeFooter_shouldReturnBreakingCommit() {
+        assertTrue(parser.parse("feat: a\n\nbody\n\nBREAKING CHANGE: removed api").isBreaking());
+        assertTrue(parser.parse("feat: a\n\nBREAKING-CHANGE: removed api").isBreaking());
+        assertFalse(parser.parse("feat: a\n\nnot a BREAKING CHANGE: footer").isBreaking());
+    }
+
+    private static CommitMsgConfiguration buildConfiguration(int headerMaxLength) {
+        return new CommitMsgConfiguration(
+                new CommitMsgParameters(true, "commit-msg", headerMaxLength, TYPES));
+    }
+}
@@ -0,0 +1,207 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.ClassDataSharingArchives;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class JvmCommitMsgHookGeneratorTest {
+
+    private static final Path JAVA = Path.of(System.getProperty("java.home"), "bin", "java");
+
+    @Test
+    void constructor_whenNullConfigurationParameter_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new JvmCommitMsgHookGenerator(null));
+    }
+
+    @Test
+    void generate_whenDisabled_shouldThrowException() {
+        JvmCommitMsgHookGenerator generator = new JvmCommitMsgHookGenerator(
+                new CommitMsgConfiguration(new CommitMsgParameters(false, "commit-msg", 50,
+                        "feat", CommitMsgHookRuntime.JVM)));
+        File file = new File("parent");
+        assertThrows(IllegalStateException.class, () -> generator.generate(file));
+    }
+
+    @Test
+    void generate_whenEnabledAndNullParentDirectory_shouldThrowException() {
+        JvmCommitMsgHookGenerator generator = new JvmCommitMsgHookGenerator(buildConfiguration());
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(null));
+    }
+
+    @Test
+    void generateScriptContent_shouldLaunchValidatorWithArchive() {
+        JvmCommitMsgHookGenerator generator = new JvmCommitMsgHookGenerator(buildConfiguration(),
+                Path.of("/opt/java/bin/java"), Path.of("/plugins/hooks.jar"));
+
+        String content = generator.generateScriptContent();
+
+        assertTrue(content.startsWith("#!/usr/bin/env bash\n"));
+        assertTrue(content.contains("exec '/opt/java/bin/java' " +
+                String.join(" ", JvmCommitMsgHookGenerator.JVM_OPTIONS) +
+                " -XX:SharedArchiveFile=\"${0%/*}\"/'commit-msg.jsa' -cp '/plugins/hooks.jar' " +
+                CommitMsgHookLauncher.class.getName() + " 'feat,fix' 50 \"$1\"\n"));
+        assertEquals("commit-msg.jsa", generator.getArchiveName());
+        assertFalse(generator.isArchiveSupported());
+    }
+
+    @Test
+    void getGitHookFileGenerator_whenJvmRuntime_shouldReturnJvmGenerator() {
+        assertInstanceOf(JvmCommitMsgHookGenerator.class,
+                buildConfiguration().getGitHookFileGenerator());
+    }
+
+    @Test
+    void generate_whenLauncherInJar_shouldCreateArchiveAndValidateMessages(
+            @TempDir Path directory) throws Exception {
+        Path classes = Path.of(CommitMsgHookLauncher.class.getProtectionDomain()
+                .getCodeSource().getLocation().toURI());
+        assumeTrue(Files.isDirectory(classes));
+        Path jar = createJar(classes, directory.resolve("hooks.jar"));
+        Path hooksDirectory = Files.createDirectory(directory.resolve("hooks"));
+        JvmCommitMsgHookGenerator generator =
+                new JvmCommitMsgHookGenerator(buildConfiguration(), JAVA, jar);
+
+        File hook = generator.generate(hooksDirectory.toFile());
+
+        assertTrue(hook.canExecute());
+        assertTrue(Files.isRegularFile(hooksDirectory.resolve(generator.getArchiveName())));
+        assertTrue(generator.isUpToDate(hooksDirectory.toFile()));
+        assertEquals(generator.getFingerprint(),
+                Fingerprints.of(Files.readAllBytes(hook.toPath())));
+        try (Stream<Path> files = Files.list(hooksDirectory)) {
+            assertEquals(2, files.count());
+        }
+        assertEquals(0, runHook(hook, directory, "feat(core): valid\n"));
+        assertEquals(1, runHook(hook, directory, "WIP\n"));
+        assertEquals(1, runHook(hook, directory, "fix: " + "x".repeat(50)));
+    }
+
+    @Test
+    void generateScriptContent_whenSharedArchiveExists_shouldMapItWithItsClasspath(
+            @TempDir Path directory) throws IOException {
+        Path archive = Files.writeString(directory.resolve("shared.jsa"), "archive");
+        Path plugin = Files.writeString(directory.resolve("plugin.jar"), "jar");
+        Path library = Files.writeString(directory.resolve("library.jar"), "jar");
+        JvmCommitMsgHookGenerator generator = new JvmCommitMsgHookGenerator(
+                buildConfiguration(archive, List.of(plugin, library)), JAVA, plugin);
+
+        String content = generator.generateScriptContent();
+
+        assertTrue(content.contains(" -XX:SharedArchiveFile='" + archive + "' -cp '" +
+                plugin + File.pathSeparator + library + "' " +
+                CommitMsgHookLauncher.class.getName() + " "));
+        assertEquals(archive, generator.getSharedArchive());
+        assertFalse(generator.isArchiveSupported());
+    }
+
+    @Test
+    void generateScriptContent_whenSharedArchiveIsMissing_shouldUseOwnArchive(
+            @TempDir Path directory) throws IOException {
+        Path library = Files.writeString(directory.resolve("library.jar"), "jar");
+        JvmCommitMsgHookGenerator generator = new JvmCommitMsgHookGenerator(
+                buildConfiguration(directory.resolve("shared.jsa"), List.of(library)), JAVA,
+                Path.of("/plugins/hooks.jar"));
+
+        String content = generator.generateScriptContent();
+
+        assertTrue(content.contains(
+                " -XX:SharedArchiveFile=\"${0%/*}\"/'commit-msg.jsa' -cp '/plugins/hooks.jar' "));
+        assertNull(generator.getSharedArchive());
+    }
+
+    @Test
+    void generate_whenSharedArchiveExists_shouldNotCreateOwnArchive(@TempDir Path directory)
+            throws Exception {
+        Path classes = Path.of(CommitMsgHookLauncher.class.getProtectionDomain()
+                .getCodeSource().getLocation().toURI());
+        assumeTrue(Files.isDirectory(classes));
+        Path jar = createJar(classes, directory.resolve("hooks.jar"));
+        Path sample = Files.writeString(directory.resolve("sample"), "feat: sample\n");
+        Path archive = directory.resolve("shared.jsa");
+        assumeTrue(ClassDataSharingArchives.createStatic(JAVA, List.of(), List.of(jar),
+                CommitMsgHookLauncher.class.getName(), List.of("feat,fix", "50",
+                        sample.toString()), archive,
+                ClassDataSharingArchives.DEFAULT_TIMEOUT_SECONDS));
+        Path hooksDirectory = Files.createDirectory(directory.resolve("hooks"));
+        JvmCommitMsgHookGenerator generator = new JvmCommitMsgHookGenerator(
+                buildConfiguration(archive, List.of(jar)), JAVA, jar);
+
+        File hook = generator.generate(hooksDirectory.toFile());
+
+        assertTrue(generator.isUpToDate(hooksDirectory.toFile()));
+        try (Stream<Path> files = Files.list(hooksDirectory)) {
+            assertEquals(List.of(hook.toPath()), files.toList());
+        }
+        assertEquals(0, runHook(hook, directory, "feat(core): valid\n"));
+        assertEquals(1, runHook(hook, directory, "WIP\n"));
+    }
+
+    @Test
+    void isUpToDate_whenArchiveIsMissing_shouldReturnFalse(@TempDir Path directory)
+            throws IOException {
+        Path jar = Files.writeString(directory.resolve("hooks.jar"), "jar");
+        JvmCommitMsgHookGenerator generator =
+                new JvmCommitMsgHookGenerator(buildConfiguration(), JAVA, jar);
+        Files.writeString(directory.resolve(generator.getFileName()),
+                generator.generateScriptContent());
+
+        assertTrue(generator.isArchiveSupported());
+        assertFalse(generator.isUpToDate(directory.toFile()));
+    }
+
+    private static CommitMsgConfiguration buildConfiguration() {
+        return new CommitMsgConfiguration(new CommitMsgParameters(true, "commit-msg", 50,
+                "feat,fix", CommitMsgHookRuntime.JVM));
+    }
+
+    private static CommitMsgConfiguration buildConfiguration(Path sharedArchiveFile,
+                                                             List<Path> sharedArchiveClasspath) {
+        return new CommitMsgConfiguration(new CommitMsgParameters(true, "commit-msg", 50,
+                "feat,fix", CommitMsgHookRuntime.JVM, sharedArchiveFile,
+                sharedArchiveClasspath));
+    }
+
+    private static Path createJar(Path classes, Path jar) throws IOException {
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(classes)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                output.putNextEntry(new JarEntry(
+                        classes.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, output);
+                output.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static int runHook(File hook, Path directory, String message) throws Exception {
+        Path messageFile = Files.writeString(directory.resolve("COMMIT_EDITMSG"), message);
+        Process process;
+        try {
+            process = new ProcessBuilder(List.of("bash", hook.getPath(), messageFile.toString()))
+                    .redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            assumeTrue(false, "bash is not available");
+            return -1;
+        }
+        try (OutputStream ignored = process.getOutputStream()) {
+            return process.waitFor();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.commit_msg;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeMatcherTest {
+
+    private static final TypeMatcher MATCHER = TypeMatcher.compile(
+            new TreeSet<>(List.of("feat", "feature", "fix", "docs", "ünï", "😀")));
+
+    @Test
+    void compile_whenNullTypes_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> TypeMatcher.compile(null));
+    }
+
+    @Test
+    void compile_shouldAssignOrdinalsInTypesOrder() {
+        assertEquals(6, MATCHER.getTypesCount());
+        assertEquals("docs", MATCHER.getType(0));
+        assertEquals("feat", MATCHER.getType(1));
+        assertEquals("😀", MATCHER.getType(5));
+        assertEquals(2, MATCHER.getTypeLength(5));
+        assertEquals(4, MATCHER.getTypeByteLength(5));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "feat: description|feat",
+            "feature(scope): description|feature",
+            "feat!: description|feat",
+            "fix(scope)!: description|fix",
+            "ünï: description|ünï",
+            "😀: description|😀"})
+    void match_whenTypeFollowedByDelimiter_shouldReturnOrdinal(String header, String type) {
+        int ordinal = MATCHER.match(header, header.length());
+        assertEquals(type, MATCHER.getType(ordinal));
+        byte[] bytes = ("prefix" + header).getBytes(StandardCharsets.UTF_8);
+        assertEquals(ordinal, MATCHER.match(bytes, "prefix".length(), bytes.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"feats: description", "fea: description", "feat description",
+            "feat", "", "Feat: description", "ünï", "😁: description"})
+    void match_whenNoTypeFollowedByDelimiter_shouldReturnNoMatch(String header) {
+        assertEquals(TypeMatcher.NO_MATCH, MATCHER.match(header, header.length()));
+        byte[] bytes = header.getBytes(StandardCharsets.UTF_8);
+        assertEquals(TypeMatcher.NO_MATCH, MATCHER.match(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void match_shouldStopAtEnd() {
+        assertEquals(TypeMatcher.NO_MATCH, MATCHER.match("feat: description", 4));
+        assertEquals(1, MATCHER.match("feat: description", 5));
+    }
+
+    @Test
+    void configuration_shouldExposeMatcherOutsideOfEquality() {
+        CommitMsgConfiguration first = new CommitMsgConfiguration(new CommitMsgParameters());
+        CommitMsgConfiguration second = new CommitMsgConfiguration(new CommitMsgParameters());
+        assertNotSame(first.getTypeMatcher(), second.getTypeMatcher());
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first.getTypes().size(), first.getTypeMatcher().getTypesCount());
+    }
+}
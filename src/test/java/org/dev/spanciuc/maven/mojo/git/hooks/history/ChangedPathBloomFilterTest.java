@@ -0,0 +1,99 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangedPathBloomFilterTest {
+
+    @Test
+    void murmur3_shouldMatchGitTestVectors() {
+        assertEquals(0x00000000, murmur3(0, "", ChangedPathBloomFilter.HASH_VERSION_1));
+        assertEquals(0x627b0c2c,
+                murmur3(0, "Hello world!", ChangedPathBloomFilter.HASH_VERSION_1));
+        assertEquals(0x2e4ff723, murmur3(0, "The quick brown fox jumps over the lazy dog",
+                ChangedPathBloomFilter.HASH_VERSION_1));
+    }
+
+    @Test
+    void murmur3_whenNonAsciiPath_shouldDifferBetweenVersions() {
+        String path = "módulo/ñ";
+        assertNotEquals(murmur3(ChangedPathBloomFilter.SEED_0, path,
+                        ChangedPathBloomFilter.HASH_VERSION_1),
+                murmur3(ChangedPathBloomFilter.SEED_0, path,
+                        ChangedPathBloomFilter.HASH_VERSION_2));
+        assertEquals(murmur3(ChangedPathBloomFilter.SEED_0, "module",
+                        ChangedPathBloomFilter.HASH_VERSION_1),
+                murmur3(ChangedPathBloomFilter.SEED_0, "module",
+                        ChangedPathBloomFilter.HASH_VERSION_2));
+    }
+
+    @Test
+    void create_whenNullKeys_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ChangedPathBloomFilter.create(null));
+        assertThrows(IllegalArgumentException.class, () -> ChangedPathBloomFilter.key(null));
+    }
+
+    @Test
+    void create_shouldContainEveryKey() {
+        List<ChangedPathBloomFilter.Key> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(ChangedPathBloomFilter.key("module-" + i));
+        }
+
+        ChangedPathBloomFilter filter = ChangedPathBloomFilter.create(keys);
+
+        assertEquals(125, filter.getLength());
+        for (ChangedPathBloomFilter.Key key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (filter.mightContain(ChangedPathBloomFilter.key("other-" + i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 50, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void create_whenNoKeys_shouldContainNothing() {
+        ChangedPathBloomFilter filter = ChangedPathBloomFilter.create(List.of());
+
+        assertEquals(0, filter.getLength());
+        assertFalse(filter.mightContain(ChangedPathBloomFilter.key("")));
+    }
+
+    @Test
+    void mightContain_whenTruncatedFilter_shouldContainEverything() {
+        ChangedPathBloomFilter filter = new ChangedPathBloomFilter(
+                ByteBuffer.wrap(new byte[]{(byte) 0xff}), 0, 1,
+                ChangedPathBloomFilter.HASH_VERSION_1, ChangedPathBloomFilter.DEFAULT_NUM_HASHES);
+
+        assertTrue(filter.mightContain(ChangedPathBloomFilter.key("any/path")));
+    }
+
+    @Test
+    void copyTo_shouldCopyFilterBytes() {
+        ChangedPathBloomFilter filter =
+                ChangedPathBloomFilter.create(List.of(ChangedPathBloomFilter.key("module")));
+        ByteBuffer buffer = ByteBuffer.allocate(filter.getLength() + 1);
+        buffer.put((byte) 1);
+
+        filter.copyTo(buffer);
+
+        ChangedPathBloomFilter copy = new ChangedPathBloomFilter(buffer, 1, filter.getLength(),
+                ChangedPathBloomFilter.HASH_VERSION_2, ChangedPathBloomFilter.DEFAULT_NUM_HASHES);
+        assertTrue(copy.mightContain(ChangedPathBloomFilter.key("module")));
+    }
+
+    private static int murmur3(int seed, String data, int version) {
+        return ChangedPathBloomFilter.murmur3(seed, data.getBytes(StandardCharsets.UTF_8),
+                version);
+    }
+}
@@ -0,0 +1,81 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.init;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangedPathFiltersTest {
+
+    private static final List<String> MODULE_PATHS = List.of("", "module-1");
+
+    private static final ChangedPathBloomFilter.Key ROOT = ChangedPathBloomFilter.key("");
+
+    private static final ChangedPathBloomFilter.Key FIRST =
+            ChangedPathBloomFilter.key("module-1");
+
+    private static final ObjectId COMMIT =
+            ObjectId.fromString("1111111111111111111111111111111111111111");
+
+    @Test
+    void constructor_whenNullModuleFilters_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangedPathFilters(null, null));
+        assertThrows(IllegalArgumentException.class, () -> ChangedPathFilters.open(null,
+                MODULE_PATHS));
+    }
+
+    @Test
+    void mightChange_whenNoFilter_shouldReturnTrue(@TempDir File directory) throws IOException {
+        try (ChangedPathFilters filters = open(directory)) {
+            assertFalse(filters.hasCommitGraph());
+            assertTrue(filters.mightChange(COMMIT, List.of(FIRST), false));
+            assertEquals(1, filters.getCheckedCommits());
+            assertEquals(0, filters.getSkippedCommits());
+        }
+    }
+
+    @Test
+    void mightChange_whenRecorded_shouldUseRecordedFilter(@TempDir File directory)
+            throws IOException {
+        try (ChangedPathFilters filters = open(directory)) {
+            filters.record(COMMIT, List.of(ROOT));
+            filters.record(COMMIT, List.of(FIRST));
+
+            assertTrue(filters.mightChange(COMMIT, List.of(ROOT), true));
+            assertFalse(filters.mightChange(COMMIT, List.of(FIRST), true));
+            assertEquals(2, filters.getCheckedCommits());
+            assertEquals(1, filters.getSkippedCommits());
+        }
+
+        try (ChangedPathFilters filters = open(directory)) {
+            assertFalse(filters.mightChange(COMMIT, List.of(FIRST), true));
+        }
+    }
+
+    @Test
+    void open_shouldStoreModuleFiltersInGitDirectory(@TempDir File directory) throws Exception {
+        try (Git git = init(directory);
+             ChangedPathFilters filters = ChangedPathFilters.open(git.getRepository(),
+                     MODULE_PATHS)) {
+            filters.record(COMMIT, List.of(FIRST));
+        }
+
+        Path file = directory.toPath().resolve(".git")
+                .resolve(ModuleChangedPathFilters.DEFAULT_FILE);
+        assertTrue(Files.size(file) > ModuleChangedPathFilters.HEADER_SIZE);
+    }
+
+    private static ChangedPathFilters open(File directory) throws IOException {
+        return new ChangedPathFilters(null, ModuleChangedPathFilters.open(
+                directory.toPath().resolve("filters"), MODULE_PATHS));
+    }
+}
@@ -0,0 +1,136 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CommitGraphBloomFiltersTest {
+
+    @Test
+    void open_whenNoCommitGraph_shouldReturnNull(@TempDir File directory) throws Exception {
+        try (Git git = init(directory)) {
+            commitFile(git, "module-1/a.txt", "a", "feat: first module");
+            assertNull(CommitGraphBloomFilters.open(objectsDirectory(directory)));
+            assertNull(CommitGraphBloomFilters.open(null));
+        }
+    }
+
+    @Test
+    void open_whenCommitGraphWithoutFilters_shouldReturnNull(@TempDir File directory)
+            throws Exception {
+        assumeTrue(run(directory, "bash", "-c", "command -v git") == 0);
+        try (Git git = init(directory)) {
+            commitFile(git, "module-1/a.txt", "a", "feat: first module");
+            assertEquals(0, run(directory, "git", "commit-graph", "write", "--reachable"));
+
+            assertNull(CommitGraphBloomFilters.open(objectsDirectory(directory)));
+        }
+    }
+
+    @Test
+    void open_whenCorruptCommitGraph_shouldReturnNull(@TempDir File directory)
+            throws Exception {
+        File file = new File(objectsDirectory(directory),
+                CommitGraphBloomFilters.COMMIT_GRAPH_FILE);
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), new byte[]{'C', 'G', 'P', 'H', 9, 1, 0, 0});
+
+        assertNull(CommitGraphBloomFilters.open(objectsDirectory(directory)));
+    }
+
+    @Test
+    void get_shouldContainChangedPaths(@TempDir File directory) throws Exception {
+        assumeTrue(run(directory, "bash", "-c", "command -v git") == 0);
+        try (Git git = init(directory)) {
+            List<RevCommit> commits = commitModules(git);
+            assertEquals(0, run(directory, "git", "commit-graph", "write", "--reachable",
+                    "--changed-paths"));
+
+            CommitGraphBloomFilters filters =
+                    CommitGraphBloomFilters.open(objectsDirectory(directory));
+
+            assertNotNull(filters);
+            assertChangedPaths(filters, commits);
+            assertNull(filters.get(ObjectId.zeroId()));
+        }
+    }
+
+    @Test
+    void get_whenSplitCommitGraph_shouldReadEveryLayer(@TempDir File directory)
+            throws Exception {
+        assumeTrue(run(directory, "bash", "-c", "command -v git") == 0);
+        try (Git git = init(directory)) {
+            List<RevCommit> commits = commitModules(git);
+            assertEquals(0, run(directory, "git", "commit-graph", "write", "--reachable",
+                    "--changed-paths", "--split=no-merge"));
+            commits.add(commitFile(git, "module-2/b.txt", "b", "fix: second module"));
+            assertEquals(0, run(directory, "git", "commit-graph", "write", "--reachable",
+                    "--changed-paths", "--split=no-merge"));
+            assertTrue(new File(objectsDirectory(directory),
+                    CommitGraphBloomFilters.CHAIN_FILE).isFile());
+
+            CommitGraphBloomFilters filters =
+                    CommitGraphBloomFilters.open(objectsDirectory(directory));
+
+            assertNotNull(filters);
+            assertChangedPaths(filters, commits);
+        }
+    }
+
+    /**
+     * Commits 'module-1', 'module-2' and 'module-1' again.
+     */
+    private static List<RevCommit> commitModules(Git git) throws Exception {
+        List<RevCommit> commits = new ArrayList<>();
+        commits.add(commitFile(git, "module-1/src/a.txt", "a", "feat: first module"));
+        commits.add(commitFile(git, "module-2/b.txt", "a", "feat: second module"));
+        commits.add(commitFile(git, "module-1/src/a.txt", "a2", "fix: first module"));
+        return commits;
+    }
+
+    /**
+     * Asserts that commits change the 'module-1' and 'module-2' directories alternately.
+     */
+    private static void assertChangedPaths(CommitGraphBloomFilters filters,
+                                           List<RevCommit> commits) {
+        ChangedPathBloomFilter.Key first = ChangedPathBloomFilter.key("module-1");
+        ChangedPathBloomFilter.Key second = ChangedPathBloomFilter.key("module-2");
+        for (int i = 0; i < commits.size(); i++) {
+            ChangedPathBloomFilter filter = filters.get(commits.get(i));
+            assertNotNull(filter);
+            assertEquals(i % 2 == 0, filter.mightContain(first));
+            assertEquals(i % 2 == 1, filter.mightContain(second));
+        }
+        assertTrue(filters.get(commits.get(0)).mightContain(
+                ChangedPathBloomFilter.key("module-1/src/a.txt")));
+    }
+
+    private static File objectsDirectory(File directory) {
+        return new File(directory, ".git/objects");
+    }
+
+    private static int run(File directory, String... command) throws IOException,
+            InterruptedException {
+        Process process;
+        try {
+            process = new ProcessBuilder(List.of(command)).directory(directory)
+                    .redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            return -1;
+        }
+        return process.waitFor();
+    }
+}
@@ -0,0 +1,265 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommitHistoryIndexTest {
+
+    private static final CommitMsgConfiguration CONFIGURATION =
+            new CommitMsgConfiguration(new CommitMsgParameters());
+
+    @Test
+    void open_whenNullParameters_shouldThrowException(@TempDir File directory) {
+        Path file = directory.toPath().resolve("index");
+        assertThrows(IllegalArgumentException.class,
+                () -> CommitHistoryIndex.open(null, CONFIGURATION));
+        assertThrows(IllegalArgumentException.class,
+                () -> CommitHistoryIndex.open(file, null));
+    }
+
+    @Test
+    void open_whenFileMissing_shouldCreateEmptyIndex(@TempDir File directory)
+            throws IOException {
+        Path file = directory.toPath().resolve("semantic-version/index");
+        try (CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+            assertEquals(0, index.getSize());
+            assertEquals(CONFIGURATION.getTypeMatcher().getTypesCount(),
+                    index.getTypes().size());
+        }
+        assertEquals(CommitHistoryIndex.HEADER_SIZE, Files.size(file));
+    }
+
+    @Test
+    void update_shouldIndexParsedCommits(@TempDir File directory) throws Exception {
+        Path file = directory.toPath().resolve("index");
+        try (Git git = init(directory);
+             CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+            RevCommit init = commit(git, "Initial commit");
+            RevCommit feat = commit(git, "feat(core)!: breaking feature");
+            RevCommit fix = commit(git, "fix: fix\n\nBREAKING CHANGE: changed");
+
+            assertEquals(3, index.update(git.getRepository(), fix));
+
+            int position = index.find(init);
+            assertEquals(0, position);
+            assertEquals(init, index.getCommitId(position));
+            assertEquals(CommitHistoryIndex.NO_TYPE, index.getTypeOrdinal(position));
+            assertEquals(CommitHistoryIndex.NO_SCOPE, index.getScopeHash(position));
+            assertFalse(index.isBreaking(position));
+            assertEquals(init.getCommitTime(), index.getCommitTime(position));
+            assertEquals(-1, index.getFirstParent(position));
+
+            position = index.find(feat);
+            assertEquals("feat", index.getTypes().get(index.getTypeOrdinal(position)));
+            assertEquals(CommitHistoryIndex.scopeHash("core"), index.getScopeHash(position));
+            assertTrue(index.isBreaking(position));
+            assertEquals(index.find(init), index.getFirstParent(position));
+
+            position = index.find(fix);
+            assertEquals("fix", index.getTypes().get(index.getTypeOrdinal(position)));
+            assertTrue(index.isBreaking(position));
+        }
+    }
+
+    @Test
+    void update_whenCommitsAdded_shouldAppendOnlyNewCommits(@TempDir File directory)
+            throws Exception {
+        Path file = directory.toPath().resolve("index");
+        try (Git git = init(directory)) {
+            commit(git, "feat: first");
+            RevCommit second = commit(git, "fix: second");
+            try (CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+                assertEquals(2, index.update(git.getRepository(), second));
+                assertEquals(0, index.update(git.getRepository(), second));
+            }
+            RevCommit third = commit(git, "fix: third");
+            try (CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+                assertEquals(2, index.getSize());
+                assertEquals(1, index.update(git.getRepository(), third));
+                assertEquals(2, index.find(third));
+            }
+        }
+        assertEquals(CommitHistoryIndex.HEADER_SIZE + 3 * CommitHistoryIndex.RECORD_SIZE,
+                Files.size(file));
+    }
+
+    @Test
+    void update_whenMerges_shouldAppendParentsFirst(@TempDir File directory) throws Exception {
+        Path file = directory.toPath().resolve("index");
+        try (Git git = init(directory);
+             CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+            ObjectId base = commit(git, "chore: base");
+            ObjectId side = commit(git, "feat: side", base);
+            ObjectId main = commit(git, "fix: main", base);
+            ObjectId merge = commit(git, "Merge side", main, side);
+
+            assertEquals(4, index.update(git.getRepository(), merge));
+
+            int position = index.find(merge);
+            assertEquals(3, position);
+            assertEquals(index.find(main), index.getFirstParent(position));
+            assertEquals(index.find(side), index.getSecondParent(position));
+            for (int i = 0; i < index.getSize(); i++) {
+                assertTrue(index.getFirstParent(i) < i);
+                assertTrue(index.getSecondParent(i) < i);
+            }
+        }
+    }
+
+    @Test
+    void open_whenPartialRecord_shouldDropIt(@TempDir File directory) throws Exception {
+        Path file = directory.toPath().resolve("index");
+        try (Git git = init(directory)) {
+            RevCommit commit = commit(git, "feat: first");
+            try (CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+                index.update(git.getRepository(), commit);
+            }
+            Files.write(file, new byte[CommitHistoryIndex.RECORD_SIZE / 2],
+                    StandardOpenOption.APPEND);
+            try (CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+                assertEquals(1, index.getSize());
+                assertEquals(0, index.find(commit));
+            }
+        }
+        assertEquals(CommitHistoryIndex.HEADER_SIZE + CommitHistoryIndex.RECORD_SIZE,
+                Files.size(file));
+    }
+
+    @Test
+    void open_whenOtherTypes_shouldReplaceIndex(@TempDir File directory) throws Exception {
+        Path file = directory.toPath().resolve("index");
+        CommitMsgConfiguration otherConfiguration =
+                new CommitMsgConfiguration(new CommitMsgParameters(true, "commit-msg", 100,
+                        "feat,fix"));
+        try (Git git = init(directory);
+             CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+            RevCommit first = commit(git, "feat: first");
+            index.update(git.getRepository(), first);
+
+            try (CommitHistoryIndex other = CommitHistoryIndex.open(file, otherConfiguration)) {
+                assertEquals(0, other.getSize());
+                assertEquals(List.of("feat", "fix"), other.getTypes());
+            }
+            assertEquals(CommitHistoryIndex.HEADER_SIZE, Files.size(file));
+
+            RevCommit second = commit(git, "fix: second");
+            assertEquals(first, index.getCommitId(0));
+            assertEquals(1, index.update(git.getRepository(), second));
+            assertEquals(1, index.find(second));
+        }
+        assertEquals(CommitHistoryIndex.HEADER_SIZE, Files.size(file));
+    }
+
+    @Test
+    void update_whenSameFileUpdatedConcurrently_shouldIndexCommitsOnce(@TempDir File directory)
+            throws Exception {
+        Path file = directory.toPath().resolve("index");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (Git git = init(directory)) {
+            RevCommit head = null;
+            for (int i = 0; i < 50; i++) {
+                head = commit(git, "feat: commit " + i);
+            }
+            RevCommit updated = head;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> updates = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                updates.add(executor.submit(() -> {
+                    start.await();
+                    try (CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+                        index.update(git.getRepository(), updated);
+                        return index.find(updated);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> update : updates) {
+                assertEquals(49, update.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(CommitHistoryIndex.HEADER_SIZE + 50 * CommitHistoryIndex.RECORD_SIZE,
+                Files.size(file));
+    }
+
+    @Test
+    void scan_shouldVisitCommitsReachableFromStartButNotFromExcluded(@TempDir File directory)
+            throws Exception {
+        Path file = directory.toPath().resolve("index");
+        try (Git git = init(directory);
+             CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+            ObjectId root = commit(git, "chore: root");
+            ObjectId tagged = commit(git, "feat: released", root);
+            ObjectId side = commit(git, "feat: side", root);
+            ObjectId main = commit(git, "fix: main", tagged);
+            ObjectId merge = commit(git, "Merge side", main, side);
+            ObjectId unrelated = commit(git, "fix: unrelated", root);
+            index.update(git.getRepository(), merge);
+            index.update(git.getRepository(), unrelated);
+
+            List<ObjectId> scanned = new ArrayList<>();
+            int count = index.scan(index.find(merge), new int[]{index.find(tagged)},
+                    position -> scanned.add(index.getCommitId(position)));
+
+            assertEquals(3, count);
+            assertEquals(List.of(merge, main, side), scanned);
+
+            BitSet reachable = index.reachable(index.find(merge));
+            assertNotNull(reachable);
+            assertEquals(5, reachable.cardinality());
+            assertFalse(reachable.get(index.find(unrelated)));
+        }
+    }
+
+    @Test
+    void scan_whenOctopusMergeReached_shouldReturnNotIndexed(@TempDir File directory)
+            throws Exception {
+        Path file = directory.toPath().resolve("index");
+        try (Git git = init(directory);
+             CommitHistoryIndex index = CommitHistoryIndex.open(file, CONFIGURATION)) {
+            ObjectId root = commit(git, "chore: root");
+            ObjectId first = commit(git, "feat: first", root);
+            ObjectId second = commit(git, "feat: second", root);
+            ObjectId third = commit(git, "feat: third", root);
+            ObjectId octopus = commit(git, "Merge branches", first, second, third);
+            ObjectId head = commit(git, "fix: head", octopus);
+            index.update(git.getRepository(), head);
+
+            assertEquals(6, index.getSize());
+            assertEquals(CommitHistoryIndex.NOT_INDEXED,
+                    index.scan(index.find(head), new int[0], position -> {
+                    }));
+            assertNull(index.reachable(index.find(head)));
+            assertEquals(2, index.scan(index.find(first), new int[0], position -> {
+            }));
+        }
+    }
+
+    @Test
+    void scopeHash_whenNoScope_shouldReturnNoScope() {
+        assertEquals(CommitHistoryIndex.NO_SCOPE, CommitHistoryIndex.scopeHash(null));
+        assertEquals("core".hashCode(), CommitHistoryIndex.scopeHash("core"));
+    }
+}
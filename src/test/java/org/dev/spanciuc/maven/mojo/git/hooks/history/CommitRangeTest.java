@@ -0,0 +1,42 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommitRangeTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  "})
+    void parse_whenBlankRange_shouldThrowException(String range) {
+        assertThrows(IllegalArgumentException.class, () -> CommitRange.parse(range));
+    }
+
+    @Test
+    void parse_whenFromAndTo_shouldReturnBoth() {
+        assertEquals(new CommitRange("origin/main", "feature"),
+                CommitRange.parse("origin/main..feature"));
+    }
+
+    @Test
+    void parse_whenOnlyFrom_shouldUseHeadAsTo() {
+        assertEquals(new CommitRange("v1.0.0", "HEAD"), CommitRange.parse("v1.0.0.."));
+    }
+
+    @Test
+    void parse_whenOnlyTo_shouldHaveNoFrom() {
+        assertEquals(new CommitRange(null, "HEAD"), CommitRange.parse(" HEAD "));
+        assertEquals(new CommitRange(null, "HEAD"), CommitRange.parse("..HEAD"));
+    }
+
+    @Test
+    void toString_shouldReturnRangeNotation() {
+        assertEquals("a..b", CommitRange.parse("a..b").toString());
+        assertEquals("b", CommitRange.parse("b").toString());
+    }
+}
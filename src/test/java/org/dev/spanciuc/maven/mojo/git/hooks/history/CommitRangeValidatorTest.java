@@ -0,0 +1,71 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgValidationResult;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommitRangeValidatorTest {
+
+    private final CommitRangeValidator validator = new CommitRangeValidator(
+            new CommitMsgConfiguration(
+                    new CommitMsgParameters(true, "commit-msg", 20, "feat,fix")));
+
+    @Test
+    void validate_shouldReportEveryViolationOfRangeInWalkOrder(@TempDir File directory)
+            throws Exception {
+        try (Git git = init(directory)) {
+            commit(git, "wip");
+            tag(git, "base");
+            RevCommit invalid = commit(git, "not conventional\n\nbody");
+            commit(git, "feat: valid");
+            RevCommit tooLong = commit(git, "fix: this header is too long");
+
+            List<CommitMessageViolation> violations = new ArrayList<>();
+            int validated = validator.validate(git.getRepository(), CommitRange.parse("base.."),
+                    true, violations::add);
+
+            assertEquals(3, validated);
+            assertEquals(List.of(
+                    new CommitMessageViolation(tooLong.name(), "fix: this header is too long",
+                            CommitMsgValidationResult.HEADER_TOO_LONG),
+                    new CommitMessageViolation(invalid.name(), "not conventional",
+                            CommitMsgValidationResult.INVALID_FORMAT)), violations);
+        }
+    }
+
+    @Test
+    void validate_whenNoFrom_shouldValidateWholeHistory(@TempDir File directory)
+            throws Exception {
+        try (Git git = init(directory)) {
+            commit(git, "wip");
+            commit(git, "feat: valid");
+            List<CommitMessageViolation> violations = new ArrayList<>();
+            assertEquals(2, validator.validate(git.getRepository(), CommitRange.parse("HEAD"),
+                    true, violations::add));
+            assertEquals(1, violations.size());
+        }
+    }
+
+    @Test
+    void validate_whenUnknownRevision_shouldThrowException(@TempDir File directory)
+            throws Exception {
+        try (Git git = init(directory)) {
+            commit(git, "feat: valid");
+            assertThrows(IllegalArgumentException.class,
+                    () -> validator.validate(git.getRepository(),
+                            CommitRange.parse("unknown..HEAD"), true, violation -> {
+                            }));
+        }
+    }
+}
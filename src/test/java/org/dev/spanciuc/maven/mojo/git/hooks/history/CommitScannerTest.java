@@ -0,0 +1,87 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.commit;
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.init;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommitScannerTest {
+
+    @Test
+    void constructor_whenNotPositiveThreads_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommitScanner(0));
+    }
+
+    @Test
+    void scan_whenNullParameters_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CommitScanner().scan(null, (id, message) -> message, result -> {
+                }));
+    }
+
+    @Test
+    void scan_whenMoreThreads_shouldProduceSameResultsInWalkOrder(@TempDir File directory)
+            throws Exception {
+        int commits = 2 * CommitScanner.WINDOW_PER_THREAD + 100;
+        try (Git git = init(directory)) {
+            for (int i = 0; i < commits; i++) {
+                commit(git, (i % 3 == 0 ? "skip " : "feat: ") + i + "\n\nbody " + i);
+            }
+            Repository repository = git.getRepository();
+
+            List<String> sequential = new ArrayList<>();
+            assertEquals(commits, scan(repository, new CommitScanner(), sequential));
+            List<String> parallel = new ArrayList<>();
+            assertEquals(commits, scan(repository, new CommitScanner(2), parallel));
+
+            assertEquals(commits - (commits + 2) / 3, sequential.size());
+            assertEquals(sequential, parallel);
+        }
+    }
+
+    @Test
+    void scan_whenAnalyserFails_shouldRethrowException(@TempDir File directory)
+            throws Exception {
+        try (Git git = init(directory)) {
+            commit(git, "feat: one");
+            Repository repository = git.getRepository();
+            try (RevWalk walk = new RevWalk(repository)) {
+                walk.markStart(walk.parseCommit(repository.resolve("HEAD")));
+                assertThrows(IllegalStateException.class,
+                        () -> new CommitScanner(2).scan(walk, (id, message) -> {
+                            throw new IllegalStateException(message);
+                        }, result -> {
+                        }));
+            }
+        }
+    }
+
+    @Test
+    void decodeMessage_shouldMatchFullMessage(@TempDir File directory) throws Exception {
+        try (Git git = init(directory)) {
+            RevCommit commit = commit(git, "feat: ünïcödé\n\nbody\n");
+            assertEquals(commit.getFullMessage(),
+                    CommitScanner.decodeMessage(commit.getRawBuffer()));
+        }
+    }
+
+    private static int scan(Repository repository, CommitScanner scanner, List<String> results)
+            throws IOException {
+        try (RevWalk walk = new RevWalk(repository)) {
+            walk.markStart(walk.parseCommit(repository.resolve("HEAD")));
+            return scanner.scan(walk, (id, message) -> message.startsWith("skip") ? null :
+                    id.name() + " " + message, results::add);
+        }
+    }
+}
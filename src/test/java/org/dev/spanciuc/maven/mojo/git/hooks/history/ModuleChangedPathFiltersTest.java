@@ -0,0 +1,135 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.history;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModuleChangedPathFiltersTest {
+
+    private static final List<String> MODULE_PATHS = List.of("module-1", "module-2");
+
+    private static final ChangedPathBloomFilter.Key FIRST =
+            ChangedPathBloomFilter.key("module-1");
+
+    private static final ChangedPathBloomFilter.Key SECOND =
+            ChangedPathBloomFilter.key("module-2");
+
+    private static final ObjectId COMMIT_1 =
+            ObjectId.fromString("1111111111111111111111111111111111111111");
+
+    private static final ObjectId COMMIT_2 =
+            ObjectId.fromString("2222222222222222222222222222222222222222");
+
+    @Test
+    void open_whenNullParameters_shouldThrowException(@TempDir File directory) {
+        Path file = directory.toPath().resolve("filters");
+        assertThrows(IllegalArgumentException.class,
+                () -> ModuleChangedPathFilters.open(null, MODULE_PATHS));
+        assertThrows(IllegalArgumentException.class,
+                () -> ModuleChangedPathFilters.open(file, null));
+    }
+
+    @Test
+    void open_whenFileMissing_shouldCreateEmptyFilters(@TempDir File directory)
+            throws IOException {
+        Path file = directory.toPath().resolve(ModuleChangedPathFilters.DEFAULT_FILE);
+        try (ModuleChangedPathFilters filters =
+                     ModuleChangedPathFilters.open(file, MODULE_PATHS)) {
+            assertEquals(0, filters.getSize());
+            assertNull(filters.get(COMMIT_1));
+        }
+        assertEquals(ModuleChangedPathFilters.HEADER_SIZE, Files.size(file));
+    }
+
+    @Test
+    void close_shouldPersistAddedFilters(@TempDir File directory) throws IOException {
+        Path file = directory.toPath().resolve("filters");
+        try (ModuleChangedPathFilters filters =
+                     ModuleChangedPathFilters.open(file, MODULE_PATHS)) {
+            filters.add(COMMIT_1, ChangedPathBloomFilter.create(List.of(FIRST)));
+            filters.add(COMMIT_2, ChangedPathBloomFilter.create(List.of()));
+            filters.add(COMMIT_2, ChangedPathBloomFilter.create(List.of(SECOND)));
+            assertEquals(2, filters.getSize());
+        }
+
+        try (ModuleChangedPathFilters filters =
+                     ModuleChangedPathFilters.open(file, List.of("module-2", "module-1"))) {
+            assertEquals(2, filters.getSize());
+            assertTrue(filters.get(COMMIT_1).mightContain(FIRST));
+            assertFalse(filters.get(COMMIT_1).mightContain(SECOND));
+            assertEquals(0, filters.get(COMMIT_2).getLength());
+            assertFalse(filters.get(COMMIT_2).mightContain(SECOND));
+        }
+    }
+
+    @Test
+    void open_whenOtherModulePaths_shouldReplaceFile(@TempDir File directory)
+            throws IOException {
+        Path file = directory.toPath().resolve("filters");
+        try (ModuleChangedPathFilters filters =
+                     ModuleChangedPathFilters.open(file, MODULE_PATHS)) {
+            filters.add(COMMIT_1, ChangedPathBloomFilter.create(List.of(FIRST)));
+        }
+        long size = Files.size(file);
+
+        try (FileChannel replaced = FileChannel.open(file, StandardOpenOption.READ)) {
+            try (ModuleChangedPathFilters filters =
+                         ModuleChangedPathFilters.open(file, List.of("module-1"))) {
+                assertEquals(0, filters.getSize());
+            }
+            assertEquals(size, replaced.size());
+        }
+        assertEquals(ModuleChangedPathFilters.HEADER_SIZE, Files.size(file));
+    }
+
+    @Test
+    void close_whenOtherModulePathsReplacedFile_shouldNotAppend(@TempDir File directory)
+            throws IOException {
+        Path file = directory.toPath().resolve("filters");
+        try (ModuleChangedPathFilters filters =
+                     ModuleChangedPathFilters.open(file, MODULE_PATHS)) {
+            filters.add(COMMIT_1, ChangedPathBloomFilter.create(List.of(FIRST)));
+            ModuleChangedPathFilters.open(file, List.of("module-1")).close();
+        }
+        assertEquals(ModuleChangedPathFilters.HEADER_SIZE, Files.size(file));
+
+        try (ModuleChangedPathFilters filters =
+                     ModuleChangedPathFilters.open(file, List.of("module-1"))) {
+            assertEquals(0, filters.getSize());
+        }
+    }
+
+    @Test
+    void open_whenPartialRecord_shouldDropIt(@TempDir File directory) throws IOException {
+        Path file = directory.toPath().resolve("filters");
+        try (ModuleChangedPathFilters filters =
+                     ModuleChangedPathFilters.open(file, MODULE_PATHS)) {
+            filters.add(COMMIT_1, ChangedPathBloomFilter.create(List.of(FIRST)));
+        }
+        long size = Files.size(file);
+        ByteBuffer partial = ByteBuffer.allocate(Constants.OBJECT_ID_LENGTH + Short.BYTES + 1);
+        COMMIT_2.copyRawTo(partial.array(), 0);
+        partial.putShort(Constants.OBJECT_ID_LENGTH, (short) 2);
+        Files.write(file, partial.array(), StandardOpenOption.APPEND);
+
+        try (ModuleChangedPathFilters filters =
+                     ModuleChangedPathFilters.open(file, MODULE_PATHS)) {
+            assertEquals(1, filters.getSize());
+            assertTrue(filters.get(COMMIT_1).mightContain(FIRST));
+            assertNull(filters.get(COMMIT_2));
+        }
+        assertEquals(size, Files.size(file));
+    }
+}
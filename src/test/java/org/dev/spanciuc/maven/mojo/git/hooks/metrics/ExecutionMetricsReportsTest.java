@@ -0,0 +1,64 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionMetricsReportsTest {
+
+    @Test
+    void toJson_shouldWriteGoalTotalAndEscapedStages() {
+        ExecutionMetrics metrics = completedMetrics();
+        String json = ExecutionMetricsReports.toJson(metrics);
+        long checks = metrics.getStageTimings().get(0).getDurationNanos();
+        long generate = metrics.getStageTimings().get(1).getDurationNanos();
+        assertEquals("{\"goal\":\"add-git-hooks\",\"totalNanos\":" + metrics.getTotalNanos() +
+                ",\"loadedClasses\":" + metrics.getLoadedClasses() +
+                ",\"stages\":[{\"stage\":\"checks\",\"name\":null,\"nanos\":" + checks +
+                "},{\"stage\":\"generate\",\"name\":\"commit-\\\"msg\\\"\",\"nanos\":" +
+                generate + "}]}\n", json);
+    }
+
+    @Test
+    void toCsv_shouldWriteRowPerStageAndTotal() {
+        ExecutionMetrics metrics = completedMetrics();
+        String csv = ExecutionMetricsReports.toCsv(metrics);
+        long checks = metrics.getStageTimings().get(0).getDurationNanos();
+        long generate = metrics.getStageTimings().get(1).getDurationNanos();
+        assertEquals("stage,name,nanos\n" +
+                "checks,," + checks + "\n" +
+                "generate,\"commit-\"\"msg\"\"\"," + generate + "\n" +
+                "total,," + metrics.getTotalNanos() + "\n", csv);
+    }
+
+    @Test
+    void write_whenNone_shouldNotWriteReport(@TempDir File directory) throws IOException {
+        assertNull(ExecutionMetricsReports.write(completedMetrics(), MetricsReportFormat.NONE,
+                directory));
+        assertArrayEquals(new String[0], directory.list());
+    }
+
+    @Test
+    void write_shouldCreateDirectoryAndNameReportAfterGoal(@TempDir File directory)
+            throws IOException {
+        ExecutionMetrics metrics = completedMetrics();
+        File report = ExecutionMetricsReports.write(metrics, MetricsReportFormat.CSV,
+                new File(directory, "target"));
+        assertEquals(new File(directory, "target/add-git-hooks-metrics.csv"), report);
+        assertEquals(ExecutionMetricsReports.toCsv(metrics), Files.readString(report.toPath()));
+    }
+
+    private static ExecutionMetrics completedMetrics() {
+        ExecutionMetrics metrics = new ExecutionMetrics("add-git-hooks");
+        metrics.time("checks", () -> {
+        });
+        metrics.time("generate", "commit-\"msg\"", () -> null);
+        metrics.complete();
+        return metrics;
+    }
+}
@@ -0,0 +1,81 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionMetricsTest {
+
+    @Test
+    void constructor_whenNullGoal_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExecutionMetrics(null));
+    }
+
+    @Test
+    void time_shouldRecordStagesInCompletionOrder() {
+        ExecutionMetrics metrics = new ExecutionMetrics("goal");
+
+        assertEquals("result", metrics.time("first", "name", () -> "result"));
+        metrics.time("second", () -> {
+        });
+        metrics.record("third", null, System.nanoTime());
+
+        List<StageTiming> stageTimings = metrics.getStageTimings();
+        assertEquals(List.of("first", "second", "third"),
+                stageTimings.stream().map(StageTiming::getStage).toList());
+        assertEquals("name", stageTimings.get(0).getName());
+        assertNull(stageTimings.get(1).getName());
+        assertTrue(stageTimings.stream().allMatch(timing -> timing.getDurationNanos() >= 0));
+    }
+
+    @Test
+    void time_whenActionFails_shouldRecordStage() {
+        ExecutionMetrics metrics = new ExecutionMetrics("goal");
+
+        assertThrows(IllegalStateException.class, () -> metrics.time("stage", () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, metrics.getStageTimings().size());
+    }
+
+    @Test
+    void complete_shouldOnlyRecordFirstTotal() throws InterruptedException {
+        ExecutionMetrics metrics = new ExecutionMetrics("goal");
+        metrics.complete();
+        long total = metrics.getTotalNanos();
+        Thread.sleep(1);
+        metrics.complete();
+        assertEquals(total, metrics.getTotalNanos());
+    }
+
+    @Test
+    void complete_shouldRecordClassesLoadedDuringExecution() throws Exception {
+        ExecutionMetrics metrics = new ExecutionMetrics("goal");
+        loadInNewClassLoader();
+        metrics.complete();
+        long loadedClasses = metrics.getLoadedClasses();
+        assertTrue(loadedClasses >= 1);
+        loadInNewClassLoader();
+        assertEquals(loadedClasses, metrics.getLoadedClasses());
+    }
+
+    /**
+     * Defines a new class on each call, a class loader without parent loads it again.
+     */
+    private static void loadInNewClassLoader() throws Exception {
+        URL codeSource = ExecutionMetricsTest.class.getProtectionDomain().getCodeSource()
+                .getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{codeSource}, null)) {
+            Class.forName(ExecutionMetricsTest.class.getName() + "$Loadable", true,
+                    classLoader);
+        }
+    }
+
+    private static final class Loadable {
+    }
+}
@@ -0,0 +1,20 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A listener registered in test resources, it records every notified execution.
+ */
+public class RecordingExecutionMetricsListener implements ExecutionMetricsListener {
+
+    /**
+     * The notified executions.
+     */
+    public static final List<ExecutionMetrics> EXECUTIONS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void executionCompleted(ExecutionMetrics metrics) {
+        EXECUTIONS.add(metrics);
+    }
+}
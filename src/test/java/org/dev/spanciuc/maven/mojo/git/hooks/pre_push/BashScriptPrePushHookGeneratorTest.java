@@ -0,0 +1,182 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.pre_push;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BashScriptPrePushHookGeneratorTest {
+
+    private static final int COMMITS = 1_000;
+
+    private static final String ZERO_SHA = "0".repeat(40);
+
+    private static final String BRANCH = "refs/heads/main";
+
+    @Test
+    void constructor_whenNullConfigurationParameter_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BashScriptPrePushHookGenerator(null));
+    }
+
+    @Test
+    void generate_whenDisabled_shouldThrowException() {
+        BashScriptPrePushHookGenerator generator = new BashScriptPrePushHookGenerator(
+                new PrePushConfiguration(new PrePushParameters()));
+        File file = new File("parent");
+        assertThrows(IllegalStateException.class, () -> generator.generate(file));
+    }
+
+    @Test
+    void generate_whenEnabledAndNullParentDirectory_shouldThrowException() {
+        BashScriptPrePushHookGenerator generator = buildGenerator(50);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(null));
+    }
+
+    @Test
+    void generate_whenEnabled_shouldWriteExecutableScript(@TempDir File parentFolder)
+            throws IOException {
+        BashScriptPrePushHookGenerator generator = buildGenerator(50);
+
+        File generatedFile = generator.generate(parentFolder);
+
+        assertEquals(PrePushParameters.DEFAULT_FILE_NAME, generatedFile.getName());
+        assertTrue(generatedFile.canExecute());
+        assertEquals(generator.getFingerprint(),
+                Fingerprints.of(Files.readAllBytes(generatedFile.toPath())));
+    }
+
+    @Test
+    void build_shouldRunOneGitLogPerRef() {
+        String content = BashScriptPrePushHookGenerator.BashScriptContentBuilder
+                .build(buildConfiguration(50));
+        assertTrue(content.contains("header_pattern='^(feat|fix)(\\(.+\\))?!?: .+$'"));
+        assertEquals(content.indexOf("git log"), content.lastIndexOf("git log"));
+        assertTrue(content.contains("${#header} > 50"));
+    }
+
+    @Test
+    void build_whenUnrestrictedHeaderLength_shouldNotCheckLength() {
+        String content = BashScriptPrePushHookGenerator.BashScriptContentBuilder.build(
+                buildConfiguration(CommitMsgConfiguration.UNRESTRICTED_HEADER_MAX_LENGTH_VALUE));
+        assertFalse(content.contains("${#header}"));
+    }
+
+    @Test
+    void hook_whenNewRefWithValidCommits_shouldAcceptPush(@TempDir File repository)
+            throws Exception {
+        initRepository(repository, Set.of());
+
+        assertEquals(0, runHook(repository, BRANCH + " " + revParse(repository, "main") +
+                " " + BRANCH + " " + ZERO_SHA + "\n"));
+    }
+
+    @Test
+    void hook_whenInvalidCommitIsPushed_shouldRejectPush(@TempDir File repository)
+            throws Exception {
+        initRepository(repository, Set.of(COMMITS - 10));
+
+        assertEquals(1, runHook(repository, BRANCH + " " + revParse(repository, "main") +
+                " " + BRANCH + " " + revParse(repository, "main~100") + "\n"));
+    }
+
+    @Test
+    void hook_whenInvalidCommitIsAlreadyOnRemote_shouldAcceptPush(@TempDir File repository)
+            throws Exception {
+        initRepository(repository, Set.of(10));
+
+        assertEquals(0, runHook(repository, BRANCH + " " + revParse(repository, "main") +
+                " " + BRANCH + " " + revParse(repository, "main~100") + "\n"));
+    }
+
+    @Test
+    void hook_whenHeaderTooLong_shouldRejectPush(@TempDir File repository) throws Exception {
+        initRepository(repository, Set.of());
+        BashScriptPrePushHookGenerator generator = buildGenerator(10);
+        generator.generate(repository);
+
+        assertEquals(1, runHook(repository, BRANCH + " " + revParse(repository, "main") +
+                " " + BRANCH + " " + revParse(repository, "main~1") + "\n"));
+    }
+
+    @Test
+    void hook_whenRefIsDeleted_shouldAcceptPush(@TempDir File repository) throws Exception {
+        initRepository(repository, Set.of(COMMITS - 1));
+
+        assertEquals(0, runHook(repository, "(delete) " + ZERO_SHA + " " + BRANCH + " " +
+                revParse(repository, "main") + "\n"));
+    }
+
+    private static BashScriptPrePushHookGenerator buildGenerator(int headerMaxLength) {
+        return new BashScriptPrePushHookGenerator(buildConfiguration(headerMaxLength));
+    }
+
+    private static PrePushConfiguration buildConfiguration(int headerMaxLength) {
+        return new PrePushConfiguration(new PrePushParameters(true,
+                PrePushParameters.DEFAULT_FILE_NAME, headerMaxLength, "feat,fix"));
+    }
+
+    /**
+     * Creates {@value #COMMITS} commits on main with a single git fast-import call, commits
+     * with the given ordinals have an invalid message.
+     */
+    private static void initRepository(File repository, Set<Integer> invalidCommits)
+            throws Exception {
+        assumeTrue(run(repository, null, "bash", "-c", "command -v git") == 0);
+        assertEquals(0, run(repository, null, "git", "init", "-q", "-b", "main"));
+        StringBuilder stream = new StringBuilder();
+        for (int i = 0; i < COMMITS; i++) {
+            String message = invalidCommits.contains(i) ? "WIP " + i + "\n" :
+                    "feat(core): change " + i + "\n\nbody " + i + "\n";
+            stream.append("commit ").append(BRANCH).append('\n')
+                    .append("committer Dev <dev@example.com> ").append(1_600_000_000L + i)
+                    .append(" +0000\n")
+                    .append("data ").append(message.getBytes(StandardCharsets.UTF_8).length)
+                    .append('\n').append(message).append('\n');
+        }
+        assertEquals(0, run(repository, stream.toString(), "git", "fast-import", "--quiet"));
+        buildGenerator(50).generate(repository);
+    }
+
+    private static String revParse(File repository, String revision) throws Exception {
+        Process process = new ProcessBuilder(List.of("git", "rev-parse", revision))
+                .directory(repository).start();
+        String sha = new String(process.getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8).strip();
+        assertEquals(0, process.waitFor());
+        return sha;
+    }
+
+    private static int runHook(File repository, String input) throws Exception {
+        return run(repository, input, "bash", PrePushParameters.DEFAULT_FILE_NAME,
+                "origin", "https://example.com/repository.git");
+    }
+
+    private static int run(File directory, String input, String... command) throws Exception {
+        Process process;
+        try {
+            process = new ProcessBuilder(List.of(command)).directory(directory)
+                    .redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            return -1;
+        }
+        try (OutputStream stdin = process.getOutputStream()) {
+            if (null != input) {
+                stdin.write(input.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return process.waitFor();
+    }
+}
@@ -0,0 +1,63 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.pre_push;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrePushConfigurationTest {
+
+    @Test
+    void constructor_whenNullParameters_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new PrePushConfiguration(null));
+    }
+
+    @Test
+    void constructor_whenDefaultParameters_shouldHaveDefaultValues() {
+        PrePushConfiguration configuration = new PrePushConfiguration(new PrePushParameters());
+        assertFalse(configuration.isEnabled());
+        assertEquals(PrePushParameters.DEFAULT_FILE_NAME, configuration.getFileName());
+        assertTrue(configuration.getTypes().contains("feat"));
+        assertTrue(configuration.hasHeaderMaxLengthRestriction());
+    }
+
+    @Test
+    void constructor_whenValidParameters_shouldSanitizeThem() {
+        PrePushConfiguration configuration = new PrePushConfiguration(
+                new PrePushParameters(true, " file ", 10, " fix, feat "));
+        assertEquals("file", configuration.getFileName());
+        assertEquals(10, configuration.getHeaderMaxLength());
+        assertEquals(List.of("feat", "fix"), List.copyOf(configuration.getTypes()));
+    }
+
+    @Test
+    void constructor_whenUnrestrictedHeaderLength_shouldHaveNoRestriction() {
+        PrePushConfiguration configuration = new PrePushConfiguration(
+                new PrePushParameters(true, "file",
+                        CommitMsgConfiguration.UNRESTRICTED_HEADER_MAX_LENGTH_VALUE, "feat"));
+        assertFalse(configuration.hasHeaderMaxLengthRestriction());
+    }
+
+    @Test
+    void constructor_whenInvalidHeaderLength_shouldThrowException() {
+        PrePushParameters parameters = new PrePushParameters(true, "file", 0, "feat");
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrePushConfiguration(parameters));
+    }
+
+    @Test
+    void constructor_whenBlankFileName_shouldThrowException() {
+        PrePushParameters parameters = new PrePushParameters(true, " ", 10, "feat");
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrePushConfiguration(parameters));
+    }
+
+    @Test
+    void getGitHookFileGenerator_shouldReturnBashScriptGenerator() {
+        PrePushConfiguration configuration = new PrePushConfiguration(new PrePushParameters());
+        assertInstanceOf(BashScriptPrePushHookGenerator.class,
+                configuration.getGitHookFileGenerator());
+    }
+}
@@ -0,0 +1,165 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.utils.Fingerprints;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BashScriptPrepareCommitMsgHookGeneratorTest {
+
+    private static final Map<String, String> MODULE_SCOPES =
+            Map.of("core", "core", "plugins", "plugins", "plugins/api", "api");
+
+    @Test
+    void constructor_whenNullConfigurationParameter_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BashScriptPrepareCommitMsgHookGenerator(null));
+    }
+
+    @Test
+    void generate_whenDisabled_shouldThrowException() {
+        BashScriptPrepareCommitMsgHookGenerator generator =
+                new BashScriptPrepareCommitMsgHookGenerator(
+                        new PrepareCommitMsgConfiguration(new PrepareCommitMsgParameters()));
+        File file = new File("parent");
+        assertThrows(IllegalStateException.class, () -> generator.generate(file));
+    }
+
+    @Test
+    void generate_whenEnabledAndNullParentDirectory_shouldThrowException() {
+        BashScriptPrepareCommitMsgHookGenerator generator = buildGenerator(Map.of());
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(null));
+    }
+
+    @Test
+    void generate_whenEnabled_shouldWriteExecutableScript(@TempDir File parentFolder)
+            throws IOException {
+        BashScriptPrepareCommitMsgHookGenerator generator = buildGenerator(MODULE_SCOPES);
+
+        File generatedFile = generator.generate(parentFolder);
+
+        assertEquals(PrepareCommitMsgParameters.DEFAULT_FILE_NAME, generatedFile.getName());
+        assertTrue(generatedFile.canExecute());
+        assertEquals(generator.getFingerprint(),
+                Fingerprints.of(Files.readAllBytes(generatedFile.toPath())));
+    }
+
+    @Test
+    void build_whenModuleScopes_shouldEmbedLookupTableLongestPathFirst() {
+        String content = BashScriptPrepareCommitMsgHookGenerator.BashScriptContentBuilder
+                .build(buildConfiguration(MODULE_SCOPES));
+        int nested = content.indexOf("'plugins/api/'*) path_scope='api' ;;");
+        int parent = content.indexOf("'plugins/'*) path_scope='plugins' ;;");
+        assertTrue(nested >= 0);
+        assertTrue(parent > nested);
+        assertTrue(content.contains("'core/'*) path_scope='core' ;;"));
+    }
+
+    @Test
+    void build_whenNoModuleScopes_shouldNotListStagedFiles() {
+        String content = BashScriptPrepareCommitMsgHookGenerator.BashScriptContentBuilder
+                .build(buildConfiguration(Map.of()));
+        assertFalse(content.contains("git diff"));
+    }
+
+    @Test
+    void build_whenTypeHasSingleQuote_shouldEscapeIt() {
+        PrepareCommitMsgConfiguration configuration = new PrepareCommitMsgConfiguration(
+                new PrepareCommitMsgParameters(true, "file", "it's", Map.of()));
+        String content = BashScriptPrepareCommitMsgHookGenerator.BashScriptContentBuilder
+                .build(configuration);
+        assertTrue(content.contains("'it'\\''s') ;;"));
+    }
+
+    @Test
+    void hook_whenBranchHasTypeAndStagedFilesInOneModule_shouldPrefillTypeAndScope(
+            @TempDir File repository) throws Exception {
+        initRepository(repository, "feat/login");
+        stage(repository, "plugins/api/src/A.java", "plugins/api/pom.xml");
+
+        assertEquals("feat(api): \n# comment\n", runHook(repository, "# comment\n", ""));
+    }
+
+    @Test
+    void hook_whenStagedFilesInSeveralModules_shouldPrefillTypeOnly(@TempDir File repository)
+            throws Exception {
+        initRepository(repository, "fix/npe");
+        stage(repository, "core/A.java", "plugins/B.java", "README.md");
+
+        assertEquals("fix: \n\n", runHook(repository, "", ""));
+    }
+
+    @Test
+    void hook_whenBranchHasNoType_shouldKeepMessage(@TempDir File repository) throws Exception {
+        initRepository(repository, "main");
+        stage(repository, "core/A.java");
+
+        assertEquals("# comment\n", runHook(repository, "# comment\n", ""));
+    }
+
+    @Test
+    void hook_whenMessageGivenOrAmended_shouldKeepMessage(@TempDir File repository)
+            throws Exception {
+        initRepository(repository, "feat/login");
+
+        assertEquals("initial\n", runHook(repository, "initial\n", "message"));
+        assertEquals("# comment\n", runHook(repository, "# comment\n", "commit"));
+    }
+
+    private static BashScriptPrepareCommitMsgHookGenerator buildGenerator(
+            Map<String, String> moduleScopes) {
+        return new BashScriptPrepareCommitMsgHookGenerator(buildConfiguration(moduleScopes));
+    }
+
+    private static PrepareCommitMsgConfiguration buildConfiguration(
+            Map<String, String> moduleScopes) {
+        return new PrepareCommitMsgConfiguration(new PrepareCommitMsgParameters(true,
+                PrepareCommitMsgParameters.DEFAULT_FILE_NAME, "feat,fix", moduleScopes));
+    }
+
+    private static void initRepository(File repository, String branch) throws Exception {
+        assumeTrue(run(repository, "bash", "-c", "command -v git") == 0);
+        assertEquals(0, run(repository, "git", "init", "-q", "-b", branch));
+        buildGenerator(MODULE_SCOPES).generate(repository);
+    }
+
+    private static void stage(File repository, String... paths) throws Exception {
+        for (String path : paths) {
+            Path file = repository.toPath().resolve(path);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, path);
+            assertEquals(0, run(repository, "git", "add", path));
+        }
+    }
+
+    private static String runHook(File repository, String message, String source)
+            throws Exception {
+        Path messageFile = repository.toPath().resolve("COMMIT_EDITMSG");
+        Files.writeString(messageFile, message);
+        assertEquals(0, run(repository, "bash", PrepareCommitMsgParameters.DEFAULT_FILE_NAME,
+                messageFile.toString(), source));
+        return Files.readString(messageFile, StandardCharsets.UTF_8);
+    }
+
+    private static int run(File directory, String... command) throws Exception {
+        Process process;
+        try {
+            process = new ProcessBuilder(List.of(command)).directory(directory)
+                    .redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            return -1;
+        }
+        return process.waitFor();
+    }
+}
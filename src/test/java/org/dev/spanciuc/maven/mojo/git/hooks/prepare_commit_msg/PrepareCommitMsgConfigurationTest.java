@@ -0,0 +1,81 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.prepare_commit_msg;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrepareCommitMsgConfigurationTest {
+
+    @Test
+    void constructor_whenNullParameters_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrepareCommitMsgConfiguration(null));
+    }
+
+    @Test
+    void constructor_whenDefaultParameters_shouldHaveDefaultValues() {
+        PrepareCommitMsgConfiguration configuration =
+                new PrepareCommitMsgConfiguration(new PrepareCommitMsgParameters());
+        assertFalse(configuration.isEnabled());
+        assertEquals(PrepareCommitMsgParameters.DEFAULT_FILE_NAME, configuration.getFileName());
+        assertTrue(configuration.getTypes().contains("feat"));
+        assertTrue(configuration.getModuleScopes().isEmpty());
+    }
+
+    @Test
+    void constructor_whenTypesHaveBlanks_shouldSanitizeTypes() {
+        PrepareCommitMsgConfiguration configuration = new PrepareCommitMsgConfiguration(
+                new PrepareCommitMsgParameters(true, "file", " fix, feat ", null));
+        assertEquals(List.of("feat", "fix"), List.copyOf(configuration.getTypes()));
+    }
+
+    @Test
+    void constructor_whenDuplicatedTypes_shouldThrowException() {
+        PrepareCommitMsgParameters parameters =
+                new PrepareCommitMsgParameters(true, "file", "fix,fix", null);
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrepareCommitMsgConfiguration(parameters));
+    }
+
+    @Test
+    void constructor_whenModulePathsAreNotNormalized_shouldSanitizePaths() {
+        Map<String, String> moduleScopes = new HashMap<>();
+        moduleScopes.put("/core/", "core");
+        moduleScopes.put("plugins\\api", "api");
+        moduleScopes.put(" / ", "root");
+        PrepareCommitMsgConfiguration configuration = new PrepareCommitMsgConfiguration(
+                new PrepareCommitMsgParameters(true, "file", "feat", moduleScopes));
+        assertEquals(Map.of("core", "core", "plugins/api", "api"),
+                configuration.getModuleScopes());
+    }
+
+    @Test
+    void constructor_whenBlankScope_shouldThrowException() {
+        PrepareCommitMsgParameters parameters =
+                new PrepareCommitMsgParameters(true, "file", "feat", Map.of("core", " "));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrepareCommitMsgConfiguration(parameters));
+    }
+
+    @Test
+    void constructor_whenNullModulePath_shouldThrowException() {
+        Map<String, String> moduleScopes = new HashMap<>();
+        moduleScopes.put(null, "core");
+        PrepareCommitMsgParameters parameters =
+                new PrepareCommitMsgParameters(true, "file", "feat", moduleScopes);
+        assertThrows(IllegalArgumentException.class,
+                () -> new PrepareCommitMsgConfiguration(parameters));
+    }
+
+    @Test
+    void getGitHookFileGenerator_shouldReturnBashScriptGenerator() {
+        PrepareCommitMsgConfiguration configuration =
+                new PrepareCommitMsgConfiguration(new PrepareCommitMsgParameters());
+        assertInstanceOf(BashScriptPrepareCommitMsgHookGenerator.class,
+                configuration.getGitHookFileGenerator());
+    }
+}
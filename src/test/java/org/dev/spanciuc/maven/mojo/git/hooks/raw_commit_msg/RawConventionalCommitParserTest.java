@@ -0,0 +1,112 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.raw_commit_msg;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommit;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommitParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RawConventionalCommitParserTest {
+
+    private static final String COMMIT_HEADERS =
+            "tree 4b825dc642cb6eb9a060e54bf8d69288fbee4904\n" +
+                    "author Test Author <author@test.org> 1640995200 +0000\n" +
+                    "committer Test Author <author@test.org> 1640995200 +0000\n";
+
+    private final CommitMsgConfiguration configuration = new CommitMsgConfiguration(
+            new CommitMsgParameters(true, "commit-msg", 20, "feat,fix,docs,fixup,ünï"));
+
+    private final RawConventionalCommitParser parser =
+            new RawConventionalCommitParser(configuration);
+
+    private final ConventionalCommitParser stringParser =
+            new ConventionalCommitParser(configuration);
+
+    @Test
+    void constructor_whenNullConfiguration_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RawConventionalCommitParser(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"feat: a", "fix(core): b", "fix!: b", "docs(a)!: c", "fixup: d",
+            "feat(a(b)): c", "feat(a): b): c", "feat: a\nbody", "feat: a\r\nbody", "", "feat",
+            "feat:", "feat: ", "feat:a", "feature: a", "fea: a", "feat(): a", "feat(a: b",
+            "feat!!: a", " feat: a", "Feat: a", "\nfeat: a", "feat()!: a", "feat(a)b: c",
+            "feat: 12345678901234", "feat: 123456789012345", "feat: ü2345678901234",
+            "feat: 😀345678901234", "feat: 😀3456789012345", "ünï(ü): ö",
+            "feat: a\n\nbody\n\nBREAKING CHANGE: removed api",
+            "feat: a\n\nBREAKING-CHANGE: removed api", "feat: a\n\nnot a BREAKING CHANGE: x"})
+    void parseCommit_shouldMatchStringParser(String message) {
+        byte[] commit = commit(message, StandardCharsets.UTF_8, null);
+        RawCommitHeader header = new RawCommitHeader();
+        assertTrue(parser.parseCommit(commit, header));
+
+        assertEquals(stringParser.validate(message), parser.validate(header));
+        ConventionalCommit expected = stringParser.parse(message);
+        assertEquals(null != expected, header.isConventional());
+        if (null != expected) {
+            assertEquals(expected.getType(), configuration.getTypeMatcher()
+                    .getType(header.getTypeOrdinal()));
+            assertEquals(expected.getScope(), null == expected.getScope() ? null :
+                    decode(commit, header.getScopeStart(), header.getScopeEnd()));
+            assertEquals(expected.getDescription(),
+                    decode(commit, header.getDescriptionStart(), header.getHeaderEnd()));
+            assertEquals(expected.isBreaking(), header.isBreaking());
+        }
+    }
+
+    @Test
+    void parseCommit_whenHolderReused_shouldResetPreviousResult() {
+        RawCommitHeader header = new RawCommitHeader();
+        parser.parseCommit(commit("feat(a)!: b", StandardCharsets.UTF_8, null), header);
+        parser.parseCommit(commit("invalid", StandardCharsets.UTF_8, null), header);
+        assertFalse(header.isConventional());
+        assertFalse(header.isBreaking());
+        assertEquals(RawCommitHeader.NOT_PRESENT, header.getScopeStart());
+        assertEquals(7, header.getHeaderLength());
+    }
+
+    @Test
+    void parseCommit_whenOtherEncoding_shouldNotParse() {
+        byte[] commit = commit("feat: ü", StandardCharsets.ISO_8859_1, "ISO-8859-1");
+        assertFalse(parser.parseCommit(commit, new RawCommitHeader()));
+    }
+
+    @Test
+    void parseCommit_whenUtf8Encoding_shouldParse() {
+        byte[] commit = commit("feat: ü", StandardCharsets.UTF_8, "UTF-8");
+        RawCommitHeader header = new RawCommitHeader();
+        assertTrue(parser.parseCommit(commit, header));
+        assertTrue(header.isConventional());
+    }
+
+    @Test
+    void parseCommit_whenNoMessage_shouldNotBeConventional() {
+        byte[] commit = COMMIT_HEADERS.getBytes(StandardCharsets.US_ASCII);
+        RawCommitHeader header = new RawCommitHeader();
+        assertTrue(parser.parseCommit(commit, header));
+        assertFalse(header.isConventional());
+    }
+
+    private static byte[] commit(String message, Charset charset, String encoding) {
+        byte[] headers = (COMMIT_HEADERS + (null == encoding ? "" : "encoding " + encoding + "\n") +
+                "\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] body = message.getBytes(charset);
+        byte[] commit = new byte[headers.length + body.length];
+        System.arraycopy(headers, 0, commit, 0, headers.length);
+        System.arraycopy(body, 0, commit, headers.length, body.length);
+        return commit;
+    }
+
+    private static String decode(byte[] buffer, int start, int end) {
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,106 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AtomicFileWriterTest {
+
+    @ParameterizedTest
+    @CsvSource({"false,false", "false,true", "true,false", "true,true"})
+    void write_shouldReplaceContentWithoutLeavingOtherFiles(boolean lockEnabled,
+                                                                boolean forceEnabled,
+                                                                @TempDir Path directory)
+            throws IOException {
+        Path target = directory.resolve("commit-msg");
+        Files.writeString(target, "old content");
+
+        AtomicFileWriter.write(target, "new content".getBytes(StandardCharsets.UTF_8),
+                new FileWriteOptions(lockEnabled, forceEnabled));
+
+        assertEquals("new content", Files.readString(target));
+        assertTrue(Files.isExecutable(target));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(target), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void write_whenConcurrentLockedWriters_shouldDeleteLockFile(@TempDir Path directory)
+            throws Exception {
+        Path target = directory.resolve("commit-msg");
+        FileWriteOptions options = new FileWriteOptions(true, false);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                byte[] content = ("content " + i).getBytes(StandardCharsets.UTF_8);
+                writes.add(executor.submit(() -> {
+                    AtomicFileWriter.write(target, content, options);
+                    return null;
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(Files.readString(target).startsWith("content "));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(target), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void write_whenPosixFileSystem_shouldSetExecutablePermissions(@TempDir Path directory)
+            throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path target = directory.resolve("commit-msg");
+
+        AtomicFileWriter.write(target, new byte[0], FileWriteOptions.DEFAULT);
+
+        assertEquals(AtomicFileWriter.EXECUTABLE_PERMISSIONS,
+                PosixFilePermissions.toString(Files.getPosixFilePermissions(target)));
+    }
+
+    @Test
+    void write_whenDirectoryDoesNotExist_shouldThrowException(@TempDir Path directory) {
+        Path target = directory.resolve("missing").resolve("commit-msg");
+        assertThrows(IOException.class,
+                () -> AtomicFileWriter.write(target, new byte[0], FileWriteOptions.DEFAULT));
+    }
+
+    @Test
+    void write_whenNullArguments_shouldThrowException(@TempDir File directory) {
+        Path target = directory.toPath().resolve("commit-msg");
+        assertThrows(IllegalArgumentException.class,
+                () -> AtomicFileWriter.write(null, new byte[0], FileWriteOptions.DEFAULT));
+        assertThrows(IllegalArgumentException.class,
+                () -> AtomicFileWriter.write(target, null, FileWriteOptions.DEFAULT));
+        assertThrows(IllegalArgumentException.class,
+                () -> AtomicFileWriter.write(target, new byte[0], null));
+    }
+}
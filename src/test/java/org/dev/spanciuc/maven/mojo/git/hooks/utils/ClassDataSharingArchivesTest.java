@@ -0,0 +1,81 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassDataSharingArchivesTest {
+
+    @Test
+    void isArchivable_whenAllEntriesAreJars_shouldReturnTrue(@TempDir Path directory)
+            throws IOException {
+        Path first = Files.createFile(directory.resolve("first.jar"));
+        Path second = Files.createFile(directory.resolve("second.jar"));
+        assertTrue(ClassDataSharingArchives.isArchivable(List.of(first, second)));
+    }
+
+    @Test
+    void isArchivable_whenEntryIsDirectory_shouldReturnFalse(@TempDir Path directory)
+            throws IOException {
+        Path jar = Files.createFile(directory.resolve("first.jar"));
+        Path classes = Files.createDirectory(directory.resolve("classes.jar"));
+        assertFalse(ClassDataSharingArchives.isArchivable(List.of(jar, classes)));
+    }
+
+    @Test
+    void isArchivable_whenEntryIsNotJar_shouldReturnFalse(@TempDir Path directory)
+            throws IOException {
+        Path zip = Files.createFile(directory.resolve("first.zip"));
+        assertFalse(ClassDataSharingArchives.isArchivable(List.of(zip)));
+    }
+
+    @Test
+    void isArchivable_whenEntryIsMissing_shouldReturnFalse(@TempDir Path directory) {
+        assertFalse(ClassDataSharingArchives.isArchivable(
+                List.of(directory.resolve("missing.jar"))));
+    }
+
+    @Test
+    void isArchivable_whenEmptyOrNull_shouldReturnFalse() {
+        assertFalse(ClassDataSharingArchives.isArchivable(List.of()));
+        assertFalse(ClassDataSharingArchives.isArchivable(null));
+    }
+
+    @Test
+    void toClasspath_shouldJoinAbsolutePathsWithPathSeparator(@TempDir Path directory) {
+        Path first = directory.resolve("first.jar");
+        Path second = directory.resolve("second.jar");
+        assertEquals(first.toAbsolutePath() + File.pathSeparator + second.toAbsolutePath(),
+                ClassDataSharingArchives.toClasspath(List.of(first, second)));
+    }
+
+    @Test
+    void getJavaExecutable_shouldReturnExecutableOfCurrentJvm() {
+        Path javaExecutable = ClassDataSharingArchives.getJavaExecutable();
+        assertTrue(javaExecutable.startsWith(System.getProperty("java.home")));
+        assertTrue(Files.isExecutable(javaExecutable) ||
+                Files.isExecutable(Path.of(javaExecutable + ".exe")));
+    }
+
+    @Test
+    void run_whenMainFails_shouldThrowIOException() throws URISyntaxException {
+        List<Path> classpath = List.of(getCodeSource());
+        assertThrows(IOException.class, () -> ClassDataSharingArchives.run(
+                ClassDataSharingArchives.getJavaExecutable(), List.of(), classpath,
+                "org.dev.spanciuc.maven.mojo.git.hooks.ClassDataSharingTrainingRun", List.of(),
+                null, ClassDataSharingArchives.DEFAULT_TIMEOUT_SECONDS));
+    }
+
+    private static Path getCodeSource() throws URISyntaxException {
+        return Path.of(ClassDataSharingArchives.class.getProtectionDomain().getCodeSource()
+                .getLocation().toURI());
+    }
+}
@@ -0,0 +1,41 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledTemplateTest {
+
+    @Test
+    void compile_whenNullTemplate_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile(null));
+    }
+
+    @Test
+    void render_shouldProduceSameResultAsStringFormat() {
+        String template = "%s: header %s\nmax %s characters%s";
+        CompiledTemplate compiledTemplate = CompiledTemplate.compile(template);
+        assertEquals(4, compiledTemplate.getPlaceholdersCount());
+        assertEquals(String.format(template, "a", 1, 100, "end"),
+                compiledTemplate.render("a", 1, 100, "end"));
+    }
+
+    @Test
+    void render_whenNoPlaceholders_shouldReturnTemplate() {
+        assertEquals("no values", CompiledTemplate.compile("no values").render());
+    }
+
+    @Test
+    void renderTo_shouldAppendToBuilder() {
+        StringBuilder builder = new StringBuilder("prefix ");
+        CompiledTemplate.compile("value=%s").renderTo(builder, "x");
+        assertEquals("prefix value=x", builder.toString());
+    }
+
+    @Test
+    void render_whenWrongNumberOfValues_shouldThrowException() {
+        CompiledTemplate compiledTemplate = CompiledTemplate.compile("%s and %s");
+        assertThrows(IllegalArgumentException.class, () -> compiledTemplate.render("one"));
+    }
+}
@@ -0,0 +1,141 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.storage.file.FileBasedConfig;
+import org.eclipse.jgit.util.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitRepositoriesTest {
+
+    @Test
+    void open_whenNotGitRepository_shouldThrowException(@TempDir File basedir) {
+        assertThrows(IllegalStateException.class, () -> GitRepositories.open(basedir, ".git"));
+    }
+
+    @Test
+    void discover_whenNullDirectory_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> GitRepositories.discover(null));
+    }
+
+    @Test
+    void discover_whenNestedModule_shouldFindRepositoryOfParent(@TempDir File basedir)
+            throws Exception {
+        GitRepositoryTestUtils.init(basedir).close();
+        File module = new File(basedir, "parent/module");
+        assertTrue(module.mkdirs());
+
+        GitDirectories gitDirectories = GitRepositories.discover(module);
+
+        assertNotNull(gitDirectories);
+        File gitDirectory = new File(basedir, ".git").getAbsoluteFile();
+        assertEquals(gitDirectory, gitDirectories.getGitDirectory());
+        assertEquals(gitDirectory, gitDirectories.getCommonDirectory());
+        assertEquals(basedir.getAbsoluteFile(), gitDirectories.getWorkTree());
+        assertEquals(new File(gitDirectory, GitDirectories.HOOKS_DIRECTORY_NAME),
+                gitDirectories.getHooksDirectory());
+        assertSame(gitDirectories, GitRepositories.discover(new File(basedir, "parent")));
+    }
+
+    @Test
+    void discover_whenGitdirFile_shouldFollowPointer(@TempDir File basedir) throws Exception {
+        File repository = new File(basedir, "repository");
+        GitRepositoryTestUtils.init(repository).close();
+        File submodule = new File(basedir, "submodule");
+        assertTrue(submodule.mkdir());
+        Files.writeString(new File(submodule, ".git").toPath(),
+                "gitdir: ../repository/.git\n");
+
+        GitDirectories gitDirectories = GitRepositories.discover(submodule);
+
+        assertNotNull(gitDirectories);
+        assertEquals(new File(repository, ".git").getAbsoluteFile(),
+                gitDirectories.getGitDirectory());
+        assertEquals(submodule.getAbsoluteFile(), gitDirectories.getWorkTree());
+    }
+
+    @Test
+    void discover_whenLinkedWorktree_shouldShareCommonHooksDirectory(@TempDir File basedir)
+            throws Exception {
+        File main = new File(basedir, "main");
+        GitRepositoryTestUtils.init(main).close();
+        File worktreeGitDirectory = new File(main, ".git/worktrees/feature");
+        assertTrue(worktreeGitDirectory.mkdirs());
+        Files.writeString(new File(worktreeGitDirectory, "HEAD").toPath(),
+                "ref: refs/heads/feature\n");
+        Files.writeString(new File(worktreeGitDirectory,
+                GitRepositories.COMMON_DIRECTORY_FILE_NAME).toPath(), "../..\n");
+        File worktree = new File(basedir, "feature");
+        assertTrue(worktree.mkdir());
+        Files.writeString(new File(worktree, ".git").toPath(),
+                "gitdir: " + worktreeGitDirectory.getAbsolutePath() + "\n");
+
+        GitDirectories gitDirectories = GitRepositories.discover(worktree);
+
+        assertNotNull(gitDirectories);
+        assertEquals(worktreeGitDirectory.getAbsoluteFile(), gitDirectories.getGitDirectory());
+        assertEquals(new File(main, ".git/hooks").getAbsoluteFile(),
+                gitDirectories.getHooksDirectory());
+        try (Repository repository = GitRepositories.open(gitDirectories)) {
+            assertEquals(worktreeGitDirectory.getAbsoluteFile(), repository.getDirectory());
+            assertEquals(worktree.getAbsoluteFile(), repository.getWorkTree());
+        }
+    }
+
+    @Test
+    void open_whenLinkedWorktreeDiverged_shouldResolveWorktreeHead(@TempDir File basedir)
+            throws Exception {
+        File worktree = new File(basedir, "feature");
+        RevCommit feature;
+        RevCommit main;
+        try (Git git = GitRepositoryTestUtils.init(new File(basedir, "main"))) {
+            RevCommit base = GitRepositoryTestUtils.commit(git, "feat: base");
+            GitRepositoryTestUtils.addWorktree(git, "feature", worktree, base);
+            main = GitRepositoryTestUtils.commit(git, "feat: main");
+            try (Git worktreeGit = Git.wrap(
+                    GitRepositories.open(GitRepositories.discover(worktree)))) {
+                feature = GitRepositoryTestUtils.commit(worktreeGit, "feat: feature");
+            }
+        }
+
+        try (Repository repository = GitRepositories.open(GitRepositories.discover(worktree))) {
+            assertEquals(feature, repository.resolve(Constants.HEAD));
+            assertEquals(feature, repository.resolve(Constants.R_HEADS + "feature"));
+            assertEquals(main, repository.resolve(Constants.R_HEADS + "main"));
+            assertEquals("feature", repository.getBranch());
+            assertEquals(new File(basedir, "main/.git/config").getAbsoluteFile(),
+                    ((FileBasedConfig) repository.getConfig()).getFile());
+        }
+        try (Repository repository = GitRepositories.open(
+                GitRepositories.discover(new File(basedir, "main")))) {
+            assertEquals(main, repository.resolve(Constants.HEAD));
+        }
+    }
+
+    @Test
+    void discover_whenRepositoryIsRemoved_shouldNotReturnCachedRepository(
+            @TempDir File basedir) throws Exception {
+        File repository = new File(basedir, "repository");
+        GitRepositoryTestUtils.init(repository).close();
+        assertNotNull(GitRepositories.discover(repository));
+
+        deleteRecursively(new File(repository, ".git"));
+
+        GitDirectories gitDirectories = GitRepositories.discover(repository);
+        assertTrue(null == gitDirectories ||
+                !gitDirectories.getGitDirectory().toPath().startsWith(repository.toPath()));
+    }
+
+    private static void deleteRecursively(File file) throws IOException {
+        FileUtils.delete(file, FileUtils.RECURSIVE);
+    }
+}
@@ -0,0 +1,172 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.TreeFormatter;
+import org.eclipse.jgit.revwalk.RevCommit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Utility class for building git repositories in tests.
+ */
+public class GitRepositoryTestUtils {
+
+    private static final PersonIdent AUTHOR =
+            new PersonIdent("Test Author", "author@test.org", Instant.parse("2022-01-01T00:00:00Z"),
+                    ZoneOffset.UTC);
+
+    private GitRepositoryTestUtils() {
+    }
+
+    /**
+     * Initializes a repository with a work tree in a directory.
+     *
+     * @param directory the work tree directory.
+     * @return git api.
+     * @throws GitAPIException in case any Git exception occur.
+     */
+    public static Git init(File directory) throws GitAPIException {
+        return Git.init().setDirectory(directory).setInitialBranch("main").call();
+    }
+
+    /**
+     * Creates an empty commit.
+     *
+     * @param git     the git api.
+     * @param message the commit message.
+     * @return created commit.
+     * @throws GitAPIException in case any Git exception occur.
+     */
+    public static RevCommit commit(Git git, String message) throws GitAPIException {
+        return git.commit()
+                .setMessage(message)
+                .setAllowEmpty(true)
+                .setSign(false)
+                .setAuthor(AUTHOR)
+                .setCommitter(AUTHOR)
+                .call();
+    }
+
+    /**
+     * Writes a file of the work tree and commits it.
+     *
+     * @param git     the git api.
+     * @param path    the file path relative to the work tree.
+     * @param content the file content.
+     * @param message the commit message.
+     * @return created commit.
+     * @throws GitAPIException in case any Git exception occur.
+     * @throws IOException     in case the file cannot be written.
+     */
+    public static RevCommit commitFile(Git git, String path, String content, String message)
+            throws GitAPIException, IOException {
+        Path file = git.getRepository().getWorkTree().toPath().resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        git.add().addFilepattern(path).call();
+        return commit(git, message);
+    }
+
+    /**
+     * Creates a lightweight tag on HEAD.
+     *
+     * @param git  the git api.
+     * @param name the tag name.
+     * @throws GitAPIException in case any Git exception occur.
+     */
+    public static void tag(Git git, String name) throws GitAPIException {
+        git.tag().setName(name).setAnnotated(false).call();
+    }
+
+    /**
+     * Creates an empty commit with the given parents and moves HEAD to it, ex. a merge or a
+     * commit of a side branch.
+     *
+     * @param git     the git api.
+     * @param message the commit message.
+     * @param parents the parent commits.
+     * @return created commit id.
+     * @throws IOException in case the repository cannot be written.
+     */
+    public static ObjectId commit(Git git, String message, AnyObjectId... parents)
+            throws IOException {
+        return commit(git, message, AUTHOR, parents);
+    }
+
+    /**
+     * Creates an empty commit at the given time with the given parents and moves HEAD to it.
+     *
+     * @param git        the git api.
+     * @param message    the commit message.
+     * @param commitTime the commit time in seconds since the epoch.
+     * @param parents    the parent commits.
+     * @return created commit id.
+     * @throws IOException in case the repository cannot be written.
+     */
+    public static ObjectId commitAt(Git git, String message, long commitTime,
+                                    AnyObjectId... parents) throws IOException {
+        return commit(git, message, new PersonIdent(AUTHOR, Instant.ofEpochSecond(commitTime)),
+                parents);
+    }
+
+    /**
+     * Links a worktree checking out a new branch at a commit, like 'git worktree add -b'. Only
+     * the git metadata is written, the worktree's files are not checked out.
+     *
+     * @param git      the git api of the main checkout.
+     * @param branch   the branch name, also the name of the worktree.
+     * @param worktree the worktree directory.
+     * @param commitId the commit the branch starts at.
+     * @throws GitAPIException in case any Git exception occur.
+     * @throws IOException     in case the metadata cannot be written.
+     */
+    public static void addWorktree(Git git, String branch, File worktree, AnyObjectId commitId)
+            throws GitAPIException, IOException {
+        git.branchCreate().setName(branch).setStartPoint(commitId.name()).call();
+        Path gitDirectory = Files.createDirectories(git.getRepository().getDirectory().toPath()
+                .resolve("worktrees").resolve(branch));
+        Files.writeString(gitDirectory.resolve(Constants.HEAD),
+                "ref: " + Constants.R_HEADS + branch + "\n");
+        Files.writeString(gitDirectory.resolve("commondir"), "../..\n");
+        Files.createDirectories(worktree.toPath());
+        Files.writeString(gitDirectory.resolve("gitdir"),
+                new File(worktree, Constants.DOT_GIT).getAbsolutePath() + "\n");
+        Files.writeString(new File(worktree, Constants.DOT_GIT).toPath(),
+                "gitdir: " + gitDirectory.toAbsolutePath() + "\n");
+    }
+
+    private static ObjectId commit(Git git, String message, PersonIdent author,
+                                   AnyObjectId... parents) throws IOException {
+        Repository repository = git.getRepository();
+        try (ObjectInserter inserter = repository.newObjectInserter()) {
+            CommitBuilder commit = new CommitBuilder();
+            commit.setTreeId(inserter.insert(new TreeFormatter()));
+            commit.setParentIds(Arrays.asList(parents));
+            commit.setAuthor(author);
+            commit.setCommitter(author);
+            commit.setMessage(message);
+            ObjectId commitId = inserter.insert(commit);
+            inserter.flush();
+            RefUpdate update = repository.updateRef(Constants.HEAD);
+            update.setNewObjectId(commitId);
+            update.forceUpdate();
+            return commitId;
+        }
+    }
+}
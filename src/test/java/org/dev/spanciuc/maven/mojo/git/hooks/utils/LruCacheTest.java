@@ -0,0 +1,37 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LruCacheTest {
+
+    @Test
+    void constructor_whenNotPositiveMaxSize_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+
+    @Test
+    void computeIfAbsent_whenPresent_shouldNotComputeAgain() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        AtomicInteger computations = new AtomicInteger();
+        cache.computeIfAbsent("a", key -> computations.incrementAndGet());
+        assertEquals(1, cache.computeIfAbsent("a", key -> computations.incrementAndGet()));
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    void computeIfAbsent_whenFull_shouldEvictLeastRecentlyUsed() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.computeIfAbsent("a", key -> "a1");
+        cache.computeIfAbsent("b", key -> "b1");
+        cache.computeIfAbsent("a", key -> "a2");
+        cache.computeIfAbsent("c", key -> "c1");
+        assertEquals(2, cache.size());
+        assertEquals("a1", cache.computeIfAbsent("a", key -> "a3"));
+        assertEquals("b2", cache.computeIfAbsent("b", key -> "b2"));
+    }
+}
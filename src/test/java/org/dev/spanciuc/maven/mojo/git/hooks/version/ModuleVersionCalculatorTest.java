@@ -0,0 +1,295 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.ChangedPathFilters;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.MergeCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ModuleVersionCalculatorTest {
+
+    private static final CommitMsgConfiguration CONFIGURATION =
+            new CommitMsgConfiguration(new CommitMsgParameters());
+
+    private final ModuleVersionCalculator calculator = new ModuleVersionCalculator(CONFIGURATION,
+            new VersionBumpRules(CONFIGURATION, "feat", "fix"), "v");
+
+    @Test
+    void calculate_whenNullParameters_shouldThrowException(@TempDir File directory)
+            throws GitAPIException {
+        try (Git git = init(directory)) {
+            Repository repository = git.getRepository();
+            Map<String, String> nullPath = new LinkedHashMap<>();
+            nullPath.put("module-1", null);
+            assertThrows(IllegalArgumentException.class,
+                    () -> calculator.calculate(null, Map.of()));
+            assertThrows(IllegalArgumentException.class,
+                    () -> calculator.calculate(repository, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> calculator.calculate(repository, nullPath));
+        }
+    }
+
+    @Test
+    void calculate_whenNoCommits_shouldReturnInitialVersions(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            Map<String, VersionCalculation> calculations =
+                    calculator.calculate(git.getRepository(), Map.of("module-1", "module-1"));
+            assertEquals(SemanticVersion.INITIAL,
+                    calculations.get("module-1").getNextVersion());
+            assertEquals(0, calculations.get("module-1").getAnalysedCommits());
+        }
+    }
+
+    @Test
+    void calculate_shouldAttributeCommitsToChangedModules(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commitFile(git, "pom.xml", "root", "chore: init");
+            commitFile(git, "module-1/a.txt", "a", "fix: first module");
+            commitFile(git, "module-10/b.txt", "b", "feat: tenth module");
+            commitFile(git, "module-1/sub/c.txt", "c", "feat!: nested module");
+            git.rm().addFilepattern("module-1/a.txt").call();
+            commit(git, "fix: remove file");
+            commit(git, "feat: empty commit");
+
+            Map<String, VersionCalculation> calculations =
+                    calculator.calculate(git.getRepository(), modules("root", "",
+                            "module-1", "module-1", "module-10", "module-10/",
+                            "sub", "module-1/sub"));
+
+            assertEquals(List.of("root", "module-1", "module-10", "sub"),
+                    List.copyOf(calculations.keySet()));
+            assertModule(calculations.get("root"), 1, VersionBump.NONE);
+            assertModule(calculations.get("module-1"), 2, VersionBump.PATCH);
+            assertModule(calculations.get("module-10"), 1, VersionBump.MINOR);
+            assertModule(calculations.get("sub"), 1, VersionBump.MAJOR);
+            assertEquals(Map.of("fix", 2), calculations.get("module-1").getTypeCounters());
+        }
+    }
+
+    @Test
+    void calculate_whenModuleTagged_shouldStartFromModuleTag(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commitFile(git, "module-1/a.txt", "a", "feat: first module");
+            commitFile(git, "module-2/b.txt", "b", "feat: second module");
+            tag(git, "module-1/v1.0.0");
+            tag(git, "v9.0.0");
+            commitFile(git, "module-1/a.txt", "a2", "fix: first module");
+            tag(git, "module-2/v0.1.0");
+            commitFile(git, "module-2/b.txt", "b2", "fix: second module");
+            commitFile(git, "module-1/a.txt", "a3", "fix: first module again");
+
+            Map<String, VersionCalculation> calculations = calculator.calculate(
+                    git.getRepository(), modules("module-1", "module-1", "module-2", "module-2"));
+
+            VersionCalculation first = calculations.get("module-1");
+            assertEquals("module-1/v1.0.0", first.getBaseTag().getName());
+            assertEquals(new SemanticVersion(1, 0, 1), first.getNextVersion());
+            assertEquals(2, first.getAnalysedCommits());
+            VersionCalculation second = calculations.get("module-2");
+            assertEquals("module-2/v0.1.0", second.getBaseTag().getName());
+            assertEquals(new SemanticVersion(0, 1, 1), second.getNextVersion());
+            assertEquals(1, second.getAnalysedCommits());
+        }
+    }
+
+    @Test
+    void calculate_whenMerge_shouldAttributeOnlyModulesChangedFromEveryParent(
+            @TempDir File directory) throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commitFile(git, "module-1/a.txt", "a", "chore: init");
+            commitFile(git, "module-2/b.txt", "b", "chore: init");
+            tag(git, "module-2/v1.0.0");
+            git.branchCreate().setName("side").call();
+            commitFile(git, "module-1/a.txt", "a2", "fix: main");
+            git.checkout().setName("side").call();
+            RevCommit side = commitFile(git, "module-2/b.txt", "b2", "feat: side");
+            git.checkout().setName("main").call();
+            git.merge().include(side).setFastForward(MergeCommand.FastForwardMode.NO_FF)
+                    .setMessage("feat!: merge side").call();
+
+            Map<String, VersionCalculation> calculations = calculator.calculate(
+                    git.getRepository(), modules("module-1", "module-1", "module-2", "module-2"));
+
+            assertModule(calculations.get("module-1"), 2, VersionBump.PATCH);
+            assertModule(calculations.get("module-2"), 1, VersionBump.MINOR);
+        }
+    }
+
+    @Test
+    void calculate_whenLowerTagMerged_shouldNotCountCommitsBehindEitherTag(
+            @TempDir File directory) throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commitFile(git, "module-1/a.txt", "a", "feat: init");
+            git.branchCreate().setName("maintenance").call();
+            commitFile(git, "module-1/b.txt", "b", "feat: minor feature");
+            tag(git, "module-1/v1.1.0");
+            git.checkout().setName("maintenance").call();
+            RevCommit maintenance =
+                    commitFile(git, "module-1/c.txt", "c", "feat!: maintenance fix");
+            tag(git, "module-1/v1.0.1");
+            git.checkout().setName("main").call();
+            git.merge().include(maintenance)
+                    .setFastForward(MergeCommand.FastForwardMode.NO_FF)
+                    .setMessage("chore: merge maintenance").call();
+            commitFile(git, "module-1/a.txt", "a2", "fix: after merge");
+
+            VersionCalculation calculation = calculator.calculate(git.getRepository(),
+                    modules("module-1", "module-1")).get("module-1");
+
+            assertEquals("module-1/v1.1.0", calculation.getBaseTag().getName());
+            assertEquals(new SemanticVersion(1, 1, 1), calculation.getNextVersion());
+            assertModule(calculation, 2, VersionBump.PATCH);
+        }
+    }
+
+    @Test
+    void calculate_whenEveryModuleTagged_shouldNotReadHistoryBehindTags(
+            @TempDir File directory) throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            RevCommit root = commitFile(git, "module-1/a.txt", "a", "feat!: init");
+            commitFile(git, "module-2/b.txt", "b", "feat: second module");
+            tag(git, "module-1/v1.0.0");
+            tag(git, "module-2/v1.0.0");
+            commitFile(git, "module-2/b.txt", "b2", "fix: second module");
+            // the released history's trees are never diffed
+            String tree = root.getTree().name();
+            assertTrue(new File(git.getRepository().getDirectory(), "objects/" +
+                    tree.substring(0, 2) + "/" + tree.substring(2)).delete());
+
+            Map<String, VersionCalculation> calculations = calculator.calculate(
+                    git.getRepository(), modules("module-1", "module-1", "module-2", "module-2"));
+
+            assertModule(calculations.get("module-1"), 0, VersionBump.NONE);
+            assertModule(calculations.get("module-2"), 1, VersionBump.PATCH);
+            assertEquals(new SemanticVersion(1, 0, 1),
+                    calculations.get("module-2").getNextVersion());
+        }
+    }
+
+    @Test
+    void calculate_whenRecordedFilters_shouldSkipCommitsChangingNoModule(
+            @TempDir File directory) throws Exception {
+        try (Git git = init(directory)) {
+            commitDocumentationAndModules(git);
+            Repository repository = git.getRepository();
+            Map<String, String> modules = modules("module-1", "module-1", "module-2", "module-2");
+            Map<String, VersionCalculation> expected = calculator.calculate(repository, modules);
+
+            try (ChangedPathFilters filters = ChangedPathFilters.open(repository,
+                    modules.values())) {
+                assertCalculations(expected, calculator.calculate(repository, modules, filters));
+                assertEquals(0, filters.getSkippedCommits());
+            }
+            try (ChangedPathFilters filters = ChangedPathFilters.open(repository,
+                    modules.values())) {
+                assertCalculations(expected, calculator.calculate(repository, modules, filters));
+                assertEquals(5, filters.getCheckedCommits());
+                assertEquals(2, filters.getSkippedCommits());
+            }
+        }
+    }
+
+    @Test
+    void calculate_whenCommitGraphFilters_shouldSkipCommitsChangingNoModule(
+            @TempDir File directory) throws Exception {
+        assumeTrue(run(directory, "bash", "-c", "command -v git") == 0);
+        try (Git git = init(directory)) {
+            commitDocumentationAndModules(git);
+            assertEquals(0, run(directory, "git", "commit-graph", "write", "--reachable",
+                    "--changed-paths"));
+            Repository repository = git.getRepository();
+            Map<String, String> modules = modules("module-1", "module-1", "module-2", "module-2");
+            Map<String, String> withRoot = modules("root", "", "module-1", "module-1");
+
+            try (ChangedPathFilters filters = ChangedPathFilters.open(repository,
+                    modules.values())) {
+                assertTrue(filters.hasCommitGraph());
+                assertCalculations(calculator.calculate(repository, modules),
+                        calculator.calculate(repository, modules, filters));
+                assertEquals(2, filters.getSkippedCommits());
+            }
+            try (ChangedPathFilters filters = ChangedPathFilters.open(repository,
+                    withRoot.values())) {
+                assertCalculations(calculator.calculate(repository, withRoot),
+                        calculator.calculate(repository, withRoot, filters));
+                assertEquals(0, filters.getSkippedCommits());
+            }
+        }
+    }
+
+    @Test
+    void getTagPrefix_shouldPrefixModuleName() {
+        assertEquals("module-1/v", calculator.getTagPrefix("module-1"));
+    }
+
+    /**
+     * Commits 'module-1', 'docs' twice, 'module-2' and 'module-1' again.
+     */
+    private static void commitDocumentationAndModules(Git git)
+            throws GitAPIException, IOException {
+        commitFile(git, "module-1/a.txt", "a", "feat: first module");
+        commitFile(git, "docs/readme.txt", "r", "docs: readme");
+        commitFile(git, "docs/readme.txt", "r2", "feat: documented feature");
+        commitFile(git, "module-2/b.txt", "b", "fix: second module");
+        commitFile(git, "module-1/a.txt", "a2", "feat!: first module");
+    }
+
+    private static void assertCalculations(Map<String, VersionCalculation> expected,
+                                           Map<String, VersionCalculation> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, VersionCalculation> entry : expected.entrySet()) {
+            VersionCalculation calculation = actual.get(entry.getKey());
+            assertEquals(entry.getValue().getNextVersion(), calculation.getNextVersion());
+            assertEquals(entry.getValue().getAnalysedCommits(),
+                    calculation.getAnalysedCommits());
+            assertEquals(entry.getValue().getBump(), calculation.getBump());
+        }
+    }
+
+    private static int run(File directory, String... command) throws IOException,
+            InterruptedException {
+        Process process;
+        try {
+            process = new ProcessBuilder(List.of(command)).directory(directory)
+                    .redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            return -1;
+        }
+        return process.waitFor();
+    }
+
+    private static void assertModule(VersionCalculation calculation, int analysedCommits,
+                                     VersionBump bump) {
+        assertEquals(analysedCommits, calculation.getAnalysedCommits());
+        assertEquals(bump, calculation.getBump());
+        assertNull(calculation.getState());
+    }
+
+    private static Map<String, String> modules(String... namesAndPaths) {
+        Map<String, String> modules = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndPaths.length; i += 2) {
+            modules.put(namesAndPaths[i], namesAndPaths[i + 1]);
+        }
+        return modules;
+    }
+}
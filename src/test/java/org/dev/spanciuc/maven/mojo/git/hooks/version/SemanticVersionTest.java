@@ -0,0 +1,53 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SemanticVersionTest {
+
+    @Test
+    void constructor_whenNegativeNumber_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new SemanticVersion(-1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SemanticVersion(0, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SemanticVersion(0, 0, -1));
+    }
+
+    @Test
+    void parse_whenValidVersion_shouldReturnVersion() {
+        assertEquals(new SemanticVersion(1, 20, 0), SemanticVersion.parse("1.20.0"));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"1", "1.2", "1.2.3.4", "01.2.3", "1.2.-3", "a.b.c", "1.2.3-SNAPSHOT",
+            "1..3", "99999999999.0.0"})
+    void parse_whenInvalidVersion_shouldReturnNull(String value) {
+        assertNull(SemanticVersion.parse(value));
+    }
+
+    @Test
+    void bump_shouldIncrementNumbers() {
+        SemanticVersion version = new SemanticVersion(1, 2, 3);
+        assertEquals(version, version.bump(VersionBump.NONE));
+        assertEquals(new SemanticVersion(1, 2, 4), version.bump(VersionBump.PATCH));
+        assertEquals(new SemanticVersion(1, 3, 0), version.bump(VersionBump.MINOR));
+        assertEquals(new SemanticVersion(2, 0, 0), version.bump(VersionBump.MAJOR));
+        assertThrows(IllegalArgumentException.class, () -> version.bump(null));
+    }
+
+    @Test
+    void compareTo_shouldCompareNumbersInOrder() {
+        assertTrue(new SemanticVersion(2, 0, 0).compareTo(new SemanticVersion(1, 9, 9)) > 0);
+        assertTrue(new SemanticVersion(1, 2, 0).compareTo(new SemanticVersion(1, 10, 0)) < 0);
+        assertEquals(0, new SemanticVersion(1, 2, 3).compareTo(new SemanticVersion(1, 2, 3)));
+    }
+
+    @Test
+    void toString_shouldFormatVersion() {
+        assertEquals("1.2.3", new SemanticVersion(1, 2, 3).toString());
+    }
+}
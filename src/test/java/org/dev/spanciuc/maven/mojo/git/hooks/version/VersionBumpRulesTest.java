@@ -0,0 +1,42 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.ConventionalCommit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionBumpRulesTest {
+
+    private static final CommitMsgConfiguration CONFIGURATION =
+            new CommitMsgConfiguration(new CommitMsgParameters());
+
+    @Test
+    void constructor_whenNullConfiguration_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new VersionBumpRules(null, "feat", "fix"));
+    }
+
+    @Test
+    void constructor_whenTypeIsNotAllowed_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new VersionBumpRules(CONFIGURATION, "feature", "fix"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VersionBumpRules(CONFIGURATION, "feat", " "));
+    }
+
+    @Test
+    void classify_shouldMapCommitsToBumps() {
+        VersionBumpRules rules = new VersionBumpRules(CONFIGURATION, " feat ", "fix, perf");
+        assertEquals(VersionBump.NONE, rules.classify((ConventionalCommit) null));
+        assertEquals(VersionBump.MAJOR,
+                rules.classify(new ConventionalCommit("docs", null, true, "d")));
+        assertEquals(VersionBump.MINOR,
+                rules.classify(new ConventionalCommit("feat", null, false, "d")));
+        assertEquals(VersionBump.PATCH,
+                rules.classify(new ConventionalCommit("perf", "core", false, "d")));
+        assertEquals(VersionBump.NONE,
+                rules.classify(new ConventionalCommit("docs", null, false, "d")));
+    }
+}
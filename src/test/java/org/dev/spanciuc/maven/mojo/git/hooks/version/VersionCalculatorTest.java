@@ -0,0 +1,313 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgConfiguration;
+import org.dev.spanciuc.maven.mojo.git.hooks.commit_msg.CommitMsgParameters;
+import org.dev.spanciuc.maven.mojo.git.hooks.history.CommitHistoryIndex;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionCalculatorTest {
+
+    private static final CommitMsgConfiguration CONFIGURATION =
+            new CommitMsgConfiguration(new CommitMsgParameters());
+
+    private final VersionCalculator calculator = new VersionCalculator(CONFIGURATION,
+            new VersionBumpRules(CONFIGURATION, "feat", "fix"), "v");
+
+    @Test
+    void constructor_whenNullParameters_shouldThrowException() {
+        VersionBumpRules rules = new VersionBumpRules(CONFIGURATION, "feat", "fix");
+        assertThrows(IllegalArgumentException.class,
+                () -> new VersionCalculator(null, rules, "v"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VersionCalculator(CONFIGURATION, null, "v"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new VersionCalculator(CONFIGURATION, rules, null));
+    }
+
+    @Test
+    void calculate_whenNoCommits_shouldReturnInitialVersion(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            VersionCalculation calculation = calculator.calculate(git.getRepository());
+            assertEquals(SemanticVersion.INITIAL, calculation.getNextVersion());
+            assertEquals(VersionBump.NONE, calculation.getBump());
+        }
+    }
+
+    @Test
+    void calculate_whenNoVersionTag_shouldBumpInitialVersion(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "chore: init");
+            commit(git, "feat: feature");
+            commit(git, "fix: fix");
+            VersionCalculation calculation = calculator.calculate(git.getRepository());
+            assertNull(calculation.getBaseTag());
+            assertEquals(new SemanticVersion(0, 1, 0), calculation.getNextVersion());
+            assertEquals(3, calculation.getAnalysedCommits());
+            assertEquals(Map.of("chore", 1, "feat", 1, "fix", 1),
+                    calculation.getTypeCounters());
+        }
+    }
+
+    @Test
+    void calculate_whenVersionTag_shouldAnalyseOnlyCommitsSinceTag(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat!: breaking");
+            tag(git, "v1.2.3");
+            commit(git, "fix: fix");
+            commit(git, "not conventional");
+            VersionCalculation calculation = calculator.calculate(git.getRepository());
+            assertEquals("v1.2.3", calculation.getBaseTag().getName());
+            assertEquals(new SemanticVersion(1, 2, 4), calculation.getNextVersion());
+            assertEquals(VersionBump.PATCH, calculation.getBump());
+            assertEquals(2, calculation.getAnalysedCommits());
+        }
+    }
+
+    @Test
+    void calculate_whenBreakingChangeFooter_shouldBumpMajor(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            git.tag().setName("v1.0.0").setSigned(false).setMessage("release").call();
+            commit(git, "fix: fix\n\nBREAKING CHANGE: removed api");
+            VersionCalculation calculation = calculator.calculate(git.getRepository());
+            assertEquals(new SemanticVersion(2, 0, 0), calculation.getNextVersion());
+        }
+    }
+
+    @Test
+    void calculate_whenValidPreviousState_shouldWalkOnlyNewCommits(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            commit(git, "fix: fix");
+            VersionState previousState = calculator.calculate(git.getRepository()).getState();
+            VersionState breakingState = new VersionState(
+                    previousState.getConfigurationFingerprint(), previousState.getBaseCommitId(),
+                    previousState.getTagsFingerprint(), previousState.getLastCommitId(),
+                    VersionBump.MAJOR, 1, Map.of("fix", 1));
+            commit(git, "docs: docs");
+
+            VersionCalculation calculation =
+                    calculator.calculate(git.getRepository(), breakingState);
+
+            assertTrue(calculation.isResumed());
+            assertEquals(new SemanticVersion(2, 0, 0), calculation.getNextVersion());
+            assertEquals(2, calculation.getAnalysedCommits());
+            assertEquals(Map.of("docs", 1, "fix", 1), calculation.getTypeCounters());
+        }
+    }
+
+    @Test
+    void calculate_whenPreviousCommitIsNotAncestor_shouldWalkFullHistory(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            RevCommit base = commit(git, "fix: fix");
+            commit(git, "feat!: rewritten later");
+            VersionState previousState = calculator.calculate(git.getRepository()).getState();
+            git.reset().setMode(ResetCommand.ResetType.HARD).setRef(base.name()).call();
+            commit(git, "docs: docs");
+
+            VersionCalculation calculation =
+                    calculator.calculate(git.getRepository(), previousState);
+
+            assertFalse(calculation.isResumed());
+            assertEquals(new SemanticVersion(1, 0, 1), calculation.getNextVersion());
+            assertEquals(2, calculation.getAnalysedCommits());
+        }
+    }
+
+    @Test
+    void calculate_whenPreviousStateHasDifferentBase_shouldWalkFullHistory(
+            @TempDir File directory) throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat!: init");
+            VersionState previousState = calculator.calculate(git.getRepository()).getState();
+            tag(git, "v1.0.0");
+            commit(git, "fix: fix");
+
+            VersionCalculation calculation =
+                    calculator.calculate(git.getRepository(), previousState);
+
+            assertFalse(calculation.isResumed());
+            assertEquals(new SemanticVersion(1, 0, 1), calculation.getNextVersion());
+        }
+    }
+
+    @Test
+    void calculate_whenNewCommitTagged_shouldWalkFromNewTag(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            commit(git, "feat!: breaking");
+            VersionState previousState = calculator.calculate(git.getRepository()).getState();
+            commit(git, "fix: released");
+            tag(git, "v2.0.0");
+            commit(git, "fix: fix");
+
+            VersionCalculation calculation =
+                    calculator.calculate(git.getRepository(), previousState);
+
+            assertFalse(calculation.isResumed());
+            assertEquals("v2.0.0", calculation.getBaseTag().getName());
+            assertEquals(new SemanticVersion(2, 0, 1), calculation.getNextVersion());
+            assertEquals(1, calculation.getAnalysedCommits());
+        }
+    }
+
+    @Test
+    void calculate_whenAnalysedCommitTagged_shouldWalkFromNewTag(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            RevCommit released = commit(git, "feat!: breaking");
+            commit(git, "fix: fix");
+            VersionState previousState = calculator.calculate(git.getRepository()).getState();
+            git.tag().setName("v2.0.0").setObjectId(released).setAnnotated(false).call();
+            commit(git, "docs: docs");
+
+            VersionCalculation calculation =
+                    calculator.calculate(git.getRepository(), previousState);
+
+            assertFalse(calculation.isResumed());
+            assertEquals("v2.0.0", calculation.getBaseTag().getName());
+            assertEquals(new SemanticVersion(2, 0, 1), calculation.getNextVersion());
+            assertEquals(2, calculation.getAnalysedCommits());
+        }
+    }
+
+    @Test
+    void calculate_whenPreviousBaseTagDeleted_shouldWalkFullHistory(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            commit(git, "fix: fix");
+            VersionState previousState = calculator.calculate(git.getRepository()).getState();
+            git.tagDelete().setTags("v1.0.0").call();
+            commit(git, "docs: docs");
+
+            VersionCalculation calculation =
+                    calculator.calculate(git.getRepository(), previousState);
+
+            assertFalse(calculation.isResumed());
+            assertNull(calculation.getBaseTag());
+            assertEquals(3, calculation.getAnalysedCommits());
+        }
+    }
+
+    @Test
+    void calculate_whenPreviousStateHasDifferentConfiguration_shouldWalkFullHistory(
+            @TempDir File directory) throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            VersionState previousState = new VersionCalculator(CONFIGURATION,
+                    new VersionBumpRules(CONFIGURATION, "feat,docs", "fix"), "v")
+                    .calculate(git.getRepository()).getState();
+
+            VersionCalculation calculation =
+                    calculator.calculate(git.getRepository(), previousState);
+
+            assertFalse(calculation.isResumed());
+        }
+    }
+
+    @Test
+    void calculate_whenSeveralTags_shouldUseHighestReachableVersion(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            tag(git, "v1.1.0");
+            tag(git, "other-2.0.0");
+            tag(git, "vnext");
+            commit(git, "docs: docs");
+            VersionCalculation calculation = calculator.calculate(git.getRepository());
+            assertEquals("v1.1.0", calculation.getBaseTag().getName());
+            assertEquals(new SemanticVersion(1, 1, 0), calculation.getNextVersion());
+            assertEquals(VersionBump.NONE, calculation.getBump());
+        }
+    }
+
+    @Test
+    void calculate_whenIndex_shouldMatchWalkedCalculation(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory);
+             CommitHistoryIndex index = CommitHistoryIndex.open(
+                     directory.toPath().resolve("target/index"), CONFIGURATION)) {
+            RevCommit root = commit(git, "chore: init");
+            tag(git, "v1.0.0");
+            ObjectId side = commit(git, "feat(api): side feature", root);
+            ObjectId main = commit(git, "fix: main fix", root);
+            commit(git, "Merge side", main, side);
+            commit(git, "docs: docs\n\nBREAKING CHANGE: removed");
+
+            VersionCalculation walked = calculator.calculate(git.getRepository());
+            VersionCalculation indexed =
+                    calculator.calculate(git.getRepository(), null, index);
+
+            assertTrue(indexed.isIndexed());
+            assertFalse(walked.isIndexed());
+            assertEquals(new SemanticVersion(2, 0, 0), indexed.getNextVersion());
+            assertEquals(walked.getBaseTag(), indexed.getBaseTag());
+            assertEquals(walked.getNextVersion(), indexed.getNextVersion());
+            assertEquals(walked.getAnalysedCommits(), indexed.getAnalysedCommits());
+            assertEquals(walked.getTypeCounters(), indexed.getTypeCounters());
+            assertEquals(walked.getState(), indexed.getState());
+            assertEquals(5, index.getSize());
+        }
+    }
+
+    @Test
+    void calculate_whenIndexReachesOctopusMerge_shouldWalkCommits(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory);
+             CommitHistoryIndex index = CommitHistoryIndex.open(
+                     directory.toPath().resolve("target/index"), CONFIGURATION)) {
+            RevCommit root = commit(git, "chore: init");
+            ObjectId first = commit(git, "feat: first", root);
+            ObjectId second = commit(git, "fix: second", root);
+            commit(git, "Merge branches", root, first, second);
+            VersionCalculation calculation =
+                    calculator.calculate(git.getRepository(), null, index);
+            assertFalse(calculation.isIndexed());
+            assertEquals(new SemanticVersion(0, 1, 0), calculation.getNextVersion());
+            assertEquals(4, calculation.getAnalysedCommits());
+        }
+    }
+
+    @Test
+    void calculate_whenIndexHasOtherTypes_shouldThrowException(@TempDir File directory)
+            throws GitAPIException, IOException {
+        CommitMsgConfiguration otherConfiguration = new CommitMsgConfiguration(
+                new CommitMsgParameters(true, "commit-msg", 100, "feat,fix"));
+        try (Git git = init(directory);
+             CommitHistoryIndex index = CommitHistoryIndex.open(
+                     directory.toPath().resolve("target/index"), otherConfiguration)) {
+            commit(git, "feat: init");
+            assertThrows(IllegalArgumentException.class,
+                    () -> calculator.calculate(git.getRepository(), null, index));
+        }
+    }
+}
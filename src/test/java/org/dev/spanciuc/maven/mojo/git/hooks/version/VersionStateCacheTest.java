@@ -0,0 +1,48 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionStateCacheTest {
+
+    @Test
+    void constructor_whenNullFile_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionStateCache(null));
+    }
+
+    @Test
+    void load_whenFileDoesNotExist_shouldReturnNull(@TempDir File directory) {
+        assertNull(new VersionStateCache(new File(directory, "missing")).load());
+    }
+
+    @Test
+    void load_whenFileIsCorrupt_shouldReturnNull(@TempDir File directory) throws IOException {
+        File file = new File(directory, "state.properties");
+        Files.writeString(file.toPath(), "lastCommitId=abc\nconfigurationFingerprint=f\nbump=X");
+        assertNull(new VersionStateCache(file).load());
+    }
+
+    @Test
+    void store_whenNullState_shouldThrowException(@TempDir File directory) {
+        VersionStateCache cache = new VersionStateCache(new File(directory, "state.properties"));
+        assertThrows(IllegalArgumentException.class, () -> cache.store(null));
+    }
+
+    @Test
+    void storeAndLoad_shouldReturnSameState(@TempDir File directory) {
+        VersionStateCache cache =
+                new VersionStateCache(new File(directory, "nested/state.properties"));
+        VersionState state = new VersionState("fingerprint", null, "tags",
+                "0123456789012345678901234567890123456789", VersionBump.MINOR, 3,
+                Map.of("feat", 2, "some type", 1));
+        cache.store(state);
+        assertEquals(state, cache.load());
+    }
+}
@@ -0,0 +1,105 @@
+package org.dev.spanciuc.maven.mojo.git.hooks.version;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.dev.spanciuc.maven.mojo.git.hooks.utils.GitRepositoryTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionTagsTest {
+
+    @Test
+    void list_shouldOrderVersionTagsFromHighest(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v1.2.0");
+            tag(git, "v1.10.0");
+            tag(git, "v-not-a-version");
+            tag(git, "release-9.0.0");
+
+            assertEquals("v1.10.0", VersionTags.list(git.getRepository(), "v").get(0).getName());
+            assertEquals(2, VersionTags.list(git.getRepository(), "v").size());
+        }
+    }
+
+    @Test
+    void findLatest_whenNoTags_shouldReturnNull(@TempDir File directory)
+            throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            ObjectId head = commit(git, "feat: init");
+            assertNull(findLatest(git.getRepository(), head));
+        }
+    }
+
+    @Test
+    void findLatest_whenHigherTagNotReachable_shouldReturnNearestReachableTag(
+            @TempDir File directory) throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            ObjectId base = commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            commit(git, "fix: release branch", base);
+            tag(git, "v2.0.0");
+            ObjectId head = commit(git, "fix: main", commit(git, "feat: main", base));
+            tagCommit(git, "v0.9.0", base);
+
+            assertEquals("v1.0.0", findLatest(git.getRepository(), head).getName());
+        }
+    }
+
+    @Test
+    void findLatest_whenMaintenanceBranchMerged_shouldReturnHighestNearestTag(
+            @TempDir File directory) throws GitAPIException, IOException {
+        try (Git git = init(directory)) {
+            ObjectId base = commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            ObjectId main = commit(git, "feat!: main", base);
+            tag(git, "v2.0.0");
+            ObjectId maintenance = commit(git, "fix: maintenance", base);
+            tag(git, "v1.0.1");
+            ObjectId head = commit(git, "Merge maintenance", main, maintenance);
+
+            assertEquals("v2.0.0", findLatest(git.getRepository(), head).getName());
+        }
+    }
+
+    @Test
+    void findLatest_shouldResetWalk(@TempDir File directory) throws GitAPIException,
+            IOException {
+        try (Git git = init(directory)) {
+            commit(git, "feat: init");
+            tag(git, "v1.0.0");
+            ObjectId head = commit(git, "fix: fix", git.getRepository().resolve("HEAD"));
+            try (RevWalk walk = new RevWalk(git.getRepository())) {
+                assertEquals("v1.0.0", VersionTags.findLatest(git.getRepository(), walk,
+                        walk.parseCommit(head), "v").getName());
+                walk.markStart(walk.parseCommit(head));
+                assertNotNull(walk.next());
+                assertNotNull(walk.next());
+                assertNull(walk.next());
+            }
+        }
+    }
+
+    private static VersionTag findLatest(Repository repository, ObjectId head)
+            throws IOException {
+        try (RevWalk walk = new RevWalk(repository)) {
+            return VersionTags.findLatest(repository, walk, walk.parseCommit(head), "v");
+        }
+    }
+
+    private static void tagCommit(Git git, String name, ObjectId commitId)
+            throws GitAPIException, IOException {
+        try (RevWalk walk = new RevWalk(git.getRepository())) {
+            git.tag().setName(name).setObjectId(walk.parseCommit(commitId)).call();
+        }
+    }
+}